@@ -0,0 +1,73 @@
+package com.golden.erp.benchmark;
+
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.domain.PedidoItem;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.dto.request.PedidoItemRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Massa de dados determinística usada pelos benchmarks.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Cliente cliente() {
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        cliente.setNome("Cliente Benchmark");
+        cliente.setEmail("benchmark@golden.com");
+        cliente.setCpf("12345678900");
+        return cliente;
+    }
+
+    public static Produto produto(long id) {
+        Produto produto = new Produto();
+        produto.setId(id);
+        produto.setSku("SKU-" + id);
+        produto.setNome("Produto " + id);
+        produto.setPrecoBruto(BigDecimal.valueOf(1000 + id % 9000, 2));
+        produto.setEstoque(1_000_000);
+        produto.setEstoqueMinimo(10);
+        produto.setAtivo(true);
+        return produto;
+    }
+
+    public static PedidoItemRequest itemRequest(long produtoId, int quantidade) {
+        PedidoItemRequest request = new PedidoItemRequest();
+        request.setProdutoId(produtoId);
+        request.setQuantidade(quantidade);
+        request.setDescontoOpcional(BigDecimal.valueOf(quantidade % 3, 1));
+        return request;
+    }
+
+    public static Pedido pedido(int quantidadeItens) {
+        Pedido pedido = new Pedido();
+        pedido.setId(1L);
+        pedido.setCliente(cliente());
+
+        List<PedidoItem> itens = new ArrayList<>(quantidadeItens);
+        for (int i = 0; i < quantidadeItens; i++) {
+            long produtoId = i + 1L;
+            int quantidade = 1 + i % 5;
+            PedidoItem item = new PedidoItem();
+            item.setId(produtoId);
+            item.setProduto(produto(produtoId));
+            item.setQuantidade(quantidade);
+            item.setPrecoUnitario(item.getProduto().getPrecoBruto());
+            item.setDesconto(BigDecimal.valueOf(quantidade % 3, 1));
+            item.setPedido(pedido);
+            item.calcularSubtotal();
+            itens.add(item);
+        }
+        pedido.setItens(itens);
+        pedido.calcularTotais();
+        return pedido;
+    }
+}
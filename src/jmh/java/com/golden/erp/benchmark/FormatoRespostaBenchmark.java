@@ -0,0 +1,126 @@
+package com.golden.erp.benchmark;
+
+import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.dto.response.ProdutoResponse;
+import com.golden.erp.mapper.PedidoItemMapperImpl;
+import com.golden.erp.mapper.PedidoMapper;
+import com.golden.erp.mapper.PedidoMapperImpl;
+import com.golden.erp.mapper.ProdutoMapper;
+import com.golden.erp.mapper.ProdutoMapperImpl;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Páginas típicas da API em JSON e em CBOR: 20 pedidos de 10 itens (página padrão de
+ * {@code /api/pedidos}) e 100 produtos (página de sincronização do catálogo). Mede a codificação no
+ * servidor e a decodificação no consumidor; o tamanho de cada página sai no contador {@code bytes} dos
+ * benchmarks de codificação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatoRespostaBenchmark {
+
+    private static final int PEDIDOS = 20;
+    private static final int ITENS = 10;
+    private static final int PRODUTOS = 100;
+
+    @Param({"json", "cbor"})
+    private String formato;
+
+    private ObjectMapper mapper;
+    private JavaType tipoPedidos;
+    private JavaType tipoProdutos;
+    private List<PedidoResponse> pedidos;
+    private List<ProdutoResponse> produtos;
+    private byte[] pedidosCodificados;
+    private byte[] produtosCodificados;
+
+    @Setup
+    public void setUp() {
+        mapper = "cbor".equals(formato) ? CBORMapper.builder().build() : JsonMapper.builder().build();
+        tipoPedidos = mapper.getTypeFactory().constructCollectionType(List.class, PedidoResponse.class);
+        tipoProdutos = mapper.getTypeFactory().constructCollectionType(List.class, ProdutoResponse.class);
+
+        PedidoMapper pedidoMapper = new PedidoMapperImpl();
+        ReflectionTestUtils.setField(pedidoMapper, "pedidoItemMapper", new PedidoItemMapperImpl());
+        LocalDateTime data = LocalDateTime.of(2025, 1, 1, 10, 0);
+        pedidos = new ArrayList<>(PEDIDOS);
+        for (int i = 0; i < PEDIDOS; i++) {
+            PedidoResponse pedido = pedidoMapper.toResponse(BenchmarkFixtures.pedido(ITENS));
+            pedido.setId(i + 1L);
+            pedido.setCreatedAt(data);
+            pedido.setUpdatedAt(data);
+            pedidos.add(pedido);
+        }
+        ProdutoMapper produtoMapper = new ProdutoMapperImpl();
+        produtos = new ArrayList<>(PRODUTOS);
+        for (int i = 0; i < PRODUTOS; i++) {
+            ProdutoResponse produto = produtoMapper.toResponse(BenchmarkFixtures.produto(i + 1L));
+            produto.setCreatedAt(data);
+            produto.setUpdatedAt(data);
+            produtos.add(produto);
+        }
+
+        pedidosCodificados = mapper.writeValueAsBytes(pedidos);
+        produtosCodificados = mapper.writeValueAsBytes(produtos);
+    }
+
+    @Benchmark
+    public byte[] codificarPedidos(Tamanho tamanho) {
+        byte[] corpo = mapper.writeValueAsBytes(pedidos);
+        tamanho.bytes = corpo.length;
+        return corpo;
+    }
+
+    @Benchmark
+    public List<PedidoResponse> decodificarPedidos() {
+        return mapper.readValue(pedidosCodificados, tipoPedidos);
+    }
+
+    @Benchmark
+    public byte[] codificarProdutos(Tamanho tamanho) {
+        byte[] corpo = mapper.writeValueAsBytes(produtos);
+        tamanho.bytes = corpo.length;
+        return corpo;
+    }
+
+    @Benchmark
+    public List<ProdutoResponse> decodificarProdutos() {
+        return mapper.readValue(produtosCodificados, tipoProdutos);
+    }
+
+    /**
+     * Tamanho em bytes da página codificada, publicado pelo JMH como resultado secundário ao lado do tempo.
+     * O valor é atribuído, não somado, para que cada iteração mostre o tamanho de uma página.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Tamanho {
+
+        public long bytes;
+    }
+}
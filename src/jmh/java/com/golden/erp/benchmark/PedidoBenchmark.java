@@ -0,0 +1,52 @@
+package com.golden.erp.benchmark;
+
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.domain.PedidoItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PedidoBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int quantidadeItens;
+
+    private Pedido pedido;
+
+    @Setup
+    public void setUp() {
+        pedido = BenchmarkFixtures.pedido(quantidadeItens);
+    }
+
+    @Benchmark
+    public BigDecimal calcularTotais() {
+        pedido.calcularTotais();
+        return pedido.getTotal();
+    }
+
+    @Benchmark
+    public void calcularSubtotal(Blackhole blackhole) {
+        for (PedidoItem item : pedido.getItens()) {
+            item.calcularSubtotal();
+            blackhole.consume(item.getSubtotal());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.golden.erp.benchmark;
+
+import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.mapper.PedidoItemMapperImpl;
+import com.golden.erp.mapper.PedidoMapper;
+import com.golden.erp.mapper.PedidoMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PedidoJsonBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int quantidadeItens;
+
+    private JsonMapper jsonMapper;
+    private PedidoResponse pedidoResponse;
+
+    @Setup
+    public void setUp() {
+        PedidoMapper pedidoMapper = new PedidoMapperImpl();
+        ReflectionTestUtils.setField(pedidoMapper, "pedidoItemMapper", new PedidoItemMapperImpl());
+
+        jsonMapper = JsonMapper.builder().build();
+        pedidoResponse = pedidoMapper.toResponse(BenchmarkFixtures.pedido(quantidadeItens));
+    }
+
+    @Benchmark
+    public byte[] serializar() {
+        return jsonMapper.writeValueAsBytes(pedidoResponse);
+    }
+}
@@ -0,0 +1,64 @@
+package com.golden.erp.benchmark;
+
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.domain.PedidoItem;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.dto.request.PedidoItemRequest;
+import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.mapper.PedidoItemMapper;
+import com.golden.erp.mapper.PedidoItemMapperImpl;
+import com.golden.erp.mapper.PedidoMapper;
+import com.golden.erp.mapper.PedidoMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PedidoMapperBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int quantidadeItens;
+
+    private PedidoMapper pedidoMapper;
+    private PedidoItemMapper pedidoItemMapper;
+    private Pedido pedido;
+    private PedidoItemRequest itemRequest;
+    private Produto produto;
+
+    @Setup
+    public void setUp() {
+        pedidoItemMapper = new PedidoItemMapperImpl();
+        pedidoMapper = new PedidoMapperImpl();
+        ReflectionTestUtils.setField(pedidoMapper, "pedidoItemMapper", pedidoItemMapper);
+
+        pedido = BenchmarkFixtures.pedido(quantidadeItens);
+        itemRequest = BenchmarkFixtures.itemRequest(1L, 3);
+        produto = BenchmarkFixtures.produto(1L);
+    }
+
+    @Benchmark
+    public PedidoResponse toResponse() {
+        return pedidoMapper.toResponse(pedido);
+    }
+
+    @Benchmark
+    public PedidoItem toEntityWithProduto() {
+        return pedidoItemMapper.toEntityWithProduto(itemRequest, produto);
+    }
+}
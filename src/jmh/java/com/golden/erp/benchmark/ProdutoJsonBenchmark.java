@@ -0,0 +1,77 @@
+package com.golden.erp.benchmark;
+
+import com.golden.erp.cache.CacheJson;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.mapper.ProdutoMapper;
+import com.golden.erp.mapper.ProdutoMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de CPU de montar o corpo de {@code GET /api/produtos/{id}}: mapeamento e serialização a cada
+ * requisição, contra a leitura do corpo já serializado no {@link CacheJson}. Com {@code -prof gc} mostra
+ * também a alocação por requisição.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProdutoJsonBenchmark {
+
+    private static final LocalDateTime VERSAO = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Param({"1", "10000"})
+    private int quantidadeProdutos;
+
+    private ProdutoMapper produtoMapper;
+    private JsonMapper jsonMapper;
+    private CacheJson cache;
+    private Produto[] produtos;
+    private int proximo;
+
+    @Setup
+    public void setUp() {
+        produtoMapper = new ProdutoMapperImpl();
+        jsonMapper = JsonMapper.builder().build();
+        cache = new CacheJson(Long.MAX_VALUE);
+        produtos = new Produto[quantidadeProdutos];
+        for (int i = 0; i < quantidadeProdutos; i++) {
+            Produto produto = BenchmarkFixtures.produto(i + 1L);
+            produto.setCreatedAt(VERSAO);
+            produto.setUpdatedAt(VERSAO);
+            produtos[i] = produto;
+            cache.guardar(produto.getId(), VERSAO, jsonMapper.writeValueAsBytes(produtoMapper.toResponse(produto)));
+        }
+    }
+
+    @Benchmark
+    public byte[] mapearESerializar() {
+        return jsonMapper.writeValueAsBytes(produtoMapper.toResponse(proximoProduto()));
+    }
+
+    @Benchmark
+    public byte[] lerDoCache() {
+        return cache.buscar(proximoProduto().getId(), VERSAO);
+    }
+
+    private Produto proximoProduto() {
+        Produto produto = produtos[proximo];
+        proximo = proximo + 1 == produtos.length ? 0 : proximo + 1;
+        return produto;
+    }
+}
@@ -0,0 +1,59 @@
+package com.golden.erp.service.impl;
+
+import com.golden.erp.client.ViaCepClient;
+import com.golden.erp.client.ViaCepResponse;
+import com.golden.erp.dto.request.ClienteRequest;
+import com.golden.erp.metrics.ErpMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede {@link ClienteServiceImpl#preencherEndereco(ClienteRequest)} com o ViaCEP substituído
+ * por uma resposta fixa, isolando a normalização do CEP e o preenchimento do endereço.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClienteServiceBenchmark {
+
+    @Param({"01001-000", "01001000"})
+    private String cep;
+
+    private ClienteServiceImpl clienteService;
+
+    @Setup
+    public void setUp() {
+        ViaCepResponse viaCepResponse = new ViaCepResponse();
+        viaCepResponse.setCep("01001-000");
+        viaCepResponse.setLogradouro("Praça da Sé");
+        viaCepResponse.setBairro("Sé");
+        viaCepResponse.setLocalidade("São Paulo");
+        viaCepResponse.setUf("SP");
+
+        ViaCepClient viaCepClient = cepNormalizado -> viaCepResponse;
+        clienteService = new ClienteServiceImpl(null, null, viaCepClient, new ErpMetrics(new SimpleMeterRegistry()), null);
+    }
+
+    @Benchmark
+    public ClienteRequest preencherEndereco() {
+        ClienteRequest request = new ClienteRequest();
+        request.setCep(cep);
+        clienteService.preencherEndereco(request);
+        return request;
+    }
+}
@@ -0,0 +1,19 @@
+package com.golden.erp.admissao;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Define a {@link Prioridade} de admissão do endpoint (ou dos endpoints do controller). A anotação do
+ * método vale sobre a da classe; sem nenhuma, a prioridade é {@link Prioridade#NORMAL}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Admissao {
+
+    Prioridade value();
+}
@@ -0,0 +1,53 @@
+package com.golden.erp.admissao;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.function.IntSupplier;
+
+/**
+ * Com {@code erp.admissao.enabled=true}, aplica o controle de admissão a {@code /api/**}.
+ * <p>
+ * A fila medida é a do pool Hikari por trás do {@code dataSource}: o próprio pool do Spring Boot ou, com
+ * os pools por classe de carga, o de OLTP, que atende os endpoints priorizados.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "erp.admissao.enabled", havingValue = "true")
+@EnableConfigurationProperties(AdmissaoProperties.class)
+public class AdmissaoConfig implements WebMvcConfigurer {
+
+    private final AdmissaoInterceptor interceptor;
+
+    public AdmissaoConfig(AdmissaoProperties properties, DataSource dataSource, MeterRegistry meterRegistry) {
+        LimitadorAdaptativo limitador = new LimitadorAdaptativo(properties);
+        this.interceptor = new AdmissaoInterceptor(limitador, aguardandoConexao(dataSource), properties,
+                new AdmissaoMetrics(meterRegistry, limitador));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+    }
+
+    private static IntSupplier aguardandoConexao(DataSource dataSource) {
+        HikariDataSource pool;
+        try {
+            pool = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            // Sem Hikari, só a latência ajusta o limite
+            return () -> 0;
+        }
+        return () -> {
+            HikariPoolMXBean estado = pool.getHikariPoolMXBean();
+            return estado != null ? estado.getThreadsAwaitingConnection() : 0;
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.golden.erp.admissao;
+
+import com.golden.erp.exception.ServicoSobrecarregadoException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Passa cada requisição da API pelo {@link LimitadorAdaptativo} antes de chegar ao controller. A
+ * requisição recusada falha na hora com {@link ServicoSobrecarregadoException} (503 com
+ * {@code Retry-After}), sem ocupar thread esperando conexão.
+ */
+public class AdmissaoInterceptor implements HandlerInterceptor {
+
+    private static final String ATRIBUTO_INICIO = AdmissaoInterceptor.class.getName() + ".inicio";
+    private static final String ATRIBUTO_PRIORIDADE = AdmissaoInterceptor.class.getName() + ".prioridade";
+
+    private final LimitadorAdaptativo limitador;
+    private final IntSupplier aguardandoConexao;
+    private final AdmissaoProperties properties;
+    private final AdmissaoMetrics metrics;
+
+    public AdmissaoInterceptor(LimitadorAdaptativo limitador, IntSupplier aguardandoConexao,
+                               AdmissaoProperties properties, AdmissaoMetrics metrics) {
+        this.limitador = limitador;
+        this.aguardandoConexao = aguardandoConexao;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod metodo)) {
+            return true;
+        }
+        Prioridade prioridade = prioridade(metodo);
+        if (!limitador.tentarAdmitir(prioridade)) {
+            metrics.registrarRequisicaoRecusada(prioridade);
+            throw new ServicoSobrecarregadoException(
+                    "Serviço sobrecarregado, tente novamente em instantes", properties.getRetryAfterSegundos());
+        }
+        request.setAttribute(ATRIBUTO_PRIORIDADE, prioridade);
+        request.setAttribute(ATRIBUTO_INICIO, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(ATRIBUTO_INICIO) instanceof Long inicio
+                && request.getAttribute(ATRIBUTO_PRIORIDADE) instanceof Prioridade prioridade) {
+            request.removeAttribute(ATRIBUTO_INICIO);
+            limitador.concluir(prioridade, inicio, aguardandoConexao.getAsInt());
+        }
+    }
+
+    static Prioridade prioridade(HandlerMethod metodo) {
+        Admissao anotacao = metodo.getMethodAnnotation(Admissao.class);
+        if (anotacao == null) {
+            anotacao = AnnotatedElementUtils.findMergedAnnotation(metodo.getBeanType(), Admissao.class);
+        }
+        return anotacao != null ? anotacao.value() : Prioridade.NORMAL;
+    }
+}
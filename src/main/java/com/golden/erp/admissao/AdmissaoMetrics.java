@@ -0,0 +1,33 @@
+package com.golden.erp.admissao;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Limite adaptativo, requisições em andamento e requisições recusadas com 503 por prioridade.
+ */
+public class AdmissaoMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public AdmissaoMetrics(MeterRegistry meterRegistry, LimitadorAdaptativo limitador) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("erp.admissao.limite", limitador, LimitadorAdaptativo::getLimite)
+                .description("Requisições simultâneas admitidas pelo limite adaptativo")
+                .strongReference(true)
+                .register(meterRegistry);
+        Gauge.builder("erp.admissao.em.andamento", limitador, LimitadorAdaptativo::getEmAndamento)
+                .description("Requisições admitidas ainda em andamento")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    public void registrarRequisicaoRecusada(Prioridade prioridade) {
+        Counter.builder("erp.admissao.recusadas")
+                .description("Requisições recusadas com 503 pelo controle de admissão")
+                .tag("prioridade", prioridade.getNome())
+                .register(meterRegistry)
+                .increment();
+    }
+}
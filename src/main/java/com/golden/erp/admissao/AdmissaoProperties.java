@@ -0,0 +1,126 @@
+package com.golden.erp.admissao;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Controle de admissão das requisições da API ({@code erp.admissao.*}).
+ */
+@ConfigurationProperties(prefix = "erp.admissao")
+public class AdmissaoProperties {
+
+    /** Limita as requisições simultâneas. Desligado, toda requisição é atendida. */
+    private boolean enabled = false;
+
+    /** Requisições simultâneas admitidas na subida, antes de qualquer ajuste. */
+    private int limiteInicial = 50;
+
+    private int limiteMinimo = 10;
+
+    private int limiteMaximo = 400;
+
+    /** Latência acima da qual uma requisição de prioridade alta ou normal conta como congestionamento. */
+    private long latenciaAlvoMs = 500;
+
+    /** Threads esperando conexão no pool principal acima das quais o banco conta como congestionado. */
+    private int aguardandoConexaoMaximo = 2;
+
+    /** Fator aplicado ao limite a cada congestionamento. */
+    private double fatorReducao = 0.9;
+
+    /** Fração do limite que as requisições de prioridade normal podem ocupar. */
+    private double fracaoNormal = 0.8;
+
+    /** Fração do limite que as requisições de prioridade baixa podem ocupar. */
+    private double fracaoBaixa = 0.5;
+
+    /** Valor do cabeçalho {@code Retry-After} das requisições recusadas. */
+    private long retryAfterSegundos = 1;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getLimiteInicial() {
+        return limiteInicial;
+    }
+
+    public void setLimiteInicial(int limiteInicial) {
+        this.limiteInicial = limiteInicial;
+    }
+
+    public int getLimiteMinimo() {
+        return limiteMinimo;
+    }
+
+    public void setLimiteMinimo(int limiteMinimo) {
+        this.limiteMinimo = limiteMinimo;
+    }
+
+    public int getLimiteMaximo() {
+        return limiteMaximo;
+    }
+
+    public void setLimiteMaximo(int limiteMaximo) {
+        this.limiteMaximo = limiteMaximo;
+    }
+
+    public long getLatenciaAlvoMs() {
+        return latenciaAlvoMs;
+    }
+
+    public void setLatenciaAlvoMs(long latenciaAlvoMs) {
+        this.latenciaAlvoMs = latenciaAlvoMs;
+    }
+
+    public int getAguardandoConexaoMaximo() {
+        return aguardandoConexaoMaximo;
+    }
+
+    public void setAguardandoConexaoMaximo(int aguardandoConexaoMaximo) {
+        this.aguardandoConexaoMaximo = aguardandoConexaoMaximo;
+    }
+
+    public double getFatorReducao() {
+        return fatorReducao;
+    }
+
+    public void setFatorReducao(double fatorReducao) {
+        this.fatorReducao = fatorReducao;
+    }
+
+    public double getFracaoNormal() {
+        return fracaoNormal;
+    }
+
+    public void setFracaoNormal(double fracaoNormal) {
+        this.fracaoNormal = fracaoNormal;
+    }
+
+    public double getFracaoBaixa() {
+        return fracaoBaixa;
+    }
+
+    public void setFracaoBaixa(double fracaoBaixa) {
+        this.fracaoBaixa = fracaoBaixa;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+
+    public void setRetryAfterSegundos(long retryAfterSegundos) {
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public double getFracao(Prioridade prioridade) {
+        return switch (prioridade) {
+            case ALTA -> 1.0;
+            case NORMAL -> fracaoNormal;
+            case BAIXA -> fracaoBaixa;
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.golden.erp.admissao;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de requisições simultâneas ajustado por AIMD: cresce devagar enquanto as requisições terminam
+ * dentro da latência alvo e o pool principal não tem fila, e cai por um fator quando uma das duas coisas
+ * deixa de valer.
+ * <p>
+ * Cada {@link Prioridade} só é admitida enquanto as requisições em andamento não passam da sua fração do
+ * limite; com o limite reduzido, listagens e relatórios são recusados antes de criação e pagamento de
+ * pedidos. A latência das requisições de prioridade baixa não reduz o limite, porque relatórios são
+ * lentos por natureza; a fila do pool vale para todas.
+ */
+public class LimitadorAdaptativo {
+
+    private final AdmissaoProperties properties;
+    private final LongSupplier relogio;
+    private final long latenciaAlvoNanos;
+    private final AtomicInteger emAndamento = new AtomicInteger();
+
+    private volatile double limite;
+
+    /** Instante da última redução; guardado por {@code this}. */
+    private long ultimaReducao;
+
+    public LimitadorAdaptativo(AdmissaoProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    LimitadorAdaptativo(AdmissaoProperties properties, LongSupplier relogio) {
+        this.properties = properties;
+        this.relogio = relogio;
+        this.latenciaAlvoNanos = TimeUnit.MILLISECONDS.toNanos(properties.getLatenciaAlvoMs());
+        this.limite = properties.getLimiteInicial();
+        this.ultimaReducao = relogio.getAsLong();
+    }
+
+    /**
+     * Reserva uma vaga para a requisição; quem recebe {@code true} precisa chamar {@link #concluir}.
+     */
+    public boolean tentarAdmitir(Prioridade prioridade) {
+        int teto = Math.max(1, (int) (limite * properties.getFracao(prioridade)));
+        while (true) {
+            int atual = emAndamento.get();
+            if (atual >= teto) {
+                return false;
+            }
+            if (emAndamento.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga e ajusta o limite com a latência da requisição e a fila do pool principal.
+     *
+     * @param inicio instante da admissão, no mesmo relógio do limitador ({@link System#nanoTime()})
+     */
+    public void concluir(Prioridade prioridade, long inicio, int aguardandoConexao) {
+        int andamento = emAndamento.getAndDecrement();
+        long latencia = relogio.getAsLong() - inicio;
+        boolean lenta = prioridade != Prioridade.BAIXA && latencia > latenciaAlvoNanos;
+        if (lenta || aguardandoConexao > properties.getAguardandoConexaoMaximo()) {
+            reduzir(inicio);
+        } else if (andamento * 2 >= limite) {
+            aumentar();
+        }
+    }
+
+    public int getLimite() {
+        return (int) limite;
+    }
+
+    public int getEmAndamento() {
+        return emAndamento.get();
+    }
+
+    // Só reduz uma vez por leva: as requisições admitidas antes da última redução refletem o limite antigo
+    private synchronized void reduzir(long inicio) {
+        if (inicio - ultimaReducao < 0) {
+            return;
+        }
+        limite = Math.max(properties.getLimiteMinimo(), limite * properties.getFatorReducao());
+        ultimaReducao = relogio.getAsLong();
+    }
+
+    // Cerca de uma vaga a mais a cada "limite" requisições concluídas, e só com o limite em uso
+    private synchronized void aumentar() {
+        limite = Math.min(properties.getLimiteMaximo(), limite + 1 / limite);
+    }
+}
@@ -0,0 +1,21 @@
+package com.golden.erp.admissao;
+
+/**
+ * Prioridade de admissão de uma requisição. Cada prioridade pode ocupar uma fração do limite de
+ * requisições simultâneas, então sob carga as de menor prioridade são recusadas primeiro.
+ */
+public enum Prioridade {
+
+    /** Operações que geram receita: criação e pagamento de pedidos. Podem ocupar o limite inteiro. */
+    ALTA,
+
+    /** Cadastros e buscas por id. Padrão quando nada é anotado. */
+    NORMAL,
+
+    /** Listagens, buscas por texto e relatórios. */
+    BAIXA;
+
+    public String getNome() {
+        return name().toLowerCase();
+    }
+}
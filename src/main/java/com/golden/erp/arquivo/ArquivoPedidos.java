@@ -0,0 +1,157 @@
+package com.golden.erp.arquivo;
+
+import com.golden.erp.dto.response.PedidoResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Segmentos de pedidos arquivados no diretório {@code erp.arquivo.diretorio}.
+ * <p>
+ * Os índices de todos os segmentos são carregados na primeira consulta, e os segmentos gravados por esta
+ * instância entram em memória na hora. Quando um id não é achado, o diretório é relido para pegar segmentos
+ * gravados por outra instância no mesmo volume, no máximo uma vez a cada {@code erp.arquivo.releitura-ms}:
+ * sem esse limite cada 404 de {@code GET /api/pedidos/{id}} listaria o diretório sob a trava.
+ */
+@Component
+@EnableConfigurationProperties(ArquivoPedidosProperties.class)
+public class ArquivoPedidos {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArquivoPedidos.class);
+
+    private static final String PREFIXO = "pedidos-";
+
+    private final Path diretorio;
+    private final int pedidosPorBloco;
+    private final long intervaloReleituraNanos;
+    private final List<SegmentoPedidos> segmentos = new CopyOnWriteArrayList<>();
+    private volatile boolean carregado;
+    private volatile long ultimaLeitura;
+
+    public ArquivoPedidos(ArquivoPedidosProperties properties) {
+        this.diretorio = Paths.get(properties.getDiretorio());
+        this.pedidosPorBloco = properties.getPedidosPorBloco();
+        this.intervaloReleituraNanos = TimeUnit.MILLISECONDS.toNanos(properties.getReleituraMs());
+    }
+
+    public Optional<PedidoResponse> buscar(long id) {
+        if (!carregado) {
+            carregarNovos();
+        }
+        Optional<PedidoResponse> pedido = buscar(segmentos, id);
+        if (pedido.isPresent() || !releituraVencida()) {
+            return pedido;
+        }
+        return reler() ? buscar(segmentos, id) : pedido;
+    }
+
+    /**
+     * Grava os pedidos (em ordem crescente de id) num novo segmento.
+     */
+    public synchronized SegmentoPedidos gravar(List<PedidoResponse> pedidos) {
+        carregarNovos();
+        try {
+            Files.createDirectories(diretorio);
+            long proximo = segmentos.stream().mapToLong(s -> numero(s.getArquivo())).max().orElse(0) + 1;
+            SegmentoPedidos segmento = SegmentoPedidos.gravar(
+                    diretorio.resolve(String.format("%s%08d%s", PREFIXO, proximo, SegmentoPedidos.EXTENSAO)),
+                    pedidos, pedidosPorBloco);
+            segmentos.add(segmento);
+            return segmento;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar segmento de pedidos em " + diretorio, e);
+        }
+    }
+
+    public List<SegmentoPedidos> getSegmentos() {
+        return List.copyOf(segmentos);
+    }
+
+    private Optional<PedidoResponse> buscar(List<SegmentoPedidos> candidatos, long id) {
+        // Do mais novo para o mais antigo: um pedido regravado depois de uma falha aparece igual nos dois
+        for (int i = candidatos.size() - 1; i >= 0; i--) {
+            SegmentoPedidos segmento = candidatos.get(i);
+            if (!segmento.podeConter(id)) {
+                continue;
+            }
+            try {
+                Optional<PedidoResponse> pedido = segmento.buscar(id);
+                if (pedido.isPresent()) {
+                    return pedido;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o segmento " + segmento.getArquivo(), e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean releituraVencida() {
+        return System.nanoTime() - ultimaLeitura >= intervaloReleituraNanos;
+    }
+
+    /**
+     * Relê o diretório se ninguém o fez dentro do intervalo; devolve se apareceram segmentos novos.
+     */
+    private synchronized boolean reler() {
+        // Outra busca pode ter relido enquanto esta esperava a trava
+        return releituraVencida() && !carregarNovos().isEmpty();
+    }
+
+    /**
+     * Carrega os segmentos do diretório que ainda não estão em memória e devolve só os novos.
+     */
+    private synchronized List<SegmentoPedidos> carregarNovos() {
+        carregado = true;
+        ultimaLeitura = System.nanoTime();
+        if (!Files.isDirectory(diretorio)) {
+            return List.of();
+        }
+        
+        Set<Path> conhecidos = segmentos.stream().map(SegmentoPedidos::getArquivo).collect(Collectors.toSet());
+        List<Path> arquivos = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(diretorio, PREFIXO + "*" + SegmentoPedidos.EXTENSAO)) {
+            stream.forEach(arquivos::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao listar os segmentos de pedidos em " + diretorio, e);
+        }
+        arquivos.sort(null);
+        
+        List<SegmentoPedidos> novos = new ArrayList<>();
+        for (Path arquivo : arquivos) {
+            if (conhecidos.contains(arquivo)) {
+                continue;
+            }
+            try {
+                novos.add(SegmentoPedidos.abrir(arquivo));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao abrir o segmento " + arquivo, e);
+            }
+        }
+        if (!novos.isEmpty()) {
+            segmentos.addAll(novos);
+            logger.info("{} segmentos de pedidos arquivados carregados de {}", novos.size(), diretorio);
+        }
+        return novos;
+    }
+
+    private static long numero(Path arquivo) {
+        String nome = arquivo.getFileName().toString();
+        return Long.parseLong(nome.substring(PREFIXO.length(), nome.length() - SegmentoPedidos.EXTENSAO.length()));
+    }
+}
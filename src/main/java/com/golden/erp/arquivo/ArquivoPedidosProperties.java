@@ -0,0 +1,90 @@
+package com.golden.erp.arquivo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Parâmetros do arquivamento de pedidos fechados ({@code erp.arquivo.*}).
+ */
+@ConfigurationProperties(prefix = "erp.arquivo")
+public class ArquivoPedidosProperties {
+
+    /** Liga o job de arquivamento; a leitura de pedidos já arquivados funciona mesmo desligado. */
+    private boolean enabled = true;
+
+    /** Diretório dos segmentos. Com várias instâncias, precisa ser um volume compartilhado. */
+    private String diretorio = "arquivo-pedidos";
+
+    /** Idade mínima, pela data de criação, de um pedido pago ou cancelado para ser arquivado. */
+    private int idadeMinimaDias = 365;
+
+    /** Pedidos por segmento; cada segmento é gravado e removido das tabelas numa transação. */
+    private int pedidosPorSegmento = 5_000;
+
+    /** Pedidos por bloco comprimido; o índice do segmento tem uma entrada por bloco. */
+    private int pedidosPorBloco = 64;
+
+    /** Limite de segmentos gravados por execução do job. */
+    private int segmentosPorExecucao = 100;
+
+    /**
+     * Intervalo mínimo entre duas releituras do diretório quando um id não é achado. Um segmento gravado por
+     * outra instância pode levar esse tempo para aparecer aqui; os desta instância aparecem na hora.
+     */
+    private long releituraMs = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDiretorio() {
+        return diretorio;
+    }
+
+    public void setDiretorio(String diretorio) {
+        this.diretorio = diretorio;
+    }
+
+    public int getIdadeMinimaDias() {
+        return idadeMinimaDias;
+    }
+
+    public void setIdadeMinimaDias(int idadeMinimaDias) {
+        this.idadeMinimaDias = idadeMinimaDias;
+    }
+
+    public int getPedidosPorSegmento() {
+        return pedidosPorSegmento;
+    }
+
+    public void setPedidosPorSegmento(int pedidosPorSegmento) {
+        this.pedidosPorSegmento = pedidosPorSegmento;
+    }
+
+    public int getPedidosPorBloco() {
+        return pedidosPorBloco;
+    }
+
+    public void setPedidosPorBloco(int pedidosPorBloco) {
+        this.pedidosPorBloco = pedidosPorBloco;
+    }
+
+    public int getSegmentosPorExecucao() {
+        return segmentosPorExecucao;
+    }
+
+    public void setSegmentosPorExecucao(int segmentosPorExecucao) {
+        this.segmentosPorExecucao = segmentosPorExecucao;
+    }
+
+    public long getReleituraMs() {
+        return releituraMs;
+    }
+
+    public void setReleituraMs(long releituraMs) {
+        this.releituraMs = releituraMs;
+    }
+}
@@ -0,0 +1,346 @@
+package com.golden.erp.arquivo;
+
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.PedidoItemResponse;
+import com.golden.erp.dto.response.PedidoResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Segmento imutável de pedidos arquivados, formado por dois arquivos:
+ * <ul>
+ *     <li>{@code .seg}: blocos de até {@code pedidosPorBloco} pedidos em ordem de id, cada bloco
+ *     comprimido separadamente com Deflate;</li>
+ *     <li>{@code .idx}: índice esparso com o primeiro id, a posição e o tamanho de cada bloco.</li>
+ * </ul>
+ * O índice fica em memória (três arrays por segmento). Uma busca localiza o bloco por busca binária
+ * e descomprime só ele. Os dois arquivos são gravados com outro nome e renomeados depois do
+ * {@code fsync}, então um segmento visível está sempre completo. Um temporário deixado por uma gravação
+ * interrompida é sobrescrito na próxima tentativa com o mesmo nome.
+ */
+public final class SegmentoPedidos {
+
+    static final String EXTENSAO = ".seg";
+    private static final String EXTENSAO_INDICE = ".idx";
+    private static final int MAGICO = 0x50454431;
+    private static final int VERSAO = 1;
+
+    private final Path arquivo;
+    private final int pedidos;
+    private final long menorId;
+    private final long maiorId;
+    private final long[] primeirosIds;
+    private final long[] posicoes;
+    private final int[] tamanhos;
+
+    private SegmentoPedidos(Path arquivo, int pedidos, long menorId, long maiorId, long[] primeirosIds,
+                            long[] posicoes, int[] tamanhos) {
+        this.arquivo = arquivo;
+        this.pedidos = pedidos;
+        this.menorId = menorId;
+        this.maiorId = maiorId;
+        this.primeirosIds = primeirosIds;
+        this.posicoes = posicoes;
+        this.tamanhos = tamanhos;
+    }
+
+    /**
+     * Grava um novo segmento com os pedidos informados, que devem estar em ordem crescente de id.
+     */
+    public static SegmentoPedidos gravar(Path arquivo, List<PedidoResponse> pedidos, int pedidosPorBloco)
+            throws IOException {
+        if (pedidos.isEmpty()) {
+            throw new IllegalArgumentException("Um segmento precisa de ao menos um pedido");
+        }
+        for (int i = 1; i < pedidos.size(); i++) {
+            if (pedidos.get(i).getId() <= pedidos.get(i - 1).getId()) {
+                throw new IllegalArgumentException("Os pedidos do segmento devem estar em ordem crescente de id");
+            }
+        }
+        
+        int blocos = (pedidos.size() + pedidosPorBloco - 1) / pedidosPorBloco;
+        long[] primeirosIds = new long[blocos];
+        long[] posicoes = new long[blocos];
+        int[] tamanhos = new int[blocos];
+        
+        Path temporario = temporario(arquivo);
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long posicao = 0;
+            for (int bloco = 0; bloco < blocos; bloco++) {
+                List<PedidoResponse> doBloco = pedidos.subList(bloco * pedidosPorBloco,
+                        Math.min(pedidos.size(), (bloco + 1) * pedidosPorBloco));
+                byte[] comprimido = comprimir(doBloco);
+                primeirosIds[bloco] = doBloco.get(0).getId();
+                posicoes[bloco] = posicao;
+                tamanhos[bloco] = comprimido.length;
+                escreverTudo(canal, comprimido);
+                posicao += comprimido.length;
+            }
+            canal.force(true);
+        }
+        
+        SegmentoPedidos segmento = new SegmentoPedidos(arquivo, pedidos.size(), pedidos.get(0).getId(),
+                pedidos.get(pedidos.size() - 1).getId(), primeirosIds, posicoes, tamanhos);
+        Path indice = indice(arquivo);
+        Path indiceTemporario = temporario(indice);
+        try (FileChannel canal = FileChannel.open(indiceTemporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            escreverTudo(canal, segmento.serializarIndice());
+            canal.force(true);
+        }
+        
+        // O índice vai primeiro: o segmento só é listado pelo .seg, que aparece já com o índice no lugar
+        Files.move(indiceTemporario, indice, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE);
+        sincronizarDiretorio(arquivo.toAbsolutePath().getParent());
+        return segmento;
+    }
+
+    /**
+     * Carrega o índice de um segmento já gravado.
+     */
+    public static SegmentoPedidos abrir(Path arquivo) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(indice(arquivo))))) {
+            if (in.readInt() != MAGICO || in.readInt() != VERSAO) {
+                throw new IOException("Índice inválido para o segmento " + arquivo);
+            }
+            int pedidos = in.readInt();
+            long menorId = in.readLong();
+            long maiorId = in.readLong();
+            int blocos = in.readInt();
+            long[] primeirosIds = new long[blocos];
+            long[] posicoes = new long[blocos];
+            int[] tamanhos = new int[blocos];
+            for (int i = 0; i < blocos; i++) {
+                primeirosIds[i] = in.readLong();
+                posicoes[i] = in.readLong();
+                tamanhos[i] = in.readInt();
+            }
+            return new SegmentoPedidos(arquivo, pedidos, menorId, maiorId, primeirosIds, posicoes, tamanhos);
+        }
+    }
+
+    public boolean podeConter(long id) {
+        return id >= menorId && id <= maiorId;
+    }
+
+    public Optional<PedidoResponse> buscar(long id) throws IOException {
+        if (!podeConter(id)) {
+            return Optional.empty();
+        }
+        
+        int posicao = Arrays.binarySearch(primeirosIds, id);
+        int bloco = posicao >= 0 ? posicao : -posicao - 2;
+        ByteBuffer buffer = ByteBuffer.allocate(tamanhos[bloco]);
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (canal.read(buffer, posicoes[bloco] + buffer.position()) < 0) {
+                    throw new EOFException("Segmento " + arquivo + " truncado no bloco " + bloco);
+                }
+            }
+        }
+        
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(buffer.array())))) {
+            int quantidade = in.readInt();
+            for (int i = 0; i < quantidade; i++) {
+                PedidoResponse pedido = lerPedido(in);
+                if (pedido.getId() == id) {
+                    return Optional.of(pedido);
+                }
+                if (pedido.getId() > id) {
+                    break;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    public int getPedidos() {
+        return pedidos;
+    }
+
+    public long getMenorId() {
+        return menorId;
+    }
+
+    public long getMaiorId() {
+        return maiorId;
+    }
+
+    public int getBlocos() {
+        return primeirosIds.length;
+    }
+
+    private byte[] serializarIndice() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(28 + primeirosIds.length * 20);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGICO);
+            out.writeInt(VERSAO);
+            out.writeInt(pedidos);
+            out.writeLong(menorId);
+            out.writeLong(maiorId);
+            out.writeInt(primeirosIds.length);
+            for (int i = 0; i < primeirosIds.length; i++) {
+                out.writeLong(primeirosIds[i]);
+                out.writeLong(posicoes[i]);
+                out.writeInt(tamanhos[i]);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] comprimir(List<PedidoResponse> pedidos) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeInt(pedidos.size());
+            for (PedidoResponse pedido : pedidos) {
+                escreverPedido(out, pedido);
+            }
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void escreverPedido(DataOutputStream out, PedidoResponse pedido) throws IOException {
+        out.writeLong(pedido.getId());
+        out.writeLong(pedido.getClienteId());
+        escreverTexto(out, pedido.getClienteNome());
+        escreverValor(out, pedido.getSubtotal());
+        escreverValor(out, pedido.getDescontoTotal());
+        escreverValor(out, pedido.getTotal());
+        out.writeUTF(pedido.getStatus().name());
+        escreverData(out, pedido.getCreatedAt());
+        escreverData(out, pedido.getUpdatedAt());
+        List<PedidoItemResponse> itens = pedido.getItens() != null ? pedido.getItens() : List.of();
+        out.writeInt(itens.size());
+        for (PedidoItemResponse item : itens) {
+            out.writeLong(item.getId());
+            out.writeLong(item.getProdutoId());
+            escreverTexto(out, item.getProdutoNome());
+            escreverTexto(out, item.getProdutoSku());
+            out.writeInt(item.getQuantidade());
+            escreverValor(out, item.getPrecoUnitario());
+            escreverValor(out, item.getDesconto());
+            escreverValor(out, item.getSubtotal());
+        }
+    }
+
+    private static PedidoResponse lerPedido(DataInputStream in) throws IOException {
+        PedidoResponse pedido = new PedidoResponse();
+        pedido.setId(in.readLong());
+        pedido.setClienteId(in.readLong());
+        pedido.setClienteNome(lerTexto(in));
+        pedido.setSubtotal(lerValor(in));
+        pedido.setDescontoTotal(lerValor(in));
+        pedido.setTotal(lerValor(in));
+        pedido.setStatus(StatusPedido.valueOf(in.readUTF()));
+        pedido.setCreatedAt(lerData(in));
+        pedido.setUpdatedAt(lerData(in));
+        int quantidade = in.readInt();
+        List<PedidoItemResponse> itens = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            PedidoItemResponse item = new PedidoItemResponse();
+            item.setId(in.readLong());
+            item.setProdutoId(in.readLong());
+            item.setProdutoNome(lerTexto(in));
+            item.setProdutoSku(lerTexto(in));
+            item.setQuantidade(in.readInt());
+            item.setPrecoUnitario(lerValor(in));
+            item.setDesconto(lerValor(in));
+            item.setSubtotal(lerValor(in));
+            itens.add(item);
+        }
+        pedido.setItens(itens);
+        return pedido;
+    }
+
+    private static void escreverTexto(DataOutputStream out, String texto) throws IOException {
+        out.writeBoolean(texto != null);
+        if (texto != null) {
+            out.writeUTF(texto);
+        }
+    }
+
+    private static String lerTexto(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // Valores monetários cabem em long com a escala separada (decimal(10, 2) nas tabelas)
+    private static void escreverValor(DataOutputStream out, BigDecimal valor) throws IOException {
+        out.writeLong(valor.unscaledValue().longValueExact());
+        out.writeByte(valor.scale());
+    }
+
+    private static BigDecimal lerValor(DataInputStream in) throws IOException {
+        long semEscala = in.readLong();
+        return new BigDecimal(BigInteger.valueOf(semEscala), in.readByte());
+    }
+
+    private static void escreverData(DataOutputStream out, LocalDateTime data) throws IOException {
+        out.writeLong(data.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(data.getNano());
+    }
+
+    private static LocalDateTime lerData(DataInputStream in) throws IOException {
+        long segundos = in.readLong();
+        return LocalDateTime.ofEpochSecond(segundos, in.readInt(), ZoneOffset.UTC);
+    }
+
+    private static void escreverTudo(FileChannel canal, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+    }
+
+    /**
+     * Torna as renomeações duráveis: sem o {@code fsync} do diretório, uma queda logo depois do commit que
+     * apagou os pedidos das tabelas pode levar o segmento junto.
+     */
+    private static void sincronizarDiretorio(Path diretorio) throws IOException {
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (AccessDeniedException e) {
+            // Windows não abre diretórios como arquivo; lá o rename já é durável
+        }
+    }
+
+    private static Path indice(Path arquivo) {
+        String nome = arquivo.getFileName().toString();
+        return arquivo.resolveSibling(nome.substring(0, nome.length() - EXTENSAO.length()) + EXTENSAO_INDICE);
+    }
+
+    private static Path temporario(Path arquivo) {
+        return arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+    }
+}
@@ -0,0 +1,110 @@
+package com.golden.erp.cache;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache LRU de corpos JSON já serializados, por id e versão ({@code updatedAt}) da entidade.
+ * <p>
+ * A versão é conferida a cada leitura: uma entrada só é devolvida se a versão pedida for exatamente a
+ * guardada, então uma alteração feita por outra instância nunca é servida desatualizada. A invalidação
+ * local apenas libera a memória antes. O limite é em bytes, não em entradas, porque o tamanho do corpo
+ * varia com o cadastro; as entradas menos usadas saem até o total caber no limite.
+ */
+public class CacheJson {
+
+    /**
+     * Custo aproximado de uma entrada além do corpo: nó do mapa, chave, versão e cabeçalho do array.
+     */
+    static final int SOBRECARGA_ENTRADA = 128;
+
+    private final long maximoBytes;
+    private final LinkedHashMap<Long, Entrada> entradas = new LinkedHashMap<>(256, 0.75f, true);
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private long bytes;
+
+    public CacheJson(long maximoBytes) {
+        this.maximoBytes = Math.max(0, maximoBytes);
+    }
+
+    public boolean isAtivo() {
+        return maximoBytes > 0;
+    }
+
+    /**
+     * Corpo guardado para o id na versão informada, ou {@code null} se não houver ou for de outra versão.
+     */
+    public byte[] buscar(Long id, LocalDateTime versao) {
+        Entrada entrada;
+        synchronized (this) {
+            entrada = entradas.get(id);
+        }
+        if (entrada == null || !entrada.versao().equals(versao)) {
+            falhas.increment();
+            return null;
+        }
+        acertos.increment();
+        return entrada.corpo();
+    }
+
+    /**
+     * Guarda o corpo, a menos que ele sozinho passe do limite ou que já exista uma versão mais nova.
+     */
+    public void guardar(Long id, LocalDateTime versao, byte[] corpo) {
+        long tamanho = tamanho(corpo);
+        if (tamanho > maximoBytes) {
+            return;
+        }
+        synchronized (this) {
+            Entrada atual = entradas.get(id);
+            if (atual != null) {
+                // Uma leitura lenta não sobrescreve o que uma mais recente já guardou
+                if (atual.versao().isAfter(versao)) {
+                    return;
+                }
+                bytes -= tamanho(atual.corpo());
+            }
+            entradas.put(id, new Entrada(versao, corpo));
+            bytes += tamanho;
+            Iterator<Entrada> menosUsadas = entradas.values().iterator();
+            while (bytes > maximoBytes) {
+                bytes -= tamanho(menosUsadas.next().corpo());
+                menosUsadas.remove();
+            }
+        }
+    }
+
+    public synchronized void invalidar(Long id) {
+        Entrada entrada = entradas.remove(id);
+        if (entrada != null) {
+            bytes -= tamanho(entrada.corpo());
+        }
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized int getEntradas() {
+        return entradas.size();
+    }
+
+    public long getAcertos() {
+        return acertos.sum();
+    }
+
+    public long getFalhas() {
+        return falhas.sum();
+    }
+
+    private static long tamanho(byte[] corpo) {
+        return corpo.length + SOBRECARGA_ENTRADA;
+    }
+
+    private record Entrada(LocalDateTime versao, byte[] corpo) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.golden.erp.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches de respostas serializadas. Com {@code erp.cache-json.enabled=false} o bean existe, mas não
+ * guarda nada, e os endpoints seguem o caminho normal de mapeamento e serialização.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(CacheJsonProperties.class)
+public class CacheJsonConfig {
+
+    @Bean
+    public CacheJson cacheProdutos(CacheJsonProperties properties, MeterRegistry meterRegistry) {
+        CacheJson cache = new CacheJson(properties.isEnabled() ? properties.getMaximoBytes() : 0);
+        if (cache.isAtivo()) {
+            monitorar(meterRegistry, "produto", cache);
+        }
+        return cache;
+    }
+
+    private static void monitorar(MeterRegistry meterRegistry, String nome, CacheJson cache) {
+        Gauge.builder("erp.cache.json.bytes", cache, CacheJson::getBytes)
+                .description("Memória ocupada pelos corpos serializados em cache")
+                .baseUnit("bytes")
+                .tag("cache", nome)
+                .strongReference(true)
+                .register(meterRegistry);
+        Gauge.builder("erp.cache.json.entradas", cache, CacheJson::getEntradas)
+                .description("Entidades com corpo serializado em cache")
+                .tag("cache", nome)
+                .strongReference(true)
+                .register(meterRegistry);
+        FunctionCounter.builder("erp.cache.json.consultas", cache, CacheJson::getAcertos)
+                .description("Consultas ao cache de respostas serializadas")
+                .tag("cache", nome)
+                .tag("resultado", "acerto")
+                .register(meterRegistry);
+        FunctionCounter.builder("erp.cache.json.consultas", cache, CacheJson::getFalhas)
+                .description("Consultas ao cache de respostas serializadas")
+                .tag("cache", nome)
+                .tag("resultado", "falha")
+                .register(meterRegistry);
+    }
+}
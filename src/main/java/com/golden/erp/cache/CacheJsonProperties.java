@@ -0,0 +1,33 @@
+package com.golden.erp.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Parâmetros do cache de respostas já serializadas ({@code erp.cache-json.*}).
+ */
+@ConfigurationProperties(prefix = "erp.cache-json")
+public class CacheJsonProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Limite de memória de cada cache, somando o tamanho dos corpos JSON e um custo fixo por entrada.
+     */
+    private long maximoBytes = 32L * 1024 * 1024;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximoBytes() {
+        return maximoBytes;
+    }
+
+    public void setMaximoBytes(long maximoBytes) {
+        this.maximoBytes = maximoBytes;
+    }
+}
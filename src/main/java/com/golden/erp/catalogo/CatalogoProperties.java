@@ -0,0 +1,26 @@
+package com.golden.erp.catalogo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Parâmetros do feed de mudanças do catálogo ({@code erp.catalogo.*}).
+ */
+@ConfigurationProperties(prefix = "erp.catalogo")
+public class CatalogoProperties {
+
+    /**
+     * Alterações mais recentes que isso ficam para a próxima consulta. O {@code updated_at} é definido
+     * antes do commit, então uma transação ainda aberta pode gravar um instante anterior ao de uma
+     * alteração já entregue; a margem precisa cobrir a transação mais longa, a diferença entre os
+     * relógios das instâncias e o atraso máximo da réplica de leitura.
+     */
+    private long margemMs = 10_000;
+
+    public long getMargemMs() {
+        return margemMs;
+    }
+
+    public void setMargemMs(long margemMs) {
+        this.margemMs = margemMs;
+    }
+}
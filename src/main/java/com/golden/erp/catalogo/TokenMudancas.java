@@ -0,0 +1,50 @@
+package com.golden.erp.catalogo;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Posição no feed de mudanças do catálogo: a última alteração entregue, como ({@code updated_at}, id).
+ * O formato do texto é opaco para o cliente, que só reenvia o valor recebido.
+ */
+public record TokenMudancas(LocalDateTime data, long id) implements Comparable<TokenMudancas> {
+
+    private static final LocalDateTime EPOCA = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /** Antes de qualquer alteração: a primeira consulta entrega o catálogo inteiro. */
+    public static final TokenMudancas INICIO = new TokenMudancas(EPOCA, 0);
+
+    /**
+     * @throws IllegalArgumentException se o texto não veio de {@link #formatar()}
+     */
+    public static TokenMudancas ler(String texto) {
+        int separador = texto.indexOf('.');
+        if (separador <= 0 || separador == texto.length() - 1) {
+            throw new IllegalArgumentException("Token de mudanças inválido: " + texto);
+        }
+        try {
+            long micros = Long.parseLong(texto.substring(0, separador), Character.MAX_RADIX);
+            long id = Long.parseLong(texto.substring(separador + 1), Character.MAX_RADIX);
+            if (micros < 0 || id < 0) {
+                throw new IllegalArgumentException("Token de mudanças inválido: " + texto);
+            }
+            return new TokenMudancas(EPOCA.plus(micros, ChronoUnit.MICROS), id);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Token de mudanças inválido: " + texto, e);
+        }
+    }
+
+    public String formatar() {
+        return Long.toString(ChronoUnit.MICROS.between(EPOCA, data), Character.MAX_RADIX)
+                + "." + Long.toString(id, Character.MAX_RADIX);
+    }
+
+    /**
+     * Ordem do feed: pela data e, na mesma data, pelo id.
+     */
+    @Override
+    public int compareTo(TokenMudancas outro) {
+        int comparacao = data.compareTo(outro.data);
+        return comparacao != 0 ? comparacao : Long.compare(id, outro.id);
+    }
+}
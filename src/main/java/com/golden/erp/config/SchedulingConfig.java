@@ -0,0 +1,15 @@
+package com.golden.erp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas. Pode ser desligado com {@code erp.scheduling.enabled=false},
+ * por exemplo ao rodar o gerador de dados ou testes de integração.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "erp.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
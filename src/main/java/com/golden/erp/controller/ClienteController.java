@@ -1,24 +1,34 @@
 package com.golden.erp.controller;
 
+import com.golden.erp.admissao.Admissao;
+import com.golden.erp.admissao.Prioridade;
 import com.golden.erp.dto.request.ClienteRequest;
 import com.golden.erp.dto.response.ClienteResponse;
+import com.golden.erp.dto.response.ClienteResumoPedidosResponse;
+import com.golden.erp.service.ClienteResumoPedidosService;
 import com.golden.erp.service.ClienteService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/clientes")
 public class ClienteController {
 
     private final ClienteService clienteService;
+    private final ClienteResumoPedidosService clienteResumoPedidosService;
 
-    public ClienteController(ClienteService clienteService) {
+    public ClienteController(ClienteService clienteService, ClienteResumoPedidosService clienteResumoPedidosService) {
         this.clienteService = clienteService;
+        this.clienteResumoPedidosService = clienteResumoPedidosService;
     }
 
     @PostMapping
@@ -27,8 +37,24 @@ public class ClienteController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ClienteResponse> buscarPorId(@PathVariable Long id) {
-        return ResponseEntity.ok(clienteService.buscarPorId(id));
+    public ResponseEntity<ClienteResponse> buscarPorId(@PathVariable Long id, WebRequest webRequest) {
+        MediaType formato = Formatos.negociar(webRequest);
+        // Com If-None-Match, confere só a versão; o cliente é carregado apenas se mudou
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(Etags.daVersao(clienteService.buscarVersao(id), formato))) {
+            return null;
+        }
+        ClienteResponse cliente = clienteService.buscarPorId(id);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(Etags.daVersao(cliente.getUpdatedAt(), formato))
+                .body(cliente);
+    }
+
+    @GetMapping("/{id}/resumo-pedidos")
+    public ResponseEntity<ClienteResumoPedidosResponse> buscarResumoPedidos(@PathVariable Long id) {
+        return ResponseEntity.ok(clienteResumoPedidosService.buscar(id));
     }
 
     @PutMapping("/{id}")
@@ -43,12 +69,14 @@ public class ClienteController {
     }
 
     @GetMapping
+    @Admissao(Prioridade.BAIXA)
     public ResponseEntity<Page<ClienteResponse>> listar(
             @PageableDefault(size = 20, sort = "nome") Pageable pageable) {
         return ResponseEntity.ok(clienteService.listar(pageable));
     }
 
     @GetMapping("/por-nome")
+    @Admissao(Prioridade.BAIXA)
     public ResponseEntity<Page<ClienteResponse>> buscarPorNome(
             @RequestParam String nome,
             @PageableDefault(size = 20) Pageable pageable) {
@@ -56,6 +84,7 @@ public class ClienteController {
     }
 
     @GetMapping("/por-email")
+    @Admissao(Prioridade.BAIXA)
     public ResponseEntity<Page<ClienteResponse>> buscarPorEmail(
             @RequestParam String email,
             @PageableDefault(size = 20) Pageable pageable) {
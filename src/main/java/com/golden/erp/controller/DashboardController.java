@@ -0,0 +1,24 @@
+package com.golden.erp.controller;
+
+import com.golden.erp.dto.response.DashboardVendasResponse;
+import com.golden.erp.service.DashboardService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping("/vendas")
+    public ResponseEntity<DashboardVendasResponse> resumirVendas() {
+        return ResponseEntity.ok(dashboardService.resumirVendas());
+    }
+}
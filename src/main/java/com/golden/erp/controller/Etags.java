@@ -0,0 +1,40 @@
+package com.golden.erp.controller;
+
+import com.golden.erp.repository.VersaoListagem;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * ETags fortes derivados de {@code updated_at}, que todo caminho de escrita de produto e cliente atualiza.
+ * A data vai em microssegundos, a precisão da coluna, para que o valor lido do banco e o da resposta
+ * montada a partir da entidade coincidam. Representações em outro formato que não JSON levam o formato
+ * no ETag, já que os bytes são outros.
+ */
+final class Etags {
+
+    private Etags() {
+    }
+
+    static String daVersao(LocalDateTime atualizadoEm, MediaType formato) {
+        return "\"" + microssegundos(atualizadoEm) + sufixo(formato) + "\"";
+    }
+
+    /**
+     * A quantidade muda quando um registro sai da listagem; a data, quando algum dos que ficaram é alterado.
+     */
+    static String daListagem(VersaoListagem versao, MediaType formato) {
+        String maisRecente = versao.maisRecente() != null ? microssegundos(versao.maisRecente()) : "0";
+        return "\"" + versao.quantidade() + "-" + maisRecente + sufixo(formato) + "\"";
+    }
+
+    private static String sufixo(MediaType formato) {
+        return MediaType.APPLICATION_JSON.equals(formato) ? "" : "." + formato.getSubtype();
+    }
+
+    private static String microssegundos(LocalDateTime data) {
+        return Long.toString(ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), data), 36);
+    }
+}
@@ -0,0 +1,50 @@
+package com.golden.erp.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * Formato de resposta que a negociação por {@code Accept} vai escolher: JSON, o padrão, ou CBOR para os
+ * consumidores internos que o pedem. Os endpoints com ETag ou cache de corpo precisam saber o formato
+ * antes de montar a resposta, porque cada representação tem o seu ETag.
+ */
+final class Formatos {
+
+    private Formatos() {
+    }
+
+    /**
+     * Segue a mesma ordem do Spring MVC: qualidade e especificidade do {@code Accept}, com JSON na frente
+     * de CBOR quando os dois são aceitos pelo mesmo curinga.
+     */
+    static MediaType negociar(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> aceitos;
+        try {
+            aceitos = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(aceitos);
+        for (MediaType aceito : aceitos) {
+            if (aceito.getQualityValue() == 0) {
+                continue;
+            }
+            if (aceito.includes(MediaType.APPLICATION_JSON)) {
+                return MediaType.APPLICATION_JSON;
+            }
+            if (aceito.includes(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
@@ -1,28 +1,38 @@
 package com.golden.erp.controller;
 
+import com.golden.erp.admissao.Admissao;
+import com.golden.erp.admissao.Prioridade;
 import com.golden.erp.domain.enums.StatusPedido;
 import com.golden.erp.dto.request.PedidoRequest;
 import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.dto.response.PedidoResumoResponse;
+import com.golden.erp.service.PedidoResumoService;
 import com.golden.erp.service.PedidoService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/pedidos")
 public class PedidoController {
 
     private final PedidoService pedidoService;
+    private final PedidoResumoService pedidoResumoService;
 
-    public PedidoController(PedidoService pedidoService) {
+    public PedidoController(PedidoService pedidoService, PedidoResumoService pedidoResumoService) {
         this.pedidoService = pedidoService;
+        this.pedidoResumoService = pedidoResumoService;
     }
 
     @PostMapping
+    @Admissao(Prioridade.ALTA)
     public ResponseEntity<PedidoResponse> criar(@Valid @RequestBody PedidoRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(pedidoService.criar(request));
     }
@@ -33,26 +43,34 @@ public class PedidoController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<PedidoResponse>> listar(
+    @Admissao(Prioridade.BAIXA)
+    public ResponseEntity<Page<PedidoResumoResponse>> listar(
+            @RequestParam(required = false) StatusPedido status,
+            @RequestParam(required = false) Long clienteId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
             @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
-        return ResponseEntity.ok(pedidoService.listar(pageable));
+        return ResponseEntity.ok(pedidoResumoService.listar(status, clienteId, de, ate, pageable));
     }
 
     @GetMapping("/por-status")
-    public ResponseEntity<Page<PedidoResponse>> listarPorStatus(
+    @Admissao(Prioridade.BAIXA)
+    public ResponseEntity<Page<PedidoResumoResponse>> listarPorStatus(
             @RequestParam StatusPedido status,
             @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(pedidoService.listarPorStatus(status, pageable));
+        return ResponseEntity.ok(pedidoResumoService.listar(status, null, null, null, pageable));
     }
 
     @GetMapping("/por-cliente/{clienteId}")
-    public ResponseEntity<Page<PedidoResponse>> listarPorCliente(
+    @Admissao(Prioridade.BAIXA)
+    public ResponseEntity<Page<PedidoResumoResponse>> listarPorCliente(
             @PathVariable Long clienteId,
             @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(pedidoService.listarPorCliente(clienteId, pageable));
+        return ResponseEntity.ok(pedidoResumoService.listar(null, clienteId, null, null, pageable));
     }
 
     @PostMapping("/{id}/pagar")
+    @Admissao(Prioridade.ALTA)
     public ResponseEntity<PedidoResponse> pagar(@PathVariable Long id) {
         return ResponseEntity.ok(pedidoService.pagar(id));
     }
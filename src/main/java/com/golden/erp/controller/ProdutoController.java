@@ -1,16 +1,35 @@
 package com.golden.erp.controller;
 
+import com.golden.erp.admissao.Admissao;
+import com.golden.erp.admissao.Prioridade;
+import com.golden.erp.cache.CacheJson;
 import com.golden.erp.dto.request.ProdutoRequest;
+import com.golden.erp.dto.response.MaisVendidoResponse;
+import com.golden.erp.dto.response.MudancasProdutosResponse;
 import com.golden.erp.dto.response.ProdutoResponse;
+import com.golden.erp.dto.response.ReposicaoResponse;
+import com.golden.erp.repository.VersaoListagem;
+import com.golden.erp.service.AlertaEstoqueService;
+import com.golden.erp.service.CatalogoService;
 import com.golden.erp.service.ProdutoService;
+import com.golden.erp.service.RankingVendasService;
+import com.golden.erp.service.ReposicaoService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -18,9 +37,23 @@ import java.util.List;
 public class ProdutoController {
 
     private final ProdutoService produtoService;
+    private final AlertaEstoqueService alertaEstoqueService;
+    private final ReposicaoService reposicaoService;
+    private final RankingVendasService rankingVendasService;
+    private final CatalogoService catalogoService;
+    private final CacheJson cacheProdutos;
+    private final JsonMapper jsonMapper;
 
-    public ProdutoController(ProdutoService produtoService) {
+    public ProdutoController(ProdutoService produtoService, AlertaEstoqueService alertaEstoqueService,
+                             ReposicaoService reposicaoService, RankingVendasService rankingVendasService,
+                             CatalogoService catalogoService, CacheJson cacheProdutos, JsonMapper jsonMapper) {
         this.produtoService = produtoService;
+        this.alertaEstoqueService = alertaEstoqueService;
+        this.reposicaoService = reposicaoService;
+        this.rankingVendasService = rankingVendasService;
+        this.catalogoService = catalogoService;
+        this.cacheProdutos = cacheProdutos;
+        this.jsonMapper = jsonMapper;
     }
 
     @PostMapping
@@ -29,8 +62,32 @@ public class ProdutoController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProdutoResponse> buscarPorId(@PathVariable Long id) {
-        return ResponseEntity.ok(produtoService.buscarPorId(id));
+    public ResponseEntity<?> buscarPorId(@PathVariable Long id, WebRequest webRequest) {
+        MediaType formato = Formatos.negociar(webRequest);
+        // O cache guarda só o corpo JSON; em CBOR o produto segue para o conversor
+        boolean usaCache = cacheProdutos.isAtivo() && MediaType.APPLICATION_JSON.equals(formato);
+        // Com If-None-Match ou com o cache, confere primeiro só a versão; o produto é carregado apenas se mudou
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null || usaCache) {
+            LocalDateTime versao = produtoService.buscarVersao(id);
+            String etag = Etags.daVersao(versao, formato);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            byte[] corpo = usaCache ? cacheProdutos.buscar(id, versao) : null;
+            if (corpo != null) {
+                return comEtag(etag).contentType(MediaType.APPLICATION_JSON).body(corpo);
+            }
+        }
+
+        ProdutoResponse produto = produtoService.buscarPorId(id);
+        String etag = Etags.daVersao(produto.getUpdatedAt(), formato);
+        if (!usaCache) {
+            return comEtag(etag).body(produto);
+        }
+        // Guarda na versão que foi de fato serializada, mesmo que o produto tenha mudado após a primeira consulta
+        byte[] corpo = jsonMapper.writeValueAsBytes(produto);
+        cacheProdutos.guardar(id, produto.getUpdatedAt(), corpo);
+        return comEtag(etag).contentType(MediaType.APPLICATION_JSON).body(corpo);
     }
 
     @PutMapping("/{id}")
@@ -45,18 +102,26 @@ public class ProdutoController {
     }
 
     @GetMapping
+    @Admissao(Prioridade.BAIXA)
     public ResponseEntity<Page<ProdutoResponse>> listar(
             @PageableDefault(size = 20, sort = "nome") Pageable pageable) {
         return ResponseEntity.ok(produtoService.listar(pageable));
     }
 
     @GetMapping("/ativos")
+    @Admissao(Prioridade.BAIXA)
     public ResponseEntity<Page<ProdutoResponse>> listarAtivos(
-            @PageableDefault(size = 20, sort = "nome") Pageable pageable) {
-        return ResponseEntity.ok(produtoService.listarAtivos(pageable));
+            @PageableDefault(size = 20, sort = "nome") Pageable pageable, WebRequest webRequest) {
+        VersaoListagem versao = produtoService.buscarVersaoAtivos();
+        String etag = Etags.daListagem(versao, Formatos.negociar(webRequest));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return comEtag(etag).body(produtoService.listarAtivos(pageable, versao));
     }
 
     @GetMapping("/por-nome")
+    @Admissao(Prioridade.BAIXA)
     public ResponseEntity<Page<ProdutoResponse>> buscarPorNome(
             @RequestParam String nome,
             @PageableDefault(size = 20) Pageable pageable) {
@@ -64,6 +129,7 @@ public class ProdutoController {
     }
 
     @GetMapping("/ativos/por-nome")
+    @Admissao(Prioridade.BAIXA)
     public ResponseEntity<Page<ProdutoResponse>> buscarAtivosPorNome(
             @RequestParam String nome,
             @PageableDefault(size = 20) Pageable pageable) {
@@ -71,7 +137,38 @@ public class ProdutoController {
     }
 
     @GetMapping("/estoque-baixo")
+    @Admissao(Prioridade.BAIXA)
     public ResponseEntity<List<ProdutoResponse>> listarProdutosComEstoqueBaixo() {
-        return ResponseEntity.ok(produtoService.listarProdutosComEstoqueBaixo());
+        return ResponseEntity.ok(alertaEstoqueService.listarProdutosComEstoqueBaixo());
+    }
+
+    @GetMapping("/reposicao")
+    @Admissao(Prioridade.BAIXA)
+    public ResponseEntity<List<ReposicaoResponse>> listarSugestoesReposicao(
+            @RequestParam(required = false) @Min(0) @Max(365) Integer prazoDias,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limite) {
+        return ResponseEntity.ok(reposicaoService.listarSugestoes(prazoDias, limite));
+    }
+
+    @GetMapping("/mais-vendidos")
+    @Admissao(Prioridade.BAIXA)
+    public ResponseEntity<List<MaisVendidoResponse>> listarMaisVendidos(
+            @RequestParam(defaultValue = "1") @Min(1) int dias,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limite) {
+        return ResponseEntity.ok(rankingVendasService.listarMaisVendidos(dias, limite));
+    }
+
+    @GetMapping("/mudancas")
+    public ResponseEntity<MudancasProdutosResponse> listarMudancas(
+            @RequestParam(required = false) String desde,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(1000) int limite) {
+        return ResponseEntity.ok(catalogoService.listarMudancas(desde, limite));
+    }
+
+    private static ResponseEntity.BodyBuilder comEtag(String etag) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(etag);
     }
 }
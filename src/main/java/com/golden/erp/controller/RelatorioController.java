@@ -0,0 +1,43 @@
+package com.golden.erp.controller;
+
+import com.golden.erp.admissao.Admissao;
+import com.golden.erp.admissao.Prioridade;
+import com.golden.erp.dto.response.VendaDiariaResponse;
+import com.golden.erp.service.VendaDiariaService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/relatorios")
+@Admissao(Prioridade.BAIXA)
+public class RelatorioController {
+
+    private final VendaDiariaService vendaDiariaService;
+
+    public RelatorioController(VendaDiariaService vendaDiariaService) {
+        this.vendaDiariaService = vendaDiariaService;
+    }
+
+    @GetMapping("/vendas-diarias")
+    public ResponseEntity<List<VendaDiariaResponse>> listarVendasDiarias(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate) {
+        return ResponseEntity.ok(vendaDiariaService.listar(de, ate));
+    }
+
+    @PostMapping("/vendas-diarias/reconstruir")
+    public ResponseEntity<List<VendaDiariaResponse>> reconstruirVendasDiarias(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate) {
+        vendaDiariaService.reconstruir(de, ate);
+        return ResponseEntity.ok(vendaDiariaService.listar(de, ate));
+    }
+}
@@ -0,0 +1,114 @@
+package com.golden.erp.dashboard;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Totais de vendas por minuto num buffer circular, sem travas: cada posição guarda o balde de um
+ * minuto e é substituída por CAS quando o ponteiro dá a volta. Consultar uma janela é somar os
+ * baldes dos últimos minutos, sem ir ao banco.
+ * <p>
+ * A resolução é de um minuto; o minuto corrente entra parcial em todas as janelas.
+ */
+public class JanelaVendas {
+
+    private static final long MS_POR_MINUTO = 60_000L;
+
+    private final AtomicReferenceArray<Balde> baldes;
+
+    /**
+     * @param minutos maior janela que poderá ser consultada
+     */
+    public JanelaVendas(int minutos) {
+        this.baldes = new AtomicReferenceArray<>(minutos);
+    }
+
+    public void registrarPedido(long instanteMs, long totalCentavos) {
+        Balde balde = balde(instanteMs);
+        if (balde != null) {
+            balde.pedidos.increment();
+            balde.receitaCentavos.add(totalCentavos);
+        }
+    }
+
+    /**
+     * O cancelamento conta no minuto em que o pedido foi criado, então a taxa de cancelamento de uma
+     * janela se refere aos pedidos criados nela. Pedidos mais antigos que o buffer são ignorados.
+     */
+    public void registrarCancelamento(long instanteCriacaoMs, long totalCentavos) {
+        Balde balde = balde(instanteCriacaoMs);
+        if (balde != null) {
+            balde.cancelamentos.increment();
+            balde.canceladoCentavos.add(totalCentavos);
+        }
+    }
+
+    public Totais somar(long agoraMs, int minutos) {
+        if (minutos > baldes.length()) {
+            throw new IllegalArgumentException("Janela de " + minutos + " minutos maior que o buffer de " + baldes.length());
+        }
+        long atual = agoraMs / MS_POR_MINUTO;
+        long primeiro = atual - minutos + 1;
+        long pedidos = 0;
+        long receitaCentavos = 0;
+        long cancelamentos = 0;
+        long canceladoCentavos = 0;
+        for (int i = 0; i < baldes.length(); i++) {
+            Balde balde = baldes.get(i);
+            if (balde != null && balde.minuto >= primeiro && balde.minuto <= atual) {
+                pedidos += balde.pedidos.sum();
+                receitaCentavos += balde.receitaCentavos.sum();
+                cancelamentos += balde.cancelamentos.sum();
+                canceladoCentavos += balde.canceladoCentavos.sum();
+            }
+        }
+        return new Totais(pedidos, receitaCentavos, cancelamentos, canceladoCentavos);
+    }
+
+    /**
+     * Balde do minuto do instante informado, criando-o se a posição ainda guarda um minuto mais antigo.
+     * Devolve {@code null} quando a posição já foi reaproveitada por um minuto mais recente.
+     */
+    private Balde balde(long instanteMs) {
+        long minuto = instanteMs / MS_POR_MINUTO;
+        int posicao = (int) Math.floorMod(minuto, (long) baldes.length());
+        while (true) {
+            Balde balde = baldes.get(posicao);
+            if (balde != null && balde.minuto == minuto) {
+                return balde;
+            }
+            if (balde != null && balde.minuto > minuto) {
+                return null;
+            }
+            // Se outra thread trocar o balde antes, a próxima volta do laço usa o balde que ela criou
+            Balde novo = new Balde(minuto);
+            if (baldes.compareAndSet(posicao, balde, novo)) {
+                return novo;
+            }
+        }
+    }
+
+    public record Totais(long pedidos, long receitaCentavos, long cancelamentos, long canceladoCentavos) {
+
+        public double ticketMedioCentavos() {
+            return pedidos == 0 ? 0 : (double) receitaCentavos / pedidos;
+        }
+
+        public double taxaCancelamento() {
+            return pedidos == 0 ? 0 : (double) cancelamentos / pedidos;
+        }
+    }
+
+    private static final class Balde {
+
+        private final long minuto;
+        private final LongAdder pedidos = new LongAdder();
+        private final LongAdder receitaCentavos = new LongAdder();
+        private final LongAdder cancelamentos = new LongAdder();
+        private final LongAdder canceladoCentavos = new LongAdder();
+
+        private Balde(long minuto) {
+            this.minuto = minuto;
+        }
+    }
+}
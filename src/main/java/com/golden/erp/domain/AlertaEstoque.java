@@ -0,0 +1,71 @@
+package com.golden.erp.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Produto com estoque igual ou abaixo do mínimo. A linha é criada quando uma alteração de estoque
+ * cruza o mínimo para baixo e removida quando o saldo volta a ficar acima dele.
+ */
+@Entity
+@Table(name = "alerta_estoque")
+public class AlertaEstoque {
+
+    @Id
+    @Column(name = "produto_id")
+    private Long produtoId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "produto_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Produto produto;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public AlertaEstoque() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getProdutoId() {
+        return produtoId;
+    }
+
+    public void setProdutoId(Long produtoId) {
+        this.produtoId = produtoId;
+    }
+
+    public Produto getProduto() {
+        return produto;
+    }
+
+    public void setProduto(Produto produto) {
+        this.produto = produto;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AlertaEstoque that = (AlertaEstoque) o;
+        return Objects.equals(produtoId, that.produtoId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(produtoId);
+    }
+}
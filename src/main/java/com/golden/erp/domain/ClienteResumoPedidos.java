@@ -0,0 +1,70 @@
+package com.golden.erp.domain;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Totais dos pedidos de um cliente, mantidos pelo {@code ClienteResumoPedidosServiceImpl} na mesma
+ * transação que cria o pedido ou muda o seu status.
+ */
+@Entity
+@Table(name = "cliente_resumo_pedidos")
+public class ClienteResumoPedidos {
+
+    @Id
+    @Column(name = "cliente_id")
+    private Long clienteId;
+
+    @Column(nullable = false)
+    private Long pedidos;
+
+    @Column(name = "total_gasto", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalGasto;
+
+    @Column(name = "pedidos_abertos", nullable = false)
+    private Long pedidosAbertos;
+
+    @Column(name = "ultimo_pedido_em")
+    private LocalDateTime ultimoPedidoEm;
+
+    public Long getClienteId() {
+        return clienteId;
+    }
+
+    public void setClienteId(Long clienteId) {
+        this.clienteId = clienteId;
+    }
+
+    public Long getPedidos() {
+        return pedidos;
+    }
+
+    public void setPedidos(Long pedidos) {
+        this.pedidos = pedidos;
+    }
+
+    public BigDecimal getTotalGasto() {
+        return totalGasto;
+    }
+
+    public void setTotalGasto(BigDecimal totalGasto) {
+        this.totalGasto = totalGasto;
+    }
+
+    public Long getPedidosAbertos() {
+        return pedidosAbertos;
+    }
+
+    public void setPedidosAbertos(Long pedidosAbertos) {
+        this.pedidosAbertos = pedidosAbertos;
+    }
+
+    public LocalDateTime getUltimoPedidoEm() {
+        return ultimoPedidoEm;
+    }
+
+    public void setUltimoPedidoEm(LocalDateTime ultimoPedidoEm) {
+        this.ultimoPedidoEm = ultimoPedidoEm;
+    }
+}
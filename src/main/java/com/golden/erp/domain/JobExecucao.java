@@ -0,0 +1,131 @@
+package com.golden.erp.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Última conclusão de cada partição de um job coordenado. Com ela a instância que pega a trava
+ * depois de outra já ter terminado a rodada não repete o trabalho.
+ */
+@Entity
+@Table(name = "job_execucao")
+@IdClass(JobExecucao.Chave.class)
+public class JobExecucao {
+
+    @Id
+    @Column(length = 100)
+    private String job;
+
+    @Id
+    private Integer particao;
+
+    @Column(nullable = false, length = 255)
+    private String instancia;
+
+    @Column(name = "iniciado_em", nullable = false)
+    private LocalDateTime iniciadoEm;
+
+    @Column(name = "concluido_em", nullable = false)
+    private LocalDateTime concluidoEm;
+
+    @Column(name = "duracao_ms", nullable = false)
+    private Long duracaoMs;
+
+    public JobExecucao() {
+    }
+
+    public JobExecucao(String job, Integer particao) {
+        this.job = job;
+        this.particao = particao;
+    }
+
+    public String getJob() {
+        return job;
+    }
+
+    public void setJob(String job) {
+        this.job = job;
+    }
+
+    public Integer getParticao() {
+        return particao;
+    }
+
+    public void setParticao(Integer particao) {
+        this.particao = particao;
+    }
+
+    public String getInstancia() {
+        return instancia;
+    }
+
+    public void setInstancia(String instancia) {
+        this.instancia = instancia;
+    }
+
+    public LocalDateTime getIniciadoEm() {
+        return iniciadoEm;
+    }
+
+    public void setIniciadoEm(LocalDateTime iniciadoEm) {
+        this.iniciadoEm = iniciadoEm;
+    }
+
+    public LocalDateTime getConcluidoEm() {
+        return concluidoEm;
+    }
+
+    public void setConcluidoEm(LocalDateTime concluidoEm) {
+        this.concluidoEm = concluidoEm;
+    }
+
+    public Long getDuracaoMs() {
+        return duracaoMs;
+    }
+
+    public void setDuracaoMs(Long duracaoMs) {
+        this.duracaoMs = duracaoMs;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        JobExecucao that = (JobExecucao) o;
+        return Objects.equals(job, that.job) && Objects.equals(particao, that.particao);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(job, particao);
+    }
+
+    public static class Chave implements Serializable {
+
+        private String job;
+        private Integer particao;
+
+        public Chave() {
+        }
+
+        public Chave(String job, Integer particao) {
+            this.job = job;
+            this.particao = particao;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Chave chave = (Chave) o;
+            return Objects.equals(job, chave.job) && Objects.equals(particao, chave.particao);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(job, particao);
+        }
+    }
+}
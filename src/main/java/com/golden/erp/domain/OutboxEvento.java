@@ -0,0 +1,170 @@
+package com.golden.erp.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Evento gravado na mesma transação da alteração que o originou e publicado depois
+ * pelo {@code OutboxDispatcher}. A linha é removida assim que a publicação é confirmada; depois de uma
+ * falha ela só volta ao despacho em {@code proximaTentativa}, e ao esgotar as tentativas fica marcada
+ * em {@code mortoEm} para inspeção.
+ */
+@Entity
+@Table(name = "outbox_evento")
+public class OutboxEvento {
+
+    private static final int TAMANHO_MAXIMO_ERRO = 500;
+
+    // Sequence com allocationSize para que os INSERTs possam ir em lote (IDENTITY impede o batch)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_evento_seq")
+    @SequenceGenerator(name = "outbox_evento_seq", sequenceName = "outbox_evento_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String agregado;
+
+    @Column(name = "agregado_id", nullable = false)
+    private Long agregadoId;
+
+    @Column(nullable = false, length = 50)
+    private String tipo;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private Integer tentativas;
+
+    @Column(name = "ultimo_erro", length = TAMANHO_MAXIMO_ERRO)
+    private String ultimoErro;
+
+    @Column(name = "proxima_tentativa", nullable = false)
+    private LocalDateTime proximaTentativa;
+
+    @Column(name = "morto_em")
+    private LocalDateTime mortoEm;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxEvento() {
+        this.createdAt = LocalDateTime.now();
+        this.proximaTentativa = this.createdAt;
+        this.tentativas = 0;
+    }
+
+    public OutboxEvento(String agregado, Long agregadoId, String tipo, String payload) {
+        this();
+        this.agregado = agregado;
+        this.agregadoId = agregadoId;
+        this.tipo = tipo;
+        this.payload = payload;
+    }
+
+    public void registrarFalha(String erro, LocalDateTime proximaTentativa) {
+        this.tentativas++;
+        this.proximaTentativa = proximaTentativa;
+        this.ultimoErro = erro != null && erro.length() > TAMANHO_MAXIMO_ERRO
+                ? erro.substring(0, TAMANHO_MAXIMO_ERRO)
+                : erro;
+    }
+
+    public void marcarMorto() {
+        this.mortoEm = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getAgregado() {
+        return agregado;
+    }
+
+    public void setAgregado(String agregado) {
+        this.agregado = agregado;
+    }
+
+    public Long getAgregadoId() {
+        return agregadoId;
+    }
+
+    public void setAgregadoId(Long agregadoId) {
+        this.agregadoId = agregadoId;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Integer getTentativas() {
+        return tentativas;
+    }
+
+    public void setTentativas(Integer tentativas) {
+        this.tentativas = tentativas;
+    }
+
+    public String getUltimoErro() {
+        return ultimoErro;
+    }
+
+    public void setUltimoErro(String ultimoErro) {
+        this.ultimoErro = ultimoErro;
+    }
+
+    public LocalDateTime getProximaTentativa() {
+        return proximaTentativa;
+    }
+
+    public void setProximaTentativa(LocalDateTime proximaTentativa) {
+        this.proximaTentativa = proximaTentativa;
+    }
+
+    public LocalDateTime getMortoEm() {
+        return mortoEm;
+    }
+
+    public void setMortoEm(LocalDateTime mortoEm) {
+        this.mortoEm = mortoEm;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxEvento that = (OutboxEvento) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
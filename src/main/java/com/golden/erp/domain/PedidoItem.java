@@ -2,6 +2,7 @@ package com.golden.erp.domain;
 
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
@@ -16,6 +17,10 @@ public class PedidoItem {
     @JoinColumn(name = "pedido_id", nullable = false)
     private Pedido pedido;
 
+    // Chave de partição de pedido_item: cópia do created_at do pedido, preenchida ao gravar
+    @Column(name = "pedido_created_at", nullable = false, updatable = false)
+    private LocalDateTime pedidoCreatedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "produto_id", nullable = false)
     private Produto produto;
@@ -36,6 +41,11 @@ public class PedidoItem {
         this.desconto = BigDecimal.ZERO;
     }
 
+    @PrePersist
+    void copiarDataDoPedido() {
+        this.pedidoCreatedAt = pedido.getCreatedAt();
+    }
+
     public void calcularSubtotal() {
         BigDecimal valorBruto = this.precoUnitario.multiply(BigDecimal.valueOf(this.quantidade));
         this.subtotal = valorBruto.subtract(this.desconto);
@@ -57,6 +67,10 @@ public class PedidoItem {
         this.pedido = pedido;
     }
 
+    public LocalDateTime getPedidoCreatedAt() {
+        return pedidoCreatedAt;
+    }
+
     public Produto getProduto() {
         return produto;
     }
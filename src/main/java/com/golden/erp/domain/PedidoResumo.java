@@ -0,0 +1,140 @@
+package com.golden.erp.domain;
+
+import com.golden.erp.domain.enums.StatusPedido;
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Modelo de leitura desnormalizado usado pelas listagens de pedidos. Mantido pelo
+ * {@code PedidoResumoServiceImpl} na mesma transação que altera o {@link Pedido}.
+ */
+@Entity
+@Table(name = "pedido_resumo")
+public class PedidoResumo implements Persistable<Long> {
+
+    @Id
+    @Column(name = "pedido_id")
+    private Long pedidoId;
+
+    @Column(name = "cliente_id", nullable = false)
+    private Long clienteId;
+
+    @Column(name = "cliente_nome", nullable = false)
+    private String clienteNome;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusPedido status;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "quantidade_itens", nullable = false)
+    private Integer quantidadeItens;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // O id vem do pedido; sem isso o save() faria um SELECT antes de cada INSERT
+    @Transient
+    private boolean novo = true;
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        this.novo = false;
+    }
+
+    @Override
+    public Long getId() {
+        return pedidoId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    public Long getPedidoId() {
+        return pedidoId;
+    }
+
+    public void setPedidoId(Long pedidoId) {
+        this.pedidoId = pedidoId;
+    }
+
+    public Long getClienteId() {
+        return clienteId;
+    }
+
+    public void setClienteId(Long clienteId) {
+        this.clienteId = clienteId;
+    }
+
+    public String getClienteNome() {
+        return clienteNome;
+    }
+
+    public void setClienteNome(String clienteNome) {
+        this.clienteNome = clienteNome;
+    }
+
+    public StatusPedido getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusPedido status) {
+        this.status = status;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public Integer getQuantidadeItens() {
+        return quantidadeItens;
+    }
+
+    public void setQuantidadeItens(Integer quantidadeItens) {
+        this.quantidadeItens = quantidadeItens;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PedidoResumo that = (PedidoResumo) o;
+        return Objects.equals(pedidoId, that.pedidoId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pedidoId);
+    }
+}
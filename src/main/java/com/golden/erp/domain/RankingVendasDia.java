@@ -0,0 +1,137 @@
+package com.golden.erp.domain;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Checkpoint do sketch de vendas de um dia, somado a partir das parcelas de todas as instâncias.
+ * Mantido pelo {@code CheckpointRanking}.
+ */
+@Entity
+@Table(name = "ranking_vendas_dia")
+public class RankingVendasDia implements Persistable<LocalDate> {
+
+    // Suficiente para 8 linhas de 32 mil contadores
+    private static final int TAMANHO_MAXIMO = 1_048_576;
+
+    @Id
+    private LocalDate dia;
+
+    @Column(nullable = false)
+    private Integer largura;
+
+    @Column(nullable = false)
+    private Integer profundidade;
+
+    @Column(nullable = false)
+    private Long total;
+
+    @Column(nullable = false, length = TAMANHO_MAXIMO)
+    private byte[] contagens;
+
+    @Column(nullable = false, length = TAMANHO_MAXIMO)
+    private byte[] candidatos;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    // O id é o dia; sem isso o save() faria um SELECT antes de cada INSERT
+    @Transient
+    private boolean novo = true;
+
+    public RankingVendasDia() {
+    }
+
+    public RankingVendasDia(LocalDate dia) {
+        this.dia = dia;
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        this.novo = false;
+    }
+
+    @Override
+    public LocalDate getId() {
+        return dia;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    public LocalDate getDia() {
+        return dia;
+    }
+
+    public void setDia(LocalDate dia) {
+        this.dia = dia;
+    }
+
+    public Integer getLargura() {
+        return largura;
+    }
+
+    public void setLargura(Integer largura) {
+        this.largura = largura;
+    }
+
+    public Integer getProfundidade() {
+        return profundidade;
+    }
+
+    public void setProfundidade(Integer profundidade) {
+        this.profundidade = profundidade;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public byte[] getContagens() {
+        return contagens;
+    }
+
+    public void setContagens(byte[] contagens) {
+        this.contagens = contagens;
+    }
+
+    public byte[] getCandidatos() {
+        return candidatos;
+    }
+
+    public void setCandidatos(byte[] candidatos) {
+        this.candidatos = candidatos;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    public void setAtualizadoEm(LocalDateTime atualizadoEm) {
+        this.atualizadoEm = atualizadoEm;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RankingVendasDia that = (RankingVendasDia) o;
+        return Objects.equals(dia, that.dia);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dia);
+    }
+}
@@ -0,0 +1,129 @@
+package com.golden.erp.domain;
+
+import com.golden.erp.domain.enums.StatusPedido;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Totais dos pedidos por dia de criação e status atual, mantidos pelo {@code VendaDiariaServiceImpl}
+ * na mesma transação que cria o pedido ou muda o seu status.
+ * <p>
+ * Cada (dia, status) é dividido em faixas ({@code pedido.id % faixas}) para que pedidos simultâneos
+ * não disputem a mesma linha; os relatórios somam as faixas.
+ */
+@Entity
+@Table(name = "venda_diaria")
+@IdClass(VendaDiaria.Chave.class)
+public class VendaDiaria {
+
+    @Id
+    private LocalDate dia;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private StatusPedido status;
+
+    @Id
+    private Integer faixa;
+
+    @Column(nullable = false)
+    private Long pedidos;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal subtotal;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal desconto;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal total;
+
+    public LocalDate getDia() {
+        return dia;
+    }
+
+    public void setDia(LocalDate dia) {
+        this.dia = dia;
+    }
+
+    public StatusPedido getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusPedido status) {
+        this.status = status;
+    }
+
+    public Integer getFaixa() {
+        return faixa;
+    }
+
+    public void setFaixa(Integer faixa) {
+        this.faixa = faixa;
+    }
+
+    public Long getPedidos() {
+        return pedidos;
+    }
+
+    public void setPedidos(Long pedidos) {
+        this.pedidos = pedidos;
+    }
+
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+
+    public void setSubtotal(BigDecimal subtotal) {
+        this.subtotal = subtotal;
+    }
+
+    public BigDecimal getDesconto() {
+        return desconto;
+    }
+
+    public void setDesconto(BigDecimal desconto) {
+        this.desconto = desconto;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public static class Chave implements Serializable {
+
+        private LocalDate dia;
+        private StatusPedido status;
+        private Integer faixa;
+
+        public Chave() {
+        }
+
+        public Chave(LocalDate dia, StatusPedido status, Integer faixa) {
+            this.dia = dia;
+            this.status = status;
+            this.faixa = faixa;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Chave chave = (Chave) o;
+            return Objects.equals(dia, chave.dia) && status == chave.status && Objects.equals(faixa, chave.faixa);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dia, status, faixa);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.golden.erp.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class ClienteResumoPedidosResponse {
+
+    private Long clienteId;
+    private Long pedidos;
+    private BigDecimal totalGasto;
+    private Long pedidosAbertos;
+    private LocalDateTime ultimoPedidoEm;
+
+    public Long getClienteId() {
+        return clienteId;
+    }
+
+    public void setClienteId(Long clienteId) {
+        this.clienteId = clienteId;
+    }
+
+    public Long getPedidos() {
+        return pedidos;
+    }
+
+    public void setPedidos(Long pedidos) {
+        this.pedidos = pedidos;
+    }
+
+    public BigDecimal getTotalGasto() {
+        return totalGasto;
+    }
+
+    public void setTotalGasto(BigDecimal totalGasto) {
+        this.totalGasto = totalGasto;
+    }
+
+    public Long getPedidosAbertos() {
+        return pedidosAbertos;
+    }
+
+    public void setPedidosAbertos(Long pedidosAbertos) {
+        this.pedidosAbertos = pedidosAbertos;
+    }
+
+    public LocalDateTime getUltimoPedidoEm() {
+        return ultimoPedidoEm;
+    }
+
+    public void setUltimoPedidoEm(LocalDateTime ultimoPedidoEm) {
+        this.ultimoPedidoEm = ultimoPedidoEm;
+    }
+}
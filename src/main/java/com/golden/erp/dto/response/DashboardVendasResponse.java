@@ -0,0 +1,43 @@
+package com.golden.erp.dto.response;
+
+import java.time.LocalDateTime;
+
+public class DashboardVendasResponse {
+
+    private LocalDateTime geradoEm;
+    private VendasJanelaResponse ultimos5Minutos;
+    private VendasJanelaResponse ultimaHora;
+    private VendasJanelaResponse ultimas24Horas;
+
+    public LocalDateTime getGeradoEm() {
+        return geradoEm;
+    }
+
+    public void setGeradoEm(LocalDateTime geradoEm) {
+        this.geradoEm = geradoEm;
+    }
+
+    public VendasJanelaResponse getUltimos5Minutos() {
+        return ultimos5Minutos;
+    }
+
+    public void setUltimos5Minutos(VendasJanelaResponse ultimos5Minutos) {
+        this.ultimos5Minutos = ultimos5Minutos;
+    }
+
+    public VendasJanelaResponse getUltimaHora() {
+        return ultimaHora;
+    }
+
+    public void setUltimaHora(VendasJanelaResponse ultimaHora) {
+        this.ultimaHora = ultimaHora;
+    }
+
+    public VendasJanelaResponse getUltimas24Horas() {
+        return ultimas24Horas;
+    }
+
+    public void setUltimas24Horas(VendasJanelaResponse ultimas24Horas) {
+        this.ultimas24Horas = ultimas24Horas;
+    }
+}
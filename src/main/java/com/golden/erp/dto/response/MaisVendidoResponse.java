@@ -0,0 +1,50 @@
+package com.golden.erp.dto.response;
+
+public class MaisVendidoResponse {
+
+    private Long produtoId;
+    private String sku;
+    private String nome;
+    private Long quantidadeEstimada;
+    private Long erroMaximo;
+
+    public Long getProdutoId() {
+        return produtoId;
+    }
+
+    public void setProdutoId(Long produtoId) {
+        this.produtoId = produtoId;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public Long getQuantidadeEstimada() {
+        return quantidadeEstimada;
+    }
+
+    public void setQuantidadeEstimada(Long quantidadeEstimada) {
+        this.quantidadeEstimada = quantidadeEstimada;
+    }
+
+    public Long getErroMaximo() {
+        return erroMaximo;
+    }
+
+    public void setErroMaximo(Long erroMaximo) {
+        this.erroMaximo = erroMaximo;
+    }
+}
@@ -0,0 +1,43 @@
+package com.golden.erp.dto.response;
+
+import java.util.List;
+
+public class MudancasProdutosResponse {
+
+    private List<ProdutoResponse> alterados;
+    private List<Long> excluidos;
+    private String proximo;
+    private Boolean maisMudancas;
+
+    public List<ProdutoResponse> getAlterados() {
+        return alterados;
+    }
+
+    public void setAlterados(List<ProdutoResponse> alterados) {
+        this.alterados = alterados;
+    }
+
+    public List<Long> getExcluidos() {
+        return excluidos;
+    }
+
+    public void setExcluidos(List<Long> excluidos) {
+        this.excluidos = excluidos;
+    }
+
+    public String getProximo() {
+        return proximo;
+    }
+
+    public void setProximo(String proximo) {
+        this.proximo = proximo;
+    }
+
+    public Boolean getMaisMudancas() {
+        return maisMudancas;
+    }
+
+    public void setMaisMudancas(Boolean maisMudancas) {
+        this.maisMudancas = maisMudancas;
+    }
+}
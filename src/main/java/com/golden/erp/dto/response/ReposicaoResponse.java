@@ -0,0 +1,88 @@
+package com.golden.erp.dto.response;
+
+import java.time.LocalDate;
+
+public class ReposicaoResponse {
+
+    private Long produtoId;
+    private String sku;
+    private String nome;
+    private Integer estoque;
+    private Integer estoqueMinimo;
+    private Double vendaDiaria;
+    private Double diasCobertura;
+    private LocalDate dataRupturaPrevista;
+    private Integer quantidadeSugerida;
+
+    public Long getProdutoId() {
+        return produtoId;
+    }
+
+    public void setProdutoId(Long produtoId) {
+        this.produtoId = produtoId;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public Integer getEstoque() {
+        return estoque;
+    }
+
+    public void setEstoque(Integer estoque) {
+        this.estoque = estoque;
+    }
+
+    public Integer getEstoqueMinimo() {
+        return estoqueMinimo;
+    }
+
+    public void setEstoqueMinimo(Integer estoqueMinimo) {
+        this.estoqueMinimo = estoqueMinimo;
+    }
+
+    public Double getVendaDiaria() {
+        return vendaDiaria;
+    }
+
+    public void setVendaDiaria(Double vendaDiaria) {
+        this.vendaDiaria = vendaDiaria;
+    }
+
+    public Double getDiasCobertura() {
+        return diasCobertura;
+    }
+
+    public void setDiasCobertura(Double diasCobertura) {
+        this.diasCobertura = diasCobertura;
+    }
+
+    public LocalDate getDataRupturaPrevista() {
+        return dataRupturaPrevista;
+    }
+
+    public void setDataRupturaPrevista(LocalDate dataRupturaPrevista) {
+        this.dataRupturaPrevista = dataRupturaPrevista;
+    }
+
+    public Integer getQuantidadeSugerida() {
+        return quantidadeSugerida;
+    }
+
+    public void setQuantidadeSugerida(Integer quantidadeSugerida) {
+        this.quantidadeSugerida = quantidadeSugerida;
+    }
+}
@@ -0,0 +1,64 @@
+package com.golden.erp.dto.response;
+
+import com.golden.erp.domain.enums.StatusPedido;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class VendaDiariaResponse {
+
+    private LocalDate dia;
+    private StatusPedido status;
+    private Long pedidos;
+    private BigDecimal subtotal;
+    private BigDecimal desconto;
+    private BigDecimal total;
+
+    public LocalDate getDia() {
+        return dia;
+    }
+
+    public void setDia(LocalDate dia) {
+        this.dia = dia;
+    }
+
+    public StatusPedido getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusPedido status) {
+        this.status = status;
+    }
+
+    public Long getPedidos() {
+        return pedidos;
+    }
+
+    public void setPedidos(Long pedidos) {
+        this.pedidos = pedidos;
+    }
+
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+
+    public void setSubtotal(BigDecimal subtotal) {
+        this.subtotal = subtotal;
+    }
+
+    public BigDecimal getDesconto() {
+        return desconto;
+    }
+
+    public void setDesconto(BigDecimal desconto) {
+        this.desconto = desconto;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+}
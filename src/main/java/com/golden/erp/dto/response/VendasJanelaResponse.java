@@ -0,0 +1,61 @@
+package com.golden.erp.dto.response;
+
+import java.math.BigDecimal;
+
+public class VendasJanelaResponse {
+
+    private Long pedidos;
+    private BigDecimal receita;
+    private BigDecimal receitaLiquida;
+    private BigDecimal ticketMedio;
+    private Long cancelamentos;
+    private Double taxaCancelamento;
+
+    public Long getPedidos() {
+        return pedidos;
+    }
+
+    public void setPedidos(Long pedidos) {
+        this.pedidos = pedidos;
+    }
+
+    public BigDecimal getReceita() {
+        return receita;
+    }
+
+    public void setReceita(BigDecimal receita) {
+        this.receita = receita;
+    }
+
+    public BigDecimal getReceitaLiquida() {
+        return receitaLiquida;
+    }
+
+    public void setReceitaLiquida(BigDecimal receitaLiquida) {
+        this.receitaLiquida = receitaLiquida;
+    }
+
+    public BigDecimal getTicketMedio() {
+        return ticketMedio;
+    }
+
+    public void setTicketMedio(BigDecimal ticketMedio) {
+        this.ticketMedio = ticketMedio;
+    }
+
+    public Long getCancelamentos() {
+        return cancelamentos;
+    }
+
+    public void setCancelamentos(Long cancelamentos) {
+        this.cancelamentos = cancelamentos;
+    }
+
+    public Double getTaxaCancelamento() {
+        return taxaCancelamento;
+    }
+
+    public void setTaxaCancelamento(Double taxaCancelamento) {
+        this.taxaCancelamento = taxaCancelamento;
+    }
+}
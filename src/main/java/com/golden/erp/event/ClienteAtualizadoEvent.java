@@ -0,0 +1,23 @@
+package com.golden.erp.event;
+
+/**
+ * Publicado pelo {@code ClienteServiceImpl} dentro da transação após atualizar um cliente.
+ */
+public class ClienteAtualizadoEvent {
+
+    private final Long clienteId;
+    private final String nome;
+
+    public ClienteAtualizadoEvent(Long clienteId, String nome) {
+        this.clienteId = clienteId;
+        this.nome = nome;
+    }
+
+    public Long getClienteId() {
+        return clienteId;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+}
@@ -0,0 +1,45 @@
+package com.golden.erp.event;
+
+/**
+ * Publicado pelo {@code ProdutoServiceImpl} dentro da transação sempre que o estoque de um produto muda.
+ * <p>
+ * {@code estoqueAnterior} é {@code null} quando não há um saldo anterior comparável: produto recém-criado
+ * ou alteração do estoque mínimo no cadastro.
+ */
+public class EstoqueAlteradoEvent {
+
+    private final Long produtoId;
+    private final String sku;
+    private final Integer estoqueAnterior;
+    private final Integer estoqueAtual;
+    private final Integer estoqueMinimo;
+
+    public EstoqueAlteradoEvent(Long produtoId, String sku, Integer estoqueAnterior, Integer estoqueAtual,
+                                Integer estoqueMinimo) {
+        this.produtoId = produtoId;
+        this.sku = sku;
+        this.estoqueAnterior = estoqueAnterior;
+        this.estoqueAtual = estoqueAtual;
+        this.estoqueMinimo = estoqueMinimo;
+    }
+
+    public Long getProdutoId() {
+        return produtoId;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public Integer getEstoqueAnterior() {
+        return estoqueAnterior;
+    }
+
+    public Integer getEstoqueAtual() {
+        return estoqueAtual;
+    }
+
+    public Integer getEstoqueMinimo() {
+        return estoqueMinimo;
+    }
+}
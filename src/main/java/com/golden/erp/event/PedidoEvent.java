@@ -0,0 +1,137 @@
+package com.golden.erp.event;
+
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.domain.PedidoItem;
+import com.golden.erp.domain.enums.StatusPedido;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Publicado pelo {@code PedidoServiceImpl} dentro da transação sempre que um pedido é criado
+ * ou muda de status. Carrega uma cópia dos dados do pedido e dos itens, para que os listeners
+ * não dependam de associações lazy da entidade.
+ */
+public class PedidoEvent {
+
+    private final TipoEventoPedido tipo;
+    private final Long pedidoId;
+    private final Long clienteId;
+    private final String clienteNome;
+    private final StatusPedido status;
+    private final StatusPedido statusAnterior;
+    private final BigDecimal subtotal;
+    private final BigDecimal descontoTotal;
+    private final BigDecimal total;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final List<Item> itens;
+
+    public PedidoEvent(TipoEventoPedido tipo, Pedido pedido) {
+        this(tipo, pedido, null);
+    }
+
+    /**
+     * @param statusAnterior status antes da mudança; {@code null} na criação
+     */
+    public PedidoEvent(TipoEventoPedido tipo, Pedido pedido, StatusPedido statusAnterior) {
+        this.tipo = tipo;
+        this.pedidoId = pedido.getId();
+        this.clienteId = pedido.getCliente().getId();
+        this.clienteNome = pedido.getCliente().getNome();
+        this.status = pedido.getStatus();
+        this.statusAnterior = statusAnterior;
+        this.subtotal = pedido.getSubtotal();
+        this.descontoTotal = pedido.getDescontoTotal();
+        this.total = pedido.getTotal();
+        this.createdAt = pedido.getCreatedAt();
+        this.updatedAt = pedido.getUpdatedAt();
+        this.itens = pedido.getItens().stream().map(Item::new).toList();
+    }
+
+    public TipoEventoPedido getTipo() {
+        return tipo;
+    }
+
+    public Long getPedidoId() {
+        return pedidoId;
+    }
+
+    public Long getClienteId() {
+        return clienteId;
+    }
+
+    public String getClienteNome() {
+        return clienteNome;
+    }
+
+    public StatusPedido getStatus() {
+        return status;
+    }
+
+    public StatusPedido getStatusAnterior() {
+        return statusAnterior;
+    }
+
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+
+    public BigDecimal getDescontoTotal() {
+        return descontoTotal;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public List<Item> getItens() {
+        return itens;
+    }
+
+    public static class Item {
+
+        private final Long produtoId;
+        private final Integer quantidade;
+        private final BigDecimal precoUnitario;
+        private final BigDecimal desconto;
+        private final BigDecimal subtotal;
+
+        public Item(PedidoItem item) {
+            this.produtoId = item.getProduto().getId();
+            this.quantidade = item.getQuantidade();
+            this.precoUnitario = item.getPrecoUnitario();
+            this.desconto = item.getDesconto();
+            this.subtotal = item.getSubtotal();
+        }
+
+        public Long getProdutoId() {
+            return produtoId;
+        }
+
+        public Integer getQuantidade() {
+            return quantidade;
+        }
+
+        public BigDecimal getPrecoUnitario() {
+            return precoUnitario;
+        }
+
+        public BigDecimal getDesconto() {
+            return desconto;
+        }
+
+        public BigDecimal getSubtotal() {
+            return subtotal;
+        }
+    }
+}
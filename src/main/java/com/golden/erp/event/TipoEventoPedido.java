@@ -0,0 +1,8 @@
+package com.golden.erp.event;
+
+public enum TipoEventoPedido {
+    CRIADO,
+    PAGO,
+    CANCELADO,
+    ATRASADO
+}
@@ -0,0 +1,59 @@
+package com.golden.erp.gerador;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Amostragem de uma distribuição de Zipf sobre {@code n} elementos por busca binária na CDF
+ * pré-calculada. O rank sorteado é mapeado por uma permutação fixa (derivada da semente) para
+ * que os elementos mais populares não sejam sempre os de menor id.
+ * <p>
+ * Imutável após a construção; pode ser compartilhada entre threads.
+ */
+public class DistribuicaoZipf {
+
+    private final double[] cdf;
+    private final int[] permutacao;
+
+    public DistribuicaoZipf(int n, double expoente, long seed) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("A distribuição precisa de pelo menos um elemento");
+        }
+        cdf = new double[n];
+        double acumulado = 0;
+        for (int rank = 0; rank < n; rank++) {
+            acumulado += 1.0 / Math.pow(rank + 1, expoente);
+            cdf[rank] = acumulado;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cdf[rank] /= acumulado;
+        }
+
+        permutacao = new int[n];
+        for (int i = 0; i < n; i++) {
+            permutacao[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = permutacao[i];
+            permutacao[i] = permutacao[j];
+            permutacao[j] = tmp;
+        }
+    }
+
+    /**
+     * Sorteia um índice em {@code [0, n)}.
+     */
+    public int amostrar(SplittableRandom random) {
+        int rank = Arrays.binarySearch(cdf, random.nextDouble());
+        if (rank < 0) {
+            rank = -rank - 1;
+        }
+        return permutacao[Math.min(rank, cdf.length - 1)];
+    }
+
+    public int tamanho() {
+        return cdf.length;
+    }
+}
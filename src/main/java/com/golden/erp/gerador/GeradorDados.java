@@ -0,0 +1,393 @@
+package com.golden.erp.gerador;
+
+import liquibase.Scope;
+import liquibase.command.CommandScope;
+import liquibase.command.core.UpdateCommandStep;
+import liquibase.command.core.helpers.DbUrlConnectionArgumentsCommandStep;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gera clientes, produtos, pedidos e itens sintéticos em volume de produção usando {@code COPY}.
+ * <p>
+ * Os pedidos são divididos em lotes gravados em paralelo, cada um em sua própria conexão e
+ * transação. Cada lote usa geradores aleatórios derivados apenas da semente e do número do
+ * lote, e os ids são atribuídos pelo gerador, então o resultado é o mesmo independentemente
+ * da quantidade de threads ou da ordem em que os lotes terminam.
+ */
+public class GeradorDados {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeradorDados.class);
+
+    private static final String CHANGELOG = "db/changelog/db.changelog-master.yaml";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final long HORAS_ATRASO = 48;
+
+    private static final String[][] ENDERECOS = {
+            {"Praça da Sé", "Sé", "São Paulo", "SP", "01001-000"},
+            {"Avenida Rio Branco", "Centro", "Rio de Janeiro", "RJ", "20040-002"},
+            {"Avenida Afonso Pena", "Centro", "Belo Horizonte", "MG", "30130-001"},
+            {"Rua XV de Novembro", "Centro", "Curitiba", "PR", "80020-310"},
+            {"Avenida Sete de Setembro", "Centro", "Salvador", "BA", "40060-001"},
+            {"Rua da Praia", "Centro Histórico", "Porto Alegre", "RS", "90010-270"},
+            {"Avenida Boa Viagem", "Boa Viagem", "Recife", "PE", "51011-000"},
+            {"Eixo Monumental", "Zona Cívico-Administrativa", "Brasília", "DF", "70070-000"},
+    };
+
+    private final DataSource dataSource;
+    private final GeradorDadosProperties properties;
+    private final int faixasVendaDiaria;
+    private final LocalDateTime agora;
+
+    public GeradorDados(DataSource dataSource, GeradorDadosProperties properties, int faixasVendaDiaria) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.faixasVendaDiaria = faixasVendaDiaria;
+        LocalDate dataReferencia = properties.getDataReferencia() != null
+                ? properties.getDataReferencia() : LocalDate.now();
+        this.agora = dataReferencia.atStartOfDay();
+    }
+
+    public void executar() throws Exception {
+        long inicio = System.nanoTime();
+
+        if (properties.isAplicarChangelog()) {
+            aplicarChangelog();
+        }
+        if (properties.isLimpar()) {
+            executarSql("TRUNCATE outbox_evento, alerta_estoque, ranking_vendas_dia, venda_diaria, cliente_resumo_pedidos, pedido_resumo, pedido_item, pedido, produto, cliente RESTART IDENTITY");
+        }
+
+        long baseCliente = maiorId("cliente");
+        long baseProduto = maiorId("produto");
+        long basePedido = maiorId("pedido");
+        long baseItem = maiorId("pedido_item");
+
+        gerarClientes(baseCliente);
+        long[] precos = gerarProdutos(baseProduto);
+        criarParticoes();
+        long itens = gerarPedidos(baseCliente, baseProduto, basePedido, baseItem, precos);
+        gerarResumos(basePedido);
+        gerarAlertasEstoque(baseProduto);
+        // Os pedidos gerados não passam pelos eventos; sem checkpoint, a próxima subida recarrega o ranking do histórico
+        executarSql("DELETE FROM ranking_vendas_dia");
+        gerarVendasDiarias();
+        gerarResumosClientes();
+
+        for (String tabela : List.of("cliente", "produto", "pedido", "pedido_item")) {
+            executarSql("SELECT setval(pg_get_serial_sequence('" + tabela + "', 'id'), "
+                    + "(SELECT COALESCE(MAX(id), 1) FROM " + tabela + "))");
+        }
+        executarSql("ANALYZE cliente, produto, pedido, pedido_item, pedido_resumo");
+
+        logger.info("Geração concluída: {} clientes, {} produtos, {} pedidos e {} itens em {} s",
+                properties.getClientes(), properties.getProdutos(), properties.getPedidos(), itens,
+                (System.nanoTime() - inicio) / 1_000_000_000);
+    }
+
+    private void gerarVendasDiarias() throws SQLException {
+        executarSql("DELETE FROM venda_diaria");
+        executarSql("INSERT INTO venda_diaria (dia, status, faixa, pedidos, subtotal, desconto, total) "
+                + "SELECT CAST(created_at AS DATE), status, MOD(id, " + faixasVendaDiaria + "), COUNT(*), "
+                + "SUM(subtotal), SUM(desconto_total), SUM(total) FROM pedido GROUP BY 1, 2, 3");
+    }
+
+    private void gerarResumosClientes() throws SQLException {
+        executarSql("DELETE FROM cliente_resumo_pedidos");
+        executarSql("INSERT INTO cliente_resumo_pedidos (cliente_id, pedidos, total_gasto, pedidos_abertos, ultimo_pedido_em) "
+                + "SELECT cliente_id, COUNT(*), SUM(CASE WHEN status <> 'CANCELLED' THEN total ELSE 0 END), "
+                + "COUNT(CASE WHEN status = 'CREATED' THEN 1 END), MAX(created_at) FROM pedido GROUP BY cliente_id");
+    }
+
+    private void aplicarChangelog() throws Exception {
+        logger.info("Aplicando changelog {}", CHANGELOG);
+        try (Connection connection = dataSource.getConnection()) {
+            Database database = DatabaseFactory.getInstance()
+                    .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            Scope.child(Scope.Attr.resourceAccessor.name(), new ClassLoaderResourceAccessor(getClass().getClassLoader()),
+                    () -> new CommandScope(UpdateCommandStep.COMMAND_NAME)
+                            .addArgumentValue(DbUrlConnectionArgumentsCommandStep.DATABASE_ARG, database)
+                            .addArgumentValue(UpdateCommandStep.CHANGELOG_FILE_ARG, CHANGELOG)
+                            .execute());
+        }
+    }
+
+    private void gerarClientes(long base) throws SQLException, IOException {
+        SplittableRandom random = new SplittableRandom(semente(-1, 0));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < properties.getClientes(); i++) {
+            long id = base + i + 1;
+            String[] endereco = ENDERECOS[random.nextInt(ENDERECOS.length)];
+            String criadoEm = TIMESTAMP.format(agora.minusDays(properties.getDiasHistorico())
+                    .minusMinutes(random.nextInt(60 * 24 * 365)));
+            linha(sb, id, "Cliente " + id, "cliente" + id + "@gerador.local", String.format("%011d", id),
+                    endereco[0], String.valueOf(1 + random.nextInt(9999)), "\\N", endereco[1], endereco[2],
+                    endereco[3], endereco[4], criadoEm, criadoEm);
+        }
+        copiar("COPY cliente (id, nome, email, cpf, logradouro, numero, complemento, bairro, cidade, uf, cep, "
+                + "created_at, updated_at) FROM STDIN", sb);
+        logger.info("{} clientes gerados", properties.getClientes());
+    }
+
+    private long[] gerarProdutos(long base) throws SQLException, IOException {
+        SplittableRandom random = new SplittableRandom(semente(-2, 0));
+        long[] precos = new long[properties.getProdutos()];
+        StringBuilder sb = new StringBuilder();
+        String criadoEm = TIMESTAMP.format(agora.minusDays(properties.getDiasHistorico() + 1L));
+        for (int i = 0; i < precos.length; i++) {
+            long id = base + i + 1;
+            double logNormal = Math.exp(Math.log(5_000) + 1.2 * gaussiano(random));
+            precos[i] = Math.max(100, Math.min(9_999_999, Math.round(logNormal)));
+            linha(sb, id, "GER-" + id, "Produto " + id, centavos(precos[i]), String.valueOf(random.nextInt(1_000)),
+                    String.valueOf(5 + random.nextInt(46)), random.nextInt(100) < 95 ? "t" : "f", criadoEm, criadoEm);
+        }
+        copiar("COPY produto (id, sku, nome, preco_bruto, estoque, estoque_minimo, ativo, created_at, updated_at) "
+                + "FROM STDIN", sb);
+        logger.info("{} produtos gerados", properties.getProdutos());
+        return precos;
+    }
+
+    private long gerarPedidos(long baseCliente, long baseProduto, long basePedido, long baseItem, long[] precos)
+            throws Exception {
+        int porLote = properties.getPedidosPorLote();
+        int lotes = (properties.getPedidos() + porLote - 1) / porLote;
+
+        // Primeira passada: apenas a quantidade de itens de cada lote, para fixar o primeiro id de item de cada um.
+        long[] primeiroItem = new long[lotes];
+        long proximoItem = baseItem + 1;
+        for (int lote = 0; lote < lotes; lote++) {
+            primeiroItem[lote] = proximoItem;
+            SplittableRandom quantidades = new SplittableRandom(semente(lote, 1));
+            for (int i = 0; i < tamanhoLote(lote); i++) {
+                proximoItem += quantidadeItens(quantidades);
+            }
+        }
+
+        DistribuicaoZipf clientes = new DistribuicaoZipf(properties.getClientes(), properties.getZipfClientes(),
+                semente(-3, 0));
+        DistribuicaoZipf produtos = new DistribuicaoZipf(properties.getProdutos(), properties.getZipfProdutos(),
+                semente(-4, 0));
+        AtomicLong concluidos = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()));
+        try {
+            List<Future<?>> tarefas = new ArrayList<>(lotes);
+            for (int lote = 0; lote < lotes; lote++) {
+                int numero = lote;
+                tarefas.add(executor.submit(() -> {
+                    gerarLote(numero, basePedido + (long) numero * porLote + 1, primeiroItem[numero],
+                            baseCliente, baseProduto, precos, clientes, produtos);
+                    logger.info("Lote {}/{} gravado", concluidos.incrementAndGet(), lotes);
+                    return null;
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return proximoItem - baseItem - 1;
+    }
+
+    private void gerarLote(int lote, long primeiroPedido, long primeiroItem, long baseCliente, long baseProduto,
+                           long[] precos, DistribuicaoZipf clientes, DistribuicaoZipf produtos)
+            throws SQLException, IOException {
+        SplittableRandom quantidades = new SplittableRandom(semente(lote, 1));
+        SplittableRandom random = new SplittableRandom(semente(lote, 2));
+
+        StringBuilder itens = new StringBuilder();
+        StringBuilder linhaPedido = new StringBuilder();
+        long itemId = primeiroItem;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+            try (OutputStream pedidos = new PGCopyOutputStream(pgConnection,
+                    "COPY pedido (id, cliente_id, subtotal, desconto_total, total, status, created_at, updated_at) "
+                            + "FROM STDIN", 1 << 16)) {
+                for (int i = 0; i < tamanhoLote(lote); i++) {
+                    long pedidoId = primeiroPedido + i;
+                    String status = status(random);
+                    LocalDateTime criadoEm = criadoEm(random, status);
+                    long subtotal = 0;
+                    long descontoTotal = 0;
+
+                    int quantidadeItens = quantidadeItens(quantidades);
+                    for (int j = 0; j < quantidadeItens; j++) {
+                        int produto = produtos.amostrar(random);
+                        int quantidade = 1 + (int) Math.min(9, -Math.log(1 - random.nextDouble()) * 1.5);
+                        long bruto = precos[produto] * quantidade;
+                        long desconto = random.nextInt(100) < 15 ? bruto * (5 + random.nextInt(11)) / 100 : 0;
+                        long subtotalItem = bruto - desconto;
+                        subtotal += subtotalItem;
+                        descontoTotal += desconto;
+                        linha(itens, itemId++, String.valueOf(pedidoId), TIMESTAMP.format(criadoEm),
+                                String.valueOf(baseProduto + produto + 1),
+                                String.valueOf(quantidade), centavos(precos[produto]), centavos(desconto),
+                                centavos(subtotalItem));
+                    }
+
+                    LocalDateTime atualizadoEm = atualizadoEm(random, status, criadoEm);
+                    linhaPedido.setLength(0);
+                    linha(linhaPedido, pedidoId, String.valueOf(baseCliente + clientes.amostrar(random) + 1),
+                            centavos(subtotal), centavos(descontoTotal), centavos(subtotal - descontoTotal), status,
+                            TIMESTAMP.format(criadoEm), TIMESTAMP.format(atualizadoEm));
+                    pedidos.write(linhaPedido.toString().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+
+            pgConnection.getCopyAPI().copyIn(
+                    "COPY pedido_item (id, pedido_id, pedido_created_at, produto_id, quantidade, preco_unitario, "
+                            + "desconto, subtotal) FROM STDIN", new StringReader(itens.toString()));
+            connection.commit();
+        }
+    }
+
+    private void criarParticoes() throws SQLException {
+        LocalDate inicio = agora.minusDays(properties.getDiasHistorico() + 1L).toLocalDate();
+        LocalDate fim = agora.toLocalDate().plusMonths(3);
+        executarSql("SELECT criar_particoes_pedido(DATE '" + inicio + "', DATE '" + fim + "')");
+    }
+
+    private void gerarResumos(long basePedido) throws SQLException {
+        executarSql("INSERT INTO pedido_resumo (pedido_id, cliente_id, cliente_nome, status, total, quantidade_itens, "
+                + "created_at, updated_at) "
+                + "SELECT p.id, p.cliente_id, c.nome, p.status, p.total, i.quantidade, p.created_at, p.updated_at "
+                + "FROM pedido p JOIN cliente c ON c.id = p.cliente_id "
+                + "JOIN (SELECT pedido_id, COUNT(*) AS quantidade FROM pedido_item WHERE pedido_id > " + basePedido
+                + " GROUP BY pedido_id) i ON i.pedido_id = p.id "
+                + "WHERE p.id > " + basePedido);
+        logger.info("Resumos de pedidos gerados");
+    }
+
+    private void gerarAlertasEstoque(long baseProduto) throws SQLException {
+        executarSql("INSERT INTO alerta_estoque (produto_id, created_at) "
+                + "SELECT id, updated_at FROM produto WHERE id > " + baseProduto + " AND estoque <= estoque_minimo");
+        logger.info("Alertas de estoque baixo gerados");
+    }
+
+    String status(SplittableRandom random) {
+        int pesoTotal = properties.getPesoCreated() + properties.getPesoPaid()
+                + properties.getPesoCancelled() + properties.getPesoLate();
+        int sorteio = random.nextInt(pesoTotal);
+
+        if (sorteio < properties.getPesoPaid()) {
+            return "PAID";
+        }
+        sorteio -= properties.getPesoPaid();
+        if (sorteio < properties.getPesoCancelled()) {
+            return "CANCELLED";
+        }
+        sorteio -= properties.getPesoCancelled();
+        return sorteio < properties.getPesoCreated() ? "CREATED" : "LATE";
+    }
+
+    /**
+     * Data de criação coerente com o status, como o {@code PedidoScheduler} deixaria: pedidos CREATED têm
+     * menos de 48 horas e pedidos LATE, mais; pagos e cancelados se espalham por todo o histórico.
+     */
+    LocalDateTime criadoEm(SplittableRandom random, String status) {
+        long minutosHistorico = properties.getDiasHistorico() * 24L * 60L;
+        long minutosAtraso = HORAS_ATRASO * 60;
+        return switch (status) {
+            case "CREATED" -> agora.minusMinutes(1 + random.nextLong(Math.min(minutosHistorico, minutosAtraso - 1)));
+            case "LATE" -> agora.minusMinutes(minutosAtraso + 1
+                    + random.nextLong(Math.max(1, minutosHistorico - minutosAtraso - 1)));
+            default -> agora.minusMinutes(1 + random.nextLong(minutosHistorico));
+        };
+    }
+
+    private LocalDateTime atualizadoEm(SplittableRandom random, String status, LocalDateTime criadoEm) {
+        LocalDateTime atualizadoEm = switch (status) {
+            case "PAID", "CANCELLED" -> criadoEm.plusMinutes(1 + random.nextInt(60 * 72));
+            case "LATE" -> criadoEm.plusHours(HORAS_ATRASO).plusMinutes(random.nextInt(60));
+            default -> criadoEm;
+        };
+        return atualizadoEm.isAfter(agora) ? agora : atualizadoEm;
+    }
+
+    private int quantidadeItens(SplittableRandom random) {
+        double geometrica = Math.log(1 - random.nextDouble()) / Math.log(1 - 1 / properties.getMediaItensPorPedido());
+        return (int) Math.min(properties.getMaximoItensPorPedido(), 1 + Math.floor(geometrica));
+    }
+
+    private int tamanhoLote(int lote) {
+        int porLote = properties.getPedidosPorLote();
+        return Math.min(porLote, properties.getPedidos() - lote * porLote);
+    }
+
+    private long semente(int lote, int fluxo) {
+        long z = properties.getSeed() + 0x9E3779B97F4A7C15L * (lote * 31L + fluxo + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private long maiorId(String tabela) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + tabela)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void executarSql(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private void copiar(String sql, StringBuilder dados) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(dados.toString()));
+        }
+    }
+
+    private static void linha(StringBuilder sb, long id, String... colunas) {
+        sb.append(id);
+        for (String coluna : colunas) {
+            sb.append('\t').append(coluna);
+        }
+        sb.append('\n');
+    }
+
+    private static String centavos(long valor) {
+        return (valor / 100) + "." + (valor % 100 < 10 ? "0" : "") + (valor % 100);
+    }
+
+    private static double gaussiano(SplittableRandom random) {
+        double u1 = 1 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+}
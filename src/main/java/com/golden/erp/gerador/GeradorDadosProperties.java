@@ -0,0 +1,202 @@
+package com.golden.erp.gerador;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+
+/**
+ * Parâmetros do gerador de dados sintéticos ({@code gerador.*}).
+ */
+@ConfigurationProperties(prefix = "gerador")
+public class GeradorDadosProperties {
+
+    /** Semente da geração; a mesma semente sempre produz os mesmos dados. */
+    private long seed = 42L;
+
+    private int clientes = 100_000;
+
+    private int produtos = 20_000;
+
+    private int pedidos = 1_000_000;
+
+    /** Média de itens por pedido (distribuição geométrica, mínimo de 1 item). */
+    private double mediaItensPorPedido = 3.0;
+
+    private int maximoItensPorPedido = 50;
+
+    /** Expoente da distribuição de Zipf para a popularidade dos produtos. */
+    private double zipfProdutos = 1.1;
+
+    /** Expoente da distribuição de Zipf para a quantidade de pedidos por cliente. */
+    private double zipfClientes = 0.9;
+
+    /** Pesos relativos de cada status: CREATED, PAID, CANCELLED e LATE. */
+    private int pesoCreated = 10;
+
+    private int pesoPaid = 70;
+
+    private int pesoCancelled = 15;
+
+    private int pesoLate = 5;
+
+    /** Período, em dias até hoje, em que as datas dos pedidos são distribuídas. */
+    private int diasHistorico = 365;
+
+    /** Data usada como "hoje"; fixe-a para reproduzir exatamente a mesma base em outro dia. */
+    private LocalDate dataReferencia;
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /** Quantidade de pedidos gravados por transação/COPY. */
+    private int pedidosPorLote = 20_000;
+
+    /** Aplica o changelog do Liquibase antes de gerar os dados. */
+    private boolean aplicarChangelog = true;
+
+    /** Remove os dados existentes (TRUNCATE) antes de gerar. */
+    private boolean limpar = false;
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getClientes() {
+        return clientes;
+    }
+
+    public void setClientes(int clientes) {
+        this.clientes = clientes;
+    }
+
+    public int getProdutos() {
+        return produtos;
+    }
+
+    public void setProdutos(int produtos) {
+        this.produtos = produtos;
+    }
+
+    public int getPedidos() {
+        return pedidos;
+    }
+
+    public void setPedidos(int pedidos) {
+        this.pedidos = pedidos;
+    }
+
+    public double getMediaItensPorPedido() {
+        return mediaItensPorPedido;
+    }
+
+    public void setMediaItensPorPedido(double mediaItensPorPedido) {
+        this.mediaItensPorPedido = mediaItensPorPedido;
+    }
+
+    public int getMaximoItensPorPedido() {
+        return maximoItensPorPedido;
+    }
+
+    public void setMaximoItensPorPedido(int maximoItensPorPedido) {
+        this.maximoItensPorPedido = maximoItensPorPedido;
+    }
+
+    public double getZipfProdutos() {
+        return zipfProdutos;
+    }
+
+    public void setZipfProdutos(double zipfProdutos) {
+        this.zipfProdutos = zipfProdutos;
+    }
+
+    public double getZipfClientes() {
+        return zipfClientes;
+    }
+
+    public void setZipfClientes(double zipfClientes) {
+        this.zipfClientes = zipfClientes;
+    }
+
+    public int getPesoCreated() {
+        return pesoCreated;
+    }
+
+    public void setPesoCreated(int pesoCreated) {
+        this.pesoCreated = pesoCreated;
+    }
+
+    public int getPesoPaid() {
+        return pesoPaid;
+    }
+
+    public void setPesoPaid(int pesoPaid) {
+        this.pesoPaid = pesoPaid;
+    }
+
+    public int getPesoCancelled() {
+        return pesoCancelled;
+    }
+
+    public void setPesoCancelled(int pesoCancelled) {
+        this.pesoCancelled = pesoCancelled;
+    }
+
+    public int getPesoLate() {
+        return pesoLate;
+    }
+
+    public void setPesoLate(int pesoLate) {
+        this.pesoLate = pesoLate;
+    }
+
+    public int getDiasHistorico() {
+        return diasHistorico;
+    }
+
+    public void setDiasHistorico(int diasHistorico) {
+        this.diasHistorico = diasHistorico;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getPedidosPorLote() {
+        return pedidosPorLote;
+    }
+
+    public void setPedidosPorLote(int pedidosPorLote) {
+        this.pedidosPorLote = pedidosPorLote;
+    }
+
+    public boolean isAplicarChangelog() {
+        return aplicarChangelog;
+    }
+
+    public void setAplicarChangelog(boolean aplicarChangelog) {
+        this.aplicarChangelog = aplicarChangelog;
+    }
+
+    public boolean isLimpar() {
+        return limpar;
+    }
+
+    public void setLimpar(boolean limpar) {
+        this.limpar = limpar;
+    }
+
+    public LocalDate getDataReferencia() {
+        return dataReferencia;
+    }
+
+    public void setDataReferencia(LocalDate dataReferencia) {
+        this.dataReferencia = dataReferencia;
+    }
+}
@@ -0,0 +1,41 @@
+package com.golden.erp.gerador;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Executa o {@link GeradorDados} quando a aplicação sobe com o profile {@code gerador} e encerra em seguida.
+ */
+@Component
+@Profile("gerador")
+@EnableConfigurationProperties(GeradorDadosProperties.class)
+public class GeradorDadosRunner implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final GeradorDadosProperties properties;
+    private final ConfigurableApplicationContext context;
+    private final int faixasVendaDiaria;
+
+    public GeradorDadosRunner(DataSource dataSource, GeradorDadosProperties properties,
+                              ConfigurableApplicationContext context,
+                              @Value("${erp.venda-diaria.faixas:8}") int faixasVendaDiaria) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.context = context;
+        this.faixasVendaDiaria = faixasVendaDiaria;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        new GeradorDados(dataSource, properties, faixasVendaDiaria).executar();
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
@@ -0,0 +1,160 @@
+package com.golden.erp.job;
+
+import com.golden.erp.domain.JobExecucao;
+import com.golden.erp.metrics.ErpMetrics;
+import com.golden.erp.repository.JobExecucaoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Garante que cada job agendado (ou cada partição dele) rode em apenas uma instância por rodada.
+ * <p>
+ * Todas as instâncias disparam o job no mesmo horário. Para cada partição, a instância que obtém a
+ * {@link TravaJob} consulta a {@code job_execucao}: se a partição já foi concluída dentro do
+ * {@code intervaloMinimo} (por ela ou por outra instância) ela é pulada, senão é executada e registrada.
+ * As demais instâncias encontram a trava ocupada ou a partição já concluída e seguem para a próxima,
+ * então o trabalho se divide entre quem estiver disponível.
+ */
+@Component
+public class CoordenadorJobs {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoordenadorJobs.class);
+
+    private final TravaJob travaJob;
+    private final JobExecucaoRepository jobExecucaoRepository;
+    private final JobMetrics jobMetrics;
+    private final String instancia;
+    private final Map<String, SituacaoJob> situacoes = new ConcurrentHashMap<>();
+
+    public CoordenadorJobs(TravaJob travaJob, JobExecucaoRepository jobExecucaoRepository, JobMetrics jobMetrics,
+                           @Value("${erp.jobs.instancia:}") String instancia) {
+        this.travaJob = travaJob;
+        this.jobExecucaoRepository = jobExecucaoRepository;
+        this.jobMetrics = jobMetrics;
+        this.instancia = instancia.isBlank() ? instanciaPadrao() : instancia;
+    }
+
+    /**
+     * Executa a tarefa se nenhuma instância a estiver executando nem a tiver concluído dentro do {@code intervaloMinimo}.
+     *
+     * @return {@code true} se a tarefa rodou nesta instância
+     */
+    public boolean executar(String job, Duration intervaloMinimo, Runnable tarefa) {
+        return executarParticionado(job, 1, intervaloMinimo, particao -> tarefa.run()) > 0;
+    }
+
+    /**
+     * Executa a tarefa para cada partição de {@code 0} a {@code totalParticoes - 1} que esteja livre e pendente
+     * na rodada. A ordem começa num ponto que depende da instância, para que instâncias disparadas juntas
+     * comecem por partições diferentes.
+     *
+     * @return quantidade de partições executadas nesta instância
+     */
+    public int executarParticionado(String job, int totalParticoes, Duration intervaloMinimo, IntConsumer tarefa) {
+        if (totalParticoes < 1) {
+            throw new IllegalArgumentException("O job " + job + " precisa de ao menos uma partição");
+        }
+        
+        LocalDateTime inicio = LocalDateTime.now();
+        LocalDateTime concluidaDepoisDe = inicio.minus(intervaloMinimo);
+        long inicioNanos = System.nanoTime();
+        int primeira = Math.floorMod(instancia.hashCode(), totalParticoes);
+        List<Integer> executadas = new ArrayList<>();
+        int ignoradas = 0;
+        String erro = null;
+        
+        for (int i = 0; i < totalParticoes; i++) {
+            int particao = (primeira + i) % totalParticoes;
+            Optional<TravaJob.Trava> trava = travaJob.tentarAdquirir(job, particao);
+            if (trava.isEmpty()) {
+                ignoradas++;
+                continue;
+            }
+            
+            try {
+                JobExecucao execucao = jobExecucaoRepository.findById(new JobExecucao.Chave(job, particao))
+                        .orElseGet(() -> new JobExecucao(job, particao));
+                if (execucao.getConcluidoEm() != null && execucao.getConcluidoEm().isAfter(concluidaDepoisDe)) {
+                    ignoradas++;
+                    continue;
+                }
+                
+                LocalDateTime inicioParticao = LocalDateTime.now();
+                long inicioParticaoNanos = System.nanoTime();
+                try {
+                    tarefa.accept(particao);
+                } catch (RuntimeException e) {
+                    // Uma partição com falha não impede as demais e não é registrada como concluída
+                    logger.error("Falha no job {} (partição {}/{})", job, particao, totalParticoes, e);
+                    erro = e.getMessage();
+                    jobMetrics.registrarJob(job, ErpMetrics.OUTCOME_ERROR, Duration.ofNanos(System.nanoTime() - inicioParticaoNanos));
+                    continue;
+                }
+                Duration duracao = Duration.ofNanos(System.nanoTime() - inicioParticaoNanos);
+                
+                execucao.setInstancia(instancia);
+                execucao.setIniciadoEm(inicioParticao);
+                execucao.setConcluidoEm(LocalDateTime.now());
+                execucao.setDuracaoMs(duracao.toMillis());
+                jobExecucaoRepository.save(execucao);
+                
+                executadas.add(particao);
+                jobMetrics.registrarJob(job, ErpMetrics.OUTCOME_SUCCESS, duracao);
+            } finally {
+                trava.get().close();
+            }
+        }
+        
+        if (ignoradas > 0) {
+            jobMetrics.registrarJobIgnorado(job, ignoradas);
+            logger.debug("Job {}: {} de {} partições em execução ou já concluídas por outra instância",
+                    job, ignoradas, totalParticoes);
+        }
+        
+        Collections.sort(executadas);
+        situacoes.computeIfAbsent(job, SituacaoJob::new)
+                .registrar(inicio, Duration.ofNanos(System.nanoTime() - inicioNanos).toMillis(), totalParticoes,
+                        executadas, ignoradas, erro);
+        return executadas.size();
+    }
+
+    public String getInstancia() {
+        return instancia;
+    }
+
+    public Map<String, SituacaoJob> getSituacoes() {
+        return new TreeMap<>(situacoes);
+    }
+
+    /**
+     * Última conclusão de cada partição, de todas as instâncias.
+     */
+    public List<JobExecucao> listarUltimasExecucoes() {
+        return jobExecucaoRepository.findAllByOrderByJobAscParticaoAsc();
+    }
+
+    private static String instanciaPadrao() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "desconhecido";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+}
@@ -0,0 +1,38 @@
+package com.golden.erp.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Duração das partições executadas pelo {@link CoordenadorJobs} e partições puladas por outra instância.
+ */
+@Component
+public class JobMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public JobMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void registrarJob(String job, String outcome, Duration duracao) {
+        Timer.builder("erp.job")
+                .description("Tempo de execução de cada partição dos jobs coordenados entre instâncias")
+                .tag("job", job)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(duracao);
+    }
+
+    public void registrarJobIgnorado(String job, int particoes) {
+        Counter.builder("erp.job.ignorado")
+                .description("Partições puladas por estarem em execução em outra instância")
+                .tag("job", job)
+                .register(meterRegistry)
+                .increment(particoes);
+    }
+}
@@ -0,0 +1,32 @@
+package com.golden.erp.job;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/jobs}: o que esta instância executou na última rodada de cada job e a última
+ * conclusão de cada partição registrada por qualquer instância.
+ */
+@Component
+@Endpoint(id = "jobs")
+public class JobsEndpoint {
+
+    private final CoordenadorJobs coordenadorJobs;
+
+    public JobsEndpoint(CoordenadorJobs coordenadorJobs) {
+        this.coordenadorJobs = coordenadorJobs;
+    }
+
+    @ReadOperation
+    public Map<String, Object> jobs() {
+        Map<String, Object> resposta = new LinkedHashMap<>();
+        resposta.put("instancia", coordenadorJobs.getInstancia());
+        resposta.put("jobs", coordenadorJobs.getSituacoes());
+        resposta.put("ultimasExecucoes", coordenadorJobs.listarUltimasExecucoes());
+        return resposta;
+    }
+}
@@ -0,0 +1,28 @@
+package com.golden.erp.job;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trava em memória, válida apenas dentro da JVM. Usada com bancos sem advisory locks (H2 nos testes)
+ * ou em implantações com uma única instância.
+ */
+@Component
+@ConditionalOnProperty(name = "erp.jobs.trava", havingValue = "local")
+public class LocalTravaJob implements TravaJob {
+
+    private final Set<String> travadas = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Optional<Trava> tentarAdquirir(String job, int particao) {
+        String chave = job + "#" + particao;
+        if (!travadas.add(chave)) {
+            return Optional.empty();
+        }
+        return Optional.of(() -> travadas.remove(chave));
+    }
+}
@@ -0,0 +1,100 @@
+package com.golden.erp.job;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Trava baseada em {@code pg_try_advisory_lock(int, int)}, com o hash do nome do job como primeira
+ * chave e a partição como segunda.
+ * <p>
+ * A advisory lock é de sessão, então a conexão que a obteve fica reservada até o {@link Trava#close()}.
+ * Se a instância cair, o PostgreSQL encerra a sessão e libera a trava sozinho.
+ */
+@Component
+@ConditionalOnProperty(name = "erp.jobs.trava", havingValue = "postgres", matchIfMissing = true)
+public class PostgresTravaJob implements TravaJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresTravaJob.class);
+
+    private final DataSource dataSource;
+
+    public PostgresTravaJob(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Optional<Trava> tentarAdquirir(String job, int particao) {
+        Connection conexao = null;
+        try {
+            conexao = dataSource.getConnection();
+            conexao.setAutoCommit(true);
+            if (executar(conexao, "SELECT pg_try_advisory_lock(?, ?)", job, particao)) {
+                return Optional.of(new TravaPostgres(conexao, job, particao));
+            }
+            conexao.close();
+            return Optional.empty();
+        } catch (SQLException e) {
+            fecharSilenciosamente(conexao);
+            throw new DataAccessResourceFailureException("Falha ao obter a trava do job " + job, e);
+        }
+    }
+
+    private static boolean executar(Connection conexao, String sql, String job, int particao) throws SQLException {
+        try (PreparedStatement ps = conexao.prepareStatement(sql)) {
+            // String.hashCode é definido pela especificação, então todas as instâncias chegam à mesma chave
+            ps.setInt(1, job.hashCode());
+            ps.setInt(2, particao);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static void fecharSilenciosamente(Connection conexao) {
+        if (conexao == null) {
+            return;
+        }
+        try {
+            conexao.close();
+        } catch (SQLException e) {
+            logger.debug("Falha ao fechar conexão", e);
+        }
+    }
+
+    private static final class TravaPostgres implements Trava {
+
+        private final Connection conexao;
+        private final String job;
+        private final int particao;
+
+        private TravaPostgres(Connection conexao, String job, int particao) {
+            this.conexao = conexao;
+            this.job = job;
+            this.particao = particao;
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (!executar(conexao, "SELECT pg_advisory_unlock(?, ?)", job, particao)) {
+                    logger.warn("Trava do job {} (partição {}) já não pertencia a esta sessão", job, particao);
+                }
+            } catch (SQLException e) {
+                // Ao devolver a conexão quebrada ao pool a sessão é encerrada e a trava liberada
+                logger.warn("Falha ao liberar a trava do job {} (partição {})", job, particao, e);
+            } finally {
+                fecharSilenciosamente(conexao);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.golden.erp.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Última execução de um job nesta instância, exposta em {@code /actuator/jobs}.
+ */
+public class SituacaoJob {
+
+    private final String job;
+    private long execucoes;
+    private LocalDateTime ultimaExecucao;
+    private long ultimaDuracaoMs;
+    private int totalParticoes;
+    private List<Integer> particoesExecutadas = List.of();
+    private int particoesIgnoradas;
+    private String ultimoErro;
+
+    public SituacaoJob(String job) {
+        this.job = job;
+    }
+
+    synchronized void registrar(LocalDateTime inicio, long duracaoMs, int totalParticoes,
+                                List<Integer> particoesExecutadas, int particoesIgnoradas, String erro) {
+        this.execucoes++;
+        this.ultimaExecucao = inicio;
+        this.ultimaDuracaoMs = duracaoMs;
+        this.totalParticoes = totalParticoes;
+        this.particoesExecutadas = List.copyOf(particoesExecutadas);
+        this.particoesIgnoradas = particoesIgnoradas;
+        this.ultimoErro = erro;
+    }
+
+    public String getJob() {
+        return job;
+    }
+
+    /**
+     * Indica se esta instância executou ao menos uma partição na última rodada.
+     */
+    public synchronized boolean isResponsavel() {
+        return !particoesExecutadas.isEmpty();
+    }
+
+    public synchronized long getExecucoes() {
+        return execucoes;
+    }
+
+    public synchronized LocalDateTime getUltimaExecucao() {
+        return ultimaExecucao;
+    }
+
+    public synchronized long getUltimaDuracaoMs() {
+        return ultimaDuracaoMs;
+    }
+
+    public synchronized int getTotalParticoes() {
+        return totalParticoes;
+    }
+
+    public synchronized List<Integer> getParticoesExecutadas() {
+        return particoesExecutadas;
+    }
+
+    public synchronized int getParticoesIgnoradas() {
+        return particoesIgnoradas;
+    }
+
+    public synchronized String getUltimoErro() {
+        return ultimoErro;
+    }
+}
@@ -0,0 +1,21 @@
+package com.golden.erp.job;
+
+import java.util.Optional;
+
+/**
+ * Trava exclusiva por (job, partição) compartilhada entre as instâncias da aplicação.
+ * A implementação ativa é escolhida por {@code erp.jobs.trava}.
+ */
+public interface TravaJob {
+
+    /**
+     * Tenta adquirir a trava sem esperar. Retorna vazio se outra instância (ou thread) já a possui.
+     */
+    Optional<Trava> tentarAdquirir(String job, int particao);
+
+    interface Trava extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,11 @@
+package com.golden.erp.mapper;
+
+import com.golden.erp.domain.ClienteResumoPedidos;
+import com.golden.erp.dto.response.ClienteResumoPedidosResponse;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ClienteResumoPedidosMapper {
+
+    ClienteResumoPedidosResponse toResponse(ClienteResumoPedidos clienteResumoPedidos);
+}
@@ -0,0 +1,17 @@
+package com.golden.erp.mapper;
+
+import com.golden.erp.domain.PedidoResumo;
+import com.golden.erp.dto.response.PedidoResumoResponse;
+import com.golden.erp.event.PedidoEvent;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface PedidoResumoMapper {
+
+    @Mapping(target = "id", source = "pedidoId")
+    PedidoResumoResponse toResponse(PedidoResumo pedidoResumo);
+
+    @Mapping(target = "quantidadeItens", expression = "java(event.getItens().size())")
+    PedidoResumo toEntity(PedidoEvent event);
+}
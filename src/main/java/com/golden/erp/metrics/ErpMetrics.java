@@ -0,0 +1,68 @@
+package com.golden.erp.metrics;
+
+import com.golden.erp.domain.Pedido;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métricas de negócio que não podem ser obtidas apenas com {@code @Timed}:
+ * distribuição de valores de pedidos, falhas de estoque e chamadas ao ViaCEP.
+ */
+@Component
+public class ErpMetrics {
+
+    public static final String OUTCOME_SUCCESS = "SUCCESS";
+    public static final String OUTCOME_NOT_FOUND = "NOT_FOUND";
+    public static final String OUTCOME_ERROR = "ERROR";
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary valorPedido;
+    private final DistributionSummary itensPedido;
+    private final Counter estoqueInsuficiente;
+    private final Counter conflitoEstoque;
+
+    public ErpMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.valorPedido = DistributionSummary.builder("erp.pedido.valor")
+                .description("Valor total dos pedidos criados")
+                .baseUnit("BRL")
+                .register(meterRegistry);
+        this.itensPedido = DistributionSummary.builder("erp.pedido.itens")
+                .description("Quantidade de itens por pedido criado")
+                .baseUnit("itens")
+                .register(meterRegistry);
+        this.estoqueInsuficiente = Counter.builder("erp.estoque.insuficiente")
+                .description("Pedidos recusados por estoque insuficiente")
+                .register(meterRegistry);
+        this.conflitoEstoque = Counter.builder("erp.estoque.conflito")
+                .description("Atualizações de estoque recusadas por deixarem o saldo negativo")
+                .register(meterRegistry);
+    }
+
+    public void registrarPedidoCriado(Pedido pedido) {
+        valorPedido.record(pedido.getTotal().doubleValue());
+        itensPedido.record(pedido.getItens().size());
+    }
+
+    public void registrarEstoqueInsuficiente() {
+        estoqueInsuficiente.increment();
+    }
+
+    public void registrarConflitoEstoque() {
+        conflitoEstoque.increment();
+    }
+
+    public Timer.Sample iniciarConsultaCep() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void registrarConsultaCep(Timer.Sample amostra, String outcome) {
+        amostra.stop(Timer.builder("erp.viacep.consulta")
+                .description("Tempo de resposta da consulta de CEP no ViaCEP")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,68 @@
+package com.golden.erp.outbox;
+
+import com.golden.erp.domain.OutboxEvento;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grava cada evento como uma linha JSON em {@code erp.outbox.arquivo}. Usado nos testes e em
+ * ambientes locais para inspecionar o que seria enviado a um broker.
+ */
+@Component
+@ConditionalOnProperty(name = "erp.outbox.publicador", havingValue = "arquivo")
+public class ArquivoOutboxPublicador implements OutboxPublicador {
+
+    private final Path arquivo;
+    private final JsonMapper jsonMapper;
+
+    public ArquivoOutboxPublicador(@Value("${erp.outbox.arquivo:outbox.jsonl}") Path arquivo, JsonMapper jsonMapper) {
+        this.arquivo = arquivo;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public synchronized void publicar(List<OutboxEvento> eventos) {
+        try {
+            if (arquivo.getParent() != null) {
+                Files.createDirectories(arquivo.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxEvento evento : eventos) {
+                    writer.write(jsonMapper.writeValueAsString(toLinha(evento)));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar eventos em " + arquivo, e);
+        }
+    }
+
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    private Map<String, Object> toLinha(OutboxEvento evento) {
+        Map<String, Object> linha = new LinkedHashMap<>();
+        linha.put("id", evento.getId());
+        linha.put("agregado", evento.getAgregado());
+        linha.put("agregadoId", evento.getAgregadoId());
+        linha.put("tipo", evento.getTipo());
+        linha.put("createdAt", evento.getCreatedAt());
+        linha.put("payload", jsonMapper.readTree(evento.getPayload()));
+        return linha;
+    }
+}
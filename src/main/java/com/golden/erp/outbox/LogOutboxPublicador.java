@@ -0,0 +1,27 @@
+package com.golden.erp.outbox;
+
+import com.golden.erp.domain.OutboxEvento;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publicador padrão: apenas registra os eventos no log. Útil enquanto não há um broker configurado.
+ */
+@Component
+@ConditionalOnProperty(name = "erp.outbox.publicador", havingValue = "log", matchIfMissing = true)
+public class LogOutboxPublicador implements OutboxPublicador {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogOutboxPublicador.class);
+
+    @Override
+    public void publicar(List<OutboxEvento> eventos) {
+        for (OutboxEvento evento : eventos) {
+            logger.info("Evento {} {} {}#{}: {}", evento.getId(), evento.getTipo(), evento.getAgregado(),
+                    evento.getAgregadoId(), evento.getPayload());
+        }
+    }
+}
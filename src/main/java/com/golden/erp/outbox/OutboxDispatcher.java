@@ -0,0 +1,117 @@
+package com.golden.erp.outbox;
+
+import com.golden.erp.domain.OutboxEvento;
+import com.golden.erp.repository.OutboxEventoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Drena o outbox em lotes. Cada chamada bloqueia até {@code lote} eventos vencidos com
+ * {@code FOR UPDATE SKIP LOCKED}, entrega ao {@link OutboxPublicador} e apaga os publicados na
+ * mesma transação. Outros nós que rodem o dispatcher ao mesmo tempo pegam os lotes seguintes.
+ * <p>
+ * Se o lote falha, os eventos são publicados um a um para isolar o que tem problema. Cada evento que
+ * falha é reagendado com espera exponencial e, ao esgotar {@code erp.outbox.maximo-tentativas}, marcado
+ * como morto, para que um evento envenenado não trave o resto da fila.
+ */
+@Component
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventoRepository outboxEventoRepository;
+    private final OutboxPublicador outboxPublicador;
+    private final OutboxMetrics outboxMetrics;
+    private final OutboxProperties properties;
+
+    public OutboxDispatcher(OutboxEventoRepository outboxEventoRepository, OutboxPublicador outboxPublicador,
+                            OutboxMetrics outboxMetrics, OutboxProperties properties) {
+        this.outboxEventoRepository = outboxEventoRepository;
+        this.outboxPublicador = outboxPublicador;
+        this.outboxMetrics = outboxMetrics;
+        this.properties = properties;
+    }
+
+    /**
+     * @return quantidade de eventos publicados; 0 quando não há eventos vencidos ou nenhum foi publicado
+     */
+    @Transactional
+    public int despachar(int lote) {
+        LocalDateTime agora = LocalDateTime.now();
+        List<OutboxEvento> eventos = outboxEventoRepository.bloquearPendentes(agora, lote);
+        outboxMetrics.registrarPendenteMaisAntigo(eventos.stream()
+                .map(OutboxEvento::getCreatedAt)
+                .min(Comparator.naturalOrder())
+                .orElse(null));
+        
+        if (eventos.isEmpty()) {
+            return 0;
+        }
+        
+        List<OutboxEvento> publicados;
+        try {
+            outboxPublicador.publicar(eventos);
+            publicados = eventos;
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao publicar {} eventos do outbox a partir do id {}; publicando um a um",
+                    eventos.size(), eventos.get(0).getId(), e);
+            publicados = publicarIndividualmente(eventos, agora);
+        }
+        
+        // Os que falharam ficam no outbox; o UPDATE de tentativas sai no commit e libera os bloqueios
+        if (!publicados.isEmpty()) {
+            outboxEventoRepository.deleteAllInBatch(publicados);
+            outboxMetrics.registrarPublicados(publicados);
+        }
+        
+        logger.debug("{} de {} eventos do outbox publicados", publicados.size(), eventos.size());
+        return publicados.size();
+    }
+
+    private List<OutboxEvento> publicarIndividualmente(List<OutboxEvento> eventos, LocalDateTime agora) {
+        List<OutboxEvento> publicados = new ArrayList<>();
+        for (OutboxEvento evento : eventos) {
+            try {
+                outboxPublicador.publicar(List.of(evento));
+                publicados.add(evento);
+            } catch (RuntimeException e) {
+                registrarFalha(evento, e, agora);
+            }
+        }
+        return publicados;
+    }
+
+    private void registrarFalha(OutboxEvento evento, RuntimeException e, LocalDateTime agora) {
+        evento.registrarFalha(e.getMessage(), agora.plus(espera(evento.getTentativas() + 1)));
+        outboxMetrics.registrarFalha();
+        
+        if (evento.getTentativas() >= properties.getMaximoTentativas()) {
+            evento.marcarMorto();
+            outboxMetrics.registrarMorto();
+            logger.error("Evento {} do outbox marcado como morto após {} tentativas", evento.getId(),
+                    evento.getTentativas(), e);
+        } else {
+            logger.warn("Falha ao publicar o evento {} do outbox (tentativa {}); nova tentativa em {}",
+                    evento.getId(), evento.getTentativas(), evento.getProximaTentativa());
+        }
+    }
+
+    /**
+     * Espera depois da {@code falhas}-ésima falha: {@code backoffInicialMs}, dobrando a cada nova falha até
+     * {@code backoffMaximoMs}.
+     */
+    Duration espera(int falhas) {
+        long esperaMs = properties.getBackoffInicialMs() << Math.min(Math.max(falhas - 1, 0), 30);
+        return Duration.ofMillis(Math.min(esperaMs, properties.getBackoffMaximoMs()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.golden.erp.outbox;
+
+import com.golden.erp.domain.OutboxEvento;
+import com.golden.erp.event.EstoqueAlteradoEvent;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.repository.OutboxEventoRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Grava no outbox os eventos publicados pelos serviços. Exige a transação de quem publicou
+ * ({@link Propagation#MANDATORY}): o evento só existe se a alteração que o gerou for confirmada.
+ */
+@Component
+public class OutboxListener {
+
+    static final String AGREGADO_PEDIDO = "PEDIDO";
+    static final String AGREGADO_PRODUTO = "PRODUTO";
+    static final String TIPO_ESTOQUE_ALTERADO = "ESTOQUE_ALTERADO";
+
+    private final OutboxEventoRepository outboxEventoRepository;
+    private final JsonMapper jsonMapper;
+
+    public OutboxListener(OutboxEventoRepository outboxEventoRepository, JsonMapper jsonMapper) {
+        this.outboxEventoRepository = outboxEventoRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void aoAlterarPedido(PedidoEvent event) {
+        gravar(AGREGADO_PEDIDO, event.getPedidoId(), "PEDIDO_" + event.getTipo().name(), event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void aoAlterarEstoque(EstoqueAlteradoEvent event) {
+        gravar(AGREGADO_PRODUTO, event.getProdutoId(), TIPO_ESTOQUE_ALTERADO, event);
+    }
+
+    private void gravar(String agregado, Long agregadoId, String tipo, Object event) {
+        // O INSERT fica pendente na sessão e sai em lote no flush do commit (sequence + hibernate.order_inserts)
+        outboxEventoRepository.save(new OutboxEvento(agregado, agregadoId, tipo, jsonMapper.writeValueAsString(event)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.golden.erp.outbox;
+
+import com.golden.erp.domain.OutboxEvento;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Vazão do outbox: eventos publicados, falhas, eventos mortos, atraso de publicação e idade do pendente mais antigo.
+ */
+@Component
+public class OutboxMetrics {
+
+    private final Counter publicados;
+    private final Counter falhas;
+    private final Counter mortos;
+    private final Timer lag;
+    private final AtomicLong pendenteMaisAntigoMs = new AtomicLong();
+
+    public OutboxMetrics(MeterRegistry meterRegistry) {
+        this.publicados = Counter.builder("erp.outbox.publicados")
+                .description("Eventos do outbox publicados com sucesso")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("erp.outbox.falhas")
+                .description("Tentativas de publicação de eventos do outbox que falharam")
+                .register(meterRegistry);
+        this.mortos = Counter.builder("erp.outbox.mortos")
+                .description("Eventos do outbox que esgotaram as tentativas e saíram do despacho")
+                .register(meterRegistry);
+        this.lag = Timer.builder("erp.outbox.lag")
+                .description("Tempo entre a gravação do evento no outbox e a sua publicação")
+                .register(meterRegistry);
+        meterRegistry.gauge("erp.outbox.pendente.mais.antigo", pendenteMaisAntigoMs);
+    }
+
+    public void registrarPublicados(List<OutboxEvento> eventos) {
+        LocalDateTime agora = LocalDateTime.now();
+        for (OutboxEvento evento : eventos) {
+            lag.record(Duration.between(evento.getCreatedAt(), agora));
+        }
+        publicados.increment(eventos.size());
+    }
+
+    public void registrarFalha() {
+        falhas.increment();
+    }
+
+    public void registrarMorto() {
+        mortos.increment();
+    }
+
+    /**
+     * Idade, em milissegundos, do evento pendente mais antigo visto na última varredura (0 quando o outbox está vazio).
+     */
+    public void registrarPendenteMaisAntigo(LocalDateTime createdAt) {
+        pendenteMaisAntigoMs.set(createdAt == null ? 0 : Duration.between(createdAt, LocalDateTime.now()).toMillis());
+    }
+}
@@ -0,0 +1,42 @@
+package com.golden.erp.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Retentativas do outbox ({@code erp.outbox.*}). Um evento que falha volta a ser tentado com espera
+ * exponencial a partir de {@code backoffInicialMs}, limitada a {@code backoffMaximoMs}; depois de
+ * {@code maximoTentativas} falhas ele é marcado como morto e sai do despacho.
+ */
+@ConfigurationProperties(prefix = "erp.outbox")
+public class OutboxProperties {
+
+    private int maximoTentativas = 10;
+
+    private long backoffInicialMs = 1000;
+
+    private long backoffMaximoMs = 3_600_000;
+
+    public int getMaximoTentativas() {
+        return maximoTentativas;
+    }
+
+    public void setMaximoTentativas(int maximoTentativas) {
+        this.maximoTentativas = maximoTentativas;
+    }
+
+    public long getBackoffInicialMs() {
+        return backoffInicialMs;
+    }
+
+    public void setBackoffInicialMs(long backoffInicialMs) {
+        this.backoffInicialMs = backoffInicialMs;
+    }
+
+    public long getBackoffMaximoMs() {
+        return backoffMaximoMs;
+    }
+
+    public void setBackoffMaximoMs(long backoffMaximoMs) {
+        this.backoffMaximoMs = backoffMaximoMs;
+    }
+}
@@ -0,0 +1,16 @@
+package com.golden.erp.outbox;
+
+import com.golden.erp.domain.OutboxEvento;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos do outbox. A implementação ativa é escolhida por {@code erp.outbox.publicador}.
+ * <p>
+ * O lote só é removido do outbox se {@link #publicar(List)} retornar sem exceção, então a entrega é
+ * "pelo menos uma vez": consumidores devem ser idempotentes pelo {@code id} do evento.
+ */
+public interface OutboxPublicador {
+
+    void publicar(List<OutboxEvento> eventos);
+}
@@ -0,0 +1,65 @@
+package com.golden.erp.particao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Cria as partições mensais futuras de {@code pedido} e {@code pedido_item} e desanexa as que saíram
+ * da retenção, pelas funções {@code criar_particoes_pedido} e {@code desanexar_particoes_pedido}
+ * criadas na migração 0011.
+ * <p>
+ * Um pedido cujo mês não tem partição é recusado pelo banco, então as partições precisam existir
+ * antes da virada do mês; com {@code erp.particoes.meses-a-frente} meses de folga, várias execuções
+ * do job podem falhar sem impacto.
+ */
+@Component
+@EnableConfigurationProperties(ParticoesPedidoProperties.class)
+public class GerenciadorParticoesPedido {
+
+    private static final Logger logger = LoggerFactory.getLogger(GerenciadorParticoesPedido.class);
+
+    private final DataSource dataSource;
+    private final ParticoesPedidoProperties properties;
+
+    public GerenciadorParticoesPedido(DataSource dataSource, ParticoesPedidoProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+    }
+
+    public void manter(LocalDate hoje) {
+        LocalDate mesAtual = hoje.withDayOfMonth(1);
+        int criadas = executar("SELECT criar_particoes_pedido(?, ?)", mesAtual, mesAtual.plusMonths(properties.getMesesAFrente()));
+        logger.info("Partições de pedido até {}: {} criadas", mesAtual.plusMonths(properties.getMesesAFrente()), criadas);
+        
+        if (properties.getMesesRetidos() > 0) {
+            LocalDate limite = mesAtual.minusMonths(properties.getMesesRetidos() - 1L);
+            int desanexadas = executar("SELECT desanexar_particoes_pedido(?)", limite);
+            logger.info("Partições de pedido anteriores a {}: {} desanexadas", limite, desanexadas);
+        }
+    }
+
+    private int executar(String sql, LocalDate... datas) {
+        try (Connection conexao = dataSource.getConnection();
+             PreparedStatement ps = conexao.prepareStatement(sql)) {
+            for (int i = 0; i < datas.length; i++) {
+                ps.setDate(i + 1, Date.valueOf(datas[i]));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Falha ao manter as partições de pedido", e);
+        }
+    }
+}
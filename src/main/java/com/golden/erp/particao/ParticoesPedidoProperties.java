@@ -0,0 +1,35 @@
+package com.golden.erp.particao;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Parâmetros das partições mensais de {@code pedido} e {@code pedido_item} ({@code erp.particoes.*}).
+ */
+@ConfigurationProperties(prefix = "erp.particoes")
+public class ParticoesPedidoProperties {
+
+    /** Meses futuros, além do atual, que devem ter partição criada. */
+    private int mesesAFrente = 3;
+
+    /**
+     * Meses, contando o atual, que permanecem anexados. As partições mais antigas são desanexadas e
+     * continuam no banco como tabelas comuns, fora das consultas. {@code 0} nunca desanexa.
+     */
+    private int mesesRetidos = 0;
+
+    public int getMesesAFrente() {
+        return mesesAFrente;
+    }
+
+    public void setMesesAFrente(int mesesAFrente) {
+        this.mesesAFrente = mesesAFrente;
+    }
+
+    public int getMesesRetidos() {
+        return mesesRetidos;
+    }
+
+    public void setMesesRetidos(int mesesRetidos) {
+        this.mesesRetidos = mesesRetidos;
+    }
+}
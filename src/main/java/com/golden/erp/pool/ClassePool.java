@@ -0,0 +1,21 @@
+package com.golden.erp.pool;
+
+/**
+ * Classes de carga com pool de conexões próprio. O nome em minúsculas é o nome do pool nas
+ * propriedades ({@code erp.pools.relatorios.*}) e nas métricas.
+ */
+public enum ClassePool {
+
+    /** Requisições interativas: cadastro, pedidos e buscas por id. Padrão quando nada é anotado. */
+    OLTP,
+
+    /** Listagens paginadas sobre tabelas grandes e relatórios. */
+    RELATORIOS,
+
+    /** Tarefas agendadas e cargas feitas na subida da aplicação. */
+    JOBS;
+
+    public String getNome() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,34 @@
+package com.golden.erp.pool;
+
+/**
+ * Classe de carga da thread atual, definida pelo {@link UsaPoolInterceptor}; {@link ClassePool#OLTP} por padrão.
+ */
+public final class ContextoPool {
+
+    private static final ThreadLocal<ClassePool> ATUAL = new ThreadLocal<>();
+
+    private ContextoPool() {
+    }
+
+    public static ClassePool atual() {
+        ClassePool classe = ATUAL.get();
+        return classe == null ? ClassePool.OLTP : classe;
+    }
+
+    /**
+     * Troca a classe da thread e devolve a anterior, para ser restaurada com {@link #restaurar(ClassePool)}.
+     */
+    static ClassePool trocar(ClassePool classe) {
+        ClassePool anterior = ATUAL.get();
+        ATUAL.set(classe);
+        return anterior;
+    }
+
+    static void restaurar(ClassePool anterior) {
+        if (anterior == null) {
+            ATUAL.remove();
+        } else {
+            ATUAL.set(anterior);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.golden.erp.pool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Saturação de cada pool por classe de carga e pedidos de conexão recusados pela fila cheia.
+ */
+public class PoolMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public PoolMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Conexões em uso mais threads esperando, sobre o tamanho do pool; acima de 1 há fila.
+     */
+    public void monitorarSaturacao(ClassePool classe, DoubleSupplier saturacao) {
+        Gauge.builder("erp.pool.saturacao", saturacao, DoubleSupplier::getAsDouble)
+                .description("Ocupação do pool de conexões, contando as threads na fila")
+                .tag("pool", classe.getNome())
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    public void registrarConexaoRecusada(ClassePool classe) {
+        Counter.builder("erp.pool.recusadas")
+                .description("Pedidos de conexão recusados por a fila do pool estar no limite")
+                .tag("pool", classe.getNome())
+                .register(meterRegistry)
+                .increment();
+    }
+}
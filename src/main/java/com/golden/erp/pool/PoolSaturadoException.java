@@ -0,0 +1,20 @@
+package com.golden.erp.pool;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Pedido de conexão recusado porque a fila do pool já está no limite ({@code erp.pools.<pool>.fila-maxima}).
+ */
+public class PoolSaturadoException extends SQLTransientConnectionException {
+
+    private final ClassePool classe;
+
+    public PoolSaturadoException(ClassePool classe, int aguardando) {
+        super("Pool " + classe.getNome() + " saturado: " + aguardando + " threads aguardando conexão");
+        this.classe = classe;
+    }
+
+    public ClassePool getClasse() {
+        return classe;
+    }
+}
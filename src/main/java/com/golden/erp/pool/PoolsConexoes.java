@@ -0,0 +1,65 @@
+package com.golden.erp.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Cria os pools de relatórios e jobs a partir da configuração do pool principal e ajusta o principal
+ * como pool de OLTP. Cada pool tem nome, tamanho, espera e {@code statement_timeout} próprios.
+ */
+public class PoolsConexoes implements AutoCloseable {
+
+    private final PoolsProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<ClassePool, HikariDataSource> criados = new EnumMap<>(ClassePool.class);
+
+    public PoolsConexoes(PoolsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Deve receber o pool principal antes de ele abrir a primeira conexão, enquanto a configuração ainda pode mudar.
+     */
+    public DataSource rotear(HikariDataSource principal) {
+        PoolMetrics metrics = new PoolMetrics(meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
+        Map<ClassePool, HikariDataSource> pools = new EnumMap<>(ClassePool.class);
+        for (ClassePool classe : ClassePool.values()) {
+            HikariDataSource pool;
+            if (classe == ClassePool.OLTP) {
+                pool = principal;
+            } else {
+                pool = new HikariDataSource();
+                principal.copyStateTo(pool);
+                if (meterRegistry != null) {
+                    pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+                }
+                criados.put(classe, pool);
+            }
+            configurar(pool, classe, properties.getPool(classe));
+            pools.put(classe, pool);
+            metrics.monitorarSaturacao(classe, () -> RoteadorPools.saturacao(pool));
+        }
+        return new RoteadorPools(pools, properties, metrics);
+    }
+
+    private static void configurar(HikariDataSource pool, ClassePool classe, PoolsProperties.Pool config) {
+        pool.setPoolName(classe.getNome());
+        pool.setMaximumPoolSize(config.getMaximoConexoes());
+        pool.setConnectionTimeout(config.getTempoMaximoEsperaMs());
+        if (config.getTempoMaximoComandoMs() > 0) {
+            pool.setConnectionInitSql("SET statement_timeout = " + config.getTempoMaximoComandoMs());
+        }
+    }
+
+    @Override
+    public void close() {
+        criados.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,76 @@
+package com.golden.erp.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+
+/**
+ * Com {@code erp.pools.enabled=true}, troca o pool único de {@code spring.datasource.*} por um pool por
+ * {@link ClassePool}, escolhido pela anotação {@link UsaPool}.
+ * <p>
+ * O pós-processador roda antes dos demais que envolvem o {@code dataSource} (como o da réplica de leitura),
+ * porque precisa do {@link HikariDataSource} original para copiar e ajustar a configuração.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "erp.pools.enabled", havingValue = "true")
+@EnableConfigurationProperties(PoolsProperties.class)
+public class PoolsConfig {
+
+    /** Por fora do interceptor de {@code @Transactional}, que usa {@link Ordered#LOWEST_PRECEDENCE}. */
+    private static final int ORDEM_INTERCEPTOR = Ordered.LOWEST_PRECEDENCE - 100;
+
+    @Bean(destroyMethod = "close")
+    PoolsConexoes poolsConexoes(PoolsProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PoolsConexoes(properties, meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    static BeanPostProcessor poolsConexoesPostProcessor(ObjectProvider<PoolsConexoes> poolsConexoes) {
+        return new PoolsPostProcessor(poolsConexoes);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor usaPoolAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(UsaPool.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(UsaPool.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new UsaPoolInterceptor());
+        advisor.setOrder(ORDEM_INTERCEPTOR);
+        return advisor;
+    }
+
+    private static class PoolsPostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        private final ObjectProvider<PoolsConexoes> poolsConexoes;
+
+        PoolsPostProcessor(ObjectProvider<PoolsConexoes> poolsConexoes) {
+            this.poolsConexoes = poolsConexoes;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource principal && "dataSource".equals(beanName)) {
+                return poolsConexoes.getObject().rotear(principal);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
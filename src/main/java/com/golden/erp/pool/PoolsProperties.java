@@ -0,0 +1,105 @@
+package com.golden.erp.pool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Pools de conexões por classe de carga ({@code erp.pools.*}). Todos apontam para o banco de
+ * {@code spring.datasource.*}; o de OLTP é o próprio pool configurado pelo Spring Boot.
+ */
+@ConfigurationProperties(prefix = "erp.pools")
+public class PoolsProperties {
+
+    /** Separa os pools por classe de carga. Desligado, tudo usa o pool de {@code spring.datasource.*}. */
+    private boolean enabled = false;
+
+    private final Pool oltp = new Pool(20, 5_000, 2_000, 100);
+
+    private final Pool relatorios = new Pool(4, 60_000, 10_000, 8);
+
+    private final Pool jobs = new Pool(4, 300_000, 30_000, 8);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Pool getOltp() {
+        return oltp;
+    }
+
+    public Pool getRelatorios() {
+        return relatorios;
+    }
+
+    public Pool getJobs() {
+        return jobs;
+    }
+
+    public Pool getPool(ClassePool classe) {
+        return switch (classe) {
+            case OLTP -> oltp;
+            case RELATORIOS -> relatorios;
+            case JOBS -> jobs;
+        };
+    }
+
+    public static class Pool {
+
+        /** Conexões abertas no máximo. */
+        private int maximoConexoes;
+
+        /** {@code statement_timeout} das conexões do pool; 0 não limita. */
+        private long tempoMaximoComandoMs;
+
+        /** Espera máxima por uma conexão livre antes de falhar. */
+        private long tempoMaximoEsperaMs;
+
+        /** Threads que podem esperar por uma conexão; além disso o pedido de conexão é recusado na hora. */
+        private int filaMaxima;
+
+        public Pool() {
+        }
+
+        Pool(int maximoConexoes, long tempoMaximoComandoMs, long tempoMaximoEsperaMs, int filaMaxima) {
+            this.maximoConexoes = maximoConexoes;
+            this.tempoMaximoComandoMs = tempoMaximoComandoMs;
+            this.tempoMaximoEsperaMs = tempoMaximoEsperaMs;
+            this.filaMaxima = filaMaxima;
+        }
+
+        public int getMaximoConexoes() {
+            return maximoConexoes;
+        }
+
+        public void setMaximoConexoes(int maximoConexoes) {
+            this.maximoConexoes = maximoConexoes;
+        }
+
+        public long getTempoMaximoComandoMs() {
+            return tempoMaximoComandoMs;
+        }
+
+        public void setTempoMaximoComandoMs(long tempoMaximoComandoMs) {
+            this.tempoMaximoComandoMs = tempoMaximoComandoMs;
+        }
+
+        public long getTempoMaximoEsperaMs() {
+            return tempoMaximoEsperaMs;
+        }
+
+        public void setTempoMaximoEsperaMs(long tempoMaximoEsperaMs) {
+            this.tempoMaximoEsperaMs = tempoMaximoEsperaMs;
+        }
+
+        public int getFilaMaxima() {
+            return filaMaxima;
+        }
+
+        public void setFilaMaxima(int filaMaxima) {
+            this.filaMaxima = filaMaxima;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.golden.erp.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
+
+/**
+ * Entrega a conexão do pool da classe de carga da thread ({@link ContextoPool}).
+ * <p>
+ * Antes de pedir a conexão ao pool, confere quantas threads já esperam por uma: no limite da fila o
+ * pedido é recusado com {@link PoolSaturadoException} em vez de esperar o tempo máximo, para que um pool
+ * saturado falhe rápido e não acumule threads da aplicação. O alvo delegado é o pool de OLTP, então
+ * métricas e health check do Spring Boot continuam enxergando o pool principal.
+ */
+public class RoteadorPools extends DelegatingDataSource {
+
+    private final Map<ClassePool, HikariDataSource> pools;
+    private final PoolsProperties properties;
+    private final PoolMetrics metrics;
+
+    public RoteadorPools(Map<ClassePool, HikariDataSource> pools, PoolsProperties properties, PoolMetrics metrics) {
+        super(pools.get(ClassePool.OLTP));
+        this.pools = pools;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ClassePool classe = ContextoPool.atual();
+        HikariDataSource pool = pools.get(classe);
+        verificarFila(classe, pool);
+        return pool.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Os pools usam as credenciais de spring.datasource.*");
+    }
+
+    private void verificarFila(ClassePool classe, HikariDataSource pool) throws PoolSaturadoException {
+        HikariPoolMXBean estado = pool.getHikariPoolMXBean();
+        if (estado == null) {
+            // Pool ainda não iniciado: ninguém está esperando
+            return;
+        }
+        int aguardando = estado.getThreadsAwaitingConnection();
+        if (aguardando >= properties.getPool(classe).getFilaMaxima()) {
+            metrics.registrarConexaoRecusada(classe);
+            throw new PoolSaturadoException(classe, aguardando);
+        }
+    }
+
+    /**
+     * Conexões em uso mais threads esperando, sobre o tamanho do pool; acima de 1 há fila.
+     */
+    static double saturacao(HikariDataSource pool) {
+        HikariPoolMXBean estado = pool.getHikariPoolMXBean();
+        if (estado == null) {
+            return 0;
+        }
+        return (estado.getActiveConnections() + estado.getThreadsAwaitingConnection())
+                / (double) pool.getMaximumPoolSize();
+    }
+}
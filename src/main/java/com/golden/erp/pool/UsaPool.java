@@ -0,0 +1,20 @@
+package com.golden.erp.pool;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Faz as conexões abertas durante o método (ou os métodos da classe) virem do pool da classe de carga
+ * informada. Precisa estar no mesmo método que abre a transação, ou num método que a chama: dentro de
+ * uma transação já iniciada a conexão já foi obtida e continua a mesma.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface UsaPool {
+
+    ClassePool value();
+}
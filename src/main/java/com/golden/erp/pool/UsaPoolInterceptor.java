@@ -0,0 +1,36 @@
+package com.golden.erp.pool;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Define o {@link ContextoPool} durante os métodos anotados com {@link UsaPool}. Roda por fora do
+ * interceptor de {@code @Transactional}, para que a conexão da transação já venha do pool certo.
+ */
+public class UsaPoolInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ClassePool anterior = ContextoPool.trocar(classe(invocation));
+        try {
+            return invocation.proceed();
+        } finally {
+            ContextoPool.restaurar(anterior);
+        }
+    }
+
+    private static ClassePool classe(MethodInvocation invocation) {
+        Class<?> alvo = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        Method metodo = AopUtils.getMostSpecificMethod(invocation.getMethod(), alvo);
+        UsaPool anotacao = AnnotatedElementUtils.findMergedAnnotation(metodo, UsaPool.class);
+        if (anotacao == null) {
+            anotacao = AnnotatedElementUtils.findMergedAnnotation(alvo, UsaPool.class);
+        }
+        return anotacao != null ? anotacao.value() : ContextoPool.atual();
+    }
+}
@@ -0,0 +1,104 @@
+package com.golden.erp.ranking;
+
+import com.golden.erp.domain.RankingVendasDia;
+import com.golden.erp.repository.RankingVendasDiaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Grava os sketches diários na tabela {@code ranking_vendas_dia} e devolve os dias alterados desde o último
+ * checkpoint; é também assim que uma instância recém-iniciada recebe os dias já gravados.
+ * <p>
+ * Cada instância grava só a parcela acumulada desde o seu último checkpoint, somada à linha do dia
+ * sob {@code SELECT ... FOR UPDATE}; assim a tabela guarda as vendas de todas as instâncias e nenhuma
+ * sobrescreve a outra.
+ */
+@Component
+public class CheckpointRanking {
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckpointRanking.class);
+
+    private final RankingVendasDiaRepository rankingVendasDiaRepository;
+    private final RankingVendasProperties properties;
+
+    public CheckpointRanking(RankingVendasDiaRepository rankingVendasDiaRepository, RankingVendasProperties properties) {
+        this.rankingVendasDiaRepository = rankingVendasDiaRepository;
+        this.properties = properties;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isVazio() {
+        return rankingVendasDiaRepository.count() == 0;
+    }
+
+    /**
+     * Soma as parcelas às linhas dos seus dias, apaga os dias anteriores a {@code desde} e devolve os
+     * sketches de todos os dias alterados (por esta ou por outra instância) a partir de {@code alteradosDesde}.
+     */
+    @Transactional
+    public Map<LocalDate, SketchVendas> gravar(Map<LocalDate, SketchVendas> parcelas, LocalDate desde,
+                                               LocalDateTime alteradosDesde) {
+        rankingVendasDiaRepository.excluirAntesDe(desde);
+        
+        LocalDateTime agora = LocalDateTime.now();
+        Map<LocalDate, RankingVendasDia> linhas = rankingVendasDiaRepository.travarDias(parcelas.keySet()).stream()
+                .collect(Collectors.toMap(RankingVendasDia::getDia, Function.identity()));
+        for (Map.Entry<LocalDate, SketchVendas> parcela : parcelas.entrySet()) {
+            if (parcela.getKey().isBefore(desde)) {
+                continue;
+            }
+            RankingVendasDia linha = linhas.get(parcela.getKey());
+            SketchVendas sketch = linha != null ? converter(linha) : null;
+            if (sketch == null) {
+                if (linha == null) {
+                    linha = new RankingVendasDia(parcela.getKey());
+                }
+                sketch = properties.novoSketch();
+            }
+            sketch.mesclar(parcela.getValue());
+            linha.setLargura(sketch.getLargura());
+            linha.setProfundidade(sketch.getProfundidade());
+            linha.setTotal(sketch.getTotal());
+            linha.setContagens(sketch.contagensEmBytes());
+            linha.setCandidatos(sketch.candidatosEmBytes());
+            linha.setAtualizadoEm(agora);
+            rankingVendasDiaRepository.save(linha);
+        }
+        
+        return converter(rankingVendasDiaRepository.findByDiaGreaterThanEqualAndAtualizadoEmGreaterThanEqual(desde, alteradosDesde));
+    }
+
+    private Map<LocalDate, SketchVendas> converter(List<RankingVendasDia> linhas) {
+        Map<LocalDate, SketchVendas> sketches = new HashMap<>();
+        for (RankingVendasDia linha : linhas) {
+            SketchVendas sketch = converter(linha);
+            if (sketch != null) {
+                sketches.put(linha.getDia(), sketch);
+            }
+        }
+        return sketches;
+    }
+
+    /**
+     * {@code null} quando a linha foi gravada com outras dimensões: o dia recomeça com o sketch atual.
+     */
+    private SketchVendas converter(RankingVendasDia linha) {
+        if (linha.getLargura() != properties.getLargura() || linha.getProfundidade() != properties.getProfundidade()) {
+            logger.warn("Checkpoint do ranking de {} tem dimensões {}x{}, diferentes das configuradas; descartando",
+                    linha.getDia(), linha.getProfundidade(), linha.getLargura());
+            return null;
+        }
+        return SketchVendas.deBytes(linha.getLargura(), linha.getProfundidade(), properties.getCandidatos(),
+                linha.getTotal(), linha.getContagens(), linha.getCandidatos());
+    }
+}
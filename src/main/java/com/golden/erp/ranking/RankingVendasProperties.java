@@ -0,0 +1,58 @@
+package com.golden.erp.ranking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Parâmetros do ranking de produtos mais vendidos ({@code erp.ranking.*}).
+ */
+@ConfigurationProperties(prefix = "erp.ranking")
+public class RankingVendasProperties {
+
+    /** Dias mantidos em memória e no checkpoint; é a maior janela que pode ser consultada. */
+    private int diasRetidos = 35;
+
+    /** Contadores por linha do sketch (potência de 2). Erro máximo de cerca de e/largura do total vendido. */
+    private int largura = 2048;
+
+    /** Linhas do sketch; cada uma reduz a chance de a estimativa passar do erro máximo. */
+    private int profundidade = 4;
+
+    /** Produtos acompanhados por dia como candidatos aos mais vendidos; limita o {@code limite} da consulta. */
+    private int candidatos = 200;
+
+    public int getDiasRetidos() {
+        return diasRetidos;
+    }
+
+    public void setDiasRetidos(int diasRetidos) {
+        this.diasRetidos = diasRetidos;
+    }
+
+    public int getLargura() {
+        return largura;
+    }
+
+    public void setLargura(int largura) {
+        this.largura = largura;
+    }
+
+    public int getProfundidade() {
+        return profundidade;
+    }
+
+    public void setProfundidade(int profundidade) {
+        this.profundidade = profundidade;
+    }
+
+    public int getCandidatos() {
+        return candidatos;
+    }
+
+    public void setCandidatos(int candidatos) {
+        this.candidatos = candidatos;
+    }
+
+    public SketchVendas novoSketch() {
+        return new SketchVendas(largura, profundidade, candidatos);
+    }
+}
@@ -0,0 +1,210 @@
+package com.golden.erp.ranking;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Count-Min Sketch das unidades vendidas por produto, com um conjunto limitado de candidatos aos
+ * mais vendidos. Ocupa {@code profundidade × largura} inteiros qualquer que seja o número de produtos.
+ * <p>
+ * A estimativa de um produto é o menor dos seus contadores: nunca fica abaixo do valor real (a menos
+ * de estornos sem a venda correspondente) e passa dele em no máximo {@code e/largura × total} com
+ * probabilidade {@code 1 - e^-profundidade}. Como o sketch é linear, estornos entram como quantidades
+ * negativas e sketches de dias ou instâncias diferentes podem ser somados.
+ * <p>
+ * Não é thread-safe.
+ */
+public class SketchVendas {
+
+    // Multiplicadores ímpares distintos; o hash de cada linha são os bits altos de id × multiplicador
+    private static final long[] MULTIPLICADORES = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final int profundidade;
+    private final int largura;
+    private final int deslocamento;
+    private final int maxCandidatos;
+    private final int[] contagens;
+    private final Map<Long, Long> candidatos = new HashMap<>();
+    private long total;
+    private long menorCandidato;
+
+    /**
+     * @param largura contadores por linha, potência de 2
+     * @param profundidade linhas (funções de hash), até 8
+     * @param maxCandidatos produtos acompanhados como possíveis mais vendidos
+     */
+    public SketchVendas(int largura, int profundidade, int maxCandidatos) {
+        if (Integer.bitCount(largura) != 1 || largura < 2) {
+            throw new IllegalArgumentException("A largura do sketch precisa ser potência de 2: " + largura);
+        }
+        if (profundidade < 1 || profundidade > MULTIPLICADORES.length) {
+            throw new IllegalArgumentException("A profundidade do sketch precisa estar entre 1 e " + MULTIPLICADORES.length);
+        }
+        this.largura = largura;
+        this.profundidade = profundidade;
+        this.deslocamento = 64 - Integer.numberOfTrailingZeros(largura);
+        this.maxCandidatos = maxCandidatos;
+        this.contagens = new int[largura * profundidade];
+    }
+
+    /**
+     * Soma {@code quantidade} unidades ao produto (negativa para estornar).
+     */
+    public void somar(long produtoId, int quantidade) {
+        for (int linha = 0; linha < profundidade; linha++) {
+            contagens[posicao(linha, produtoId)] += quantidade;
+        }
+        total += quantidade;
+        if (quantidade > 0) {
+            considerarCandidato(produtoId, estimar(produtoId));
+        } else if (candidatos.containsKey(produtoId)) {
+            long estimativa = estimar(produtoId);
+            candidatos.put(produtoId, estimativa);
+            menorCandidato = Math.min(menorCandidato, estimativa);
+        }
+    }
+
+    public long estimar(long produtoId) {
+        long minimo = Long.MAX_VALUE;
+        for (int linha = 0; linha < profundidade; linha++) {
+            minimo = Math.min(minimo, contagens[posicao(linha, produtoId)]);
+        }
+        return Math.max(0, minimo);
+    }
+
+    /**
+     * Soma os contadores e os candidatos de outro sketch com as mesmas dimensões.
+     */
+    public void mesclar(SketchVendas outro) {
+        if (outro.largura != largura || outro.profundidade != profundidade) {
+            throw new IllegalArgumentException("Sketches com dimensões diferentes não podem ser somados");
+        }
+        for (int i = 0; i < contagens.length; i++) {
+            contagens[i] += outro.contagens[i];
+        }
+        total += outro.total;
+        List<Long> ids = new ArrayList<>(candidatos.keySet());
+        ids.addAll(outro.candidatos.keySet());
+        candidatos.clear();
+        ids.stream()
+                .distinct()
+                .map(id -> new long[]{id, estimar(id)})
+                .sorted(Comparator.comparingLong((long[] c) -> c[1]).reversed())
+                .limit(maxCandidatos)
+                .forEach(c -> candidatos.put(c[0], c[1]));
+        atualizarMenorCandidato();
+    }
+
+    /**
+     * Os {@code limite} candidatos de maior estimativa, como pares {@code [produtoId, estimativa]}.
+     */
+    public List<long[]> maisVendidos(int limite) {
+        return candidatos.keySet().stream()
+                .map(id -> new long[]{id, estimar(id)})
+                .filter(c -> c[1] > 0)
+                .sorted(Comparator.comparingLong((long[] c) -> c[1]).reversed().thenComparingLong(c -> c[0]))
+                .limit(limite)
+                .toList();
+    }
+
+    /**
+     * Quanto uma estimativa pode exceder o valor real (com a probabilidade do sketch).
+     */
+    public long erroMaximo() {
+        return (long) Math.ceil(Math.E / largura * Math.max(total, 0));
+    }
+
+    public boolean isVazio() {
+        return total == 0 && candidatos.isEmpty() && Arrays.stream(contagens).allMatch(c -> c == 0);
+    }
+
+    public SketchVendas copiar() {
+        SketchVendas copia = vazioComMesmasDimensoes();
+        copia.mesclar(this);
+        return copia;
+    }
+
+    public SketchVendas vazioComMesmasDimensoes() {
+        return new SketchVendas(largura, profundidade, maxCandidatos);
+    }
+
+    public int getLargura() {
+        return largura;
+    }
+
+    public int getProfundidade() {
+        return profundidade;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public byte[] contagensEmBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(contagens.length * Integer.BYTES);
+        buffer.asIntBuffer().put(contagens);
+        return buffer.array();
+    }
+
+    public byte[] candidatosEmBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(candidatos.size() * Long.BYTES);
+        candidatos.keySet().forEach(buffer::putLong);
+        return buffer.array();
+    }
+
+    public static SketchVendas deBytes(int largura, int profundidade, int maxCandidatos, long total,
+                                       byte[] contagens, byte[] candidatos) {
+        SketchVendas sketch = new SketchVendas(largura, profundidade, maxCandidatos);
+        ByteBuffer.wrap(contagens).asIntBuffer().get(sketch.contagens);
+        sketch.total = total;
+        ByteBuffer ids = ByteBuffer.wrap(candidatos);
+        while (ids.remaining() >= Long.BYTES) {
+            long id = ids.getLong();
+            sketch.considerarCandidato(id, sketch.estimar(id));
+        }
+        return sketch;
+    }
+
+    private void considerarCandidato(long produtoId, long estimativa) {
+        if (candidatos.containsKey(produtoId) || candidatos.size() < maxCandidatos) {
+            candidatos.put(produtoId, estimativa);
+            menorCandidato = candidatos.size() < maxCandidatos ? 0 : Math.min(menorCandidato, estimativa);
+            return;
+        }
+        if (estimativa <= menorCandidato) {
+            return;
+        }
+        // As estimativas guardadas podem estar defasadas; só o candidato trocado é recalculado
+        Long menor = null;
+        long valorMenor = Long.MAX_VALUE;
+        for (Map.Entry<Long, Long> candidato : candidatos.entrySet()) {
+            if (candidato.getValue() < valorMenor) {
+                menor = candidato.getKey();
+                valorMenor = candidato.getValue();
+            }
+        }
+        if (estimativa > valorMenor) {
+            candidatos.remove(menor);
+            candidatos.put(produtoId, estimativa);
+        }
+        atualizarMenorCandidato();
+    }
+
+    private void atualizarMenorCandidato() {
+        menorCandidato = candidatos.size() < maxCandidatos
+                ? 0
+                : candidatos.values().stream().mapToLong(Long::longValue).min().orElse(0);
+    }
+
+    private int posicao(int linha, long produtoId) {
+        return linha * largura + (int) ((produtoId * MULTIPLICADORES[linha]) >>> deslocamento);
+    }
+}
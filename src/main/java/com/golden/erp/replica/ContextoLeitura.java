@@ -0,0 +1,52 @@
+package com.golden.erp.replica;
+
+import java.util.function.LongConsumer;
+
+/**
+ * LSN mínimo que a réplica precisa ter aplicado para atender as leituras da requisição atual.
+ * <p>
+ * Começa com o LSN enviado pelo cliente no cabeçalho {@code X-Erp-Lsn} e avança a cada escrita
+ * confirmada na primária durante a requisição; o novo valor é devolvido ao cliente pelo
+ * {@code aoEscrever}, para ele reenviar nas próximas requisições. Fora de uma requisição não há
+ * contexto e nenhuma leitura espera pela réplica.
+ */
+public final class ContextoLeitura {
+
+    private static final ThreadLocal<ContextoLeitura> ATUAL = new ThreadLocal<>();
+
+    private long lsnMinimo;
+    private final LongConsumer aoEscrever;
+
+    private ContextoLeitura(long lsnMinimo, LongConsumer aoEscrever) {
+        this.lsnMinimo = lsnMinimo;
+        this.aoEscrever = aoEscrever;
+    }
+
+    public static void iniciar(long lsnMinimo, LongConsumer aoEscrever) {
+        ATUAL.set(new ContextoLeitura(lsnMinimo, aoEscrever));
+    }
+
+    public static void encerrar() {
+        ATUAL.remove();
+    }
+
+    public static boolean ativo() {
+        return ATUAL.get() != null;
+    }
+
+    /**
+     * LSN mínimo da requisição atual; 0 quando não há contexto.
+     */
+    public static long lsnMinimo() {
+        ContextoLeitura contexto = ATUAL.get();
+        return contexto == null ? 0 : contexto.lsnMinimo;
+    }
+
+    static void registrarEscrita(long lsn) {
+        ContextoLeitura contexto = ATUAL.get();
+        if (contexto != null && lsn > contexto.lsnMinimo) {
+            contexto.lsnMinimo = lsn;
+            contexto.aoEscrever.accept(lsn);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.golden.erp.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Abre o {@link ContextoLeitura} de cada requisição com o LSN do cabeçalho {@code X-Erp-Lsn} e devolve,
+ * no mesmo cabeçalho, o LSN das escritas feitas pela requisição. Um cliente que reenvia o último valor
+ * recebido lê as próprias escritas mesmo quando a leitura vai para a réplica.
+ */
+@Component
+@ConditionalOnProperty(name = {"erp.replica.enabled", "erp.replica.ler-proprias-escritas"}, havingValue = "true")
+public class ContextoLeituraFilter extends OncePerRequestFilter {
+
+    public static final String CABECALHO = "X-Erp-Lsn";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContextoLeitura.iniciar(lsnInformado(request), lsn -> {
+            if (!response.isCommitted()) {
+                response.setHeader(CABECALHO, Lsn.formatar(lsn));
+            }
+        });
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ContextoLeitura.encerrar();
+        }
+    }
+
+    // Um valor inválido é ignorado: a leitura só perde a garantia de ver a escrita anterior
+    private static long lsnInformado(HttpServletRequest request) {
+        String valor = request.getHeader(CABECALHO);
+        if (valor == null || valor.isBlank()) {
+            return 0;
+        }
+        try {
+            return Lsn.ler(valor.trim());
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+}
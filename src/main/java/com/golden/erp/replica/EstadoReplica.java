@@ -0,0 +1,90 @@
+package com.golden.erp.replica;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Atraso de replicação e último LSN aplicado na réplica, medidos no máximo uma vez a cada
+ * {@code erp.replica.verificacao-ms}.
+ * <p>
+ * A medição roda na thread da leitura que encontrou o valor vencido; as demais leituras usam o valor
+ * anterior enquanto isso, então nenhuma espera pela consulta. Uma réplica que não responde fica
+ * indisponível até a próxima medição com sucesso.
+ */
+public class EstadoReplica {
+
+    private static final Logger logger = LoggerFactory.getLogger(EstadoReplica.class);
+
+    // Sem WAL pendente de aplicar o atraso é zero, mesmo que a última transação aplicada seja antiga.
+    // Apontando para um servidor que não é réplica, vale a posição atual do WAL e atraso zero.
+    private static final String SQL_MEDICAO = "SELECT COALESCE(pg_last_wal_replay_lsn(), pg_current_wal_lsn())::text, "
+            + "CASE WHEN pg_last_wal_replay_lsn() IS NULL OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    /**
+     * Resultado de uma medição; {@code medidaEm} vem de {@link System#nanoTime()}.
+     */
+    public record Medicao(boolean disponivel, long lsnAplicado, long atrasoMs, long medidaEm) {
+    }
+
+    private final DataSource replica;
+    private final long intervaloNanos;
+    private final LongSupplier relogio;
+    private final AtomicBoolean medindo = new AtomicBoolean();
+    private volatile Medicao medicao;
+
+    public EstadoReplica(DataSource replica, long verificacaoMs) {
+        this(replica, verificacaoMs, System::nanoTime);
+    }
+
+    EstadoReplica(DataSource replica, long verificacaoMs, LongSupplier relogio) {
+        this.replica = replica;
+        this.intervaloNanos = verificacaoMs * 1_000_000;
+        this.relogio = relogio;
+    }
+
+    /**
+     * Última medição, refeita antes se estiver vencida e nenhuma outra thread estiver medindo.
+     */
+    public Medicao atual() {
+        Medicao anterior = medicao;
+        if (anterior != null && relogio.getAsLong() - anterior.medidaEm() < intervaloNanos) {
+            return anterior;
+        }
+        if (!medindo.compareAndSet(false, true)) {
+            return anterior != null ? anterior : new Medicao(false, 0, 0, relogio.getAsLong());
+        }
+        try {
+            Medicao nova = medir();
+            if (anterior != null && anterior.disponivel() && !nova.disponivel()) {
+                logger.warn("Réplica indisponível; leituras seguem na primária");
+            } else if ((anterior == null || !anterior.disponivel()) && nova.disponivel()) {
+                logger.info("Réplica disponível com atraso de {} ms", nova.atrasoMs());
+            }
+            medicao = nova;
+            return nova;
+        } finally {
+            medindo.set(false);
+        }
+    }
+
+    private Medicao medir() {
+        try (Connection conexao = replica.getConnection();
+             Statement statement = conexao.createStatement();
+             ResultSet rs = statement.executeQuery(SQL_MEDICAO)) {
+            rs.next();
+            return new Medicao(true, Lsn.ler(rs.getString(1)), rs.getLong(2), relogio.getAsLong());
+        } catch (SQLException | RuntimeException e) {
+            logger.debug("Falha ao medir o atraso da réplica", e);
+            return new Medicao(false, 0, 0, relogio.getAsLong());
+        }
+    }
+}
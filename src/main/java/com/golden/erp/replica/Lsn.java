@@ -0,0 +1,35 @@
+package com.golden.erp.replica;
+
+/**
+ * Conversão entre o texto de um {@code pg_lsn} ({@code 16/B374D848}) e o número de 64 bits que ele
+ * representa, para comparar posições do WAL.
+ */
+public final class Lsn {
+
+    private Lsn() {
+    }
+
+    /**
+     * @throws IllegalArgumentException se o texto não estiver no formato {@code XXXXXXXX/XXXXXXXX}
+     */
+    public static long ler(String texto) {
+        int barra = texto.indexOf('/');
+        if (barra <= 0 || barra == texto.length() - 1) {
+            throw new IllegalArgumentException("LSN inválido: " + texto);
+        }
+        try {
+            long alto = Long.parseLong(texto, 0, barra, 16);
+            long baixo = Long.parseLong(texto, barra + 1, texto.length(), 16);
+            if (alto > 0xFFFFFFFFL || baixo > 0xFFFFFFFFL || alto < 0 || baixo < 0) {
+                throw new IllegalArgumentException("LSN inválido: " + texto);
+            }
+            return (alto << 32) | baixo;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("LSN inválido: " + texto, e);
+        }
+    }
+
+    public static String formatar(long lsn) {
+        return Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+    }
+}
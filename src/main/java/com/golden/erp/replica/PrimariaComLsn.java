@@ -0,0 +1,79 @@
+package com.golden.erp.replica;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Conexões da primária que, depois de um {@code commit} dentro de uma requisição com
+ * {@link ContextoLeitura}, leem a posição do WAL e a registram como LSN mínimo da sessão.
+ * <p>
+ * A leitura do LSN é feita depois do {@code commit}, então uma falha nela só é registrada no log:
+ * a escrita já foi confirmada e a próxima leitura da sessão apenas pode ir para a réplica antes da hora.
+ */
+public class PrimariaComLsn extends DelegatingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrimariaComLsn.class);
+
+    public PrimariaComLsn(DataSource primaria) {
+        super(primaria);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return comLsn(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return comLsn(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection comLsn(Connection conexao) {
+        return (Connection) Proxy.newProxyInstance(PrimariaComLsn.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "commit":
+                            conexao.commit();
+                            if (ContextoLeitura.ativo() && !conexao.isReadOnly()) {
+                                registrarLsn(conexao);
+                            }
+                            return null;
+                        default:
+                            try {
+                                return method.invoke(conexao, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                });
+    }
+
+    private static void registrarLsn(Connection conexao) {
+        // pg_current_wal_insert_lsn já inclui o registro do commit mesmo com synchronous_commit=off
+        try (Statement statement = conexao.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_current_wal_insert_lsn()::text")) {
+            rs.next();
+            ContextoLeitura.registrarEscrita(Lsn.ler(rs.getString(1)));
+        } catch (SQLException | RuntimeException e) {
+            logger.warn("Falha ao ler o LSN depois da escrita: {}", e.getMessage());
+        }
+        try {
+            conexao.commit();
+        } catch (SQLException e) {
+            logger.warn("Falha ao encerrar a leitura do LSN: {}", e.getMessage());
+        }
+    }
+}
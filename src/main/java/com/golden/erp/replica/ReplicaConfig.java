@@ -0,0 +1,42 @@
+package com.golden.erp.replica;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Com {@code erp.replica.enabled=true}, envolve o {@link DataSource} configurado em {@code spring.datasource.*}
+ * (a primária) para que as transações {@code readOnly} leiam da réplica configurada em {@code erp.replica.*}.
+ * <p>
+ * A réplica não é registrada como {@link DataSource} no contexto, para não desligar a configuração
+ * automática da primária (pool, métricas e health check continuam os do Spring Boot).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "erp.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    ReplicaLeitura replicaLeitura(ReplicaProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ReplicaLeitura(properties, meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    static BeanPostProcessor replicaLeituraPostProcessor(ObjectProvider<ReplicaLeitura> replicaLeitura) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return replicaLeitura.getObject().rotear(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.golden.erp.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Pool de conexões da réplica e a montagem do {@link DataSource} roteado.
+ * <p>
+ * O roteamento usa o {@link LazyConnectionDataSourceProxy}: a conexão física só é obtida no primeiro
+ * comando, quando o gerenciador de transações já marcou a conexão como somente leitura. As conexões
+ * somente leitura vêm do {@link RoteadorLeitura}; as demais, da primária.
+ */
+public class ReplicaLeitura implements AutoCloseable {
+
+    private final HikariDataSource pool;
+    private final EstadoReplica estado;
+    private final ReplicaProperties properties;
+    private final ReplicaMetrics metrics;
+
+    public ReplicaLeitura(ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pool = new HikariDataSource();
+        pool.setPoolName("replica");
+        pool.setJdbcUrl(properties.getUrl());
+        pool.setUsername(properties.getUsername());
+        pool.setPassword(properties.getPassword());
+        pool.setMaximumPoolSize(properties.getMaximoConexoes());
+        pool.setConnectionTimeout(properties.getTempoMaximoConexaoMs());
+        pool.setReadOnly(true);
+        if (meterRegistry != null) {
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        this.estado = new EstadoReplica(pool, properties.getVerificacaoMs());
+        this.metrics = new ReplicaMetrics(meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
+    }
+
+    public DataSource rotear(DataSource primaria) {
+        LazyConnectionDataSourceProxy roteada = new LazyConnectionDataSourceProxy(
+                properties.isLerPropriasEscritas() ? new PrimariaComLsn(primaria) : primaria);
+        roteada.setReadOnlyDataSource(new RoteadorLeitura(primaria, pool, estado, properties, metrics));
+        metrics.monitorarAtraso(() -> estado.atual().atrasoMs());
+        return roteada;
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+}
@@ -0,0 +1,39 @@
+package com.golden.erp.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Destino das leituras somente leitura e atraso de replicação medido na réplica.
+ */
+public class ReplicaMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Conta as conexões somente leitura por destino; {@code motivo} diz por que a leitura ficou na primária.
+     */
+    public void registrarLeitura(String destino, String motivo) {
+        Counter.builder("erp.replica.leituras")
+                .description("Conexões somente leitura obtidas da réplica ou da primária")
+                .tag("destino", destino)
+                .tag("motivo", motivo)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void monitorarAtraso(LongSupplier atrasoMs) {
+        Gauge.builder("erp.replica.atraso", atrasoMs, LongSupplier::getAsLong)
+                .description("Atraso de replicação medido na réplica de leitura")
+                .baseUnit("milliseconds")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,109 @@
+package com.golden.erp.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Parâmetros da réplica de leitura ({@code erp.replica.*}).
+ */
+@ConfigurationProperties(prefix = "erp.replica")
+public class ReplicaProperties {
+
+    /** Envia as transações {@code readOnly} para a réplica. Desligado, tudo vai para a primária. */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /** Tamanho do pool de conexões da réplica. */
+    private int maximoConexoes = 10;
+
+    /** Espera máxima por uma conexão da réplica antes de a leitura ir para a primária. */
+    private long tempoMaximoConexaoMs = 1000;
+
+    /** Atraso de replicação acima do qual as leituras voltam para a primária. */
+    private long atrasoMaximoMs = 2000;
+
+    /** Intervalo mínimo entre duas medições do atraso e do LSN aplicado na réplica. */
+    private long verificacaoMs = 1000;
+
+    /**
+     * Garante que uma sessão leia as próprias escritas: a leitura só vai para a réplica depois que ela
+     * aplicou o LSN da última escrita informado no cabeçalho {@code X-Erp-Lsn}.
+     */
+    private boolean lerPropriasEscritas = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getMaximoConexoes() {
+        return maximoConexoes;
+    }
+
+    public void setMaximoConexoes(int maximoConexoes) {
+        this.maximoConexoes = maximoConexoes;
+    }
+
+    public long getTempoMaximoConexaoMs() {
+        return tempoMaximoConexaoMs;
+    }
+
+    public void setTempoMaximoConexaoMs(long tempoMaximoConexaoMs) {
+        this.tempoMaximoConexaoMs = tempoMaximoConexaoMs;
+    }
+
+    public long getAtrasoMaximoMs() {
+        return atrasoMaximoMs;
+    }
+
+    public void setAtrasoMaximoMs(long atrasoMaximoMs) {
+        this.atrasoMaximoMs = atrasoMaximoMs;
+    }
+
+    public long getVerificacaoMs() {
+        return verificacaoMs;
+    }
+
+    public void setVerificacaoMs(long verificacaoMs) {
+        this.verificacaoMs = verificacaoMs;
+    }
+
+    public boolean isLerPropriasEscritas() {
+        return lerPropriasEscritas;
+    }
+
+    public void setLerPropriasEscritas(boolean lerPropriasEscritas) {
+        this.lerPropriasEscritas = lerPropriasEscritas;
+    }
+}
@@ -0,0 +1,79 @@
+package com.golden.erp.replica;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Origem das conexões das transações {@code readOnly}: a réplica, ou a primária quando a réplica está
+ * indisponível, atrasada além de {@code erp.replica.atraso-maximo-ms} ou ainda não aplicou a última
+ * escrita da sessão ({@link ContextoLeitura}).
+ */
+public class RoteadorLeitura extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoteadorLeitura.class);
+
+    static final String REPLICA = "replica";
+    static final String PRIMARIA = "primaria";
+
+    private final DataSource primaria;
+    private final DataSource replica;
+    private final EstadoReplica estado;
+    private final long atrasoMaximoMs;
+    private final boolean lerPropriasEscritas;
+    private final ReplicaMetrics metrics;
+
+    public RoteadorLeitura(DataSource primaria, DataSource replica, EstadoReplica estado,
+                           ReplicaProperties properties, ReplicaMetrics metrics) {
+        this.primaria = primaria;
+        this.replica = replica;
+        this.estado = estado;
+        this.atrasoMaximoMs = properties.getAtrasoMaximoMs();
+        this.lerPropriasEscritas = properties.isLerPropriasEscritas();
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String motivo = motivoParaPrimaria();
+        if (motivo == null) {
+            try {
+                Connection conexao = replica.getConnection();
+                metrics.registrarLeitura(REPLICA, "");
+                return conexao;
+            } catch (SQLException e) {
+                logger.debug("Sem conexão da réplica; leitura na primária", e);
+                motivo = "conexao";
+            }
+        }
+        metrics.registrarLeitura(PRIMARIA, motivo);
+        return primaria.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("A réplica usa as credenciais de erp.replica.*");
+    }
+
+    /**
+     * Motivo para a leitura não ir para a réplica, ou {@code null} se ela pode atender.
+     */
+    String motivoParaPrimaria() {
+        EstadoReplica.Medicao medicao = estado.atual();
+        if (!medicao.disponivel()) {
+            return "indisponivel";
+        }
+        if (medicao.atrasoMs() > atrasoMaximoMs) {
+            return "atraso";
+        }
+        if (lerPropriasEscritas && medicao.lsnAplicado() < ContextoLeitura.lsnMinimo()) {
+            return "lsn";
+        }
+        return null;
+    }
+}
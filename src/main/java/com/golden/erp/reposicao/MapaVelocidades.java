@@ -0,0 +1,172 @@
+package com.golden.erp.reposicao;
+
+/**
+ * Velocidade de venda e estoque por produto em arrays primitivos com endereçamento aberto, sem
+ * objetos por entrada: 28 bytes por posição e, com a ocupação mantida em no máximo metade das posições,
+ * de 56 a 112 bytes por produto, contra algumas centenas num {@code HashMap<Long, ...>}.
+ * <p>
+ * A velocidade é uma média móvel exponencial em tempo contínuo: cada venda de {@code q} unidades no
+ * instante {@code t} contribui {@code q/τ · e^(-(agora - t)/τ)} unidades por dia. Só é preciso guardar a
+ * taxa e o instante em que ela foi calculada; o decaimento até "agora" é aplicado na leitura.
+ * <p>
+ * Não é thread-safe; o {@code ReposicaoServiceImpl} sincroniza o acesso.
+ */
+public class MapaVelocidades {
+
+    /** Valor de estoque para produtos que ainda não tiveram o saldo informado. */
+    public static final int ESTOQUE_DESCONHECIDO = Integer.MIN_VALUE;
+
+    private static final long VAZIO = 0L;
+    private static final double MS_POR_DIA = 86_400_000d;
+
+    private final double tauDias;
+
+    private long[] chaves;
+    private double[] taxas;
+    private long[] instantes;
+    private int[] estoques;
+    private int tamanho;
+
+    /**
+     * @param meiaVidaDias tempo para uma venda passar a valer metade na média
+     */
+    public MapaVelocidades(double meiaVidaDias, int capacidadeInicial) {
+        if (meiaVidaDias <= 0) {
+            throw new IllegalArgumentException("A meia-vida precisa ser positiva");
+        }
+        this.tauDias = meiaVidaDias / Math.log(2);
+        alocar(Integer.highestOneBit(Math.max(16, capacidadeInicial * 2 - 1)) << 1);
+    }
+
+    /**
+     * Soma {@code quantidade} unidades vendidas no instante informado (negativa para estornar uma venda).
+     * A taxa nunca fica negativa.
+     */
+    public void registrarVenda(long produtoId, double quantidade, long instanteMs) {
+        int i = indice(produtoId);
+        double contribuicao = quantidade / tauDias;
+        if (instanteMs >= instantes[i]) {
+            taxas[i] = taxas[i] * decaimento(instanteMs - instantes[i]) + contribuicao;
+            instantes[i] = instanteMs;
+        } else {
+            // Venda anterior ao último cálculo (estorno ou evento fora de ordem): já chega decaída
+            taxas[i] += contribuicao * decaimento(instantes[i] - instanteMs);
+        }
+        if (taxas[i] < 0) {
+            taxas[i] = 0;
+        }
+    }
+
+    public void definirEstoque(long produtoId, int estoque) {
+        int i = indice(produtoId);
+        estoques[i] = estoque;
+    }
+
+    /**
+     * Unidades vendidas por dia no instante informado; 0 para produtos sem vendas.
+     */
+    public double velocidade(long produtoId, long agoraMs) {
+        int i = localizar(produtoId);
+        return i < 0 ? 0 : velocidadeNoIndice(i, agoraMs);
+    }
+
+    public int estoque(long produtoId) {
+        int i = localizar(produtoId);
+        return i < 0 ? ESTOQUE_DESCONHECIDO : estoques[i];
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public void percorrer(long agoraMs, Visitante visitante) {
+        for (int i = 0; i < chaves.length; i++) {
+            if (chaves[i] != VAZIO) {
+                visitante.visitar(chaves[i], velocidadeNoIndice(i, agoraMs), estoques[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Visitante {
+
+        void visitar(long produtoId, double velocidadeDiaria, int estoque);
+    }
+
+    private double velocidadeNoIndice(int i, long agoraMs) {
+        return agoraMs <= instantes[i] ? taxas[i] : taxas[i] * decaimento(agoraMs - instantes[i]);
+    }
+
+    private double decaimento(long intervaloMs) {
+        return Math.exp(-(intervaloMs / MS_POR_DIA) / tauDias);
+    }
+
+    private int localizar(long chave) {
+        int mascara = chaves.length - 1;
+        for (int i = espalhar(chave) & mascara; ; i = (i + 1) & mascara) {
+            if (chaves[i] == chave) {
+                return i;
+            }
+            if (chaves[i] == VAZIO) {
+                return -1;
+            }
+        }
+    }
+
+    private int indice(long chave) {
+        if (chave == VAZIO) {
+            throw new IllegalArgumentException("Id de produto inválido: " + chave);
+        }
+        int i = localizar(chave);
+        if (i >= 0) {
+            return i;
+        }
+        if ((tamanho + 1) * 2 > chaves.length) {
+            redimensionar();
+        }
+        int mascara = chaves.length - 1;
+        i = espalhar(chave) & mascara;
+        while (chaves[i] != VAZIO) {
+            i = (i + 1) & mascara;
+        }
+        chaves[i] = chave;
+        estoques[i] = ESTOQUE_DESCONHECIDO;
+        tamanho++;
+        return i;
+    }
+
+    private void redimensionar() {
+        long[] chavesAntigas = chaves;
+        double[] taxasAntigas = taxas;
+        long[] instantesAntigos = instantes;
+        int[] estoquesAntigos = estoques;
+        alocar(chavesAntigas.length * 2);
+        int mascara = chaves.length - 1;
+        for (int j = 0; j < chavesAntigas.length; j++) {
+            if (chavesAntigas[j] == VAZIO) {
+                continue;
+            }
+            int i = espalhar(chavesAntigas[j]) & mascara;
+            while (chaves[i] != VAZIO) {
+                i = (i + 1) & mascara;
+            }
+            chaves[i] = chavesAntigas[j];
+            taxas[i] = taxasAntigas[j];
+            instantes[i] = instantesAntigos[j];
+            estoques[i] = estoquesAntigos[j];
+        }
+    }
+
+    private void alocar(int capacidade) {
+        chaves = new long[capacidade];
+        taxas = new double[capacidade];
+        instantes = new long[capacidade];
+        estoques = new int[capacidade];
+    }
+
+    // Ids sequenciais cairiam em posições vizinhas; o embaralhamento evita longas sequências de colisão
+    private static int espalhar(long chave) {
+        long h = chave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
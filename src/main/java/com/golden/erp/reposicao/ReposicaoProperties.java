@@ -0,0 +1,65 @@
+package com.golden.erp.reposicao;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Parâmetros das sugestões de reposição ({@code erp.reposicao.*}).
+ */
+@ConfigurationProperties(prefix = "erp.reposicao")
+public class ReposicaoProperties {
+
+    /** Tempo, em dias, para o peso de uma venda na velocidade cair pela metade. */
+    private double meiaVidaDias = 14;
+
+    /** Prazo de entrega do fornecedor usado quando a consulta não informa outro. */
+    private int prazoEntregaDias = 7;
+
+    /** Dias de venda, além do prazo de entrega, que a quantidade sugerida deve cobrir. */
+    private int diasCobertura = 30;
+
+    /** Carrega estoque e vendas recentes do banco ao subir a aplicação. */
+    private boolean aquecer = true;
+
+    /** Dias de histórico lidos no aquecimento. */
+    private int janelaAquecimentoDias = 90;
+
+    public double getMeiaVidaDias() {
+        return meiaVidaDias;
+    }
+
+    public void setMeiaVidaDias(double meiaVidaDias) {
+        this.meiaVidaDias = meiaVidaDias;
+    }
+
+    public int getPrazoEntregaDias() {
+        return prazoEntregaDias;
+    }
+
+    public void setPrazoEntregaDias(int prazoEntregaDias) {
+        this.prazoEntregaDias = prazoEntregaDias;
+    }
+
+    public int getDiasCobertura() {
+        return diasCobertura;
+    }
+
+    public void setDiasCobertura(int diasCobertura) {
+        this.diasCobertura = diasCobertura;
+    }
+
+    public boolean isAquecer() {
+        return aquecer;
+    }
+
+    public void setAquecer(boolean aquecer) {
+        this.aquecer = aquecer;
+    }
+
+    public int getJanelaAquecimentoDias() {
+        return janelaAquecimentoDias;
+    }
+
+    public void setJanelaAquecimentoDias(int janelaAquecimentoDias) {
+        this.janelaAquecimentoDias = janelaAquecimentoDias;
+    }
+}
@@ -0,0 +1,36 @@
+package com.golden.erp.repository;
+
+import com.golden.erp.domain.AlertaEstoque;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AlertaEstoqueRepository extends JpaRepository<AlertaEstoque, Long> {
+
+    @Query("SELECT a FROM AlertaEstoque a JOIN FETCH a.produto ORDER BY a.createdAt, a.produtoId")
+    List<AlertaEstoque> findAllComProduto();
+
+    /**
+     * Abre o alerta se ainda não existir. O {@code ON CONFLICT} faz a deduplicação no banco, inclusive
+     * entre transações concorrentes.
+     *
+     * @return 1 se o alerta foi aberto, 0 se já existia
+     */
+    @Modifying
+    @Query(value = "INSERT INTO alerta_estoque (produto_id, created_at) VALUES (:produtoId, :agora) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int abrir(@Param("produtoId") Long produtoId, @Param("agora") LocalDateTime agora);
+
+    /**
+     * @return 1 se havia alerta aberto para o produto
+     */
+    @Modifying
+    @Query("DELETE FROM AlertaEstoque a WHERE a.produtoId = :produtoId")
+    int resolver(@Param("produtoId") Long produtoId);
+}
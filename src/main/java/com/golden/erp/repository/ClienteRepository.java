@@ -4,8 +4,11 @@ import com.golden.erp.domain.Cliente;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -22,4 +25,7 @@ public interface ClienteRepository extends JpaRepository<Cliente, Long> {
     Page<Cliente> findByNomeContainingIgnoreCase(String nome, Pageable pageable);
     
     Page<Cliente> findByEmailContainingIgnoreCase(String email, Pageable pageable);
+    
+    @Query("SELECT c.updatedAt FROM Cliente c WHERE c.id = :id")
+    Optional<LocalDateTime> buscarVersao(@Param("id") Long id);
 }
@@ -0,0 +1,68 @@
+package com.golden.erp.repository;
+
+import com.golden.erp.domain.ClienteResumoPedidos;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Repository
+public interface ClienteResumoPedidosRepository extends JpaRepository<ClienteResumoPedidos, Long> {
+
+    @Modifying
+    @Query("UPDATE ClienteResumoPedidos r SET r.pedidos = r.pedidos + 1, r.totalGasto = r.totalGasto + :total, " +
+            "r.pedidosAbertos = r.pedidosAbertos + :abertos, " +
+            "r.ultimoPedidoEm = CASE WHEN r.ultimoPedidoEm IS NULL OR r.ultimoPedidoEm < :createdAt " +
+            "THEN :createdAt ELSE r.ultimoPedidoEm END " +
+            "WHERE r.clienteId = :clienteId")
+    int somarPedido(
+            @Param("clienteId") Long clienteId,
+            @Param("total") BigDecimal total,
+            @Param("abertos") long abertos,
+            @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Cria o resumo com o primeiro pedido do cliente; devolve 0 se outra transação acabou de criá-lo.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO cliente_resumo_pedidos (cliente_id, pedidos, total_gasto, pedidos_abertos, ultimo_pedido_em) " +
+            "VALUES (:clienteId, 1, :total, :abertos, :createdAt) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int inserir(
+            @Param("clienteId") Long clienteId,
+            @Param("total") BigDecimal total,
+            @Param("abertos") long abertos,
+            @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE ClienteResumoPedidos r SET r.totalGasto = r.totalGasto + :total, " +
+            "r.pedidosAbertos = r.pedidosAbertos + :abertos WHERE r.clienteId = :clienteId")
+    int ajustar(
+            @Param("clienteId") Long clienteId,
+            @Param("total") BigDecimal total,
+            @Param("abertos") long abertos);
+
+    /**
+     * Recalcula o resumo do cliente a partir de {@code pedido_resumo}, que mantém também os pedidos já
+     * arquivados. O pedido {@code pedidoId} entra com os valores informados, e não com os da tabela, porque
+     * a sua linha pode ainda não refletir a mudança de status em andamento.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO cliente_resumo_pedidos (cliente_id, pedidos, total_gasto, pedidos_abertos, ultimo_pedido_em) " +
+            "SELECT :clienteId, COUNT(*) + 1, " +
+            "COALESCE(SUM(CASE WHEN r.status <> 'CANCELLED' THEN r.total ELSE 0 END), 0) + :total, " +
+            "COUNT(CASE WHEN r.status = 'CREATED' THEN 1 END) + :abertos, " +
+            "GREATEST(COALESCE(MAX(r.created_at), :createdAt), :createdAt) " +
+            "FROM pedido_resumo r WHERE r.cliente_id = :clienteId AND r.pedido_id <> :pedidoId ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int recalcular(
+            @Param("clienteId") Long clienteId,
+            @Param("pedidoId") Long pedidoId,
+            @Param("total") BigDecimal total,
+            @Param("abertos") long abertos,
+            @Param("createdAt") LocalDateTime createdAt);
+}
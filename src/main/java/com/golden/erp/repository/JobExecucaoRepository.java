@@ -0,0 +1,13 @@
+package com.golden.erp.repository;
+
+import com.golden.erp.domain.JobExecucao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobExecucaoRepository extends JpaRepository<JobExecucao, JobExecucao.Chave> {
+
+    List<JobExecucao> findAllByOrderByJobAscParticaoAsc();
+}
@@ -0,0 +1,23 @@
+package com.golden.erp.repository;
+
+import com.golden.erp.domain.OutboxEvento;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventoRepository extends JpaRepository<OutboxEvento, Long> {
+
+    /**
+     * Bloqueia o próximo lote de eventos pendentes cuja próxima tentativa já venceu, ignorando os mortos.
+     * Linhas já bloqueadas por outro nó são puladas (SKIP LOCKED), então vários nós podem drenar a
+     * tabela ao mesmo tempo.
+     */
+    @Query(value = "SELECT * FROM outbox_evento WHERE morto_em IS NULL AND proxima_tentativa <= :agora "
+            + "ORDER BY proxima_tentativa, id LIMIT :lote FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvento> bloquearPendentes(@Param("agora") LocalDateTime agora, @Param("lote") int lote);
+}
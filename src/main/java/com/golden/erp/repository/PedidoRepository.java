@@ -5,18 +5,23 @@ import com.golden.erp.domain.enums.StatusPedido;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PedidoRepository extends JpaRepository<Pedido, Long> {
     
+    // Ordenado por createdAt, lê idx_pedido_status_created sem ordenação em memória (PedidoRepositoryPlanoTest)
     Page<Pedido> findByStatus(StatusPedido status, Pageable pageable);
     
+    // Ordenado por createdAt, lê idx_pedido_cliente_created sem ordenação em memória (PedidoRepositoryPlanoTest)
     Page<Pedido> findByClienteId(Long clienteId, Pageable pageable);
     
     Page<Pedido> findByClienteIdAndStatus(Long clienteId, StatusPedido status, Pageable pageable);
@@ -25,4 +30,69 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long> {
     List<Pedido> findByStatusAndCreatedAtBefore(
             @Param("status") StatusPedido status, 
             @Param("limitDate") LocalDateTime limitDate);
+    
+    /**
+     * Mesma consulta de {@link #findByStatusAndCreatedAtBefore}, restrita aos pedidos cujo
+     * {@code id % totalParticoes == particao}. Permite dividir o processamento entre nós.
+     */
+    @Query("SELECT p FROM Pedido p WHERE p.status = :status AND p.createdAt <= :limitDate " +
+            "AND MOD(p.id, :totalParticoes) = :particao")
+    List<Pedido> findByStatusAndCreatedAtBeforeNaParticao(
+            @Param("status") StatusPedido status,
+            @Param("limitDate") LocalDateTime limitDate,
+            @Param("particao") int particao,
+            @Param("totalParticoes") int totalParticoes);
+    
+    /**
+     * Unidades vendidas por produto e dia desde {@code desde}, sem contar pedidos cancelados.
+     * Usada no aquecimento das sugestões de reposição. O filtro repetido em {@code i.pedidoCreatedAt}
+     * limita também as partições lidas de {@code pedido_item}.
+     */
+    @Query("SELECT i.produto.id AS produtoId, CAST(p.createdAt AS LocalDate) AS dia, SUM(i.quantidade) AS quantidade " +
+            "FROM PedidoItem i JOIN i.pedido p " +
+            "WHERE p.status <> com.golden.erp.domain.enums.StatusPedido.CANCELLED AND p.createdAt >= :desde " +
+            "AND i.pedidoCreatedAt >= :desde " +
+            "GROUP BY i.produto.id, CAST(p.createdAt AS LocalDate)")
+    List<VendaDiariaProduto> somarVendasDiariasDesde(@Param("desde") LocalDateTime desde);
+    
+    /**
+     * Status atual dos pedidos informados que existem. Usada no aquecimento da reposição para saber quais
+     * eventos recebidos durante a leitura já entraram na soma de {@link #somarVendasDiariasDesde}.
+     */
+    @Query("SELECT p.id AS id, p.status AS status FROM Pedido p WHERE p.id IN :ids")
+    List<StatusPorId> buscarStatus(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Ids dos pedidos com um dos status informados criados antes de {@code limite}, em ordem crescente.
+     * Usada pelo arquivamento.
+     */
+    @Query("SELECT p.id FROM Pedido p WHERE p.status IN :status AND p.createdAt < :limite ORDER BY p.id")
+    List<Long> findIdsByStatusInAndCreatedAtBefore(
+            @Param("status") Collection<StatusPedido> status,
+            @Param("limite") LocalDateTime limite,
+            Pageable pageable);
+    
+    @Modifying
+    @Query("DELETE FROM PedidoItem i WHERE i.pedido.id IN :ids")
+    int excluirItensDosPedidos(@Param("ids") Collection<Long> ids);
+    
+    @Modifying
+    @Query("DELETE FROM Pedido p WHERE p.id IN :ids")
+    int excluirPorIds(@Param("ids") Collection<Long> ids);
+    
+    interface VendaDiariaProduto {
+        
+        Long getProdutoId();
+        
+        LocalDate getDia();
+        
+        Long getQuantidade();
+    }
+    
+    interface StatusPorId {
+        
+        Long getId();
+        
+        StatusPedido getStatus();
+    }
 }
@@ -0,0 +1,55 @@
+package com.golden.erp.repository;
+
+import com.golden.erp.domain.PedidoResumo;
+import com.golden.erp.domain.enums.StatusPedido;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PedidoResumoRepository extends JpaRepository<PedidoResumo, Long>, JpaSpecificationExecutor<PedidoResumo> {
+
+    @Modifying
+    @Query("UPDATE PedidoResumo r SET r.status = :status, r.updatedAt = :updatedAt WHERE r.pedidoId = :pedidoId")
+    int atualizarStatus(
+            @Param("pedidoId") Long pedidoId,
+            @Param("status") StatusPedido status,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE PedidoResumo r SET r.clienteNome = :clienteNome WHERE r.clienteId = :clienteId")
+    int atualizarNomeCliente(@Param("clienteId") Long clienteId, @Param("clienteNome") String clienteNome);
+
+    /**
+     * Pedidos criados desde {@code desde}, só com o necessário para reconstruir o painel de vendas.
+     */
+    @Query("SELECT r.pedidoId AS pedidoId, r.createdAt AS createdAt, r.total AS total, r.status AS status " +
+            "FROM PedidoResumo r " +
+            "WHERE r.createdAt >= :desde")
+    List<VendaRecente> listarVendasDesde(@Param("desde") LocalDateTime desde);
+
+    /**
+     * Pedidos criados em {@code [de, ateExclusivo)} que já saíram de {@code pedido} para o arquivo.
+     */
+    @Query("SELECT COUNT(r) FROM PedidoResumo r WHERE r.createdAt >= :de AND r.createdAt < :ateExclusivo " +
+            "AND NOT EXISTS (SELECT 1 FROM Pedido p WHERE p.id = r.pedidoId AND p.createdAt = r.createdAt)")
+    long contarArquivados(@Param("de") LocalDateTime de, @Param("ateExclusivo") LocalDateTime ateExclusivo);
+
+    interface VendaRecente {
+
+        Long getPedidoId();
+
+        LocalDateTime getCreatedAt();
+
+        BigDecimal getTotal();
+
+        StatusPedido getStatus();
+    }
+}
@@ -0,0 +1,39 @@
+package com.golden.erp.repository;
+
+import com.golden.erp.domain.PedidoResumo;
+import com.golden.erp.domain.enums.StatusPedido;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filtros das listagens de pedidos. Só entram na consulta os filtros informados, para que o
+ * banco use o índice de {@code pedido_resumo} correspondente à combinação pedida.
+ */
+public final class PedidoResumoSpecifications {
+
+    private PedidoResumoSpecifications() {
+    }
+
+    public static Specification<PedidoResumo> filtrar(StatusPedido status, Long clienteId, LocalDate de, LocalDate ate) {
+        return (root, query, cb) -> {
+            List<Predicate> predicados = new ArrayList<>();
+            if (status != null) {
+                predicados.add(cb.equal(root.get("status"), status));
+            }
+            if (clienteId != null) {
+                predicados.add(cb.equal(root.get("clienteId"), clienteId));
+            }
+            if (de != null) {
+                predicados.add(cb.greaterThanOrEqualTo(root.get("createdAt"), de.atStartOfDay()));
+            }
+            if (ate != null) {
+                predicados.add(cb.lessThan(root.get("createdAt"), ate.plusDays(1).atStartOfDay()));
+            }
+            return cb.and(predicados.toArray(new Predicate[0]));
+        };
+    }
+}
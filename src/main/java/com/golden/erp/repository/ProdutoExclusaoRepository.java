@@ -0,0 +1,26 @@
+package com.golden.erp.repository;
+
+import com.golden.erp.domain.ProdutoExclusao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProdutoExclusaoRepository extends JpaRepository<ProdutoExclusao, Long> {
+
+    /**
+     * Exclusões depois da posição ({@code desde}, {@code produtoId}) e até {@code ate}, na ordem do feed de mudanças.
+     */
+    @Query("SELECT e FROM ProdutoExclusao e WHERE e.excluidoEm >= :desde AND e.excluidoEm <= :ate "
+            + "AND (e.excluidoEm > :desde OR e.produtoId > :produtoId) ORDER BY e.excluidoEm, e.produtoId")
+    List<ProdutoExclusao> buscarDesde(
+            @Param("desde") LocalDateTime desde,
+            @Param("produtoId") long produtoId,
+            @Param("ate") LocalDateTime ate,
+            Pageable pageable);
+}
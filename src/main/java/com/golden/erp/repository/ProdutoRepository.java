@@ -5,8 +5,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +21,39 @@ public interface ProdutoRepository extends JpaRepository<Produto, Long> {
     
     Page<Produto> findByAtivoTrue(Pageable pageable);
     
+    // Página sem a consulta de contagem; o total vem de buscarVersaoAtivos
+    List<Produto> findAllByAtivoTrue(Pageable pageable);
+    
     Page<Produto> findByNomeContainingIgnoreCase(String nome, Pageable pageable);
     
     Page<Produto> findByAtivoTrueAndNomeContainingIgnoreCase(String nome, Pageable pageable);
     
-    @Query("SELECT p FROM Produto p WHERE p.estoque <= p.estoqueMinimo")
-    List<Produto> findAllWithLowStock();
+    @Query("SELECT p.updatedAt FROM Produto p WHERE p.id = :id")
+    Optional<LocalDateTime> buscarVersao(@Param("id") Long id);
+    
+    @Query("SELECT new com.golden.erp.repository.VersaoListagem(COUNT(p), MAX(p.updatedAt)) "
+            + "FROM Produto p WHERE p.ativo = true")
+    VersaoListagem buscarVersaoAtivos();
+    
+    /**
+     * Produtos alterados depois da posição ({@code desde}, {@code id}) e até {@code ate}, em ordem de
+     * (updated_at, id). A primeira condição deixa o banco percorrer só a faixa do índice idx_produto_updated_at.
+     */
+    @Query("SELECT p FROM Produto p WHERE p.updatedAt >= :desde AND p.updatedAt <= :ate "
+            + "AND (p.updatedAt > :desde OR p.id > :id) ORDER BY p.updatedAt, p.id")
+    List<Produto> buscarAlteradosDesde(
+            @Param("desde") LocalDateTime desde,
+            @Param("id") long id,
+            @Param("ate") LocalDateTime ate,
+            Pageable pageable);
+    
+    @Query("SELECT p.id AS id, p.estoque AS estoque FROM Produto p")
+    List<EstoqueProduto> listarEstoques();
+    
+    interface EstoqueProduto {
+        
+        Long getId();
+        
+        Integer getEstoque();
+    }
 }
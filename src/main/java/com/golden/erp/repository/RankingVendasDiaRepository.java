@@ -0,0 +1,33 @@
+package com.golden.erp.repository;
+
+import com.golden.erp.domain.RankingVendasDia;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RankingVendasDiaRepository extends JpaRepository<RankingVendasDia, LocalDate> {
+
+    List<RankingVendasDia> findByDiaGreaterThanEqualAndAtualizadoEmGreaterThanEqual(LocalDate dia, LocalDateTime atualizadoEm);
+
+    /**
+     * Trava as linhas dos dias informados até o fim da transação, para que o checkpoint de uma
+     * instância não sobrescreva a parcela que outra acabou de somar.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RankingVendasDia r WHERE r.dia IN :dias")
+    List<RankingVendasDia> travarDias(@Param("dias") Collection<LocalDate> dias);
+
+    @Modifying
+    @Query("DELETE FROM RankingVendasDia r WHERE r.dia < :dia")
+    int excluirAntesDe(@Param("dia") LocalDate dia);
+}
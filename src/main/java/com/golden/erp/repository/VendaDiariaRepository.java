@@ -0,0 +1,87 @@
+package com.golden.erp.repository;
+
+import com.golden.erp.domain.VendaDiaria;
+import com.golden.erp.domain.enums.StatusPedido;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface VendaDiariaRepository extends JpaRepository<VendaDiaria, VendaDiaria.Chave> {
+
+    @Modifying
+    @Query("UPDATE VendaDiaria v SET v.pedidos = v.pedidos + :pedidos, v.subtotal = v.subtotal + :subtotal, " +
+            "v.desconto = v.desconto + :desconto, v.total = v.total + :total " +
+            "WHERE v.dia = :dia AND v.status = :status AND v.faixa = :faixa")
+    int somar(
+            @Param("dia") LocalDate dia,
+            @Param("status") StatusPedido status,
+            @Param("faixa") int faixa,
+            @Param("pedidos") long pedidos,
+            @Param("subtotal") BigDecimal subtotal,
+            @Param("desconto") BigDecimal desconto,
+            @Param("total") BigDecimal total);
+
+    /**
+     * Cria a linha com os valores informados; devolve 0 se outra transação acabou de criá-la.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO venda_diaria (dia, status, faixa, pedidos, subtotal, desconto, total) " +
+            "VALUES (:dia, :status, :faixa, :pedidos, :subtotal, :desconto, :total) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int inserir(
+            @Param("dia") LocalDate dia,
+            @Param("status") String status,
+            @Param("faixa") int faixa,
+            @Param("pedidos") long pedidos,
+            @Param("subtotal") BigDecimal subtotal,
+            @Param("desconto") BigDecimal desconto,
+            @Param("total") BigDecimal total);
+
+    @Modifying
+    @Query("DELETE FROM VendaDiaria v WHERE v.dia >= :de AND v.dia <= :ate")
+    int excluirPeriodo(@Param("de") LocalDate de, @Param("ate") LocalDate ate);
+
+    /**
+     * Recalcula a partir de {@code pedido} os dias com pedidos criados em {@code [de, ateExclusivo)}.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO venda_diaria (dia, status, faixa, pedidos, subtotal, desconto, total) " +
+            "SELECT CAST(p.created_at AS DATE), p.status, MOD(p.id, :faixas), COUNT(*), " +
+            "SUM(p.subtotal), SUM(p.desconto_total), SUM(p.total) " +
+            "FROM pedido p WHERE p.created_at >= :de AND p.created_at < :ateExclusivo " +
+            "GROUP BY 1, 2, 3",
+            nativeQuery = true)
+    int reconstruirPeriodo(
+            @Param("de") LocalDateTime de,
+            @Param("ateExclusivo") LocalDateTime ateExclusivo,
+            @Param("faixas") int faixas);
+
+    @Query("SELECT v.dia AS dia, v.status AS status, SUM(v.pedidos) AS pedidos, SUM(v.subtotal) AS subtotal, " +
+            "SUM(v.desconto) AS desconto, SUM(v.total) AS total " +
+            "FROM VendaDiaria v WHERE v.dia >= :de AND v.dia <= :ate " +
+            "GROUP BY v.dia, v.status HAVING SUM(v.pedidos) <> 0 ORDER BY v.dia, v.status")
+    List<TotalDiario> somarPorDiaEStatus(@Param("de") LocalDate de, @Param("ate") LocalDate ate);
+
+    interface TotalDiario {
+
+        LocalDate getDia();
+
+        StatusPedido getStatus();
+
+        Long getPedidos();
+
+        BigDecimal getSubtotal();
+
+        BigDecimal getDesconto();
+
+        BigDecimal getTotal();
+    }
+}
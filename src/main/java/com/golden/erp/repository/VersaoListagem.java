@@ -0,0 +1,11 @@
+package com.golden.erp.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Quantidade de registros de uma listagem e a última alteração entre eles, lidas sem carregar as entidades.
+ *
+ * @param maisRecente nula com a listagem vazia
+ */
+public record VersaoListagem(Long quantidade, LocalDateTime maisRecente) {
+}
@@ -0,0 +1,61 @@
+package com.golden.erp.scheduler;
+
+import com.golden.erp.arquivo.ArquivoPedidosProperties;
+import com.golden.erp.job.CoordenadorJobs;
+import com.golden.erp.pool.ClassePool;
+import com.golden.erp.pool.UsaPool;
+import com.golden.erp.service.ArquivamentoService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Component
+@ConditionalOnProperty(name = "erp.arquivo.enabled", havingValue = "true", matchIfMissing = true)
+@UsaPool(ClassePool.JOBS)
+public class ArquivamentoScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArquivamentoScheduler.class);
+
+    static final String JOB_ARQUIVAMENTO = "arquivamento-pedidos";
+    private static final Duration INTERVALO_MINIMO = Duration.ofHours(12);
+    
+    private final ArquivamentoService arquivamentoService;
+    private final CoordenadorJobs coordenadorJobs;
+    private final ArquivoPedidosProperties properties;
+
+    public ArquivamentoScheduler(ArquivamentoService arquivamentoService, CoordenadorJobs coordenadorJobs,
+                                 ArquivoPedidosProperties properties) {
+        this.arquivamentoService = arquivamentoService;
+        this.coordenadorJobs = coordenadorJobs;
+        this.properties = properties;
+    }
+
+    @Scheduled(cron = "0 0 4 * * ?")
+    @Timed("erp.scheduler")
+    public void arquivarPedidos() {
+        if (!coordenadorJobs.executar(JOB_ARQUIVAMENTO, INTERVALO_MINIMO, this::arquivar)) {
+            logger.info("Arquivamento de pedidos já executado ou em execução em outra instância");
+        }
+    }
+
+    // Um segmento por transação; continua enquanto os segmentos vierem cheios
+    private void arquivar() {
+        LocalDateTime limite = LocalDate.now().minusDays(properties.getIdadeMinimaDias()).atStartOfDay();
+        int total = 0;
+        int segmentos = 0;
+        int arquivados;
+        do {
+            arquivados = arquivamentoService.arquivarSegmento(limite);
+            total += arquivados;
+            segmentos++;
+        } while (arquivados == properties.getPedidosPorSegmento() && segmentos < properties.getSegmentosPorExecucao());
+        logger.info("Arquivamento concluído: {} pedidos criados antes de {} arquivados", total, limite);
+    }
+}
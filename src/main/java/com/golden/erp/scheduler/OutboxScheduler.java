@@ -0,0 +1,32 @@
+package com.golden.erp.scheduler;
+
+import com.golden.erp.outbox.OutboxDispatcher;
+import com.golden.erp.pool.ClassePool;
+import com.golden.erp.pool.UsaPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "erp.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@UsaPool(ClassePool.JOBS)
+public class OutboxScheduler {
+
+    private final OutboxDispatcher outboxDispatcher;
+    private final int lote;
+
+    public OutboxScheduler(OutboxDispatcher outboxDispatcher, @Value("${erp.outbox.lote:500}") int lote) {
+        this.outboxDispatcher = outboxDispatcher;
+        this.lote = lote;
+    }
+
+    // Um lote por transação; continua enquanto os lotes vierem cheios
+    @Scheduled(fixedDelayString = "${erp.outbox.intervalo-ms:1000}")
+    public void despacharPendentes() {
+        int publicados;
+        do {
+            publicados = outboxDispatcher.despachar(lote);
+        } while (publicados == lote);
+    }
+}
@@ -0,0 +1,42 @@
+package com.golden.erp.scheduler;
+
+import com.golden.erp.job.CoordenadorJobs;
+import com.golden.erp.particao.GerenciadorParticoesPedido;
+import com.golden.erp.pool.ClassePool;
+import com.golden.erp.pool.UsaPool;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+@Component
+@UsaPool(ClassePool.JOBS)
+public class ParticaoPedidoScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticaoPedidoScheduler.class);
+
+    static final String JOB_PARTICOES_PEDIDO = "particoes-pedido";
+    private static final Duration INTERVALO_MINIMO = Duration.ofHours(12);
+    
+    private final GerenciadorParticoesPedido gerenciadorParticoesPedido;
+    private final CoordenadorJobs coordenadorJobs;
+
+    public ParticaoPedidoScheduler(GerenciadorParticoesPedido gerenciadorParticoesPedido, CoordenadorJobs coordenadorJobs) {
+        this.gerenciadorParticoesPedido = gerenciadorParticoesPedido;
+        this.coordenadorJobs = coordenadorJobs;
+    }
+
+    // Diário: as partições são criadas com meses de antecedência, então a execução só precisa acontecer uma vez por mês
+    @Scheduled(cron = "0 30 2 * * ?")
+    @Timed("erp.scheduler")
+    public void manterParticoes() {
+        if (!coordenadorJobs.executar(JOB_PARTICOES_PEDIDO, INTERVALO_MINIMO,
+                () -> gerenciadorParticoesPedido.manter(LocalDate.now()))) {
+            logger.info("Manutenção das partições de pedido já executada ou em execução em outra instância");
+        }
+    }
+}
@@ -1,27 +1,46 @@
 package com.golden.erp.scheduler;
 
+import com.golden.erp.job.CoordenadorJobs;
+import com.golden.erp.pool.ClassePool;
+import com.golden.erp.pool.UsaPool;
 import com.golden.erp.service.PedidoService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
+@UsaPool(ClassePool.JOBS)
 public class PedidoScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(PedidoScheduler.class);
+
+    static final String JOB_PEDIDOS_ATRASADOS = "pedidos-atrasados";
+    // Metade do intervalo do agendamento: evita repetir a rodada sem atrasar a seguinte
+    private static final Duration INTERVALO_MINIMO = Duration.ofMinutes(30);
     
     private final PedidoService pedidoService;
+    private final CoordenadorJobs coordenadorJobs;
+    private final int particoes;
 
-    public PedidoScheduler(PedidoService pedidoService) {
+    public PedidoScheduler(PedidoService pedidoService, CoordenadorJobs coordenadorJobs,
+                           @Value("${erp.jobs.pedidos-atrasados.particoes:4}") int particoes) {
         this.pedidoService = pedidoService;
+        this.coordenadorJobs = coordenadorJobs;
+        this.particoes = particoes;
     }
 
     
     @Scheduled(fixedRate = 3600000) 
+    @Timed("erp.scheduler")
     public void verificarPedidosAtrasados() {
         logger.info("Iniciando verificação de pedidos atrasados");
-        pedidoService.processarPedidosAtrasados();
-        logger.info("Verificação de pedidos atrasados concluída");
+        int executadas = coordenadorJobs.executarParticionado(JOB_PEDIDOS_ATRASADOS, particoes, INTERVALO_MINIMO,
+                particao -> pedidoService.processarPedidosAtrasados(particao, particoes));
+        logger.info("Verificação de pedidos atrasados concluída ({} de {} partições nesta instância)", executadas, particoes);
     }
 }
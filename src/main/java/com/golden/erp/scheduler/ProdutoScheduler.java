@@ -1,30 +1,49 @@
 package com.golden.erp.scheduler;
 
 import com.golden.erp.dto.response.ProdutoResponse;
-import com.golden.erp.service.ProdutoService;
+import com.golden.erp.job.CoordenadorJobs;
+import com.golden.erp.pool.ClassePool;
+import com.golden.erp.pool.UsaPool;
+import com.golden.erp.service.AlertaEstoqueService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
 
 @Component
+@UsaPool(ClassePool.JOBS)
 public class ProdutoScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(ProdutoScheduler.class);
+
+    static final String JOB_ESTOQUE_BAIXO = "produtos-estoque-baixo";
+    private static final Duration INTERVALO_MINIMO = Duration.ofHours(12);
     
-    private final ProdutoService produtoService;
+    private final AlertaEstoqueService alertaEstoqueService;
+    private final CoordenadorJobs coordenadorJobs;
 
-    public ProdutoScheduler(ProdutoService produtoService) {
-        this.produtoService = produtoService;
+    public ProdutoScheduler(AlertaEstoqueService alertaEstoqueService, CoordenadorJobs coordenadorJobs) {
+        this.alertaEstoqueService = alertaEstoqueService;
+        this.coordenadorJobs = coordenadorJobs;
     }
 
+    // Resumo diário dos alertas abertos; os alertas em si são abertos no momento da alteração de estoque
     @Scheduled(cron = "0 0 3 * * ?") 
+    @Timed("erp.scheduler")
     public void verificarProdutosComEstoqueBaixo() {
+        if (!coordenadorJobs.executar(JOB_ESTOQUE_BAIXO, INTERVALO_MINIMO, this::listarProdutosComEstoqueBaixo)) {
+            logger.info("Verificação de produtos com estoque baixo já executada ou em execução em outra instância");
+        }
+    }
+
+    private void listarProdutosComEstoqueBaixo() {
         logger.info("Iniciando verificação de produtos com estoque abaixo do mínimo");
         
-        List<ProdutoResponse> produtosEstoqueBaixo = produtoService.listarProdutosComEstoqueBaixo();
+        List<ProdutoResponse> produtosEstoqueBaixo = alertaEstoqueService.listarProdutosComEstoqueBaixo();
         
         if (produtosEstoqueBaixo.isEmpty()) {
             logger.info("Nenhum produto com estoque abaixo do mínimo encontrado");
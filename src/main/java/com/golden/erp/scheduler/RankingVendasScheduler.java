@@ -0,0 +1,33 @@
+package com.golden.erp.scheduler;
+
+import com.golden.erp.pool.ClassePool;
+import com.golden.erp.pool.UsaPool;
+import com.golden.erp.service.RankingVendasService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@UsaPool(ClassePool.JOBS)
+public class RankingVendasScheduler {
+
+    private final RankingVendasService rankingVendasService;
+
+    public RankingVendasScheduler(RankingVendasService rankingVendasService) {
+        this.rankingVendasService = rankingVendasService;
+    }
+
+    // Roda em todas as instâncias: cada uma grava as vendas que ela mesma processou
+    @Scheduled(fixedDelayString = "${erp.ranking.checkpoint-ms:60000}", initialDelayString = "${erp.ranking.checkpoint-ms:60000}")
+    @Timed("erp.scheduler")
+    public void salvarCheckpoint() {
+        rankingVendasService.salvarCheckpoint();
+    }
+
+    // Grava as vendas acumuladas desde o último checkpoint antes de a instância sair
+    @PreDestroy
+    public void salvarAoEncerrar() {
+        rankingVendasService.salvarCheckpoint();
+    }
+}
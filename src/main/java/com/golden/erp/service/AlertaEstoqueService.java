@@ -0,0 +1,13 @@
+package com.golden.erp.service;
+
+import com.golden.erp.dto.response.ProdutoResponse;
+import com.golden.erp.event.EstoqueAlteradoEvent;
+
+import java.util.List;
+
+public interface AlertaEstoqueService {
+    
+    List<ProdutoResponse> listarProdutosComEstoqueBaixo();
+    
+    void aoAlterarEstoque(EstoqueAlteradoEvent event);
+}
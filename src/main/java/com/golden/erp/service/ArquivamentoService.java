@@ -0,0 +1,8 @@
+package com.golden.erp.service;
+
+import java.time.LocalDateTime;
+
+public interface ArquivamentoService {
+    
+    int arquivarSegmento(LocalDateTime limite);
+}
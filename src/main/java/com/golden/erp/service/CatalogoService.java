@@ -0,0 +1,12 @@
+package com.golden.erp.service;
+
+import com.golden.erp.dto.response.MudancasProdutosResponse;
+
+public interface CatalogoService {
+    
+    /**
+     * Produtos criados, alterados (inclusive desativados) e excluídos depois do token, até {@code limite}
+     * mudanças. Sem token, começa do início do catálogo.
+     */
+    MudancasProdutosResponse listarMudancas(String desde, int limite);
+}
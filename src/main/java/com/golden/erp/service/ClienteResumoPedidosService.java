@@ -0,0 +1,11 @@
+package com.golden.erp.service;
+
+import com.golden.erp.dto.response.ClienteResumoPedidosResponse;
+import com.golden.erp.event.PedidoEvent;
+
+public interface ClienteResumoPedidosService {
+    
+    ClienteResumoPedidosResponse buscar(Long clienteId);
+    
+    void aoAlterarPedido(PedidoEvent event);
+}
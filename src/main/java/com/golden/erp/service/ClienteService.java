@@ -5,12 +5,19 @@ import com.golden.erp.dto.response.ClienteResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+
 public interface ClienteService {
     
     ClienteResponse criar(ClienteRequest request);
     
     ClienteResponse buscarPorId(Long id);
     
+    /**
+     * Data da última alteração do cliente, sem carregar a entidade.
+     */
+    LocalDateTime buscarVersao(Long id);
+    
     ClienteResponse atualizar(Long id, ClienteRequest request);
     
     void excluir(Long id);
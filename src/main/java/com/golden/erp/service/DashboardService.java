@@ -0,0 +1,13 @@
+package com.golden.erp.service;
+
+import com.golden.erp.dto.response.DashboardVendasResponse;
+import com.golden.erp.event.PedidoEvent;
+
+public interface DashboardService {
+    
+    DashboardVendasResponse resumirVendas();
+    
+    void reconstruir();
+    
+    void aoAlterarPedido(PedidoEvent event);
+}
@@ -0,0 +1,19 @@
+package com.golden.erp.service;
+
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.PedidoResumoResponse;
+import com.golden.erp.event.ClienteAtualizadoEvent;
+import com.golden.erp.event.PedidoEvent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+
+public interface PedidoResumoService {
+
+    Page<PedidoResumoResponse> listar(StatusPedido status, Long clienteId, LocalDate de, LocalDate ate, Pageable pageable);
+
+    void aoAlterarPedido(PedidoEvent event);
+
+    void aoAtualizarCliente(ClienteAtualizadoEvent event);
+}
@@ -12,15 +12,16 @@ public interface PedidoService {
     
     PedidoResponse buscarPorId(Long id);
     
-    Page<PedidoResponse> listar(Pageable pageable);
-    
     Page<PedidoResponse> listarPorStatus(StatusPedido status, Pageable pageable);
     
-    Page<PedidoResponse> listarPorCliente(Long clienteId, Pageable pageable);
-    
     PedidoResponse pagar(Long id);
     
     PedidoResponse cancelar(Long id);
     
     void processarPedidosAtrasados();
+    
+    /**
+     * Processa apenas os pedidos atrasados da partição informada ({@code id % totalParticoes == particao}).
+     */
+    void processarPedidosAtrasados(int particao, int totalParticoes);
 }
@@ -2,10 +2,12 @@ package com.golden.erp.service;
 
 import com.golden.erp.dto.request.ProdutoRequest;
 import com.golden.erp.dto.response.ProdutoResponse;
+import com.golden.erp.repository.VersaoListagem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Map;
 
 public interface ProdutoService {
     
@@ -13,6 +15,11 @@ public interface ProdutoService {
     
     ProdutoResponse buscarPorId(Long id);
     
+    /**
+     * Data da última alteração do produto, sem carregar a entidade.
+     */
+    LocalDateTime buscarVersao(Long id);
+    
     ProdutoResponse atualizar(Long id, ProdutoRequest request);
     
     void excluir(Long id);
@@ -21,11 +28,21 @@ public interface ProdutoService {
     
     Page<ProdutoResponse> listarAtivos(Pageable pageable);
     
+    /**
+     * Versão da listagem de produtos ativos: muda quando um produto ativo é criado, alterado, desativado ou excluído.
+     */
+    VersaoListagem buscarVersaoAtivos();
+    
+    /**
+     * Página de produtos ativos com o total já lido em {@link #buscarVersaoAtivos()}, sem nova contagem.
+     */
+    Page<ProdutoResponse> listarAtivos(Pageable pageable, VersaoListagem versao);
+    
     Page<ProdutoResponse> buscarPorNome(String nome, Pageable pageable);
     
     Page<ProdutoResponse> buscarAtivosPorNome(String nome, Pageable pageable);
     
     void atualizarEstoque(Long id, Integer quantidade);
     
-    List<ProdutoResponse> listarProdutosComEstoqueBaixo();
+    void devolverEstoque(Map<Long, Integer> quantidadesPorProduto);
 }
@@ -0,0 +1,17 @@
+package com.golden.erp.service;
+
+import com.golden.erp.dto.response.MaisVendidoResponse;
+import com.golden.erp.event.PedidoEvent;
+
+import java.util.List;
+
+public interface RankingVendasService {
+    
+    List<MaisVendidoResponse> listarMaisVendidos(int dias, int limite);
+    
+    void salvarCheckpoint();
+    
+    void inicializar();
+    
+    void aoAlterarPedido(PedidoEvent event);
+}
@@ -0,0 +1,18 @@
+package com.golden.erp.service;
+
+import com.golden.erp.dto.response.ReposicaoResponse;
+import com.golden.erp.event.EstoqueAlteradoEvent;
+import com.golden.erp.event.PedidoEvent;
+
+import java.util.List;
+
+public interface ReposicaoService {
+    
+    List<ReposicaoResponse> listarSugestoes(Integer prazoDias, int limite);
+    
+    void aquecer();
+    
+    void aoAlterarPedido(PedidoEvent event);
+    
+    void aoAlterarEstoque(EstoqueAlteradoEvent event);
+}
@@ -0,0 +1,16 @@
+package com.golden.erp.service;
+
+import com.golden.erp.dto.response.VendaDiariaResponse;
+import com.golden.erp.event.PedidoEvent;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface VendaDiariaService {
+    
+    List<VendaDiariaResponse> listar(LocalDate de, LocalDate ate);
+    
+    int reconstruir(LocalDate de, LocalDate ate);
+    
+    void aoAlterarPedido(PedidoEvent event);
+}
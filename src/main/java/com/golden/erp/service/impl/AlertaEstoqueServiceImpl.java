@@ -0,0 +1,82 @@
+package com.golden.erp.service.impl;
+
+import com.golden.erp.dto.response.ProdutoResponse;
+import com.golden.erp.event.EstoqueAlteradoEvent;
+import com.golden.erp.mapper.ProdutoMapper;
+import com.golden.erp.repository.AlertaEstoqueRepository;
+import com.golden.erp.service.AlertaEstoqueService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Mantém a tabela {@code alerta_estoque} a partir dos eventos de estoque, na mesma transação da
+ * alteração. Só há SQL quando o saldo cruza o mínimo (ou quando não há saldo anterior para comparar),
+ * então a baixa de estoque dos pedidos continua sem custo extra no caso comum.
+ */
+@Service
+@Timed("erp.service")
+public class AlertaEstoqueServiceImpl implements AlertaEstoqueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertaEstoqueServiceImpl.class);
+
+    private final AlertaEstoqueRepository alertaEstoqueRepository;
+    private final ProdutoMapper produtoMapper;
+    private final Counter alertasAbertos;
+    private final Counter alertasResolvidos;
+
+    public AlertaEstoqueServiceImpl(AlertaEstoqueRepository alertaEstoqueRepository, ProdutoMapper produtoMapper,
+                                    MeterRegistry meterRegistry) {
+        this.alertaEstoqueRepository = alertaEstoqueRepository;
+        this.produtoMapper = produtoMapper;
+        this.alertasAbertos = Counter.builder("erp.estoque.alerta")
+                .description("Alertas de estoque baixo abertos ou resolvidos")
+                .tag("evento", "aberto")
+                .register(meterRegistry);
+        this.alertasResolvidos = Counter.builder("erp.estoque.alerta")
+                .description("Alertas de estoque baixo abertos ou resolvidos")
+                .tag("evento", "resolvido")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProdutoResponse> listarProdutosComEstoqueBaixo() {
+        return alertaEstoqueRepository.findAllComProduto().stream()
+                .map(alerta -> produtoMapper.toResponse(alerta.getProduto()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @EventListener
+    @Transactional
+    public void aoAlterarEstoque(EstoqueAlteradoEvent event) {
+        int minimo = event.getEstoqueMinimo();
+        boolean baixo = event.getEstoqueAtual() <= minimo;
+        Integer anterior = event.getEstoqueAnterior();
+        
+        if (anterior != null && (anterior <= minimo) == baixo) {
+            // Continua do mesmo lado do mínimo: o alerta (ou a ausência dele) já está correto
+            return;
+        }
+        
+        if (baixo) {
+            if (alertaEstoqueRepository.abrir(event.getProdutoId(), LocalDateTime.now()) > 0) {
+                logger.warn("Estoque baixo para o produto {}: {} (mínimo: {})", event.getSku(), event.getEstoqueAtual(), minimo);
+                alertasAbertos.increment();
+            }
+        } else if (alertaEstoqueRepository.resolver(event.getProdutoId()) > 0) {
+            logger.info("Estoque do produto {} normalizado: {} (mínimo: {})", event.getSku(), event.getEstoqueAtual(), minimo);
+            alertasResolvidos.increment();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.golden.erp.service.impl;
+
+import com.golden.erp.arquivo.ArquivoPedidos;
+import com.golden.erp.arquivo.ArquivoPedidosProperties;
+import com.golden.erp.arquivo.SegmentoPedidos;
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.mapper.PedidoMapper;
+import com.golden.erp.repository.PedidoRepository;
+import com.golden.erp.service.ArquivamentoService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Move pedidos pagos e cancelados antigos das tabelas para segmentos do {@link ArquivoPedidos}.
+ * <p>
+ * O segmento é gravado (com {@code fsync}) antes de os pedidos serem apagados, na mesma transação
+ * do DELETE. Se a transação falhar depois da gravação, os pedidos continuam nas tabelas e entram de
+ * novo num segmento na próxima execução; a cópia repetida é idêntica e não altera as consultas.
+ * O {@code pedido_resumo} e os totais agregados não mudam: as listagens continuam completas.
+ */
+@Service
+@Timed("erp.service")
+public class ArquivamentoServiceImpl implements ArquivamentoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArquivamentoServiceImpl.class);
+
+    private static final Set<StatusPedido> FECHADOS = Set.of(StatusPedido.PAID, StatusPedido.CANCELLED);
+
+    private final PedidoRepository pedidoRepository;
+    private final PedidoMapper pedidoMapper;
+    private final ArquivoPedidos arquivoPedidos;
+    private final int pedidosPorSegmento;
+
+    public ArquivamentoServiceImpl(PedidoRepository pedidoRepository, PedidoMapper pedidoMapper,
+                                   ArquivoPedidos arquivoPedidos, ArquivoPedidosProperties properties) {
+        this.pedidoRepository = pedidoRepository;
+        this.pedidoMapper = pedidoMapper;
+        this.arquivoPedidos = arquivoPedidos;
+        this.pedidosPorSegmento = properties.getPedidosPorSegmento();
+    }
+
+    /**
+     * Arquiva até {@code erp.arquivo.pedidos-por-segmento} pedidos fechados criados antes de {@code limite}.
+     *
+     * @return quantidade de pedidos arquivados; 0 quando não há mais o que arquivar
+     */
+    @Override
+    @Transactional
+    public int arquivarSegmento(LocalDateTime limite) {
+        List<Long> ids = pedidoRepository.findIdsByStatusInAndCreatedAtBefore(FECHADOS, limite,
+                PageRequest.of(0, pedidosPorSegmento));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // Cliente, itens e produtos vêm em lotes pelo default_batch_fetch_size
+        List<PedidoResponse> pedidos = pedidoRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(Pedido::getId))
+                .map(pedidoMapper::toResponse)
+                .toList();
+        SegmentoPedidos segmento = arquivoPedidos.gravar(pedidos);
+
+        pedidoRepository.excluirItensDosPedidos(ids);
+        pedidoRepository.excluirPorIds(ids);
+        logger.info("{} pedidos de {} a {} arquivados em {} ({} blocos)", pedidos.size(), segmento.getMenorId(),
+                segmento.getMaiorId(), segmento.getArquivo().getFileName(), segmento.getBlocos());
+        return pedidos.size();
+    }
+}
@@ -0,0 +1,105 @@
+package com.golden.erp.service.impl;
+
+import com.golden.erp.catalogo.CatalogoProperties;
+import com.golden.erp.catalogo.TokenMudancas;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.domain.ProdutoExclusao;
+import com.golden.erp.dto.response.MudancasProdutosResponse;
+import com.golden.erp.dto.response.ProdutoResponse;
+import com.golden.erp.exception.ParametroInvalidoException;
+import com.golden.erp.mapper.ProdutoMapper;
+import com.golden.erp.repository.ProdutoExclusaoRepository;
+import com.golden.erp.repository.ProdutoRepository;
+import com.golden.erp.service.CatalogoService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Feed de mudanças do catálogo para clientes que mantêm uma cópia local (terminais de venda).
+ * <p>
+ * Produtos alterados vêm de {@code produto} em ordem de ({@code updated_at}, id) e exclusões de
+ * {@code produto_exclusao} na mesma ordem; as duas listas são intercaladas até o limite e o token
+ * devolvido aponta para a última mudança entregue. Um produto desativado aparece entre os alterados,
+ * com {@code ativo = false}.
+ */
+@Service
+@Timed("erp.service")
+@EnableConfigurationProperties(CatalogoProperties.class)
+public class CatalogoServiceImpl implements CatalogoService {
+
+    private final ProdutoRepository produtoRepository;
+    private final ProdutoExclusaoRepository produtoExclusaoRepository;
+    private final ProdutoMapper produtoMapper;
+    private final CatalogoProperties properties;
+
+    public CatalogoServiceImpl(ProdutoRepository produtoRepository, ProdutoExclusaoRepository produtoExclusaoRepository,
+                               ProdutoMapper produtoMapper, CatalogoProperties properties) {
+        this.produtoRepository = produtoRepository;
+        this.produtoExclusaoRepository = produtoExclusaoRepository;
+        this.produtoMapper = produtoMapper;
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MudancasProdutosResponse listarMudancas(String desde, int limite) {
+        TokenMudancas inicio = lerToken(desde);
+        LocalDateTime ate = LocalDateTime.now().minus(properties.getMargemMs(), ChronoUnit.MILLIS);
+        
+        // Um a mais em cada lista para saber se sobrou mudança depois do limite
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<Produto> alterados = produtoRepository.buscarAlteradosDesde(inicio.data(), inicio.id(), ate, pagina);
+        List<ProdutoExclusao> exclusoes = produtoExclusaoRepository.buscarDesde(inicio.data(), inicio.id(), ate, pagina);
+        
+        List<ProdutoResponse> produtos = new ArrayList<>();
+        List<Long> excluidos = new ArrayList<>();
+        TokenMudancas ultimo = inicio;
+        int a = 0;
+        int e = 0;
+        while (a + e < limite && (a < alterados.size() || e < exclusoes.size())) {
+            TokenMudancas alteracao = a < alterados.size() ? posicao(alterados.get(a)) : null;
+            TokenMudancas exclusao = e < exclusoes.size() ? posicao(exclusoes.get(e)) : null;
+            if (exclusao == null || (alteracao != null && alteracao.compareTo(exclusao) <= 0)) {
+                produtos.add(produtoMapper.toResponse(alterados.get(a++)));
+                ultimo = alteracao;
+            } else {
+                excluidos.add(exclusoes.get(e++).getProdutoId());
+                ultimo = exclusao;
+            }
+        }
+        
+        MudancasProdutosResponse response = new MudancasProdutosResponse();
+        response.setAlterados(produtos);
+        response.setExcluidos(excluidos);
+        response.setProximo(ultimo.formatar());
+        response.setMaisMudancas(a < alterados.size() || e < exclusoes.size());
+        return response;
+    }
+
+    private static TokenMudancas lerToken(String desde) {
+        if (desde == null || desde.isBlank()) {
+            return TokenMudancas.INICIO;
+        }
+        try {
+            return TokenMudancas.ler(desde.trim());
+        } catch (IllegalArgumentException e) {
+            throw new ParametroInvalidoException("Token de mudanças inválido: " + desde);
+        }
+    }
+
+    private static TokenMudancas posicao(Produto produto) {
+        return new TokenMudancas(produto.getUpdatedAt(), produto.getId());
+    }
+
+    private static TokenMudancas posicao(ProdutoExclusao exclusao) {
+        return new TokenMudancas(exclusao.getExcluidoEm(), exclusao.getProdutoId());
+    }
+}
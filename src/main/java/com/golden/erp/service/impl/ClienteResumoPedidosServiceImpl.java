@@ -0,0 +1,114 @@
+package com.golden.erp.service.impl;
+
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.ClienteResumoPedidosResponse;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.exception.ResourceNotFoundException;
+import com.golden.erp.mapper.ClienteResumoPedidosMapper;
+import com.golden.erp.repository.ClienteRepository;
+import com.golden.erp.repository.ClienteResumoPedidosRepository;
+import com.golden.erp.service.ClienteResumoPedidosService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * Mantém a tabela {@code cliente_resumo_pedidos} e atende o resumo de pedidos do cliente a partir dela.
+ * <p>
+ * O total gasto soma os pedidos não cancelados e os pedidos em aberto são os que estão em
+ * {@link StatusPedido#CREATED}; cada mudança de status aplica só a diferença entre o status
+ * anterior e o novo.
+ */
+@Service
+@Timed("erp.service")
+public class ClienteResumoPedidosServiceImpl implements ClienteResumoPedidosService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClienteResumoPedidosServiceImpl.class);
+
+    private final ClienteResumoPedidosRepository clienteResumoPedidosRepository;
+    private final ClienteResumoPedidosMapper clienteResumoPedidosMapper;
+    private final ClienteRepository clienteRepository;
+
+    public ClienteResumoPedidosServiceImpl(ClienteResumoPedidosRepository clienteResumoPedidosRepository,
+                                           ClienteResumoPedidosMapper clienteResumoPedidosMapper,
+                                           ClienteRepository clienteRepository) {
+        this.clienteResumoPedidosRepository = clienteResumoPedidosRepository;
+        this.clienteResumoPedidosMapper = clienteResumoPedidosMapper;
+        this.clienteRepository = clienteRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ClienteResumoPedidosResponse buscar(Long clienteId) {
+        return clienteResumoPedidosRepository.findById(clienteId)
+                .map(clienteResumoPedidosMapper::toResponse)
+                .orElseGet(() -> semPedidos(clienteId));
+    }
+
+    @Override
+    @EventListener
+    @Transactional
+    public void aoAlterarPedido(PedidoEvent event) {
+        Long clienteId = event.getClienteId();
+        
+        if (event.getTipo() == TipoEventoPedido.CRIADO) {
+            BigDecimal total = totalGasto(event.getStatus(), event.getTotal());
+            long abertos = abertos(event.getStatus());
+            if (clienteResumoPedidosRepository.somarPedido(clienteId, total, abertos, event.getCreatedAt()) > 0) {
+                return;
+            }
+            if (clienteResumoPedidosRepository.inserir(clienteId, total, abertos, event.getCreatedAt()) == 0) {
+                // Outra transação criou o resumo entre o UPDATE e o INSERT
+                clienteResumoPedidosRepository.somarPedido(clienteId, total, abertos, event.getCreatedAt());
+            }
+            return;
+        }
+
+        StatusPedido anterior = event.getStatusAnterior();
+        if (anterior == null) {
+            logger.warn("Evento {} do pedido {} sem status anterior; resumo do cliente {} não atualizado",
+                    event.getTipo(), event.getPedidoId(), clienteId);
+            return;
+        }
+        if (anterior == event.getStatus()) {
+            return;
+        }
+        
+        BigDecimal total = totalGasto(event.getStatus(), event.getTotal())
+                .subtract(totalGasto(anterior, event.getTotal()));
+        long abertos = abertos(event.getStatus()) - abertos(anterior);
+        if (clienteResumoPedidosRepository.ajustar(clienteId, total, abertos) == 0) {
+            // Cliente com pedidos anteriores ao resumo e que ficou fora do backfill
+            logger.warn("Resumo de pedidos do cliente {} não encontrado, recalculando", clienteId);
+            clienteResumoPedidosRepository.recalcular(clienteId, event.getPedidoId(),
+                    totalGasto(event.getStatus(), event.getTotal()), abertos(event.getStatus()), event.getCreatedAt());
+        }
+    }
+
+    private ClienteResumoPedidosResponse semPedidos(Long clienteId) {
+        if (!clienteRepository.existsById(clienteId)) {
+            throw new ResourceNotFoundException("Cliente", "id", clienteId);
+        }
+        
+        ClienteResumoPedidosResponse response = new ClienteResumoPedidosResponse();
+        response.setClienteId(clienteId);
+        response.setPedidos(0L);
+        response.setTotalGasto(BigDecimal.ZERO);
+        response.setPedidosAbertos(0L);
+        return response;
+    }
+
+    private static BigDecimal totalGasto(StatusPedido status, BigDecimal total) {
+        return status == StatusPedido.CANCELLED ? BigDecimal.ZERO : total;
+    }
+
+    private static long abertos(StatusPedido status) {
+        return status == StatusPedido.CREATED ? 1 : 0;
+    }
+}
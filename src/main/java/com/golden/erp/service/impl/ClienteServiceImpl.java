@@ -5,21 +5,29 @@ import com.golden.erp.client.ViaCepResponse;
 import com.golden.erp.domain.Cliente;
 import com.golden.erp.dto.request.ClienteRequest;
 import com.golden.erp.dto.response.ClienteResponse;
+import com.golden.erp.event.ClienteAtualizadoEvent;
 import com.golden.erp.exception.CepNotFoundException;
 import com.golden.erp.exception.ResourceAlreadyExistsException;
 import com.golden.erp.exception.ResourceNotFoundException;
 import com.golden.erp.mapper.ClienteMapper;
+import com.golden.erp.metrics.ErpMetrics;
 import com.golden.erp.repository.ClienteRepository;
 import com.golden.erp.service.ClienteService;
 import feign.FeignException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
+@Timed("erp.service")
 public class ClienteServiceImpl implements ClienteService {
 
     private static final Logger logger = LoggerFactory.getLogger(ClienteServiceImpl.class);
@@ -27,11 +35,16 @@ public class ClienteServiceImpl implements ClienteService {
     private final ClienteRepository clienteRepository;
     private final ClienteMapper clienteMapper;
     private final ViaCepClient viaCepClient;
+    private final ErpMetrics erpMetrics;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ClienteServiceImpl(ClienteRepository clienteRepository, ClienteMapper clienteMapper, ViaCepClient viaCepClient) {
+    public ClienteServiceImpl(ClienteRepository clienteRepository, ClienteMapper clienteMapper, ViaCepClient viaCepClient,
+                              ErpMetrics erpMetrics, ApplicationEventPublisher eventPublisher) {
         this.clienteRepository = clienteRepository;
         this.clienteMapper = clienteMapper;
         this.viaCepClient = viaCepClient;
+        this.erpMetrics = erpMetrics;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -61,6 +74,12 @@ public class ClienteServiceImpl implements ClienteService {
         return clienteMapper.toResponse(cliente);
     }
 
+    @Override
+    public LocalDateTime buscarVersao(Long id) {
+        return clienteRepository.buscarVersao(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente", "id", id));
+    }
+
     @Override
     @Transactional
     public ClienteResponse atualizar(Long id, ClienteRequest request) {
@@ -85,9 +104,15 @@ public class ClienteServiceImpl implements ClienteService {
             preencherEndereco(request);
         }
         
+        boolean nomeAlterado = !cliente.getNome().equals(request.getNome());
+        
         clienteMapper.updateEntityFromRequest(request, cliente);
         cliente = clienteRepository.save(cliente);
         
+        if (nomeAlterado) {
+            eventPublisher.publishEvent(new ClienteAtualizadoEvent(cliente.getId(), cliente.getNome()));
+        }
+        
         return clienteMapper.toResponse(cliente);
     }
 
@@ -119,17 +144,20 @@ public class ClienteServiceImpl implements ClienteService {
                 .map(clienteMapper::toResponse);
     }
     
-    private void preencherEndereco(ClienteRequest request) {
+    void preencherEndereco(ClienteRequest request) {
         String cep = request.getCep().replaceAll("\\D", "");
         
+        Timer.Sample amostra = erpMetrics.iniciarConsultaCep();
         try {
             logger.info("Consultando CEP: {}", cep);
             ViaCepResponse viaCepResponse = viaCepClient.consultarCep(cep);
             
             if (viaCepResponse.isErro()) {
                 logger.error("CEP não encontrado: {}", cep);
+                erpMetrics.registrarConsultaCep(amostra, ErpMetrics.OUTCOME_NOT_FOUND);
                 throw new CepNotFoundException(cep);
             }
+            erpMetrics.registrarConsultaCep(amostra, ErpMetrics.OUTCOME_SUCCESS);
             
             if (request.getLogradouro() == null || request.getLogradouro().isEmpty()) {
                 request.setLogradouro(viaCepResponse.getLogradouro());
@@ -150,6 +178,7 @@ public class ClienteServiceImpl implements ClienteService {
             logger.info("CEP consultado com sucesso: {}", cep);
         } catch (FeignException e) {
             logger.error("Erro ao consultar CEP: {}", cep, e);
+            erpMetrics.registrarConsultaCep(amostra, ErpMetrics.OUTCOME_ERROR);
             throw new CepNotFoundException(cep);
         }
     }
@@ -0,0 +1,212 @@
+package com.golden.erp.service.impl;
+
+import com.golden.erp.dashboard.JanelaVendas;
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.DashboardVendasResponse;
+import com.golden.erp.dto.response.VendasJanelaResponse;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.repository.PedidoResumoRepository;
+import com.golden.erp.service.DashboardService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Painel de vendas dos últimos 5 minutos, da última hora e das últimas 24 horas, mantido em memória
+ * a partir dos pedidos criados e cancelados (depois do commit). Na subida é reconstruído com os
+ * pedidos do último dia lidos de {@code pedido_resumo}; a partir daí nenhuma leitura vai ao banco.
+ * <p>
+ * Cada instância só soma os pedidos que ela própria processou depois da subida. Fora da reconstrução os
+ * eventos vão direto para os contadores atômicos da janela, sem trava. Enquanto a reconstrução lê o banco
+ * eles são guardados e reaplicados na janela nova antes da troca, exceto os que a leitura já trouxe.
+ */
+@Service
+@Timed("erp.service")
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardServiceImpl.class);
+
+    static final int MINUTOS_DIA = 24 * 60;
+
+    private final PedidoResumoRepository pedidoResumoRepository;
+
+    private final Object trava = new Object();
+
+    // Não nula enquanto uma reconstrução está em andamento; só então os eventos passam pela trava
+    private final AtomicReference<Reconstrucao> reconstrucao = new AtomicReference<>();
+
+    private volatile JanelaVendas janela = new JanelaVendas(MINUTOS_DIA);
+
+    public DashboardServiceImpl(PedidoResumoRepository pedidoResumoRepository, MeterRegistry meterRegistry) {
+        this.pedidoResumoRepository = pedidoResumoRepository;
+        monitorar(meterRegistry, "5m", 5);
+        monitorar(meterRegistry, "1h", 60);
+        monitorar(meterRegistry, "24h", MINUTOS_DIA);
+    }
+
+    @Override
+    public DashboardVendasResponse resumirVendas() {
+        DashboardVendasResponse response = new DashboardVendasResponse();
+        response.setGeradoEm(LocalDateTime.now());
+        response.setUltimos5Minutos(resumirVendas(5));
+        response.setUltimaHora(resumirVendas(60));
+        response.setUltimas24Horas(resumirVendas(MINUTOS_DIA));
+        return response;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        Reconstrucao emAndamento = new Reconstrucao();
+        reconstrucao.set(emAndamento);
+        try {
+            long inicio = System.currentTimeMillis();
+            JanelaVendas nova = new JanelaVendas(MINUTOS_DIA);
+            List<PedidoResumoRepository.VendaRecente> vendas =
+                    pedidoResumoRepository.listarVendasDesde(LocalDateTime.now().minusDays(1));
+            Map<Long, StatusPedido> lidos = new HashMap<>(vendas.size() * 2);
+            for (PedidoResumoRepository.VendaRecente venda : vendas) {
+                long instante = paraMillis(venda.getCreatedAt());
+                long centavos = centavos(venda.getTotal());
+                nova.registrarPedido(instante, centavos);
+                if (venda.getStatus() == StatusPedido.CANCELLED) {
+                    nova.registrarCancelamento(instante, centavos);
+                }
+                lidos.put(venda.getPedidoId(), venda.getStatus());
+            }
+            synchronized (trava) {
+                // A leitura pode ou não ter visto cada evento recebido no meio do caminho
+                for (PedidoEvent event : emAndamento.eventos) {
+                    if (!lido(lidos, event)) {
+                        aplicar(nova, event);
+                    }
+                }
+                janela = nova;
+                // Eventos que viram a reconstrução em andamento e ainda esperam pela trava comparam com a leitura
+                emAndamento.lidos = lidos;
+            }
+            logger.info("Painel de vendas reconstruído com {} pedidos em {} ms", vendas.size(), System.currentTimeMillis() - inicio);
+        } catch (DataAccessException e) {
+            logger.warn("Não foi possível reconstruir o painel de vendas: {}", e.getMessage());
+        } finally {
+            reconstrucao.compareAndSet(emAndamento, null);
+        }
+    }
+
+    @Override
+    @TransactionalEventListener
+    public void aoAlterarPedido(PedidoEvent event) {
+        if (event.getTipo() != TipoEventoPedido.CRIADO && event.getTipo() != TipoEventoPedido.CANCELADO) {
+            return;
+        }
+        Reconstrucao emAndamento = reconstrucao.get();
+        if (emAndamento == null) {
+            // Caminho comum: só os contadores atômicos da janela
+            aplicar(janela, event);
+            return;
+        }
+        synchronized (trava) {
+            if (emAndamento.lidos == null) {
+                // Antes da troca: entra na janela atual e é reaplicado na nova
+                aplicar(janela, event);
+                emAndamento.eventos.add(event);
+            } else if (!lido(emAndamento.lidos, event)) {
+                // Depois da troca: a janela nova só tem o evento se a leitura o trouxe
+                aplicar(janela, event);
+            }
+        }
+    }
+
+    private static boolean lido(Map<Long, StatusPedido> lidos, PedidoEvent event) {
+        return event.getTipo() == TipoEventoPedido.CRIADO
+                ? lidos.containsKey(event.getPedidoId())
+                : lidos.get(event.getPedidoId()) == StatusPedido.CANCELLED;
+    }
+
+    private static void aplicar(JanelaVendas janela, PedidoEvent event) {
+        if (event.getTipo() == TipoEventoPedido.CRIADO) {
+            janela.registrarPedido(paraMillis(event.getCreatedAt()), centavos(event.getTotal()));
+        } else {
+            janela.registrarCancelamento(paraMillis(event.getCreatedAt()), centavos(event.getTotal()));
+        }
+    }
+
+    private VendasJanelaResponse resumirVendas(int minutos) {
+        JanelaVendas.Totais totais = somar(minutos);
+        VendasJanelaResponse response = new VendasJanelaResponse();
+        response.setPedidos(totais.pedidos());
+        response.setReceita(reais(totais.receitaCentavos()));
+        response.setReceitaLiquida(reais(totais.receitaCentavos() - totais.canceladoCentavos()));
+        response.setTicketMedio(BigDecimal.valueOf(totais.ticketMedioCentavos()).movePointLeft(2).setScale(2, RoundingMode.HALF_UP));
+        response.setCancelamentos(totais.cancelamentos());
+        response.setTaxaCancelamento(Math.round(totais.taxaCancelamento() * 10_000) / 10_000d);
+        return response;
+    }
+
+    /**
+     * Gauges do painel para uma janela; cada leitura soma os baldes em memória, sem consultar o banco.
+     */
+    private void monitorar(MeterRegistry meterRegistry, String nome, int minutos) {
+        Gauge.builder("erp.vendas.pedidos", () -> somar(minutos).pedidos())
+                .description("Pedidos criados na janela")
+                .tag("janela", nome)
+                .register(meterRegistry);
+        Gauge.builder("erp.vendas.receita", () -> somar(minutos).receitaCentavos() / 100d)
+                .description("Valor total dos pedidos criados na janela")
+                .baseUnit("BRL")
+                .tag("janela", nome)
+                .register(meterRegistry);
+        Gauge.builder("erp.vendas.ticket.medio", () -> somar(minutos).ticketMedioCentavos() / 100d)
+                .description("Valor médio dos pedidos criados na janela")
+                .baseUnit("BRL")
+                .tag("janela", nome)
+                .register(meterRegistry);
+        Gauge.builder("erp.vendas.cancelamento.taxa", () -> somar(minutos).taxaCancelamento())
+                .description("Fração dos pedidos criados na janela que já foram cancelados")
+                .tag("janela", nome)
+                .register(meterRegistry);
+    }
+
+    private JanelaVendas.Totais somar(int minutos) {
+        return janela.somar(System.currentTimeMillis(), minutos);
+    }
+
+    private static BigDecimal reais(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    private static long centavos(BigDecimal valor) {
+        return valor.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static long paraMillis(LocalDateTime dataHora) {
+        return dataHora.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /** Estado de uma reconstrução; os campos são acessados sob a trava. */
+    private static final class Reconstrucao {
+
+        private final List<PedidoEvent> eventos = new ArrayList<>();
+
+        // Pedidos trazidos pela leitura; nulo até a troca da janela
+        private Map<Long, StatusPedido> lidos;
+    }
+}
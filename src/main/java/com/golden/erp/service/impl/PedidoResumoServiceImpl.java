@@ -0,0 +1,85 @@
+package com.golden.erp.service.impl;
+
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.PedidoResumoResponse;
+import com.golden.erp.event.ClienteAtualizadoEvent;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.exception.ResourceNotFoundException;
+import com.golden.erp.mapper.PedidoResumoMapper;
+import com.golden.erp.pool.ClassePool;
+import com.golden.erp.pool.UsaPool;
+import com.golden.erp.repository.ClienteRepository;
+import com.golden.erp.repository.PedidoResumoRepository;
+import com.golden.erp.repository.PedidoResumoSpecifications;
+import com.golden.erp.service.PedidoResumoService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Mantém a tabela {@code pedido_resumo} e atende as listagens de pedidos a partir dela.
+ * Os listeners são síncronos e rodam na transação de quem publicou o evento, então o
+ * resumo nunca fica visível diferente do pedido.
+ */
+@Service
+@Timed("erp.service")
+public class PedidoResumoServiceImpl implements PedidoResumoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PedidoResumoServiceImpl.class);
+
+    private final PedidoResumoRepository pedidoResumoRepository;
+    private final PedidoResumoMapper pedidoResumoMapper;
+    private final ClienteRepository clienteRepository;
+
+    public PedidoResumoServiceImpl(PedidoResumoRepository pedidoResumoRepository, PedidoResumoMapper pedidoResumoMapper,
+                                   ClienteRepository clienteRepository) {
+        this.pedidoResumoRepository = pedidoResumoRepository;
+        this.pedidoResumoMapper = pedidoResumoMapper;
+        this.clienteRepository = clienteRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @UsaPool(ClassePool.RELATORIOS)
+    public Page<PedidoResumoResponse> listar(StatusPedido status, Long clienteId, LocalDate de, LocalDate ate,
+                                             Pageable pageable) {
+        if (clienteId != null && !clienteRepository.existsById(clienteId)) {
+            throw new ResourceNotFoundException("Cliente", "id", clienteId);
+        }
+        
+        return pedidoResumoRepository.findAll(PedidoResumoSpecifications.filtrar(status, clienteId, de, ate), pageable)
+                .map(pedidoResumoMapper::toResponse);
+    }
+
+    @Override
+    @EventListener
+    @Transactional
+    public void aoAlterarPedido(PedidoEvent event) {
+        if (event.getTipo() == TipoEventoPedido.CRIADO) {
+            pedidoResumoRepository.save(pedidoResumoMapper.toEntity(event));
+            return;
+        }
+
+        int atualizados = pedidoResumoRepository.atualizarStatus(event.getPedidoId(), event.getStatus(), event.getUpdatedAt());
+        if (atualizados == 0) {
+            // Pedido anterior à criação do resumo e que ficou fora do backfill
+            logger.warn("Resumo do pedido {} não encontrado, recriando", event.getPedidoId());
+            pedidoResumoRepository.save(pedidoResumoMapper.toEntity(event));
+        }
+    }
+
+    @Override
+    @EventListener
+    @Transactional
+    public void aoAtualizarCliente(ClienteAtualizadoEvent event) {
+        pedidoResumoRepository.atualizarNomeCliente(event.getClienteId(), event.getNome());
+    }
+}
@@ -1,5 +1,6 @@
 package com.golden.erp.service.impl;
 
+import com.golden.erp.arquivo.ArquivoPedidos;
 import com.golden.erp.domain.Cliente;
 import com.golden.erp.domain.Pedido;
 import com.golden.erp.domain.PedidoItem;
@@ -8,17 +9,24 @@ import com.golden.erp.domain.enums.StatusPedido;
 import com.golden.erp.dto.request.PedidoItemRequest;
 import com.golden.erp.dto.request.PedidoRequest;
 import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
 import com.golden.erp.exception.EstoqueInsuficienteException;
 import com.golden.erp.exception.ResourceNotFoundException;
 import com.golden.erp.mapper.PedidoItemMapper;
 import com.golden.erp.mapper.PedidoMapper;
+import com.golden.erp.metrics.ErpMetrics;
+import com.golden.erp.pool.ClassePool;
+import com.golden.erp.pool.UsaPool;
 import com.golden.erp.repository.ClienteRepository;
 import com.golden.erp.repository.PedidoRepository;
 import com.golden.erp.repository.ProdutoRepository;
 import com.golden.erp.service.PedidoService;
 import com.golden.erp.service.ProdutoService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,9 +34,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
+@Timed("erp.service")
 public class PedidoServiceImpl implements PedidoService {
 
     private static final Logger logger = LoggerFactory.getLogger(PedidoServiceImpl.class);
@@ -39,6 +50,9 @@ public class PedidoServiceImpl implements PedidoService {
     private final ProdutoService produtoService;
     private final PedidoMapper pedidoMapper;
     private final PedidoItemMapper pedidoItemMapper;
+    private final ErpMetrics erpMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArquivoPedidos arquivoPedidos;
 
     public PedidoServiceImpl(
             PedidoRepository pedidoRepository,
@@ -46,13 +60,19 @@ public class PedidoServiceImpl implements PedidoService {
             ProdutoRepository produtoRepository,
             ProdutoService produtoService,
             PedidoMapper pedidoMapper,
-            PedidoItemMapper pedidoItemMapper) {
+            PedidoItemMapper pedidoItemMapper,
+            ErpMetrics erpMetrics,
+            ApplicationEventPublisher eventPublisher,
+            ArquivoPedidos arquivoPedidos) {
         this.pedidoRepository = pedidoRepository;
         this.clienteRepository = clienteRepository;
         this.produtoRepository = produtoRepository;
         this.produtoService = produtoService;
         this.pedidoMapper = pedidoMapper;
         this.pedidoItemMapper = pedidoItemMapper;
+        this.erpMetrics = erpMetrics;
+        this.eventPublisher = eventPublisher;
+        this.arquivoPedidos = arquivoPedidos;
     }
 
     @Override
@@ -69,6 +89,7 @@ public class PedidoServiceImpl implements PedidoService {
                     .orElseThrow(() -> new ResourceNotFoundException("Produto", "id", itemRequest.getProdutoId()));
             
             if (produto.getEstoque() < itemRequest.getQuantidade()) {
+                erpMetrics.registrarEstoqueInsuficiente();
                 throw new EstoqueInsuficienteException(
                         produto.getId(), 
                         produto.getNome(), 
@@ -87,6 +108,8 @@ public class PedidoServiceImpl implements PedidoService {
         pedido.calcularTotais();
         
         pedido = pedidoRepository.save(pedido);
+        erpMetrics.registrarPedidoCriado(pedido);
+        eventPublisher.publishEvent(new PedidoEvent(TipoEventoPedido.CRIADO, pedido));
         
         logger.info("Pedido criado com sucesso: {}", pedido.getId());
         return pedidoMapper.toResponse(pedido);
@@ -95,8 +118,12 @@ public class PedidoServiceImpl implements PedidoService {
     @Override
     @Transactional(readOnly = true)
     public PedidoResponse buscarPorId(Long id) {
-        Pedido pedido = pedidoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Pedido", "id", id));
+        Pedido pedido = pedidoRepository.findById(id).orElse(null);
+        if (pedido == null) {
+            // Pedidos fechados antigos saem das tabelas e ficam só no arquivo
+            return arquivoPedidos.buscar(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Pedido", "id", id));
+        }
         
         pedido.getCliente().getNome();
         
@@ -105,32 +132,13 @@ public class PedidoServiceImpl implements PedidoService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PedidoResponse> listar(Pageable pageable) {
-        Page<Pedido> pedidos = pedidoRepository.findAll(pageable);
-        pedidos.forEach(p -> p.getCliente().getNome());
-        return pedidos.map(pedidoMapper::toResponse);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
+    @UsaPool(ClassePool.RELATORIOS)
     public Page<PedidoResponse> listarPorStatus(StatusPedido status, Pageable pageable) {
         Page<Pedido> pedidos = pedidoRepository.findByStatus(status, pageable);
         pedidos.forEach(p -> p.getCliente().getNome());
         return pedidos.map(pedidoMapper::toResponse);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public Page<PedidoResponse> listarPorCliente(Long clienteId, Pageable pageable) {
-        if (!clienteRepository.existsById(clienteId)) {
-            throw new ResourceNotFoundException("Cliente", "id", clienteId);
-        }
-        
-        Page<Pedido> pedidos = pedidoRepository.findByClienteId(clienteId, pageable);
-        pedidos.forEach(p -> p.getCliente().getNome());
-        return pedidos.map(pedidoMapper::toResponse);
-    }
-
     @Override
     @Transactional
     public PedidoResponse pagar(Long id) {
@@ -140,8 +148,10 @@ public class PedidoServiceImpl implements PedidoService {
         pedido.getCliente().getNome();
         
         try {
+            StatusPedido statusAnterior = pedido.getStatus();
             pedido.pagar();
             pedido = pedidoRepository.save(pedido);
+            eventPublisher.publishEvent(new PedidoEvent(TipoEventoPedido.PAGO, pedido, statusAnterior));
             logger.info("Pedido pago com sucesso: {}", pedido.getId());
             return pedidoMapper.toResponse(pedido);
         } catch (IllegalStateException e) {
@@ -160,14 +170,17 @@ public class PedidoServiceImpl implements PedidoService {
         
         try {
             if (pedido.getStatus() == StatusPedido.CREATED || pedido.getStatus() == StatusPedido.LATE) {
+                Map<Long, Integer> quantidadesPorProduto = new HashMap<>();
                 for (PedidoItem item : pedido.getItens()) {
-                    item.getProduto().getNome();
-                    produtoService.atualizarEstoque(item.getProduto().getId(), item.getQuantidade());
+                    quantidadesPorProduto.merge(item.getProduto().getId(), item.getQuantidade(), Integer::sum);
                 }
+                produtoService.devolverEstoque(quantidadesPorProduto);
             }
             
+            StatusPedido statusAnterior = pedido.getStatus();
             pedido.cancelar();
             pedido = pedidoRepository.save(pedido);
+            eventPublisher.publishEvent(new PedidoEvent(TipoEventoPedido.CANCELADO, pedido, statusAnterior));
             logger.info("Pedido cancelado com sucesso: {}", pedido.getId());
             return pedidoMapper.toResponse(pedido);
         } catch (IllegalStateException e) {
@@ -179,15 +192,24 @@ public class PedidoServiceImpl implements PedidoService {
     @Override
     @Transactional
     public void processarPedidosAtrasados() {
+        processarPedidosAtrasados(0, 1);
+    }
+
+    @Override
+    @Transactional
+    public void processarPedidosAtrasados(int particao, int totalParticoes) {
         LocalDateTime limitDate = LocalDateTime.now().minusHours(48);
-        List<Pedido> pedidosAtrasados = pedidoRepository.findByStatusAndCreatedAtBefore(StatusPedido.CREATED, limitDate);
+        List<Pedido> pedidosAtrasados = pedidoRepository.findByStatusAndCreatedAtBeforeNaParticao(
+                StatusPedido.CREATED, limitDate, particao, totalParticoes);
         
         if (!pedidosAtrasados.isEmpty()) {
-            logger.info("Processando {} pedidos atrasados", pedidosAtrasados.size());
+            logger.info("Processando {} pedidos atrasados (partição {}/{})", pedidosAtrasados.size(), particao, totalParticoes);
             
             for (Pedido pedido : pedidosAtrasados) {
+                StatusPedido statusAnterior = pedido.getStatus();
                 pedido.marcarComoAtrasado();
                 pedidoRepository.save(pedido);
+                eventPublisher.publishEvent(new PedidoEvent(TipoEventoPedido.ATRASADO, pedido, statusAnterior));
                 logger.info("Pedido {} marcado como LATE", pedido.getId());
             }
         }
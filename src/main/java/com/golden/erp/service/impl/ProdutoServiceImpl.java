@@ -1,35 +1,56 @@
 package com.golden.erp.service.impl;
 
+import com.golden.erp.cache.CacheJson;
 import com.golden.erp.domain.Produto;
+import com.golden.erp.domain.ProdutoExclusao;
 import com.golden.erp.dto.request.ProdutoRequest;
 import com.golden.erp.dto.response.ProdutoResponse;
+import com.golden.erp.event.EstoqueAlteradoEvent;
 import com.golden.erp.exception.ResourceAlreadyExistsException;
 import com.golden.erp.exception.ResourceNotFoundException;
 import com.golden.erp.mapper.ProdutoMapper;
+import com.golden.erp.metrics.ErpMetrics;
+import com.golden.erp.repository.ProdutoExclusaoRepository;
 import com.golden.erp.repository.ProdutoRepository;
+import com.golden.erp.repository.VersaoListagem;
 import com.golden.erp.service.ProdutoService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
+@Timed("erp.service")
 public class ProdutoServiceImpl implements ProdutoService {
 
     private static final Logger logger = LoggerFactory.getLogger(ProdutoServiceImpl.class);
     
     private final ProdutoRepository produtoRepository;
+    private final ProdutoExclusaoRepository produtoExclusaoRepository;
     private final ProdutoMapper produtoMapper;
+    private final ErpMetrics erpMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheJson cacheProdutos;
 
-    public ProdutoServiceImpl(ProdutoRepository produtoRepository, ProdutoMapper produtoMapper) {
+    public ProdutoServiceImpl(ProdutoRepository produtoRepository, ProdutoExclusaoRepository produtoExclusaoRepository,
+                              ProdutoMapper produtoMapper, ErpMetrics erpMetrics, ApplicationEventPublisher eventPublisher,
+                              CacheJson cacheProdutos) {
         this.produtoRepository = produtoRepository;
+        this.produtoExclusaoRepository = produtoExclusaoRepository;
         this.produtoMapper = produtoMapper;
+        this.erpMetrics = erpMetrics;
+        this.eventPublisher = eventPublisher;
+        this.cacheProdutos = cacheProdutos;
     }
 
     @Override
@@ -46,6 +67,8 @@ public class ProdutoServiceImpl implements ProdutoService {
         }
         
         produto = produtoRepository.save(produto);
+        eventPublisher.publishEvent(new EstoqueAlteradoEvent(produto.getId(), produto.getSku(), null,
+                produto.getEstoque(), produto.getEstoqueMinimo()));
         
         logger.info("Produto criado com sucesso: {}", produto.getSku());
         return produtoMapper.toResponse(produto);
@@ -59,6 +82,12 @@ public class ProdutoServiceImpl implements ProdutoService {
         return produtoMapper.toResponse(produto);
     }
 
+    @Override
+    public LocalDateTime buscarVersao(Long id) {
+        return produtoRepository.buscarVersao(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Produto", "id", id));
+    }
+
     @Override
     @Transactional
     public ProdutoResponse atualizar(Long id, ProdutoRequest request) {
@@ -72,9 +101,20 @@ public class ProdutoServiceImpl implements ProdutoService {
                     }
                 });
         
+        Integer estoqueAnterior = produto.getEstoque();
+        Integer estoqueMinimoAnterior = produto.getEstoqueMinimo();
         produtoMapper.updateEntityFromRequest(request, produto);
         produto.setUpdatedAt(LocalDateTime.now());
         produto = produtoRepository.save(produto);
+        // O cache confere a versão a cada leitura; invalidar aqui só libera a memória do corpo antigo
+        cacheProdutos.invalidar(id);
+        
+        if (!produto.getEstoque().equals(estoqueAnterior) || !produto.getEstoqueMinimo().equals(estoqueMinimoAnterior)) {
+            // Com o mínimo alterado o saldo anterior não serve de comparação
+            eventPublisher.publishEvent(new EstoqueAlteradoEvent(produto.getId(), produto.getSku(),
+                    produto.getEstoqueMinimo().equals(estoqueMinimoAnterior) ? estoqueAnterior : null,
+                    produto.getEstoque(), produto.getEstoqueMinimo()));
+        }
         
         logger.info("Produto atualizado com sucesso: {}", produto.getSku());
         return produtoMapper.toResponse(produto);
@@ -88,6 +128,9 @@ public class ProdutoServiceImpl implements ProdutoService {
         }
         
         produtoRepository.deleteById(id);
+        // A linha do produto some; o feed de mudanças do catálogo lê a exclusão daqui
+        produtoExclusaoRepository.save(new ProdutoExclusao(id, LocalDateTime.now()));
+        cacheProdutos.invalidar(id);
         logger.info("Produto excluído com sucesso: {}", id);
     }
 
@@ -103,6 +146,19 @@ public class ProdutoServiceImpl implements ProdutoService {
                 .map(produtoMapper::toResponse);
     }
 
+    @Override
+    public VersaoListagem buscarVersaoAtivos() {
+        return produtoRepository.buscarVersaoAtivos();
+    }
+
+    @Override
+    public Page<ProdutoResponse> listarAtivos(Pageable pageable, VersaoListagem versao) {
+        List<ProdutoResponse> produtos = produtoRepository.findAllByAtivoTrue(pageable).stream()
+                .map(produtoMapper::toResponse)
+                .toList();
+        return new PageImpl<>(produtos, pageable, versao.quantidade());
+    }
+
     @Override
     public Page<ProdutoResponse> buscarPorNome(String nome, Pageable pageable) {
         return produtoRepository.findByNomeContainingIgnoreCase(nome, pageable)
@@ -126,28 +182,54 @@ public class ProdutoServiceImpl implements ProdutoService {
         if (novoEstoque < 0) {
             logger.error("Tentativa de deixar estoque negativo para o produto {}: {} + {} = {}", 
                     produto.getSku(), produto.getEstoque(), quantidade, novoEstoque);
+            erpMetrics.registrarConflitoEstoque();
             throw new IllegalArgumentException("Estoque insuficiente para o produto " + produto.getSku());
         }
         
+        int estoqueAnterior = produto.getEstoque();
         produto.setEstoque(novoEstoque);
         produto.setUpdatedAt(LocalDateTime.now());
         produtoRepository.save(produto);
-        
-        if (novoEstoque <= produto.getEstoqueMinimo()) {
-            logger.warn("Estoque baixo para o produto {}: {} (mínimo: {})", 
-                    produto.getSku(), novoEstoque, produto.getEstoqueMinimo());
-        }
+        cacheProdutos.invalidar(id);
+        eventPublisher.publishEvent(new EstoqueAlteradoEvent(produto.getId(), produto.getSku(), estoqueAnterior,
+                novoEstoque, produto.getEstoqueMinimo()));
         
         logger.info("Estoque atualizado para o produto {}: {} -> {}", 
-                produto.getSku(), produto.getEstoque() - quantidade, novoEstoque);
+                produto.getSku(), estoqueAnterior, novoEstoque);
     }
 
     @Override
-    public List<ProdutoResponse> listarProdutosComEstoqueBaixo() {
-        List<Produto> produtosEstoqueBaixo = produtoRepository.findAllWithLowStock();
+    @Transactional
+    public void devolverEstoque(Map<Long, Integer> quantidadesPorProduto) {
+        if (quantidadesPorProduto.isEmpty()) {
+            return;
+        }
         
-        return produtosEstoqueBaixo.stream()
-                .map(produtoMapper::toResponse)
-                .collect(Collectors.toList());
+        List<Produto> produtos = produtoRepository.findAllById(quantidadesPorProduto.keySet());
+        
+        if (produtos.size() != quantidadesPorProduto.size()) {
+            Long idNaoEncontrado = quantidadesPorProduto.keySet().stream()
+                    .filter(id -> produtos.stream().noneMatch(p -> p.getId().equals(id)))
+                    .findFirst()
+                    .orElse(null);
+            throw new ResourceNotFoundException("Produto", "id", idNaoEncontrado);
+        }
+        
+        LocalDateTime agora = LocalDateTime.now();
+        List<EstoqueAlteradoEvent> eventos = new ArrayList<>(produtos.size());
+        for (Produto produto : produtos) {
+            int estoqueAnterior = produto.getEstoque();
+            produto.setEstoque(estoqueAnterior + quantidadesPorProduto.get(produto.getId()));
+            produto.setUpdatedAt(agora);
+            eventos.add(new EstoqueAlteradoEvent(produto.getId(), produto.getSku(), estoqueAnterior,
+                    produto.getEstoque(), produto.getEstoqueMinimo()));
+        }
+        
+        // Os UPDATEs são enviados em um único lote JDBC (hibernate.jdbc.batch_size)
+        produtoRepository.saveAll(produtos);
+        quantidadesPorProduto.keySet().forEach(cacheProdutos::invalidar);
+        eventos.forEach(eventPublisher::publishEvent);
+        
+        logger.info("Estoque devolvido para {} produtos", produtos.size());
     }
 }
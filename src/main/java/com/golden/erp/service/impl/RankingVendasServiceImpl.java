@@ -0,0 +1,235 @@
+package com.golden.erp.service.impl;
+
+import com.golden.erp.domain.Produto;
+import com.golden.erp.dto.response.MaisVendidoResponse;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.exception.ParametroInvalidoException;
+import com.golden.erp.job.TravaJob;
+import com.golden.erp.pool.ClassePool;
+import com.golden.erp.pool.UsaPool;
+import com.golden.erp.ranking.CheckpointRanking;
+import com.golden.erp.ranking.RankingVendasProperties;
+import com.golden.erp.ranking.SketchVendas;
+import com.golden.erp.repository.PedidoRepository;
+import com.golden.erp.repository.ProdutoRepository;
+import com.golden.erp.service.RankingVendasService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranking dos produtos mais vendidos por janela de dias, sem {@code GROUP BY} sobre {@code pedido_item}.
+ * Cada dia tem um {@link SketchVendas} em memória, atualizado depois do commit de cada pedido criado
+ * (soma os itens) ou cancelado (estorna no dia da criação); uma janela de vários dias é a soma dos sketches.
+ * <p>
+ * A cada checkpoint a instância soma ao banco o que acumulou desde o anterior e recebe de volta os dias
+ * alterados, já com as vendas das outras instâncias. Na primeira subida, com a tabela vazia, uma única
+ * instância carrega o histórico dos dias retidos.
+ */
+@Service
+@Timed("erp.service")
+@EnableConfigurationProperties(RankingVendasProperties.class)
+public class RankingVendasServiceImpl implements RankingVendasService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RankingVendasServiceImpl.class);
+
+    static final String JOB_CARGA = "ranking-vendas-carga";
+
+    // Relógios de instâncias diferentes não são iguais; reler alguns dias a mais não muda o resultado
+    private static final Duration MARGEM_SINCRONIZACAO = Duration.ofMinutes(5);
+
+    private final CheckpointRanking checkpointRanking;
+    private final PedidoRepository pedidoRepository;
+    private final ProdutoRepository produtoRepository;
+    private final TravaJob travaJob;
+    private final RankingVendasProperties properties;
+
+    // Vendas de cada dia: último checkpoint somado às parcelas ainda não gravadas
+    private final Map<LocalDate, SketchVendas> sketches = new HashMap<>();
+    // Vendas processadas por esta instância desde o último checkpoint
+    private Map<LocalDate, SketchVendas> parcelas = new HashMap<>();
+    private LocalDateTime ultimoCheckpoint;
+
+    public RankingVendasServiceImpl(CheckpointRanking checkpointRanking, PedidoRepository pedidoRepository,
+                                    ProdutoRepository produtoRepository, TravaJob travaJob,
+                                    RankingVendasProperties properties) {
+        this.checkpointRanking = checkpointRanking;
+        this.pedidoRepository = pedidoRepository;
+        this.produtoRepository = produtoRepository;
+        this.travaJob = travaJob;
+        this.properties = properties;
+    }
+
+    @Override
+    public List<MaisVendidoResponse> listarMaisVendidos(int dias, int limite) {
+        if (dias > properties.getDiasRetidos()) {
+            throw new ParametroInvalidoException("A janela máxima do ranking é de " + properties.getDiasRetidos() + " dias");
+        }
+        SketchVendas janela = properties.novoSketch();
+        LocalDate hoje = LocalDate.now();
+        synchronized (this) {
+            for (LocalDate dia = hoje.minusDays(dias - 1L); !dia.isAfter(hoje); dia = dia.plusDays(1)) {
+                SketchVendas sketch = sketches.get(dia);
+                if (sketch != null) {
+                    janela.mesclar(sketch);
+                }
+            }
+        }
+        
+        List<long[]> maisVendidos = janela.maisVendidos(limite);
+        if (maisVendidos.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Produto> produtos = produtoRepository.findAllById(maisVendidos.stream().map(c -> c[0]).toList()).stream()
+                .collect(Collectors.toMap(Produto::getId, Function.identity()));
+        long erroMaximo = janela.erroMaximo();
+        return maisVendidos.stream()
+                .filter(c -> produtos.containsKey(c[0]))
+                .map(c -> toResponse(produtos.get(c[0]), c[1], erroMaximo))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void salvarCheckpoint() {
+        Map<LocalDate, SketchVendas> enviadas;
+        LocalDateTime alteradosDesde;
+        synchronized (this) {
+            enviadas = parcelas;
+            parcelas = new HashMap<>();
+            alteradosDesde = ultimoCheckpoint != null
+                    ? ultimoCheckpoint.minus(MARGEM_SINCRONIZACAO)
+                    : inicioRetencao().atStartOfDay();
+        }
+        
+        LocalDateTime inicio = LocalDateTime.now();
+        Map<LocalDate, SketchVendas> gravados;
+        try {
+            gravados = checkpointRanking.gravar(enviadas, inicioRetencao(), alteradosDesde);
+        } catch (RuntimeException e) {
+            // As parcelas voltam para a fila e entram no próximo checkpoint
+            synchronized (this) {
+                enviadas.forEach((dia, parcela) -> parcela(dia).mesclar(parcela));
+            }
+            logger.error("Falha ao gravar o checkpoint do ranking de vendas: {}", e.getMessage());
+            return;
+        }
+        
+        synchronized (this) {
+            gravados.forEach((dia, sketch) -> {
+                SketchVendas pendente = parcelas.get(dia);
+                if (pendente != null) {
+                    sketch.mesclar(pendente);
+                }
+                sketches.put(dia, sketch);
+            });
+            sketches.keySet().removeIf(dia -> dia.isBefore(inicioRetencao()));
+            ultimoCheckpoint = inicio;
+        }
+        logger.debug("Checkpoint do ranking: {} dias gravados, {} dias atualizados", enviadas.size(), gravados.size());
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @UsaPool(ClassePool.JOBS)
+    public void inicializar() {
+        try {
+            if (checkpointRanking.isVazio()) {
+                carregarHistorico();
+            }
+            salvarCheckpoint();
+            synchronized (this) {
+                logger.info("Ranking de vendas carregado com {} dias", sketches.size());
+            }
+        } catch (DataAccessException | TransactionException e) {
+            logger.warn("Não foi possível carregar o ranking de vendas: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    @TransactionalEventListener
+    public synchronized void aoAlterarPedido(PedidoEvent event) {
+        int sinal;
+        if (event.getTipo() == TipoEventoPedido.CRIADO) {
+            sinal = 1;
+        } else if (event.getTipo() == TipoEventoPedido.CANCELADO) {
+            sinal = -1;
+        } else {
+            return;
+        }
+        LocalDate dia = event.getCreatedAt().toLocalDate();
+        if (dia.isBefore(inicioRetencao())) {
+            return;
+        }
+        
+        SketchVendas sketch = sketches.computeIfAbsent(dia, d -> properties.novoSketch());
+        SketchVendas parcela = parcela(dia);
+        for (PedidoEvent.Item item : event.getItens()) {
+            sketch.somar(item.getProdutoId(), sinal * item.getQuantidade());
+            parcela.somar(item.getProdutoId(), sinal * item.getQuantidade());
+        }
+    }
+
+    /**
+     * Só uma instância carrega o histórico; as outras que subirem ao mesmo tempo encontram a trava
+     * ocupada e recebem os dias pelo checkpoint.
+     */
+    private void carregarHistorico() {
+        Optional<TravaJob.Trava> trava = travaJob.tentarAdquirir(JOB_CARGA, 0);
+        if (trava.isEmpty()) {
+            return;
+        }
+        try {
+            if (!checkpointRanking.isVazio()) {
+                return;
+            }
+            List<PedidoRepository.VendaDiariaProduto> vendas = pedidoRepository.somarVendasDiariasDesde(inicioRetencao().atStartOfDay());
+            synchronized (this) {
+                for (PedidoRepository.VendaDiariaProduto venda : vendas) {
+                    int quantidade = Math.toIntExact(venda.getQuantidade());
+                    sketches.computeIfAbsent(venda.getDia(), d -> properties.novoSketch()).somar(venda.getProdutoId(), quantidade);
+                    parcela(venda.getDia()).somar(venda.getProdutoId(), quantidade);
+                }
+            }
+            salvarCheckpoint();
+            logger.info("Histórico do ranking de vendas carregado: {} vendas diárias", vendas.size());
+        } finally {
+            trava.get().close();
+        }
+    }
+
+    private SketchVendas parcela(LocalDate dia) {
+        return parcelas.computeIfAbsent(dia, d -> properties.novoSketch());
+    }
+
+    private LocalDate inicioRetencao() {
+        return LocalDate.now().minusDays(properties.getDiasRetidos() - 1L);
+    }
+
+    private MaisVendidoResponse toResponse(Produto produto, long quantidade, long erroMaximo) {
+        MaisVendidoResponse response = new MaisVendidoResponse();
+        response.setProdutoId(produto.getId());
+        response.setSku(produto.getSku());
+        response.setNome(produto.getNome());
+        response.setQuantidadeEstimada(quantidade);
+        response.setErroMaximo(erroMaximo);
+        return response;
+    }
+}
@@ -0,0 +1,250 @@
+package com.golden.erp.service.impl;
+
+import com.golden.erp.domain.Produto;
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.ReposicaoResponse;
+import com.golden.erp.event.EstoqueAlteradoEvent;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.pool.ClassePool;
+import com.golden.erp.pool.UsaPool;
+import com.golden.erp.reposicao.MapaVelocidades;
+import com.golden.erp.reposicao.ReposicaoProperties;
+import com.golden.erp.repository.PedidoRepository;
+import com.golden.erp.repository.ProdutoRepository;
+import com.golden.erp.service.ReposicaoService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sugestões de reposição a partir da velocidade de venda de cada produto (média móvel exponencial),
+ * mantida em memória e atualizada a cada pedido criado ou cancelado depois do commit. A consulta só
+ * vai ao banco para carregar os produtos que já foram selecionados.
+ * <p>
+ * O estado é local a cada instância: vem do aquecimento na subida (estoque atual e vendas da janela
+ * configurada) somado aos eventos que a própria instância processou. Eventos que chegam enquanto o
+ * aquecimento lê o banco são guardados e reaplicados no mapa novo antes da troca, exceto os que a
+ * leitura já incluiu.
+ */
+@Service
+@Timed("erp.service")
+@EnableConfigurationProperties(ReposicaoProperties.class)
+public class ReposicaoServiceImpl implements ReposicaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReposicaoServiceImpl.class);
+
+    private final ProdutoRepository produtoRepository;
+    private final PedidoRepository pedidoRepository;
+    private final ReposicaoProperties properties;
+    private final TransactionTemplate transacaoAquecimento;
+
+    private MapaVelocidades velocidades;
+
+    // Não nulo enquanto o aquecimento lê o banco; protegido pelo monitor da instância
+    private List<Object> eventosDuranteAquecimento;
+
+    public ReposicaoServiceImpl(ProdutoRepository produtoRepository, PedidoRepository pedidoRepository,
+                                ReposicaoProperties properties, PlatformTransactionManager transactionManager) {
+        this.produtoRepository = produtoRepository;
+        this.pedidoRepository = pedidoRepository;
+        this.properties = properties;
+        this.velocidades = new MapaVelocidades(properties.getMeiaVidaDias(), 1024);
+        // Uma única foto do banco para as vendas e para a verificação dos eventos recebidos no meio da
+        // leitura. Sem readOnly, para ler da primária, onde os commits que disparam os eventos já estão.
+        this.transacaoAquecimento = new TransactionTemplate(transactionManager);
+        this.transacaoAquecimento.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @UsaPool(ClassePool.RELATORIOS)
+    public List<ReposicaoResponse> listarSugestoes(Integer prazoDias, int limite) {
+        int prazo = prazoDias != null ? prazoDias : properties.getPrazoEntregaDias();
+        long agora = System.currentTimeMillis();
+        
+        List<Candidato> candidatos = new ArrayList<>();
+        synchronized (this) {
+            velocidades.percorrer(agora, (produtoId, velocidade, estoque) -> {
+                if (velocidade <= 0 || estoque == MapaVelocidades.ESTOQUE_DESCONHECIDO) {
+                    return;
+                }
+                double cobertura = Math.max(estoque, 0) / velocidade;
+                if (cobertura <= prazo) {
+                    candidatos.add(new Candidato(produtoId, velocidade, cobertura));
+                }
+            });
+        }
+        if (candidatos.isEmpty()) {
+            return List.of();
+        }
+        candidatos.sort(Comparator.comparingDouble(Candidato::cobertura));
+        
+        // Produtos inativos são descartados aqui; a margem evita devolver menos que o limite por causa deles
+        List<Candidato> selecionados = candidatos.subList(0, Math.min(candidatos.size(), limite * 2));
+        Map<Long, Produto> produtos = produtoRepository.findAllById(selecionados.stream().map(Candidato::produtoId).toList())
+                .stream()
+                .collect(Collectors.toMap(Produto::getId, Function.identity()));
+        
+        LocalDate hoje = LocalDate.now();
+        return selecionados.stream()
+                .filter(candidato -> {
+                    Produto produto = produtos.get(candidato.produtoId());
+                    return produto != null && Boolean.TRUE.equals(produto.getAtivo());
+                })
+                .limit(limite)
+                .map(candidato -> toResponse(produtos.get(candidato.produtoId()), candidato, prazo, hoje))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @UsaPool(ClassePool.JOBS)
+    public void aquecer() {
+        if (!properties.isAquecer()) {
+            return;
+        }
+        synchronized (this) {
+            eventosDuranteAquecimento = new ArrayList<>();
+        }
+        try {
+            transacaoAquecimento.executeWithoutResult(status -> carregar());
+        } catch (DataAccessException e) {
+            // Sem o histórico as sugestões começam vazias e se formam com os pedidos seguintes
+            logger.warn("Não foi possível aquecer a reposição: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                eventosDuranteAquecimento = null;
+            }
+        }
+    }
+
+    private void carregar() {
+        long inicio = System.currentTimeMillis();
+        List<ProdutoRepository.EstoqueProduto> estoques = produtoRepository.listarEstoques();
+        MapaVelocidades novo = new MapaVelocidades(properties.getMeiaVidaDias(), estoques.size());
+        for (ProdutoRepository.EstoqueProduto estoque : estoques) {
+            novo.definirEstoque(estoque.getId(), estoque.getEstoque());
+        }
+        
+        LocalDateTime desde = LocalDate.now().minusDays(properties.getJanelaAquecimentoDias()).atStartOfDay();
+        List<PedidoRepository.VendaDiariaProduto> vendas = pedidoRepository.somarVendasDiariasDesde(desde);
+        for (PedidoRepository.VendaDiariaProduto venda : vendas) {
+            // Sem a hora de cada venda, o total do dia entra no meio do dia
+            novo.registrarVenda(venda.getProdutoId(), venda.getQuantidade(), paraMillis(venda.getDia().atTime(LocalTime.NOON)));
+        }
+        
+        synchronized (this) {
+            // A leitura pode ou não ter visto cada evento recebido no meio do caminho
+            reaplicar(novo, eventosDuranteAquecimento);
+            velocidades = novo;
+        }
+        logger.info("Reposição aquecida com {} produtos e {} vendas diárias em {} ms",
+                estoques.size(), vendas.size(), System.currentTimeMillis() - inicio);
+    }
+
+    /**
+     * Reaplica no mapa novo os eventos recebidos durante a leitura. Com a mesma foto da leitura, um pedido
+     * visível já entrou na soma (ou já saiu dela, se estava cancelado); o estoque vem sempre do último evento.
+     */
+    private void reaplicar(MapaVelocidades novo, List<Object> eventos) {
+        List<Long> ids = eventos.stream()
+                .filter(PedidoEvent.class::isInstance)
+                .map(evento -> ((PedidoEvent) evento).getPedidoId())
+                .distinct()
+                .toList();
+        Map<Long, StatusPedido> lidos = ids.isEmpty() ? Map.of() : pedidoRepository.buscarStatus(ids).stream()
+                .collect(Collectors.toMap(PedidoRepository.StatusPorId::getId, PedidoRepository.StatusPorId::getStatus));
+        for (Object evento : eventos) {
+            if (evento instanceof PedidoEvent pedido) {
+                boolean lido = pedido.getTipo() == TipoEventoPedido.CRIADO
+                        ? lidos.containsKey(pedido.getPedidoId())
+                        : lidos.get(pedido.getPedidoId()) == StatusPedido.CANCELLED;
+                if (!lido) {
+                    registrar(novo, pedido);
+                }
+            } else if (evento instanceof EstoqueAlteradoEvent estoque) {
+                novo.definirEstoque(estoque.getProdutoId(), estoque.getEstoqueAtual());
+            }
+        }
+    }
+
+    @Override
+    @TransactionalEventListener
+    public synchronized void aoAlterarPedido(PedidoEvent event) {
+        if (event.getTipo() != TipoEventoPedido.CRIADO && event.getTipo() != TipoEventoPedido.CANCELADO) {
+            return;
+        }
+        registrar(velocidades, event);
+        if (eventosDuranteAquecimento != null) {
+            eventosDuranteAquecimento.add(event);
+        }
+    }
+
+    @Override
+    @TransactionalEventListener
+    public synchronized void aoAlterarEstoque(EstoqueAlteradoEvent event) {
+        velocidades.definirEstoque(event.getProdutoId(), event.getEstoqueAtual());
+        if (eventosDuranteAquecimento != null) {
+            eventosDuranteAquecimento.add(event);
+        }
+    }
+
+    private static void registrar(MapaVelocidades mapa, PedidoEvent event) {
+        int sinal = event.getTipo() == TipoEventoPedido.CRIADO ? 1 : -1;
+        // O estorno entra no instante da venda original, então desconta exatamente o que ela somou
+        long instante = paraMillis(event.getCreatedAt());
+        for (PedidoEvent.Item item : event.getItens()) {
+            mapa.registrarVenda(item.getProdutoId(), sinal * item.getQuantidade(), instante);
+        }
+    }
+
+    private ReposicaoResponse toResponse(Produto produto, Candidato candidato, int prazo, LocalDate hoje) {
+        double velocidade = candidato.velocidade();
+        int necessario = (int) Math.ceil(velocidade * (prazo + properties.getDiasCobertura()));
+        
+        ReposicaoResponse response = new ReposicaoResponse();
+        response.setProdutoId(produto.getId());
+        response.setSku(produto.getSku());
+        response.setNome(produto.getNome());
+        response.setEstoque(produto.getEstoque());
+        response.setEstoqueMinimo(produto.getEstoqueMinimo());
+        response.setVendaDiaria(arredondar(velocidade));
+        response.setDiasCobertura(arredondar(candidato.cobertura()));
+        response.setDataRupturaPrevista(hoje.plusDays((long) Math.floor(candidato.cobertura())));
+        response.setQuantidadeSugerida(Math.max(0, necessario - Math.max(produto.getEstoque(), 0)));
+        return response;
+    }
+
+    private static double arredondar(double valor) {
+        return Math.round(valor * 100) / 100d;
+    }
+
+    private static long paraMillis(LocalDateTime dataHora) {
+        return dataHora.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Candidato(long produtoId, double velocidade, double cobertura) {
+    }
+}
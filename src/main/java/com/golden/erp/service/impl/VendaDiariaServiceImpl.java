@@ -0,0 +1,202 @@
+package com.golden.erp.service.impl;
+
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.VendaDiariaResponse;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.exception.ParametroInvalidoException;
+import com.golden.erp.pool.ClassePool;
+import com.golden.erp.pool.UsaPool;
+import com.golden.erp.repository.PedidoResumoRepository;
+import com.golden.erp.repository.VendaDiariaRepository;
+import com.golden.erp.service.VendaDiariaService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Mantém a tabela {@code venda_diaria} e atende o relatório de vendas por dia a partir dela.
+ * <p>
+ * Os eventos de uma transação são acumulados por (dia, status, faixa) e gravados uma única vez antes
+ * do commit, em ordem fixa de chave: marcar 200 pedidos do mesmo dia como atrasados custa duas
+ * atualizações, e transações concorrentes travam as linhas sempre na mesma ordem.
+ * <p>
+ * A reconstrução lê {@code pedido}, que não tem mais os pedidos arquivados; por isso períodos com
+ * pedidos arquivados são recusados em vez de perderem essas vendas.
+ */
+@Service
+@Timed("erp.service")
+public class VendaDiariaServiceImpl implements VendaDiariaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VendaDiariaServiceImpl.class);
+
+    private static final Object RECURSO_PENDENTES = VendaDiariaServiceImpl.class.getName() + ".pendentes";
+
+    private static final Comparator<Chave> ORDEM_CHAVES = Comparator.comparing(Chave::dia)
+            .thenComparing(Chave::status)
+            .thenComparingInt(Chave::faixa);
+
+    private final VendaDiariaRepository vendaDiariaRepository;
+    private final PedidoResumoRepository pedidoResumoRepository;
+    private final int faixas;
+
+    public VendaDiariaServiceImpl(VendaDiariaRepository vendaDiariaRepository,
+                                  PedidoResumoRepository pedidoResumoRepository,
+                                  @Value("${erp.venda-diaria.faixas:8}") int faixas) {
+        this.vendaDiariaRepository = vendaDiariaRepository;
+        this.pedidoResumoRepository = pedidoResumoRepository;
+        this.faixas = faixas;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @UsaPool(ClassePool.RELATORIOS)
+    public List<VendaDiariaResponse> listar(LocalDate de, LocalDate ate) {
+        LocalDate fim = ate != null ? ate : LocalDate.now();
+        LocalDate inicio = de != null ? de : fim.withDayOfMonth(1);
+        if (inicio.isAfter(fim)) {
+            throw new ParametroInvalidoException("A data inicial não pode ser posterior à data final");
+        }
+        
+        return vendaDiariaRepository.somarPorDiaEStatus(inicio, fim).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    @UsaPool(ClassePool.RELATORIOS)
+    public int reconstruir(LocalDate de, LocalDate ate) {
+        if (de.isAfter(ate)) {
+            throw new ParametroInvalidoException("A data inicial não pode ser posterior à data final");
+        }
+        LocalDateTime inicio = de.atStartOfDay();
+        LocalDateTime fim = ate.plusDays(1).atStartOfDay();
+        long arquivados = pedidoResumoRepository.contarArquivados(inicio, fim);
+        if (arquivados > 0) {
+            throw new ParametroInvalidoException(String.format(
+                    "O período tem %d pedidos arquivados, que a reconstrução não consegue recalcular", arquivados));
+        }
+        int excluidas = vendaDiariaRepository.excluirPeriodo(de, ate);
+        int inseridas = vendaDiariaRepository.reconstruirPeriodo(inicio, fim, faixas);
+        logger.info("Vendas diárias de {} a {} reconstruídas: {} linhas removidas, {} inseridas", de, ate, excluidas, inseridas);
+        return inseridas;
+    }
+
+    @Override
+    @EventListener
+    @Transactional
+    public void aoAlterarPedido(PedidoEvent event) {
+        Map<Chave, Parcela> pendentes = pendentesDaTransacao();
+        LocalDate dia = event.getCreatedAt().toLocalDate();
+        int faixa = (int) Math.floorMod(event.getPedidoId(), (long) faixas);
+        
+        if (event.getTipo() != TipoEventoPedido.CRIADO) {
+            if (event.getStatusAnterior() == null) {
+                logger.warn("Evento {} do pedido {} sem status anterior; venda diária não atualizada",
+                        event.getTipo(), event.getPedidoId());
+                return;
+            }
+            if (event.getStatusAnterior() == event.getStatus()) {
+                return;
+            }
+            pendentes.computeIfAbsent(new Chave(dia, event.getStatusAnterior(), faixa), c -> new Parcela()).somar(event, -1);
+        }
+        pendentes.computeIfAbsent(new Chave(dia, event.getStatus(), faixa), c -> new Parcela()).somar(event, 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Chave, Parcela> pendentesDaTransacao() {
+        Map<Chave, Parcela> pendentes = (Map<Chave, Parcela>) TransactionSynchronizationManager.getResource(RECURSO_PENDENTES);
+        if (pendentes != null) {
+            return pendentes;
+        }
+        Map<Chave, Parcela> novos = new TreeMap<>(ORDEM_CHAVES);
+        TransactionSynchronizationManager.bindResource(RECURSO_PENDENTES, novos);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                gravar(novos);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RECURSO_PENDENTES);
+            }
+        });
+        return novos;
+    }
+
+    private void gravar(Map<Chave, Parcela> pendentes) {
+        for (Map.Entry<Chave, Parcela> pendente : pendentes.entrySet()) {
+            Chave chave = pendente.getKey();
+            Parcela parcela = pendente.getValue();
+            if (parcela.isVazia()) {
+                // Criado e pago na mesma transação, por exemplo
+                continue;
+            }
+            if (somar(chave, parcela) > 0) {
+                continue;
+            }
+            if (vendaDiariaRepository.inserir(chave.dia(), chave.status().name(), chave.faixa(), parcela.pedidos,
+                    parcela.subtotal, parcela.desconto, parcela.total) == 0) {
+                // Outra transação criou a linha entre o UPDATE e o INSERT
+                somar(chave, parcela);
+            }
+        }
+    }
+
+    private int somar(Chave chave, Parcela parcela) {
+        return vendaDiariaRepository.somar(chave.dia(), chave.status(), chave.faixa(), parcela.pedidos,
+                parcela.subtotal, parcela.desconto, parcela.total);
+    }
+
+    private VendaDiariaResponse toResponse(VendaDiariaRepository.TotalDiario total) {
+        VendaDiariaResponse response = new VendaDiariaResponse();
+        response.setDia(total.getDia());
+        response.setStatus(total.getStatus());
+        response.setPedidos(total.getPedidos());
+        response.setSubtotal(total.getSubtotal());
+        response.setDesconto(total.getDesconto());
+        response.setTotal(total.getTotal());
+        return response;
+    }
+
+    private record Chave(LocalDate dia, StatusPedido status, int faixa) {
+    }
+
+    private static final class Parcela {
+
+        private long pedidos;
+        private BigDecimal subtotal = BigDecimal.ZERO;
+        private BigDecimal desconto = BigDecimal.ZERO;
+        private BigDecimal total = BigDecimal.ZERO;
+
+        private void somar(PedidoEvent event, int sinal) {
+            BigDecimal fator = BigDecimal.valueOf(sinal);
+            pedidos += sinal;
+            subtotal = subtotal.add(event.getSubtotal().multiply(fator));
+            desconto = desconto.add(event.getDescontoTotal().multiply(fator));
+            total = total.add(event.getTotal().multiply(fator));
+        }
+
+        private boolean isVazia() {
+            return pedidos == 0 && subtotal.signum() == 0 && desconto.signum() == 0 && total.signum() == 0;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.golden.erp.admissao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LimitadorAdaptativoTest {
+
+    private final AtomicLong relogio = new AtomicLong();
+
+    private AdmissaoProperties properties;
+    private LimitadorAdaptativo limitador;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdmissaoProperties();
+        properties.setLimiteInicial(10);
+        properties.setLimiteMinimo(2);
+        properties.setLimiteMaximo(20);
+        properties.setLatenciaAlvoMs(100);
+        properties.setAguardandoConexaoMaximo(2);
+        properties.setFracaoNormal(0.8);
+        properties.setFracaoBaixa(0.5);
+        limitador = new LimitadorAdaptativo(properties, relogio::get);
+    }
+
+    @Test
+    void tentarAdmitir_DeveRecusarPrioridadeBaixaAntesDaAlta() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limitador.tentarAdmitir(Prioridade.BAIXA));
+        }
+
+        assertFalse(limitador.tentarAdmitir(Prioridade.BAIXA));
+        assertTrue(limitador.tentarAdmitir(Prioridade.NORMAL));
+        assertTrue(limitador.tentarAdmitir(Prioridade.NORMAL));
+        assertTrue(limitador.tentarAdmitir(Prioridade.NORMAL));
+        assertFalse(limitador.tentarAdmitir(Prioridade.NORMAL));
+        assertTrue(limitador.tentarAdmitir(Prioridade.ALTA));
+        assertTrue(limitador.tentarAdmitir(Prioridade.ALTA));
+        assertFalse(limitador.tentarAdmitir(Prioridade.ALTA));
+        assertEquals(10, limitador.getEmAndamento());
+    }
+
+    @Test
+    void concluir_DeveLiberarVaga() {
+        for (int i = 0; i < 10; i++) {
+            limitador.tentarAdmitir(Prioridade.ALTA);
+        }
+        assertFalse(limitador.tentarAdmitir(Prioridade.ALTA));
+
+        limitador.concluir(Prioridade.ALTA, relogio.get(), 0);
+
+        assertTrue(limitador.tentarAdmitir(Prioridade.ALTA));
+    }
+
+    @Test
+    void concluir_ComLatenciaAcimaDoAlvo_DeveReduzirOLimite() {
+        long inicio = avancar(1);
+        limitador.tentarAdmitir(Prioridade.ALTA);
+        avancar(150);
+
+        limitador.concluir(Prioridade.ALTA, inicio, 0);
+
+        assertEquals(9, limitador.getLimite());
+    }
+
+    @Test
+    void concluir_ComFilaNoPool_DeveReduzirOLimite() {
+        long inicio = avancar(1);
+        limitador.tentarAdmitir(Prioridade.BAIXA);
+
+        limitador.concluir(Prioridade.BAIXA, inicio, 3);
+
+        assertEquals(9, limitador.getLimite());
+    }
+
+    @Test
+    void concluir_PrioridadeBaixaLenta_NaoDeveReduzirOLimite() {
+        long inicio = avancar(1);
+        limitador.tentarAdmitir(Prioridade.BAIXA);
+        avancar(5_000);
+
+        limitador.concluir(Prioridade.BAIXA, inicio, 0);
+
+        assertEquals(10, limitador.getLimite());
+    }
+
+    @Test
+    void concluir_RequisicoesDaMesmaLeva_DevemReduzirUmaVezSo() {
+        long inicio = avancar(1);
+        for (int i = 0; i < 5; i++) {
+            limitador.tentarAdmitir(Prioridade.ALTA);
+        }
+        avancar(150);
+
+        for (int i = 0; i < 5; i++) {
+            limitador.concluir(Prioridade.ALTA, inicio, 0);
+        }
+
+        assertEquals(9, limitador.getLimite());
+    }
+
+    @Test
+    void concluir_CongestionamentoContinuo_NaoDeveDescerAbaixoDoMinimo() {
+        for (int i = 0; i < 50; i++) {
+            long inicio = avancar(1);
+            limitador.tentarAdmitir(Prioridade.ALTA);
+            limitador.concluir(Prioridade.ALTA, inicio, 10);
+        }
+
+        assertEquals(2, limitador.getLimite());
+    }
+
+    @Test
+    void concluir_SemCongestionamentoComLimiteEmUso_DeveAumentarOLimite() {
+        for (int rodada = 0; rodada < 30; rodada++) {
+            for (int i = 0; i < 10; i++) {
+                limitador.tentarAdmitir(Prioridade.ALTA);
+            }
+            for (int i = 0; i < 10; i++) {
+                limitador.concluir(Prioridade.ALTA, relogio.get(), 0);
+            }
+        }
+
+        assertTrue(limitador.getLimite() > 10, () -> "limite " + limitador.getLimite());
+        assertTrue(limitador.getLimite() <= 20);
+    }
+
+    @Test
+    void concluir_ComLimiteOcioso_NaoDeveAumentarOLimite() {
+        for (int i = 0; i < 100; i++) {
+            limitador.tentarAdmitir(Prioridade.ALTA);
+            limitador.concluir(Prioridade.ALTA, relogio.get(), 0);
+        }
+
+        assertEquals(10, limitador.getLimite());
+    }
+
+    @Test
+    void prioridade_DeveUsarMetodoDepoisClasseDepoisNormal() throws NoSuchMethodException {
+        ControllerRelatorios relatorios = new ControllerRelatorios();
+        ControllerPedidos pedidos = new ControllerPedidos();
+
+        assertEquals(Prioridade.BAIXA, AdmissaoInterceptor.prioridade(
+                new HandlerMethod(relatorios, ControllerRelatorios.class.getMethod("listar"))));
+        assertEquals(Prioridade.NORMAL, AdmissaoInterceptor.prioridade(
+                new HandlerMethod(relatorios, ControllerRelatorios.class.getMethod("buscar"))));
+        assertEquals(Prioridade.ALTA, AdmissaoInterceptor.prioridade(
+                new HandlerMethod(pedidos, ControllerPedidos.class.getMethod("criar"))));
+        assertEquals(Prioridade.NORMAL, AdmissaoInterceptor.prioridade(
+                new HandlerMethod(pedidos, ControllerPedidos.class.getMethod("cancelar"))));
+    }
+
+    private long avancar(long ms) {
+        return relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(ms));
+    }
+
+    @Admissao(Prioridade.BAIXA)
+    static class ControllerRelatorios {
+
+        public void listar() {
+        }
+
+        @Admissao(Prioridade.NORMAL)
+        public void buscar() {
+        }
+    }
+
+    static class ControllerPedidos {
+
+        @Admissao(Prioridade.ALTA)
+        public void criar() {
+        }
+
+        public void cancelar() {
+        }
+    }
+}
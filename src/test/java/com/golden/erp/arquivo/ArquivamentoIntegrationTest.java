@@ -0,0 +1,77 @@
+package com.golden.erp.arquivo;
+
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.ClienteResumoPedidosResponse;
+import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.dto.response.VendaDiariaResponse;
+import com.golden.erp.exception.ParametroInvalidoException;
+import com.golden.erp.service.ArquivamentoService;
+import com.golden.erp.service.ClienteResumoPedidosService;
+import com.golden.erp.service.VendaDiariaService;
+import com.golden.erp.support.SqlIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Agregados recalculados depois do arquivamento: os pedidos arquivados saíram de {@code pedido}, mas as
+ * vendas deles não podem sumir dos totais.
+ */
+public class ArquivamentoIntegrationTest extends SqlIntegrationTest {
+
+    @Autowired
+    private ArquivamentoService arquivamentoService;
+
+    @Autowired
+    private VendaDiariaService vendaDiariaService;
+
+    @Autowired
+    private ClienteResumoPedidosService clienteResumoPedidosService;
+
+    @Test
+    void reconstruirVendasDiarias_DeveRecusarPeriodoComPedidosArquivados() throws Exception {
+        PedidoResponse pedido = criarPedido(criarCliente(), criarProdutos(2));
+        executar(post("/api/pedidos/{id}/pagar", pedido.getId()));
+        arquivarTudo();
+        LocalDate hoje = LocalDate.now();
+
+        assertThrows(ParametroInvalidoException.class, () -> vendaDiariaService.reconstruir(hoje, hoje));
+
+        List<VendaDiariaResponse> vendas = vendaDiariaService.listar(hoje, hoje);
+        assertEquals(1, vendas.size());
+        assertEquals(StatusPedido.PAID, vendas.get(0).getStatus());
+        assertEquals(0, pedido.getTotal().compareTo(vendas.get(0).getTotal()));
+    }
+
+    @Test
+    void recalcularResumoDoCliente_DeveContarPedidosArquivados() throws Exception {
+        Cliente cliente = criarCliente();
+        List<Produto> produtos = criarProdutos(2);
+        PedidoResponse arquivado = criarPedido(cliente, produtos);
+        executar(post("/api/pedidos/{id}/pagar", arquivado.getId()));
+        arquivarTudo();
+        PedidoResponse aberto = criarPedido(cliente, produtos);
+        // Resumo ausente, como o de um cliente que ficou fora do backfill: a próxima mudança de status recalcula
+        clienteResumoPedidosRepository.deleteAllInBatch();
+
+        executar(post("/api/pedidos/{id}/pagar", aberto.getId()));
+
+        ClienteResumoPedidosResponse resumo = clienteResumoPedidosService.buscar(cliente.getId());
+        assertEquals(2L, resumo.getPedidos());
+        assertEquals(0, arquivado.getTotal().add(aberto.getTotal()).compareTo(resumo.getTotalGasto()));
+        assertEquals(0L, resumo.getPedidosAbertos());
+    }
+
+    private void arquivarTudo() {
+        assertTrue(arquivamentoService.arquivarSegmento(LocalDateTime.now().plusMinutes(1)) > 0);
+        assertEquals(0, pedidoRepository.count());
+    }
+}
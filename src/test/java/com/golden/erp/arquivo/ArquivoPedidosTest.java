@@ -0,0 +1,75 @@
+package com.golden.erp.arquivo;
+
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.PedidoResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArquivoPedidosTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void buscar_DeveAcharSegmentoGravadoPorOutraInstancia_QuandoReleituraVence() {
+        ArquivoPedidos outraInstancia = new ArquivoPedidos(properties(0));
+        ArquivoPedidos arquivo = new ArquivoPedidos(properties(0));
+        assertTrue(arquivo.buscar(1L).isEmpty());
+
+        outraInstancia.gravar(List.of(pedido(1L), pedido(2L)));
+
+        assertEquals(2L, arquivo.buscar(2L).orElseThrow().getId());
+    }
+
+    @Test
+    void buscar_NaoDeveRelerODiretorio_DentroDoIntervalo() {
+        ArquivoPedidos outraInstancia = new ArquivoPedidos(properties(60_000));
+        ArquivoPedidos arquivo = new ArquivoPedidos(properties(60_000));
+        assertTrue(arquivo.buscar(1L).isEmpty());
+
+        outraInstancia.gravar(List.of(pedido(1L), pedido(2L)));
+
+        assertTrue(arquivo.buscar(2L).isEmpty());
+        assertTrue(arquivo.getSegmentos().isEmpty());
+    }
+
+    @Test
+    void buscar_DeveAcharNaHoraSegmentoGravadoPelaPropriaInstancia() {
+        ArquivoPedidos arquivo = new ArquivoPedidos(properties(60_000));
+        assertTrue(arquivo.buscar(1L).isEmpty());
+
+        arquivo.gravar(List.of(pedido(1L), pedido(2L)));
+
+        assertEquals(1L, arquivo.buscar(1L).orElseThrow().getId());
+    }
+
+    private ArquivoPedidosProperties properties(long releituraMs) {
+        ArquivoPedidosProperties properties = new ArquivoPedidosProperties();
+        properties.setDiretorio(diretorio.toString());
+        properties.setPedidosPorBloco(2);
+        properties.setReleituraMs(releituraMs);
+        return properties;
+    }
+
+    private PedidoResponse pedido(long id) {
+        PedidoResponse pedido = new PedidoResponse();
+        pedido.setId(id);
+        pedido.setClienteId(1L);
+        pedido.setClienteNome("Cliente 1");
+        pedido.setSubtotal(new BigDecimal("100.00"));
+        pedido.setDescontoTotal(BigDecimal.ZERO);
+        pedido.setTotal(new BigDecimal("100.00"));
+        pedido.setStatus(StatusPedido.PAID);
+        pedido.setCreatedAt(LocalDateTime.of(2024, 5, 1, 10, 0).plusMinutes(id));
+        pedido.setUpdatedAt(LocalDateTime.of(2024, 5, 2, 10, 0).plusMinutes(id));
+        pedido.setItens(List.of());
+        return pedido;
+    }
+}
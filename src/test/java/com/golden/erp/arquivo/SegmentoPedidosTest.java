@@ -0,0 +1,124 @@
+package com.golden.erp.arquivo;
+
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.PedidoItemResponse;
+import com.golden.erp.dto.response.PedidoResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SegmentoPedidosTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void gravar_DevePermitirBuscarCadaPedidoPeloIndiceEsparso() throws IOException {
+        List<PedidoResponse> pedidos = new ArrayList<>();
+        for (long id = 100; id < 400; id += 3) {
+            pedidos.add(pedido(id));
+        }
+
+        SegmentoPedidos.gravar(diretorio.resolve("pedidos-00000001.seg"), pedidos, 16);
+        SegmentoPedidos segmento = SegmentoPedidos.abrir(diretorio.resolve("pedidos-00000001.seg"));
+
+        assertEquals(100, segmento.getPedidos());
+        assertEquals(7, segmento.getBlocos());
+        assertEquals(100L, segmento.getMenorId());
+        assertEquals(397L, segmento.getMaiorId());
+        for (PedidoResponse esperado : pedidos) {
+            PedidoResponse lido = segmento.buscar(esperado.getId()).orElseThrow();
+            assertEquals(esperado.getClienteNome(), lido.getClienteNome());
+            assertEquals(esperado.getTotal(), lido.getTotal());
+            assertEquals(esperado.getStatus(), lido.getStatus());
+            assertEquals(esperado.getCreatedAt(), lido.getCreatedAt());
+            assertEquals(2, lido.getItens().size());
+            assertEquals(esperado.getItens().get(1).getProdutoSku(), lido.getItens().get(1).getProdutoSku());
+            assertEquals(esperado.getItens().get(1).getSubtotal(), lido.getItens().get(1).getSubtotal());
+        }
+    }
+
+    @Test
+    void buscar_DeveRetornarVazio_QuandoIdNaoEstaNoSegmento() throws IOException {
+        SegmentoPedidos segmento = SegmentoPedidos.gravar(diretorio.resolve("pedidos-00000001.seg"),
+                List.of(pedido(10L), pedido(20L), pedido(30L)), 2);
+
+        assertEquals(Optional.empty(), segmento.buscar(15L));
+        assertEquals(Optional.empty(), segmento.buscar(5L));
+        assertEquals(Optional.empty(), segmento.buscar(31L));
+        assertFalse(segmento.podeConter(31L));
+    }
+
+    @Test
+    void gravar_DeveSobrescreverTemporariosDeUmaGravacaoInterrompida() throws IOException {
+        Path arquivo = diretorio.resolve("pedidos-00000001.seg");
+        Files.writeString(diretorio.resolve("pedidos-00000001.seg.tmp"), "lixo de uma gravação interrompida");
+        Files.writeString(diretorio.resolve("pedidos-00000001.idx.tmp"), "lixo");
+
+        SegmentoPedidos.gravar(arquivo, List.of(pedido(10L), pedido(20L)), 2);
+
+        SegmentoPedidos segmento = SegmentoPedidos.abrir(arquivo);
+        assertEquals(20L, segmento.buscar(20L).orElseThrow().getId());
+        assertFalse(Files.exists(diretorio.resolve("pedidos-00000001.seg.tmp")));
+        assertFalse(Files.exists(diretorio.resolve("pedidos-00000001.idx.tmp")));
+    }
+
+    @Test
+    void gravar_DeveComprimirOsPedidos() throws IOException {
+        List<PedidoResponse> pedidos = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            pedidos.add(pedido(id));
+        }
+
+        SegmentoPedidos.gravar(diretorio.resolve("pedidos-00000001.seg"), pedidos, 64);
+
+        // Cada pedido ocupa cerca de 250 bytes antes da compressão
+        assertTrue(Files.size(diretorio.resolve("pedidos-00000001.seg")) < 100_000);
+        assertTrue(Files.exists(diretorio.resolve("pedidos-00000001.idx")));
+        assertFalse(Files.exists(diretorio.resolve("pedidos-00000001.seg.tmp")));
+    }
+
+    @Test
+    void gravar_DeveRejeitarPedidosForaDeOrdem() {
+        assertThrows(IllegalArgumentException.class, () -> SegmentoPedidos.gravar(
+                diretorio.resolve("pedidos-00000001.seg"), List.of(pedido(2L), pedido(1L)), 16));
+    }
+
+    private PedidoResponse pedido(long id) {
+        PedidoResponse pedido = new PedidoResponse();
+        pedido.setId(id);
+        pedido.setClienteId(id % 7);
+        pedido.setClienteNome("Cliente " + (id % 7));
+        pedido.setSubtotal(new BigDecimal("150.00"));
+        pedido.setDescontoTotal(new BigDecimal("15.50"));
+        pedido.setTotal(new BigDecimal("134.50"));
+        pedido.setStatus(id % 2 == 0 ? StatusPedido.PAID : StatusPedido.CANCELLED);
+        pedido.setCreatedAt(LocalDateTime.of(2024, 5, 1, 10, 0).plusMinutes(id));
+        pedido.setUpdatedAt(LocalDateTime.of(2024, 5, 2, 10, 0).plusMinutes(id));
+        pedido.setItens(List.of(item(id * 10, 1L, "100.00"), item(id * 10 + 1, 2L, "50.00")));
+        return pedido;
+    }
+
+    private PedidoItemResponse item(long id, long produtoId, String subtotal) {
+        PedidoItemResponse item = new PedidoItemResponse();
+        item.setId(id);
+        item.setProdutoId(produtoId);
+        item.setProdutoNome("Produto " + produtoId);
+        item.setProdutoSku("SKU-" + produtoId);
+        item.setQuantidade(1);
+        item.setPrecoUnitario(new BigDecimal(subtotal));
+        item.setDesconto(BigDecimal.ZERO);
+        item.setSubtotal(new BigDecimal(subtotal));
+        return item;
+    }
+}
@@ -0,0 +1,96 @@
+package com.golden.erp.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CacheJsonTest {
+
+    private static final LocalDateTime V1 = LocalDateTime.of(2025, 1, 1, 10, 0);
+    private static final LocalDateTime V2 = V1.plusNanos(1_000);
+
+    @Test
+    void buscar_DeveDevolverCorpo_SoNaMesmaVersao() {
+        CacheJson cache = new CacheJson(10_000);
+        byte[] corpo = corpo(100);
+        cache.guardar(1L, V1, corpo);
+
+        assertArrayEquals(corpo, cache.buscar(1L, V1));
+        assertNull(cache.buscar(1L, V2));
+        assertNull(cache.buscar(2L, V1));
+        assertEquals(1, cache.getAcertos());
+        assertEquals(2, cache.getFalhas());
+    }
+
+    @Test
+    void guardar_DeveDescartarOsMenosLidos_QuandoPassaDoLimiteEmBytes() {
+        long entrada = 100 + CacheJson.SOBRECARGA_ENTRADA;
+        CacheJson cache = new CacheJson(3 * entrada);
+        cache.guardar(1L, V1, corpo(100));
+        cache.guardar(2L, V1, corpo(100));
+        cache.guardar(3L, V1, corpo(100));
+        cache.buscar(1L, V1);
+
+        cache.guardar(4L, V1, corpo(100));
+
+        assertNull(cache.buscar(2L, V1));
+        assertNotNull(cache.buscar(1L, V1));
+        assertNotNull(cache.buscar(3L, V1));
+        assertNotNull(cache.buscar(4L, V1));
+        assertEquals(3 * entrada, cache.getBytes());
+    }
+
+    @Test
+    void guardar_NaoDeveSobrescreverVersaoMaisNova() {
+        CacheJson cache = new CacheJson(10_000);
+        byte[] novo = corpo(50);
+        cache.guardar(1L, V2, novo);
+
+        cache.guardar(1L, V1, corpo(80));
+
+        assertArrayEquals(novo, cache.buscar(1L, V2));
+        assertEquals(50 + CacheJson.SOBRECARGA_ENTRADA, cache.getBytes());
+    }
+
+    @Test
+    void guardar_DeveIgnorarCorpoMaiorQueOLimite() {
+        CacheJson cache = new CacheJson(1_000);
+        cache.guardar(1L, V1, corpo(100));
+
+        cache.guardar(2L, V1, corpo(2_000));
+
+        assertNull(cache.buscar(2L, V1));
+        assertNotNull(cache.buscar(1L, V1));
+    }
+
+    @Test
+    void invalidar_DeveLiberarOsBytesDaEntrada() {
+        CacheJson cache = new CacheJson(10_000);
+        cache.guardar(1L, V1, corpo(100));
+
+        cache.invalidar(1L);
+
+        assertNull(cache.buscar(1L, V1));
+        assertEquals(0, cache.getBytes());
+        assertEquals(0, cache.getEntradas());
+    }
+
+    @Test
+    void semLimite_NaoDeveGuardarNada() {
+        CacheJson cache = new CacheJson(0);
+        cache.guardar(1L, V1, corpo(1));
+
+        assertFalse(cache.isAtivo());
+        assertEquals(0, cache.getEntradas());
+    }
+
+    private static byte[] corpo(int tamanho) {
+        return new byte[tamanho];
+    }
+}
@@ -0,0 +1,38 @@
+package com.golden.erp.catalogo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenMudancasTest {
+
+    @Test
+    void ler_DeveDevolverOTokenFormatado() {
+        TokenMudancas token = new TokenMudancas(LocalDateTime.of(2025, 3, 10, 14, 30, 15, 123_456_000), 98_765L);
+
+        assertEquals(token, TokenMudancas.ler(token.formatar()));
+        assertEquals(TokenMudancas.INICIO, TokenMudancas.ler(TokenMudancas.INICIO.formatar()));
+    }
+
+    @Test
+    void ler_DeveRecusarTextoQueNaoVeioDeFormatar() {
+        assertThrows(IllegalArgumentException.class, () -> TokenMudancas.ler("abc"));
+        assertThrows(IllegalArgumentException.class, () -> TokenMudancas.ler(".1"));
+        assertThrows(IllegalArgumentException.class, () -> TokenMudancas.ler("1."));
+        assertThrows(IllegalArgumentException.class, () -> TokenMudancas.ler("1.-2"));
+        assertThrows(IllegalArgumentException.class, () -> TokenMudancas.ler("1.2!"));
+    }
+
+    @Test
+    void compareTo_DeveOrdenarPorDataEDepoisPorId() {
+        LocalDateTime agora = LocalDateTime.of(2025, 3, 10, 14, 30);
+
+        assertTrue(new TokenMudancas(agora, 9L).compareTo(new TokenMudancas(agora.plusNanos(1_000), 1L)) < 0);
+        assertTrue(new TokenMudancas(agora, 1L).compareTo(new TokenMudancas(agora, 2L)) < 0);
+        assertEquals(0, new TokenMudancas(agora, 1L).compareTo(new TokenMudancas(agora, 1L)));
+    }
+}
@@ -0,0 +1,128 @@
+package com.golden.erp.controller;
+
+import com.golden.erp.client.ViaCepResponse;
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.dto.request.ClienteRequest;
+import com.golden.erp.support.SqlIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Limites de comandos SQL dos endpoints de cliente.
+ */
+public class ClienteControllerSqlTest extends SqlIntegrationTest {
+
+    private static final int CLIENTES = 100;
+    private static final int PEDIDOS = 100;
+
+    @BeforeEach
+    void configurarViaCep() {
+        ViaCepResponse endereco = new ViaCepResponse();
+        endereco.setCep("01001-000");
+        endereco.setLogradouro("Praça da Sé");
+        endereco.setBairro("Sé");
+        endereco.setLocalidade("São Paulo");
+        endereco.setUf("SP");
+        when(viaCepClient.consultarCep(anyString())).thenReturn(endereco);
+    }
+
+    @Test
+    void criar() throws Exception {
+        executar(post("/api/clientes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(clienteRequest("novo@sqltest.local", "98765432100"))))
+                .assertMaximo(2, 1, 0, 0);
+    }
+
+    @Test
+    void buscarPorId() throws Exception {
+        Cliente cliente = criarCliente();
+
+        executar(get("/api/clientes/{id}", cliente.getId()))
+                .assertMaximo(1, 0, 0, 0);
+    }
+
+    @Test
+    void buscarPorId_NaoModificado() throws Exception {
+        Cliente cliente = criarCliente();
+
+        // Só a data de atualização, sem carregar o cliente
+        executarNaoModificado(get("/api/clientes/{id}", cliente.getId()))
+                .assertMaximo(1, 0, 0, 0);
+    }
+
+    @Test
+    void buscarResumoPedidos_100Pedidos() throws Exception {
+        Cliente cliente = criarCliente();
+        List<Produto> produtos = criarProdutos(3);
+        for (int i = 0; i < PEDIDOS; i++) {
+            criarPedido(cliente, produtos);
+        }
+
+        executar(get("/api/clientes/{id}/resumo-pedidos", cliente.getId()))
+                .assertMaximo(1, 0, 0, 0);
+    }
+
+    @Test
+    void atualizar() throws Exception {
+        Cliente cliente = criarCliente();
+
+        executar(put("/api/clientes/{id}", cliente.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(clienteRequest(cliente.getEmail(), cliente.getCpf()))))
+                .assertMaximo(3, 0, 2, 0);
+    }
+
+    @Test
+    void excluir() throws Exception {
+        Cliente cliente = criarCliente();
+
+        executar(delete("/api/clientes/{id}", cliente.getId()))
+                .assertMaximo(2, 0, 0, 1);
+    }
+
+    @Test
+    void listar_100Clientes() throws Exception {
+        criarClientes(CLIENTES);
+
+        executar(get("/api/clientes").param("size", String.valueOf(CLIENTES)))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    @Test
+    void buscarPorNome_100Clientes() throws Exception {
+        criarClientes(CLIENTES);
+
+        executar(get("/api/clientes/por-nome").param("nome", "cliente").param("size", String.valueOf(CLIENTES)))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    @Test
+    void buscarPorEmail_100Clientes() throws Exception {
+        criarClientes(CLIENTES);
+
+        executar(get("/api/clientes/por-email").param("email", "sqltest").param("size", String.valueOf(CLIENTES)))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    private ClienteRequest clienteRequest(String email, String cpf) {
+        ClienteRequest request = new ClienteRequest();
+        request.setNome("Cliente SQL");
+        request.setEmail(email);
+        request.setCpf(cpf);
+        request.setCep("01001000");
+        request.setNumero("100");
+        return request;
+    }
+}
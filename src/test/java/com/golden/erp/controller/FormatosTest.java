@@ -0,0 +1,41 @@
+package com.golden.erp.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FormatosTest {
+
+    @Test
+    void negociar_DeveUsarJson_SemAcceptOuComCuringa() {
+        assertEquals(MediaType.APPLICATION_JSON, negociar(null));
+        assertEquals(MediaType.APPLICATION_JSON, negociar("*/*"));
+        assertEquals(MediaType.APPLICATION_JSON, negociar("application/*"));
+        assertEquals(MediaType.APPLICATION_JSON, negociar("application/cbor;q=0.5, */*;q=0.8"));
+    }
+
+    @Test
+    void negociar_DeveUsarCbor_QuandoPedidoAntesDeJson() {
+        assertEquals(MediaType.APPLICATION_CBOR, negociar("application/cbor"));
+        assertEquals(MediaType.APPLICATION_CBOR, negociar("application/cbor, application/json;q=0.5"));
+        assertEquals(MediaType.APPLICATION_CBOR, negociar("application/cbor, */*"));
+        assertEquals(MediaType.APPLICATION_CBOR, negociar("application/json;q=0, application/cbor;q=0.1"));
+    }
+
+    @Test
+    void negociar_DeveUsarJson_QuandoAcceptInvalido() {
+        assertEquals(MediaType.APPLICATION_JSON, negociar("nao-e-um-tipo"));
+    }
+
+    private static MediaType negociar(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/produtos/1");
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        return Formatos.negociar(new ServletWebRequest(request));
+    }
+}
@@ -0,0 +1,115 @@
+package com.golden.erp.controller;
+
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.support.SqlIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Limites de comandos SQL dos endpoints de pedido. Se um teste falhar, verifique se a
+ * mudança introduziu um lazy load ou um save por item antes de aumentar o limite.
+ */
+public class PedidoControllerSqlTest extends SqlIntegrationTest {
+
+    private static final int ITENS = 50;
+    private static final int PEDIDOS = 100;
+
+    @Test
+    void criar_Com50Itens() throws Exception {
+        Cliente cliente = criarCliente();
+        List<Produto> produtos = criarProdutos(ITENS);
+
+        // venda_diaria e cliente_resumo_pedidos começam vazias: UPDATE sem linha e INSERT em cada uma
+        executar(post("/api/pedidos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(pedidoRequest(cliente, produtos))))
+                .assertMaximo(53, 56, 3, 0);
+    }
+
+    @Test
+    void buscarPorId_Com50Itens() throws Exception {
+        PedidoResponse pedido = criarPedido(criarCliente(), criarProdutos(ITENS));
+
+        executar(get("/api/pedidos/{id}", pedido.getId()))
+                .assertMaximo(4, 0, 0, 0);
+    }
+
+    @Test
+    void buscarPorId_Com50Itens_Cbor() throws Exception {
+        PedidoResponse pedido = criarPedido(criarCliente(), criarProdutos(ITENS));
+
+        executar(get("/api/pedidos/{id}", pedido.getId()).accept(MediaType.APPLICATION_CBOR))
+                .assertMaximo(4, 0, 0, 0);
+    }
+
+    @Test
+    void listar_100Pedidos() throws Exception {
+        criarPedidos();
+
+        executar(get("/api/pedidos").param("size", String.valueOf(PEDIDOS)))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    @Test
+    void listarPorStatus_100Pedidos() throws Exception {
+        criarPedidos();
+
+        executar(get("/api/pedidos/por-status").param("status", "CREATED").param("size", String.valueOf(PEDIDOS)))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    @Test
+    void listarPorCliente_100Pedidos() throws Exception {
+        Cliente cliente = criarCliente();
+        List<Produto> produtos = criarProdutos(3);
+        for (int i = 0; i < PEDIDOS; i++) {
+            criarPedido(cliente, produtos);
+        }
+
+        executar(get("/api/pedidos/por-cliente/{clienteId}", cliente.getId()).param("size", String.valueOf(PEDIDOS)))
+                .assertMaximo(3, 0, 0, 0);
+    }
+
+    @Test
+    void pagar_Com50Itens() throws Exception {
+        PedidoResponse pedido = criarPedido(criarCliente(), criarProdutos(ITENS));
+
+        // Um SELECT a mais quando o bloco de ids da sequence do outbox se esgota; em venda_diaria, UPDATE da
+        // linha CREATED e UPDATE sem linha seguido de INSERT da linha PAID
+        executar(post("/api/pedidos/{id}/pagar", pedido.getId()))
+                .assertMaximo(5, 2, 5, 0);
+    }
+
+    @Test
+    void cancelar_Com50Itens() throws Exception {
+        PedidoResponse pedido = criarPedido(criarCliente(), criarProdutos(ITENS));
+
+        executar(post("/api/pedidos/{id}/cancelar", pedido.getId()))
+                .assertMaximo(6, 2, 6, 0);
+    }
+
+    @Test
+    void cancelar_Com200Itens() throws Exception {
+        PedidoResponse pedido = criarPedido(criarCliente(), criarProdutos(200));
+
+        // Os 201 eventos do outbox custam uma chamada de sequence a cada 50 ids (4 ou 5, conforme o bloco
+        // em uso) e um INSERT em lote a cada 100
+        executar(post("/api/pedidos/{id}/cancelar", pedido.getId()))
+                .assertMaximo(9, 4, 7, 0);
+    }
+
+    private void criarPedidos() {
+        List<Cliente> clientes = criarClientes(10);
+        List<Produto> produtos = criarProdutos(20);
+        for (int i = 0; i < PEDIDOS; i++) {
+            criarPedido(clientes.get(i % clientes.size()), List.of(produtos.get(i % 20), produtos.get((i + 7) % 20)));
+        }
+    }
+}
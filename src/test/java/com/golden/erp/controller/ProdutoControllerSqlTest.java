@@ -0,0 +1,183 @@
+package com.golden.erp.controller;
+
+import com.golden.erp.domain.Produto;
+import com.golden.erp.dto.request.ProdutoRequest;
+import com.golden.erp.support.SqlIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Limites de comandos SQL dos endpoints de produto.
+ */
+public class ProdutoControllerSqlTest extends SqlIntegrationTest {
+
+    private static final int PRODUTOS = 100;
+
+    @Test
+    void criar() throws Exception {
+        executar(post("/api/produtos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(produtoRequest("SQL-NOVO"))))
+                // Produto + evento no outbox; o DELETE é a conferência do alerta de estoque (sem saldo anterior).
+                // Um SELECT a mais quando o bloco de ids da sequence do outbox se esgota
+                .assertMaximo(2, 2, 0, 1);
+    }
+
+    @Test
+    void buscarPorId() throws Exception {
+        Produto produto = criarProduto();
+
+        // Fora do cache: a versão e depois o produto
+        executar(get("/api/produtos/{id}", produto.getId()))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    @Test
+    void buscarPorId_EmCache() throws Exception {
+        Produto produto = criarProduto();
+        executar(get("/api/produtos/{id}", produto.getId()));
+
+        // Só a data de atualização; o corpo sai já serializado do cache
+        executar(get("/api/produtos/{id}", produto.getId()))
+                .assertMaximo(1, 0, 0, 0);
+    }
+
+    @Test
+    void buscarPorId_Cbor() throws Exception {
+        Produto produto = criarProduto();
+
+        // O cache guarda só JSON; em CBOR o produto é carregado direto
+        executar(get("/api/produtos/{id}", produto.getId()).accept(MediaType.APPLICATION_CBOR))
+                .assertMaximo(1, 0, 0, 0);
+    }
+
+    @Test
+    void buscarPorId_Cbor_NaoModificado() throws Exception {
+        Produto produto = criarProduto();
+
+        executarNaoModificado(get("/api/produtos/{id}", produto.getId()).accept(MediaType.APPLICATION_CBOR))
+                .assertMaximo(1, 0, 0, 0);
+    }
+
+    @Test
+    void buscarPorId_NaoModificado() throws Exception {
+        Produto produto = criarProduto();
+
+        // Só a data de atualização, sem carregar o produto
+        executarNaoModificado(get("/api/produtos/{id}", produto.getId()))
+                .assertMaximo(1, 0, 0, 0);
+    }
+
+    @Test
+    void buscarPorId_EtagDesatualizado() throws Exception {
+        Produto produto = criarProduto();
+
+        executar(get("/api/produtos/{id}", produto.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    @Test
+    void atualizar() throws Exception {
+        Produto produto = criarProduto();
+
+        executar(put("/api/produtos/{id}", produto.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(produtoRequest(produto.getSku()))))
+                .assertMaximo(3, 1, 1, 0);
+    }
+
+    @Test
+    void excluir() throws Exception {
+        Produto produto = criarProduto();
+
+        // O INSERT registra a exclusão para o feed de mudanças
+        executar(delete("/api/produtos/{id}", produto.getId()))
+                .assertMaximo(2, 1, 0, 1);
+    }
+
+    @Test
+    void listar_100Produtos() throws Exception {
+        criarProdutos(PRODUTOS);
+
+        executar(get("/api/produtos").param("size", String.valueOf(PRODUTOS)))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    @Test
+    void listarAtivos_100Produtos() throws Exception {
+        criarProdutos(PRODUTOS);
+
+        executar(get("/api/produtos/ativos").param("size", String.valueOf(PRODUTOS)))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    @Test
+    void listarAtivos_NaoModificado_100Produtos() throws Exception {
+        criarProdutos(PRODUTOS);
+
+        // Quantidade e última alteração dos ativos; a página não é lida
+        executarNaoModificado(get("/api/produtos/ativos").param("size", String.valueOf(PRODUTOS)))
+                .assertMaximo(1, 0, 0, 0);
+    }
+
+    @Test
+    void buscarPorNome_100Produtos() throws Exception {
+        criarProdutos(PRODUTOS);
+
+        executar(get("/api/produtos/por-nome").param("nome", "produto").param("size", String.valueOf(PRODUTOS)))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    @Test
+    void buscarAtivosPorNome_100Produtos() throws Exception {
+        criarProdutos(PRODUTOS);
+
+        executar(get("/api/produtos/ativos/por-nome").param("nome", "produto").param("size", String.valueOf(PRODUTOS)))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    @Test
+    void listarProdutosComEstoqueBaixo_100Produtos() throws Exception {
+        for (Produto produto : criarProdutos(PRODUTOS * 10)) {
+            if (produto.getId() % 10 == 0) {
+                // Passa pelo serviço para que o alerta seja aberto pelo evento de estoque
+                produtoService.atualizarEstoque(produto.getId(), 1 - produto.getEstoque());
+            }
+        }
+
+        assertEquals(PRODUTOS, alertaEstoqueRepository.count());
+
+        // Lê só os alertas abertos, independente do tamanho do catálogo
+        executar(get("/api/produtos/estoque-baixo"))
+                .assertMaximo(1, 0, 0, 0);
+    }
+
+    @Test
+    void listarMudancas_100Produtos() throws Exception {
+        criarProdutos(PRODUTOS);
+
+        // Uma consulta para os alterados e outra para as exclusões, pelo índice de updated_at
+        executar(get("/api/produtos/mudancas").param("limite", String.valueOf(PRODUTOS)))
+                .assertMaximo(2, 0, 0, 0);
+    }
+
+    private ProdutoRequest produtoRequest(String sku) {
+        ProdutoRequest request = new ProdutoRequest();
+        request.setSku(sku);
+        request.setNome("Produto " + sku);
+        request.setPrecoBruto(new BigDecimal("25.90"));
+        request.setEstoque(100);
+        request.setEstoqueMinimo(10);
+        request.setAtivo(true);
+        return request;
+    }
+}
@@ -0,0 +1,91 @@
+package com.golden.erp.dashboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JanelaVendasTest {
+
+    private static final long MINUTO = 60_000L;
+    private static final long AGORA = 1_000_000 * MINUTO + 30_000;
+
+    @Test
+    void somar_DeveConsiderarApenasOsMinutosDaJanela() {
+        JanelaVendas janela = new JanelaVendas(60);
+        janela.registrarPedido(AGORA, 10_000);
+        janela.registrarPedido(AGORA - 4 * MINUTO, 5_000);
+        janela.registrarPedido(AGORA - 5 * MINUTO, 2_000);
+        janela.registrarPedido(AGORA - 59 * MINUTO, 1_000);
+
+        JanelaVendas.Totais cincoMinutos = janela.somar(AGORA, 5);
+        assertEquals(2, cincoMinutos.pedidos());
+        assertEquals(15_000, cincoMinutos.receitaCentavos());
+        assertEquals(7_500, cincoMinutos.ticketMedioCentavos());
+        assertEquals(4, janela.somar(AGORA, 60).pedidos());
+    }
+
+    @Test
+    void registrarPedido_DeveSubstituirBalde_QuandoBufferDaAVolta() {
+        JanelaVendas janela = new JanelaVendas(60);
+        janela.registrarPedido(AGORA - 60 * MINUTO, 1_000);
+        janela.registrarPedido(AGORA, 3_000);
+
+        JanelaVendas.Totais totais = janela.somar(AGORA, 60);
+        assertEquals(1, totais.pedidos());
+        assertEquals(3_000, totais.receitaCentavos());
+    }
+
+    @Test
+    void registrarCancelamento_DeveContarNoMinutoDaCriacao_EIgnorarPedidosForaDoBuffer() {
+        JanelaVendas janela = new JanelaVendas(60);
+        janela.registrarPedido(AGORA - 30 * MINUTO, 4_000);
+        janela.registrarPedido(AGORA, 6_000);
+        janela.registrarCancelamento(AGORA - 30 * MINUTO, 4_000);
+        janela.registrarCancelamento(AGORA - 90 * MINUTO, 9_000);
+
+        assertEquals(0, janela.somar(AGORA, 5).cancelamentos());
+        JanelaVendas.Totais hora = janela.somar(AGORA, 60);
+        assertEquals(1, hora.cancelamentos());
+        assertEquals(4_000, hora.canceladoCentavos());
+        assertEquals(0.5, hora.taxaCancelamento());
+    }
+
+    @Test
+    void somar_DeveRecusarJanelaMaiorQueOBuffer() {
+        assertThrows(IllegalArgumentException.class, () -> new JanelaVendas(60).somar(AGORA, 61));
+    }
+
+    @Test
+    void registrarPedido_NaoDevePerderContagens_QuandoThreadsConcorrentesViramOMinuto() throws InterruptedException {
+        JanelaVendas janela = new JanelaVendas(60);
+        janela.registrarPedido(AGORA - 60 * MINUTO, 1);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 10_000; i++) {
+                    janela.registrarPedido(AGORA, 100);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        largada.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        JanelaVendas.Totais totais = janela.somar(AGORA, 1);
+        assertEquals(80_000, totais.pedidos());
+        assertEquals(8_000_000, totais.receitaCentavos());
+    }
+}
@@ -0,0 +1,49 @@
+package com.golden.erp.gerador;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DistribuicaoZipfTest {
+
+    @Test
+    void amostrar_MesmaSemente_DeveGerarMesmaSequencia() {
+        DistribuicaoZipf a = new DistribuicaoZipf(1_000, 1.1, 7L);
+        DistribuicaoZipf b = new DistribuicaoZipf(1_000, 1.1, 7L);
+        SplittableRandom randomA = new SplittableRandom(99L);
+        SplittableRandom randomB = new SplittableRandom(99L);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(a.amostrar(randomA), b.amostrar(randomB));
+        }
+    }
+
+    @Test
+    void amostrar_DeveConcentrarAmostrasNosElementosMaisPopulares() {
+        int n = 1_000;
+        DistribuicaoZipf distribuicao = new DistribuicaoZipf(n, 1.1, 7L);
+        SplittableRandom random = new SplittableRandom(1L);
+        int[] contagem = new int[n];
+        int amostras = 100_000;
+
+        for (int i = 0; i < amostras; i++) {
+            int indice = distribuicao.amostrar(random);
+            assertTrue(indice >= 0 && indice < n);
+            contagem[indice]++;
+        }
+
+        int[] ordenada = Arrays.stream(contagem).boxed().sorted((x, y) -> y - x).mapToInt(Integer::intValue).toArray();
+        int top10 = Arrays.stream(ordenada, 0, 10).sum();
+        // Com expoente 1.1 os 10 primeiros de 1000 concentram cerca de metade das vendas
+        assertTrue(top10 > amostras * 0.35, "top 10 = " + top10);
+        assertTrue(ordenada[0] > ordenada[n / 2] * 50);
+    }
+
+    @Test
+    void construtor_SemElementos_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> new DistribuicaoZipf(0, 1.0, 1L));
+    }
+}
@@ -0,0 +1,64 @@
+package com.golden.erp.gerador;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeradorDadosTest {
+
+    private static final LocalDate DATA_REFERENCIA = LocalDate.of(2025, 6, 1);
+
+    @Test
+    void status_DeveSeguirOsPesosConfigurados() {
+        GeradorDadosProperties properties = properties();
+        GeradorDados gerador = new GeradorDados(null, properties, 1);
+        SplittableRandom random = new SplittableRandom(42L);
+        Map<String, Integer> contagem = new HashMap<>();
+        int amostras = 100_000;
+
+        for (int i = 0; i < amostras; i++) {
+            String status = gerador.status(random);
+            gerador.criadoEm(random, status);
+            contagem.merge(status, 1, Integer::sum);
+        }
+
+        // Pesos padrão: 10 CREATED, 70 PAID, 15 CANCELLED, 5 LATE
+        assertEquals(0.10, contagem.get("CREATED") / (double) amostras, 0.01);
+        assertEquals(0.70, contagem.get("PAID") / (double) amostras, 0.01);
+        assertEquals(0.15, contagem.get("CANCELLED") / (double) amostras, 0.01);
+        assertEquals(0.05, contagem.get("LATE") / (double) amostras, 0.01);
+    }
+
+    @Test
+    void criadoEm_DeveSerCoerenteComOStatus() {
+        GeradorDadosProperties properties = properties();
+        GeradorDados gerador = new GeradorDados(null, properties, 1);
+        SplittableRandom random = new SplittableRandom(7L);
+        LocalDateTime agora = DATA_REFERENCIA.atStartOfDay();
+        LocalDateTime limiteAtraso = agora.minusHours(48);
+        LocalDateTime inicioHistorico = agora.minusDays(properties.getDiasHistorico());
+
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime created = gerador.criadoEm(random, "CREATED");
+            assertTrue(created.isAfter(limiteAtraso) && created.isBefore(agora), created.toString());
+
+            LocalDateTime late = gerador.criadoEm(random, "LATE");
+            assertTrue(late.isBefore(limiteAtraso) && !late.isBefore(inicioHistorico), late.toString());
+
+            LocalDateTime paid = gerador.criadoEm(random, "PAID");
+            assertTrue(paid.isBefore(agora) && !paid.isBefore(inicioHistorico), paid.toString());
+        }
+    }
+
+    private static GeradorDadosProperties properties() {
+        GeradorDadosProperties properties = new GeradorDadosProperties();
+        properties.setDataReferencia(DATA_REFERENCIA);
+        return properties;
+    }
+}
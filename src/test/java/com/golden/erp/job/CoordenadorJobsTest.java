@@ -0,0 +1,171 @@
+package com.golden.erp.job;
+
+import com.golden.erp.domain.JobExecucao;
+import com.golden.erp.metrics.ErpMetrics;
+import com.golden.erp.repository.JobExecucaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CoordenadorJobsTest {
+
+    private static final Duration INTERVALO = Duration.ofMinutes(30);
+
+    @Mock
+    private JobExecucaoRepository jobExecucaoRepository;
+
+    @Mock
+    private JobMetrics jobMetrics;
+
+    private LocalTravaJob travaJob;
+    private CoordenadorJobs coordenadorJobs;
+
+    @BeforeEach
+    void setUp() {
+        travaJob = new LocalTravaJob();
+        coordenadorJobs = new CoordenadorJobs(travaJob, jobExecucaoRepository, jobMetrics, "no-1");
+    }
+
+    @Test
+    void executar_DeveRodarTarefa_QuandoTravaLivre() {
+        // Arrange
+        List<String> execucoes = new ArrayList<>();
+
+        // Act
+        boolean executou = coordenadorJobs.executar("job", INTERVALO, () -> execucoes.add("job"));
+
+        // Assert
+        assertTrue(executou);
+        assertEquals(List.of("job"), execucoes);
+        SituacaoJob situacao = coordenadorJobs.getSituacoes().get("job");
+        assertTrue(situacao.isResponsavel());
+        assertEquals(1, situacao.getExecucoes());
+        verify(jobExecucaoRepository).save(argThat(e -> e.getParticao() == 0 && "no-1".equals(e.getInstancia())
+                && e.getConcluidoEm() != null));
+        verify(jobMetrics).registrarJob(eq("job"), eq(ErpMetrics.OUTCOME_SUCCESS), any());
+    }
+
+    @Test
+    void executar_DevePularTarefa_QuandoOutraInstanciaJaConcluiuARodada() {
+        // Arrange
+        JobExecucao execucao = new JobExecucao("job", 0);
+        execucao.setInstancia("no-2");
+        execucao.setConcluidoEm(LocalDateTime.now().minusMinutes(1));
+        when(jobExecucaoRepository.findById(any())).thenReturn(Optional.of(execucao));
+
+        // Act
+        boolean executou = coordenadorJobs.executar("job", INTERVALO, () -> fail("Não deveria executar"));
+
+        // Assert
+        assertFalse(executou);
+        verify(jobExecucaoRepository, never()).save(any());
+        verify(jobMetrics).registrarJobIgnorado("job", 1);
+        assertTrue(travaJob.tentarAdquirir("job", 0).isPresent());
+    }
+
+    @Test
+    void executar_DeveRodarTarefa_QuandoUltimaConclusaoForaDoIntervalo() {
+        // Arrange
+        JobExecucao execucao = new JobExecucao("job", 0);
+        execucao.setInstancia("no-2");
+        execucao.setConcluidoEm(LocalDateTime.now().minusHours(1));
+        when(jobExecucaoRepository.findById(any())).thenReturn(Optional.of(execucao));
+
+        // Act
+        boolean executou = coordenadorJobs.executar("job", INTERVALO, () -> { });
+
+        // Assert
+        assertTrue(executou);
+        assertEquals("no-1", execucao.getInstancia());
+        verify(jobExecucaoRepository).save(execucao);
+    }
+
+    @Test
+    void executar_DevePularTarefa_QuandoOutraInstanciaTemATrava() {
+        // Arrange
+        TravaJob.Trava travaDeOutraInstancia = travaJob.tentarAdquirir("job", 0).orElseThrow();
+
+        // Act
+        boolean executou = coordenadorJobs.executar("job", INTERVALO, () -> fail("Não deveria executar"));
+
+        // Assert
+        assertFalse(executou);
+        assertFalse(coordenadorJobs.getSituacoes().get("job").isResponsavel());
+        verify(jobMetrics).registrarJobIgnorado("job", 1);
+        verify(jobMetrics, never()).registrarJob(anyString(), anyString(), any());
+        travaDeOutraInstancia.close();
+    }
+
+    @Test
+    void executarParticionado_DeveExecutarApenasParticoesLivres() {
+        // Arrange
+        TravaJob.Trava travaDeOutraInstancia = travaJob.tentarAdquirir("job", 2).orElseThrow();
+        List<Integer> executadas = new ArrayList<>();
+
+        // Act
+        int quantidade = coordenadorJobs.executarParticionado("job", 4, INTERVALO, executadas::add);
+
+        // Assert
+        assertEquals(3, quantidade);
+        assertFalse(executadas.contains(2));
+        SituacaoJob situacao = coordenadorJobs.getSituacoes().get("job");
+        assertEquals(List.of(0, 1, 3), situacao.getParticoesExecutadas());
+        assertEquals(1, situacao.getParticoesIgnoradas());
+        assertEquals(4, situacao.getTotalParticoes());
+        travaDeOutraInstancia.close();
+    }
+
+    @Test
+    void executarParticionado_DeveLiberarTravaEContinuar_QuandoParticaoFalha() {
+        // Act
+        int quantidade = coordenadorJobs.executarParticionado("job", 2, INTERVALO, particao -> {
+            if (particao == 0) {
+                throw new IllegalStateException("falha na partição 0");
+            }
+        });
+
+        // Assert
+        assertEquals(1, quantidade);
+        assertEquals("falha na partição 0", coordenadorJobs.getSituacoes().get("job").getUltimoErro());
+        assertTrue(travaJob.tentarAdquirir("job", 0).isPresent());
+        verify(jobExecucaoRepository).save(argThat(e -> e.getParticao() == 1));
+        verify(jobExecucaoRepository, never()).save(argThat(e -> e.getParticao() == 0));
+        verify(jobMetrics).registrarJob(eq("job"), eq(ErpMetrics.OUTCOME_ERROR), any());
+    }
+
+    @Test
+    void executarParticionado_DeveRecusarQuantidadeInvalidaDeParticoes() {
+        assertThrows(IllegalArgumentException.class, () -> coordenadorJobs.executarParticionado("job", 0, INTERVALO, p -> { }));
+    }
+
+    @Test
+    void executar_DeveFecharTravaAoTerminar() {
+        // Arrange
+        TravaJob travaMock = mock(TravaJob.class);
+        TravaJob.Trava trava = mock(TravaJob.Trava.class);
+        when(travaMock.tentarAdquirir("job", 0)).thenReturn(Optional.of(trava));
+        CoordenadorJobs coordenador = new CoordenadorJobs(travaMock, jobExecucaoRepository, jobMetrics, "");
+
+        // Act
+        coordenador.executar("job", INTERVALO, () -> { });
+
+        // Assert
+        verify(trava).close();
+        assertFalse(coordenador.getInstancia().isBlank());
+    }
+}
@@ -0,0 +1,250 @@
+package com.golden.erp.loadtest;
+
+import com.golden.erp.repository.ClienteRepository;
+import com.golden.erp.repository.ProdutoRepository;
+import com.golden.erp.service.PedidoService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga ponta a ponta: sobe a aplicação, popula o banco e executa uma carga
+ * mista contra todos os controllers, gerando p50/p95/p99 e taxa de erro por endpoint.
+ * <p>
+ * Executado apenas com o profile {@code loadtest}:
+ * {@code ./mvnw -Ploadtest test -Dloadtest.threads=16 -Dloadtest.duracao=60}.
+ */
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiLoadTest.class);
+
+    private static final int THREADS = Integer.getInteger("loadtest.threads", 8);
+    private static final int AQUECIMENTO_S = Integer.getInteger("loadtest.aquecimento", 5);
+    private static final int DURACAO_S = Integer.getInteger("loadtest.duracao", 30);
+    private static final int CLIENTES = Integer.getInteger("loadtest.clientes", 1_000);
+    private static final int PRODUTOS = Integer.getInteger("loadtest.produtos", 2_000);
+    private static final int PEDIDOS = Integer.getInteger("loadtest.pedidos", 2_000);
+    private static final int ITENS_POR_PEDIDO = Integer.getInteger("loadtest.itens", 5);
+    private static final long LATENCIA_VIACEP_MS = Long.getLong("loadtest.viacep.latencia", 50L);
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final Path RELATORIO = Path.of(System.getProperty("loadtest.relatorio", "target/loadtest-report.json"));
+
+    private static final ViaCepStubServer VIA_CEP = iniciarViaCep();
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ConcurrentLinkedQueue<Long> pedidosCriados = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequencia = new AtomicLong();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private PedidoService pedidoService;
+
+    private LoadTestDataSeeder seeder;
+
+    @DynamicPropertySource
+    static void viaCep(DynamicPropertyRegistry registry) {
+        registry.add("viacep.url", VIA_CEP::getUrl);
+    }
+
+    @AfterAll
+    static void pararViaCep() {
+        VIA_CEP.close();
+    }
+
+    @Test
+    void cargaMista() throws Exception {
+        seeder = new LoadTestDataSeeder(clienteRepository, produtoRepository, pedidoService, SEED);
+        seeder.popular(CLIENTES, PRODUTOS, PEDIDOS, ITENS_POR_PEDIDO);
+
+        executar(new LoadTestReport(), AQUECIMENTO_S);
+
+        LoadTestReport relatorio = new LoadTestReport();
+        long duracaoMs = executar(relatorio, DURACAO_S);
+
+        logger.info("Resultado do teste de carga ({}):\n{}", RELATORIO, relatorio.formatar(duracaoMs));
+        relatorio.gravarJson(RELATORIO, duracaoMs, parametros());
+    }
+
+    private long executar(LoadTestReport relatorio, int segundos) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long inicio = System.nanoTime();
+        long fim = inicio + Duration.ofSeconds(segundos).toNanos();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Random random = new Random(SEED + t);
+                workers.add(executor.submit(() -> {
+                    while (System.nanoTime() < fim) {
+                        executarOperacao(random, relatorio);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return Duration.ofNanos(System.nanoTime() - inicio).toMillis();
+    }
+
+    private void executarOperacao(Random random, LoadTestReport relatorio) throws IOException, InterruptedException {
+        int sorteio = random.nextInt(100);
+        if (sorteio < 12) {
+            get(relatorio, "GET /api/produtos/{id}", "/api/produtos/" + seeder.produtoAleatorio());
+        } else if (sorteio < 20) {
+            get(relatorio, "GET /api/produtos", "/api/produtos?page=" + random.nextInt(20));
+        } else if (sorteio < 28) {
+            get(relatorio, "GET /api/produtos/ativos", "/api/produtos/ativos?page=" + random.nextInt(20));
+        } else if (sorteio < 31) {
+            get(relatorio, "GET /api/produtos/por-nome", "/api/produtos/por-nome?nome=Carga%20" + random.nextInt(100));
+        } else if (sorteio < 33) {
+            get(relatorio, "GET /api/produtos/ativos/por-nome", "/api/produtos/ativos/por-nome?nome=Carga%20" + random.nextInt(100));
+        } else if (sorteio < 34) {
+            get(relatorio, "GET /api/produtos/estoque-baixo", "/api/produtos/estoque-baixo");
+        } else if (sorteio < 44) {
+            get(relatorio, "GET /api/clientes/{id}", "/api/clientes/" + seeder.clienteAleatorio());
+        } else if (sorteio < 48) {
+            get(relatorio, "GET /api/clientes", "/api/clientes?page=" + random.nextInt(20));
+        } else if (sorteio < 50) {
+            get(relatorio, "GET /api/clientes/por-nome", "/api/clientes/por-nome?nome=Carga%20" + random.nextInt(100));
+        } else if (sorteio < 51) {
+            get(relatorio, "GET /api/clientes/por-email", "/api/clientes/por-email?email=cliente" + random.nextInt(100));
+        } else if (sorteio < 53) {
+            criarCliente(relatorio);
+        } else if (sorteio < 63) {
+            get(relatorio, "GET /api/pedidos/{id}", "/api/pedidos/" + seeder.pedidoAleatorio());
+        } else if (sorteio < 70) {
+            get(relatorio, "GET /api/pedidos", "/api/pedidos?page=" + random.nextInt(20));
+        } else if (sorteio < 75) {
+            get(relatorio, "GET /api/pedidos/por-status", "/api/pedidos/por-status?status=CREATED&page=" + random.nextInt(5));
+        } else if (sorteio < 80) {
+            get(relatorio, "GET /api/pedidos/por-cliente/{id}", "/api/pedidos/por-cliente/" + seeder.clienteAleatorio());
+        } else if (sorteio < 92) {
+            criarPedido(relatorio);
+        } else if (sorteio < 96) {
+            transicionarPedido(relatorio, "pagar");
+        } else {
+            transicionarPedido(relatorio, "cancelar");
+        }
+    }
+
+    private void criarCliente(LoadTestReport relatorio) throws IOException, InterruptedException {
+        long n = sequencia.incrementAndGet();
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        corpo.put("nome", "Cliente Novo " + n);
+        corpo.put("email", "novo" + n + "@carga.local");
+        corpo.put("cpf", String.format("9%010d", n));
+        corpo.put("cep", "01001-000");
+        corpo.put("numero", String.valueOf(n));
+        post(relatorio, "POST /api/clientes", "/api/clientes", jsonMapper.writeValueAsString(corpo));
+    }
+
+    private void criarPedido(LoadTestReport relatorio) throws IOException, InterruptedException {
+        String corpo = jsonMapper.writeValueAsString(seeder.novoPedido(ITENS_POR_PEDIDO));
+        HttpResponse<String> resposta = post(relatorio, "POST /api/pedidos", "/api/pedidos", corpo);
+        if (resposta != null && resposta.statusCode() == 201) {
+            pedidosCriados.add(jsonMapper.readTree(resposta.body()).get("id").asLong());
+        }
+    }
+
+    private void transicionarPedido(LoadTestReport relatorio, String acao) throws IOException, InterruptedException {
+        Long id = pedidosCriados.poll();
+        if (id == null) {
+            return;
+        }
+        post(relatorio, "POST /api/pedidos/{id}/" + acao, "/api/pedidos/" + id + "/" + acao, "");
+    }
+
+    private void get(LoadTestReport relatorio, String endpoint, String caminho) throws IOException, InterruptedException {
+        enviar(relatorio, endpoint, HttpRequest.newBuilder(uri(caminho)).GET().build());
+    }
+
+    private HttpResponse<String> post(LoadTestReport relatorio, String endpoint, String caminho, String corpo)
+            throws IOException, InterruptedException {
+        return enviar(relatorio, endpoint, HttpRequest.newBuilder(uri(caminho))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build());
+    }
+
+    private HttpResponse<String> enviar(LoadTestReport relatorio, String endpoint, HttpRequest request)
+            throws IOException, InterruptedException {
+        long inicio = System.nanoTime();
+        try {
+            HttpResponse<String> resposta = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            relatorio.registrar(endpoint, System.nanoTime() - inicio, resposta.statusCode() >= 400);
+            return resposta;
+        } catch (IOException e) {
+            relatorio.registrar(endpoint, System.nanoTime() - inicio, true);
+            return null;
+        }
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + port + caminho);
+    }
+
+    private Map<String, Object> parametros() {
+        Map<String, Object> parametros = new LinkedHashMap<>();
+        parametros.put("threads", THREADS);
+        parametros.put("duracaoSegundos", DURACAO_S);
+        parametros.put("clientes", CLIENTES);
+        parametros.put("produtos", PRODUTOS);
+        parametros.put("pedidos", PEDIDOS);
+        parametros.put("itensPorPedido", ITENS_POR_PEDIDO);
+        parametros.put("latenciaViaCepMs", LATENCIA_VIACEP_MS);
+        parametros.put("seed", SEED);
+        return parametros;
+    }
+
+    private static ViaCepStubServer iniciarViaCep() {
+        try {
+            return new ViaCepStubServer(LATENCIA_VIACEP_MS);
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível iniciar o stub do ViaCEP", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.golden.erp.loadtest;
+
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.dto.request.PedidoItemRequest;
+import com.golden.erp.dto.request.PedidoRequest;
+import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.repository.ClienteRepository;
+import com.golden.erp.repository.ProdutoRepository;
+import com.golden.erp.service.PedidoService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Popula o banco com clientes, produtos e pedidos antes do teste de carga.
+ * Clientes e produtos são gravados direto pelos repositórios; os pedidos passam
+ * pelo {@link PedidoService} para manter estoque e totais consistentes.
+ */
+public class LoadTestDataSeeder {
+
+    private static final int LOTE = 500;
+
+    private final ClienteRepository clienteRepository;
+    private final ProdutoRepository produtoRepository;
+    private final PedidoService pedidoService;
+    private final Random random;
+
+    private final List<Long> clienteIds = new ArrayList<>();
+    private final List<Long> produtoIds = new ArrayList<>();
+    private final List<Long> pedidoIds = new ArrayList<>();
+
+    public LoadTestDataSeeder(ClienteRepository clienteRepository, ProdutoRepository produtoRepository,
+                              PedidoService pedidoService, long seed) {
+        this.clienteRepository = clienteRepository;
+        this.produtoRepository = produtoRepository;
+        this.pedidoService = pedidoService;
+        this.random = new Random(seed);
+    }
+
+    public void popular(int clientes, int produtos, int pedidos, int itensPorPedido) {
+        List<Cliente> loteClientes = new ArrayList<>(LOTE);
+        for (int i = 0; i < clientes; i++) {
+            loteClientes.add(cliente(i));
+            if (loteClientes.size() == LOTE || i == clientes - 1) {
+                clienteRepository.saveAll(loteClientes).forEach(c -> clienteIds.add(c.getId()));
+                loteClientes.clear();
+            }
+        }
+
+        List<Produto> loteProdutos = new ArrayList<>(LOTE);
+        for (int i = 0; i < produtos; i++) {
+            loteProdutos.add(produto(i));
+            if (loteProdutos.size() == LOTE || i == produtos - 1) {
+                produtoRepository.saveAll(loteProdutos).forEach(p -> produtoIds.add(p.getId()));
+                loteProdutos.clear();
+            }
+        }
+
+        for (int i = 0; i < pedidos; i++) {
+            PedidoResponse pedido = pedidoService.criar(novoPedido(itensPorPedido));
+            pedidoIds.add(pedido.getId());
+        }
+    }
+
+    public PedidoRequest novoPedido(int itensPorPedido) {
+        PedidoRequest request = new PedidoRequest();
+        request.setClienteId(clienteAleatorio());
+
+        List<PedidoItemRequest> itens = new ArrayList<>(itensPorPedido);
+        for (int i = 0; i < itensPorPedido; i++) {
+            PedidoItemRequest item = new PedidoItemRequest();
+            item.setProdutoId(produtoAleatorio());
+            item.setQuantidade(1 + random.nextInt(3));
+            itens.add(item);
+        }
+        request.setItens(itens);
+        return request;
+    }
+
+    public synchronized Long clienteAleatorio() {
+        return clienteIds.get(random.nextInt(clienteIds.size()));
+    }
+
+    public synchronized Long produtoAleatorio() {
+        return produtoIds.get(random.nextInt(produtoIds.size()));
+    }
+
+    public synchronized Long pedidoAleatorio() {
+        return pedidoIds.get(random.nextInt(pedidoIds.size()));
+    }
+
+    private Cliente cliente(int i) {
+        Cliente cliente = new Cliente();
+        cliente.setNome("Cliente Carga " + i);
+        cliente.setEmail("cliente" + i + "@carga.local");
+        cliente.setCpf(String.format("%011d", i));
+        cliente.setLogradouro("Praça da Sé");
+        cliente.setNumero(String.valueOf(i));
+        cliente.setBairro("Sé");
+        cliente.setCidade("São Paulo");
+        cliente.setUf("SP");
+        cliente.setCep("01001-000");
+        return cliente;
+    }
+
+    private Produto produto(int i) {
+        Produto produto = new Produto();
+        produto.setSku("CARGA-" + i);
+        produto.setNome("Produto Carga " + i);
+        produto.setPrecoBruto(BigDecimal.valueOf(100 + random.nextInt(100_000), 2));
+        produto.setEstoque(1_000_000);
+        produto.setEstoqueMinimo(i % 50 == 0 ? 2_000_000 : 10);
+        produto.setAtivo(i % 10 != 0);
+        return produto;
+    }
+}
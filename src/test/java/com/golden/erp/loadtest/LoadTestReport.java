@@ -0,0 +1,95 @@
+package com.golden.erp.loadtest;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Acumula latências e erros por endpoint e gera o relatório com p50/p95/p99.
+ */
+public class LoadTestReport {
+
+    private final Map<String, Amostras> amostras = new ConcurrentHashMap<>();
+
+    public void registrar(String endpoint, long latenciaNanos, boolean erro) {
+        amostras.computeIfAbsent(endpoint, e -> new Amostras()).registrar(latenciaNanos, erro);
+    }
+
+    public List<Map<String, Object>> resumir(long duracaoMs) {
+        List<Map<String, Object>> linhas = new ArrayList<>();
+        amostras.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> linhas.add(entry.getValue().resumir(entry.getKey(), duracaoMs)));
+        return linhas;
+    }
+
+    public String formatar(long duracaoMs) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-40s %8s %9s %9s %9s %9s %8s%n",
+                "endpoint", "req", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "erros(%)"));
+        for (Map<String, Object> linha : resumir(duracaoMs)) {
+            sb.append(String.format("%-40s %8d %9.1f %9.2f %9.2f %9.2f %8.2f%n",
+                    linha.get("endpoint"), linha.get("requisicoes"), linha.get("throughput"),
+                    linha.get("p50"), linha.get("p95"), linha.get("p99"), linha.get("taxaErro")));
+        }
+        return sb.toString();
+    }
+
+    public void gravarJson(Path arquivo, long duracaoMs, Map<String, Object> parametros) throws IOException {
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("parametros", parametros);
+        relatorio.put("duracaoMs", duracaoMs);
+        relatorio.put("endpoints", resumir(duracaoMs));
+        Files.createDirectories(arquivo.getParent());
+        JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValue(arquivo.toFile(), relatorio);
+    }
+
+    private static final class Amostras {
+
+        private long[] latencias = new long[1024];
+        private int tamanho;
+        private long erros;
+
+        synchronized void registrar(long latenciaNanos, boolean erro) {
+            if (tamanho == latencias.length) {
+                latencias = Arrays.copyOf(latencias, tamanho * 2);
+            }
+            latencias[tamanho++] = latenciaNanos;
+            if (erro) {
+                erros++;
+            }
+        }
+
+        synchronized Map<String, Object> resumir(String endpoint, long duracaoMs) {
+            long[] ordenadas = Arrays.copyOf(latencias, tamanho);
+            Arrays.sort(ordenadas);
+
+            Map<String, Object> linha = new LinkedHashMap<>();
+            linha.put("endpoint", endpoint);
+            linha.put("requisicoes", tamanho);
+            linha.put("throughput", duracaoMs > 0 ? tamanho * 1000.0 / duracaoMs : 0.0);
+            linha.put("p50", percentil(ordenadas, 0.50));
+            linha.put("p95", percentil(ordenadas, 0.95));
+            linha.put("p99", percentil(ordenadas, 0.99));
+            linha.put("erros", erros);
+            linha.put("taxaErro", tamanho > 0 ? erros * 100.0 / tamanho : 0.0);
+            return linha;
+        }
+
+        private static double percentil(long[] ordenadas, double percentil) {
+            if (ordenadas.length == 0) {
+                return 0.0;
+            }
+            int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+            return ordenadas[Math.max(indice, 0)] / 1_000_000.0;
+        }
+    }
+}
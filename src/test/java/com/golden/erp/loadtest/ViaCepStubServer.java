@@ -0,0 +1,59 @@
+package com.golden.erp.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servidor HTTP local que responde no formato do ViaCEP com uma latência fixa,
+ * para que o teste de carga não dependa da API externa.
+ */
+public class ViaCepStubServer implements AutoCloseable {
+
+    private static final String RESPOSTA = """
+            {"cep":"01001-000","logradouro":"Praça da Sé","complemento":"lado ímpar","bairro":"Sé",\
+            "localidade":"São Paulo","uf":"SP","ibge":"3550308","gia":"1004","ddd":"11","siafi":"7107"}""";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public ViaCepStubServer(long latenciaMs) throws IOException {
+        byte[] corpo = RESPOSTA.getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/ws", exchange -> {
+            try {
+                if (latenciaMs > 0) {
+                    Thread.sleep(latenciaMs);
+                }
+                exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+                exchange.sendResponseHeaders(200, corpo.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(corpo);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.sendResponseHeaders(503, -1);
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/ws";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
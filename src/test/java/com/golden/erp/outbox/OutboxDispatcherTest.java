@@ -0,0 +1,159 @@
+package com.golden.erp.outbox;
+
+import com.golden.erp.domain.OutboxEvento;
+import com.golden.erp.repository.OutboxEventoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Mock
+    private OutboxPublicador outboxPublicador;
+
+    @Mock
+    private OutboxMetrics outboxMetrics;
+
+    private OutboxProperties properties;
+
+    private OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setMaximoTentativas(3);
+        properties.setBackoffInicialMs(1000);
+        properties.setBackoffMaximoMs(60_000);
+        outboxDispatcher = new OutboxDispatcher(outboxEventoRepository, outboxPublicador, outboxMetrics, properties);
+    }
+
+    @Test
+    void despachar_DevePublicarEApagarOLote() {
+        // Arrange
+        List<OutboxEvento> eventos = List.of(evento(1L), evento(2L));
+        when(outboxEventoRepository.bloquearPendentes(any(LocalDateTime.class), eq(100))).thenReturn(eventos);
+
+        // Act
+        int publicados = outboxDispatcher.despachar(100);
+
+        // Assert
+        assertEquals(2, publicados);
+        verify(outboxPublicador).publicar(eventos);
+        verify(outboxEventoRepository).deleteAllInBatch(eventos);
+        verify(outboxMetrics).registrarPublicados(eventos);
+    }
+
+    @Test
+    void despachar_DeveRetornarZero_QuandoOutboxVazio() {
+        // Arrange
+        when(outboxEventoRepository.bloquearPendentes(any(LocalDateTime.class), eq(100))).thenReturn(List.of());
+
+        // Act
+        int publicados = outboxDispatcher.despachar(100);
+
+        // Assert
+        assertEquals(0, publicados);
+        verifyNoInteractions(outboxPublicador);
+        verify(outboxEventoRepository, never()).deleteAllInBatch(anyIterable());
+        verify(outboxMetrics).registrarPendenteMaisAntigo(null);
+    }
+
+    @Test
+    void despachar_DeveManterEventoEReagendar_QuandoPublicacaoFalha() {
+        // Arrange
+        OutboxEvento evento = evento(1L);
+        when(outboxEventoRepository.bloquearPendentes(any(LocalDateTime.class), eq(100))).thenReturn(List.of(evento));
+        doThrow(new IllegalStateException("broker indisponível")).when(outboxPublicador).publicar(any());
+        LocalDateTime antes = LocalDateTime.now();
+
+        // Act
+        int publicados = outboxDispatcher.despachar(100);
+
+        // Assert
+        assertEquals(0, publicados);
+        assertEquals(1, evento.getTentativas());
+        assertEquals("broker indisponível", evento.getUltimoErro());
+        assertFalse(evento.getProximaTentativa().isBefore(antes.plusSeconds(1)));
+        assertNull(evento.getMortoEm());
+        verify(outboxEventoRepository, never()).deleteAllInBatch(anyIterable());
+        verify(outboxMetrics).registrarFalha();
+        verify(outboxMetrics, never()).registrarPublicados(any());
+    }
+
+    @Test
+    void despachar_DevePublicarOsDemaisEventos_QuandoUmEventoDoLoteFalha() {
+        // Arrange
+        OutboxEvento primeiro = evento(1L);
+        OutboxEvento envenenado = evento(2L);
+        OutboxEvento terceiro = evento(3L);
+        List<OutboxEvento> eventos = List.of(primeiro, envenenado, terceiro);
+        when(outboxEventoRepository.bloquearPendentes(any(LocalDateTime.class), eq(100))).thenReturn(eventos);
+        doAnswer(invocation -> {
+            List<OutboxEvento> lote = invocation.getArgument(0);
+            if (lote.contains(envenenado)) {
+                throw new IllegalArgumentException("payload inválido");
+            }
+            return null;
+        }).when(outboxPublicador).publicar(any());
+
+        // Act
+        int publicados = outboxDispatcher.despachar(100);
+
+        // Assert
+        assertEquals(2, publicados);
+        verify(outboxPublicador).publicar(List.of(primeiro));
+        verify(outboxPublicador).publicar(List.of(terceiro));
+        verify(outboxEventoRepository).deleteAllInBatch(List.of(primeiro, terceiro));
+        verify(outboxMetrics).registrarPublicados(List.of(primeiro, terceiro));
+        assertEquals(1, envenenado.getTentativas());
+        assertEquals(0, primeiro.getTentativas());
+    }
+
+    @Test
+    void despachar_DeveMarcarEventoComoMorto_QuandoEsgotaAsTentativas() {
+        // Arrange
+        OutboxEvento evento = evento(1L);
+        evento.setTentativas(2);
+        when(outboxEventoRepository.bloquearPendentes(any(LocalDateTime.class), eq(100))).thenReturn(List.of(evento));
+        doThrow(new IllegalStateException("payload inválido")).when(outboxPublicador).publicar(any());
+
+        // Act
+        outboxDispatcher.despachar(100);
+
+        // Assert
+        assertEquals(3, evento.getTentativas());
+        assertNotNull(evento.getMortoEm());
+        verify(outboxMetrics).registrarMorto();
+    }
+
+    @Test
+    void espera_DeveDobrarACadaFalhaAteOMaximo() {
+        assertEquals(Duration.ofSeconds(1), outboxDispatcher.espera(1));
+        assertEquals(Duration.ofSeconds(2), outboxDispatcher.espera(2));
+        assertEquals(Duration.ofSeconds(32), outboxDispatcher.espera(6));
+        assertEquals(Duration.ofMinutes(1), outboxDispatcher.espera(7));
+        assertEquals(Duration.ofMinutes(1), outboxDispatcher.espera(200));
+    }
+
+    private OutboxEvento evento(Long id) {
+        OutboxEvento evento = new OutboxEvento("PEDIDO", id, "PEDIDO_CRIADO", "{}");
+        evento.setId(id);
+        return evento;
+    }
+}
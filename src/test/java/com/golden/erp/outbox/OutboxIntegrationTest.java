@@ -0,0 +1,97 @@
+package com.golden.erp.outbox;
+
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.OutboxEvento;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.support.SqlIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.JsonNode;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Fluxo completo do outbox com o {@link ArquivoOutboxPublicador} do profile {@code sqltest}:
+ * os eventos são gravados junto com o pedido e o dispatcher os move para o arquivo.
+ */
+public class OutboxIntegrationTest extends SqlIntegrationTest {
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private ArquivoOutboxPublicador arquivoOutboxPublicador;
+
+    @BeforeEach
+    void limparArquivo() throws Exception {
+        Files.deleteIfExists(arquivoOutboxPublicador.getArquivo());
+    }
+
+    @Test
+    void criarPedido_DeveGravarEventosNaMesmaTransacao() throws Exception {
+        Cliente cliente = criarCliente();
+        List<Produto> produtos = criarProdutos(3);
+
+        executar(post("/api/pedidos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(pedidoRequest(cliente, produtos))));
+
+        List<OutboxEvento> eventos = outboxEventoRepository.findAll();
+        assertEquals(1, eventos.stream().filter(e -> e.getTipo().equals("PEDIDO_CRIADO")).count());
+        assertEquals(3, eventos.stream().filter(e -> e.getTipo().equals(OutboxListener.TIPO_ESTOQUE_ALTERADO)).count());
+    }
+
+    @Test
+    void criarPedido_NaoDeveGravarEventos_QuandoTransacaoFalha() throws Exception {
+        Cliente cliente = criarCliente();
+        Produto produto = criarProduto();
+        Produto semEstoque = criarProduto();
+        semEstoque.setEstoque(0);
+        produtoRepository.save(semEstoque);
+
+        mockMvc.perform(post("/api/pedidos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(pedidoRequest(cliente, List.of(produto, semEstoque)))));
+
+        assertEquals(0, outboxEventoRepository.count());
+    }
+
+    @Test
+    void despachar_DevePublicarNoArquivoEEsvaziarOOutbox() throws Exception {
+        Cliente cliente = criarCliente();
+        PedidoResponse pedido = criarPedido(cliente, criarProdutos(2));
+        executar(post("/api/pedidos/{id}/pagar", pedido.getId()));
+        long pendentes = outboxEventoRepository.count();
+
+        int publicados = outboxDispatcher.despachar(100);
+
+        assertEquals(pendentes, publicados);
+        assertEquals(0, outboxEventoRepository.count());
+        List<String> linhas = Files.readAllLines(arquivoOutboxPublicador.getArquivo());
+        assertEquals(pendentes, linhas.size());
+        JsonNode ultima = jsonMapper.readTree(linhas.get(linhas.size() - 1));
+        assertEquals("PEDIDO_PAGO", ultima.get("tipo").asString());
+        assertEquals(pedido.getId().longValue(), ultima.get("payload").get("pedidoId").asLong());
+    }
+
+    @Test
+    void despachar_DeveUsarUmSelectEUmDeletePorLote() {
+        Cliente cliente = criarCliente();
+        criarPedido(cliente, criarProdutos(50));
+
+        AtomicInteger publicados = new AtomicInteger();
+
+        contar(() -> publicados.set(outboxDispatcher.despachar(100)))
+                .assertMaximo(1, 0, 0, 1);
+
+        assertEquals(51, publicados.get());
+    }
+}
@@ -0,0 +1,88 @@
+package com.golden.erp.particao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GerenciadorParticoesPedidoTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2026, 3, 17);
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection conexao;
+
+    @Mock
+    private PreparedStatement criar;
+
+    @Mock
+    private PreparedStatement desanexar;
+
+    @Mock
+    private ResultSet resultado;
+
+    private ParticoesPedidoProperties properties;
+    private GerenciadorParticoesPedido gerenciador;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        properties = new ParticoesPedidoProperties();
+        gerenciador = new GerenciadorParticoesPedido(dataSource, properties);
+        when(dataSource.getConnection()).thenReturn(conexao);
+    }
+
+    @Test
+    void manter_DeveCriarParticoesDoMesAtualAteOsMesesAFrente() throws SQLException {
+        properties.setMesesAFrente(3);
+        prepararCriacao();
+
+        gerenciador.manter(HOJE);
+
+        verify(criar).setDate(1, Date.valueOf(LocalDate.of(2026, 3, 1)));
+        verify(criar).setDate(2, Date.valueOf(LocalDate.of(2026, 6, 1)));
+        verify(conexao, never()).prepareStatement("SELECT desanexar_particoes_pedido(?)");
+    }
+
+    @Test
+    void manter_DeveDesanexarMesesForaDaRetencao() throws SQLException {
+        properties.setMesesRetidos(12);
+        prepararCriacao();
+        when(conexao.prepareStatement("SELECT desanexar_particoes_pedido(?)")).thenReturn(desanexar);
+        when(desanexar.executeQuery()).thenReturn(resultado);
+
+        gerenciador.manter(HOJE);
+
+        // Março de 2026 e os 11 meses anteriores ficam anexados
+        verify(desanexar).setDate(1, Date.valueOf(LocalDate.of(2025, 4, 1)));
+    }
+
+    @Test
+    void manter_DeveLancarDataAccessException_QuandoBancoFalha() throws SQLException {
+        when(conexao.prepareStatement(anyString())).thenThrow(new SQLException("sem conexão"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> gerenciador.manter(HOJE));
+    }
+
+    private void prepararCriacao() throws SQLException {
+        when(conexao.prepareStatement("SELECT criar_particoes_pedido(?, ?)")).thenReturn(criar);
+        when(criar.executeQuery()).thenReturn(resultado);
+    }
+}
@@ -0,0 +1,55 @@
+package com.golden.erp.pool;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+/**
+ * Aplica o changelog inteiro num esquema vazio com os pools ligados, contra o PostgreSQL local do
+ * profile {@code planos}. As migrações precisam rodar fora do pool {@code oltp}, sem o
+ * {@code statement_timeout} das conexões da aplicação.
+ * <p>
+ * Executado apenas com o profile {@code planos}: {@code ./mvnw -Pplanos test}.
+ */
+@Tag("planos")
+@ActiveProfiles("planos")
+@SpringBootTest(properties = {"erp.pools.enabled=true", "spring.liquibase.drop-first=true"})
+class MigracoesComPoolsTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SpringLiquibase liquibase;
+
+    @Test
+    void migracoes_DevemRodarSemOStatementTimeoutDosPools() throws SQLException {
+        assertNotSame(dataSource, liquibase.getDataSource());
+        assertEquals("0", consultar(liquibase.getDataSource(), "SHOW statement_timeout"));
+        assertEquals("5s", consultar(dataSource, "SHOW statement_timeout"));
+        // Índice criado pela última migração do changelog
+        assertEquals("1", consultar(dataSource,
+                "SELECT COUNT(*) FROM pg_indexes WHERE indexname = 'idx_outbox_evento_pendente'"));
+    }
+
+    private static String consultar(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.golden.erp.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoteadorPoolsTest {
+
+    @Mock
+    private HikariDataSource oltp;
+
+    @Mock
+    private HikariDataSource relatorios;
+
+    @Mock
+    private HikariDataSource jobs;
+
+    @Mock
+    private HikariPoolMXBean estadoRelatorios;
+
+    @Mock
+    private PoolMetrics metrics;
+
+    @Mock
+    private Connection conexao;
+
+    private RoteadorPools roteador;
+
+    @BeforeEach
+    void setUp() {
+        Map<ClassePool, HikariDataSource> pools = new EnumMap<>(ClassePool.class);
+        pools.put(ClassePool.OLTP, oltp);
+        pools.put(ClassePool.RELATORIOS, relatorios);
+        pools.put(ClassePool.JOBS, jobs);
+        PoolsProperties properties = new PoolsProperties();
+        properties.getRelatorios().setFilaMaxima(2);
+        roteador = new RoteadorPools(pools, properties, metrics);
+    }
+
+    @Test
+    void getConnection_DeveUsarPoolOltp_ForaDeMetodoAnotado() throws SQLException {
+        when(oltp.getConnection()).thenReturn(conexao);
+
+        assertSame(conexao, roteador.getConnection());
+    }
+
+    @Test
+    void getConnection_DeveUsarPoolDaAnotacao_DentroDoMetodoAnotado() throws Exception {
+        when(relatorios.getHikariPoolMXBean()).thenReturn(estadoRelatorios);
+        when(estadoRelatorios.getThreadsAwaitingConnection()).thenReturn(1);
+        when(relatorios.getConnection()).thenReturn(conexao);
+
+        Relatorio relatorio = proxy(new Relatorio(() -> roteador.getConnection()));
+
+        assertSame(conexao, relatorio.gerar());
+        assertEquals(ClassePool.OLTP, ContextoPool.atual());
+    }
+
+    @Test
+    void getConnection_DeveRecusarNaHora_QuandoFilaDoPoolNoLimite() throws Exception {
+        when(relatorios.getHikariPoolMXBean()).thenReturn(estadoRelatorios);
+        when(estadoRelatorios.getThreadsAwaitingConnection()).thenReturn(2);
+
+        Relatorio relatorio = proxy(new Relatorio(() -> roteador.getConnection()));
+
+        PoolSaturadoException erro = assertThrows(PoolSaturadoException.class, relatorio::gerar);
+        assertEquals(ClassePool.RELATORIOS, erro.getClasse());
+        verify(metrics).registrarConexaoRecusada(ClassePool.RELATORIOS);
+        verify(relatorios, never()).getConnection();
+    }
+
+    @Test
+    void usaPool_DeveRestaurarClasseAnterior_EmChamadasAninhadas() throws Exception {
+        Relatorio interno = proxy(new Relatorio(ContextoPool::atual));
+        Job job = proxy(new Job(interno));
+
+        assertEquals(ClassePool.RELATORIOS, job.executar());
+        assertEquals(ClassePool.OLTP, ContextoPool.atual());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T alvo) {
+        ProxyFactory fabrica = new ProxyFactory(alvo);
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAdvice(new UsaPoolInterceptor());
+        return (T) fabrica.getProxy();
+    }
+
+    static class Relatorio {
+
+        private final Callable<?> acao;
+
+        Relatorio(Callable<?> acao) {
+            this.acao = acao;
+        }
+
+        @UsaPool(ClassePool.RELATORIOS)
+        public Object gerar() throws Exception {
+            return acao.call();
+        }
+    }
+
+    @UsaPool(ClassePool.JOBS)
+    static class Job {
+
+        private final Relatorio relatorio;
+
+        Job(Relatorio relatorio) {
+            this.relatorio = relatorio;
+        }
+
+        public Object executar() throws Exception {
+            Object resultado = relatorio.gerar();
+            if (ContextoPool.atual() != ClassePool.JOBS) {
+                throw new IllegalStateException("Classe do job não foi restaurada");
+            }
+            return resultado;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.golden.erp.ranking;
+
+import com.golden.erp.repository.RankingVendasDiaRepository;
+import com.golden.erp.support.SqlIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checkpoint do ranking no H2: parcelas de instâncias diferentes são somadas na mesma linha do dia.
+ */
+public class CheckpointRankingIntegrationTest extends SqlIntegrationTest {
+
+    @Autowired
+    private CheckpointRanking checkpointRanking;
+
+    @Autowired
+    private RankingVendasDiaRepository rankingVendasDiaRepository;
+
+    @Autowired
+    private RankingVendasProperties properties;
+
+    @AfterEach
+    void limparRanking() {
+        rankingVendasDiaRepository.deleteAll();
+    }
+
+    @Test
+    void gravar_DeveSomarParcelasDeInstanciasDiferentes() {
+        LocalDate hoje = LocalDate.now();
+        LocalDateTime inicio = LocalDateTime.now().minusMinutes(1);
+        SketchVendas instanciaA = properties.novoSketch();
+        instanciaA.somar(1L, 3);
+        SketchVendas instanciaB = properties.novoSketch();
+        instanciaB.somar(1L, 2);
+        instanciaB.somar(2L, 4);
+
+        checkpointRanking.gravar(Map.of(hoje, instanciaA), hoje.minusDays(7), inicio);
+        Map<LocalDate, SketchVendas> gravados = checkpointRanking.gravar(Map.of(hoje, instanciaB), hoje.minusDays(7), inicio);
+
+        SketchVendas dia = gravados.get(hoje);
+        assertEquals(5, dia.estimar(1L));
+        assertEquals(4, dia.estimar(2L));
+        assertEquals(9, dia.getTotal());
+        assertEquals(5, checkpointRanking.gravar(Map.of(), hoje.minusDays(7), inicio).get(hoje).estimar(1L));
+    }
+
+    @Test
+    void gravar_DeveApagarDiasForaDaRetencao() {
+        LocalDate hoje = LocalDate.now();
+        SketchVendas antigo = properties.novoSketch();
+        antigo.somar(1L, 1);
+        checkpointRanking.gravar(Map.of(hoje.minusDays(40), antigo), hoje.minusDays(60), LocalDateTime.now());
+
+        checkpointRanking.gravar(Map.of(), hoje.minusDays(34), LocalDateTime.now());
+
+        assertTrue(checkpointRanking.isVazio());
+    }
+}
@@ -0,0 +1,121 @@
+package com.golden.erp.ranking;
+
+import com.golden.erp.gerador.DistribuicaoZipf;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SketchVendasTest {
+
+    @Test
+    void estimar_NaoDeveFicarAbaixoDoValorReal_NemPassarDoErroMaximo() {
+        SketchVendas sketch = new SketchVendas(1024, 4, 50);
+        Map<Long, Long> reais = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 50_000; i++) {
+            long id = 1 + random.nextInt(5_000);
+            int quantidade = 1 + random.nextInt(3);
+            sketch.somar(id, quantidade);
+            reais.merge(id, (long) quantidade, Long::sum);
+        }
+
+        long erroMaximo = sketch.erroMaximo();
+        long acimaDoErro = reais.entrySet().stream()
+                .peek(e -> assertTrue(sketch.estimar(e.getKey()) >= e.getValue()))
+                .filter(e -> sketch.estimar(e.getKey()) - e.getValue() > erroMaximo)
+                .count();
+        // Garantia probabilística: no máximo e^-4 (~2%) das estimativas acima do erro máximo
+        assertTrue(acimaDoErro < reais.size() * 0.02, "Estimativas acima do erro: " + acimaDoErro);
+    }
+
+    @Test
+    void maisVendidos_DeveEncontrarOsProdutosMaisFrequentes_EmDistribuicaoZipf() {
+        SketchVendas sketch = new SketchVendas(2048, 4, 100);
+        DistribuicaoZipf zipf = new DistribuicaoZipf(20_000, 1.1, 3);
+        SplittableRandom random = new SplittableRandom(7);
+        Map<Long, Long> reais = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            long id = zipf.amostrar(random) + 1;
+            sketch.somar(id, 1);
+            reais.merge(id, 1L, Long::sum);
+        }
+
+        List<Long> esperados = reais.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(5)
+                .map(Map.Entry::getKey)
+                .toList();
+        List<Long> encontrados = sketch.maisVendidos(5).stream().map(c -> c[0]).toList();
+        assertEquals(esperados, encontrados);
+    }
+
+    @Test
+    void somar_DeveEstornarVenda_QuandoQuantidadeNegativa() {
+        SketchVendas sketch = new SketchVendas(256, 4, 10);
+        sketch.somar(1L, 10);
+        sketch.somar(2L, 5);
+
+        sketch.somar(1L, -10);
+
+        assertEquals(0, sketch.estimar(1L));
+        assertEquals(5, sketch.getTotal());
+        assertEquals(List.of(2L), sketch.maisVendidos(10).stream().map(c -> c[0]).toList());
+    }
+
+    @Test
+    void somar_DeveTrocarMenorCandidato_QuandoConjuntoCheio() {
+        SketchVendas sketch = new SketchVendas(1024, 4, 2);
+        sketch.somar(1L, 5);
+        sketch.somar(2L, 1);
+        sketch.somar(3L, 3);
+
+        List<Long> ids = sketch.maisVendidos(10).stream().map(c -> c[0]).toList();
+        assertEquals(List.of(1L, 3L), ids);
+    }
+
+    @Test
+    void mesclar_DeveSomarContagensECandidatos() {
+        SketchVendas segunda = new SketchVendas(512, 4, 10);
+        segunda.somar(1L, 4);
+        segunda.somar(2L, 3);
+        SketchVendas terca = new SketchVendas(512, 4, 10);
+        terca.somar(2L, 3);
+        terca.somar(3L, 1);
+
+        SketchVendas semana = new SketchVendas(512, 4, 10);
+        semana.mesclar(segunda);
+        semana.mesclar(terca);
+
+        List<long[]> ranking = semana.maisVendidos(10);
+        assertEquals(2L, ranking.get(0)[0]);
+        assertEquals(6, ranking.get(0)[1]);
+        assertEquals(List.of(2L, 1L, 3L), ranking.stream().map(c -> c[0]).toList());
+        assertEquals(11, semana.getTotal());
+        assertThrows(IllegalArgumentException.class, () -> semana.mesclar(new SketchVendas(256, 4, 10)));
+    }
+
+    @Test
+    void deBytes_DeveReconstruirOSketch() {
+        SketchVendas original = new SketchVendas(256, 3, 10);
+        original.somar(7L, 9);
+        original.somar(8L, 2);
+
+        SketchVendas copia = SketchVendas.deBytes(256, 3, 10, original.getTotal(),
+                original.contagensEmBytes(), original.candidatosEmBytes());
+
+        assertEquals(9, copia.estimar(7L));
+        assertEquals(11, copia.getTotal());
+        assertEquals(List.of(7L, 8L), copia.maisVendidos(10).stream().map(c -> c[0]).toList());
+    }
+
+    @Test
+    void construtor_DeveRecusarLarguraQueNaoEPotenciaDeDois() {
+        assertThrows(IllegalArgumentException.class, () -> new SketchVendas(1000, 4, 10));
+        assertThrows(IllegalArgumentException.class, () -> new SketchVendas(1024, 9, 10));
+    }
+}
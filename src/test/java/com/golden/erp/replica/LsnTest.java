@@ -0,0 +1,34 @@
+package com.golden.erp.replica;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LsnTest {
+
+    @Test
+    void ler_DeveCombinarAsDuasMetades() {
+        assertEquals(0x16B374D848L, Lsn.ler("16/B374D848"));
+        assertEquals(0L, Lsn.ler("0/0"));
+    }
+
+    @Test
+    void ler_DeveOrdenarComoOPostgres() {
+        assertTrue(Lsn.ler("1/0") > Lsn.ler("0/FFFFFFFF"));
+    }
+
+    @Test
+    void formatar_DeveSerOInversoDeLer() {
+        assertEquals("16/B374D848", Lsn.formatar(Lsn.ler("16/B374D848")));
+    }
+
+    @Test
+    void ler_DeveRecusarTextoInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> Lsn.ler("16B374D848"));
+        assertThrows(IllegalArgumentException.class, () -> Lsn.ler("16/"));
+        assertThrows(IllegalArgumentException.class, () -> Lsn.ler("16/XYZ"));
+        assertThrows(IllegalArgumentException.class, () -> Lsn.ler("1/100000000"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.golden.erp.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoteadorLeituraTest {
+
+    @Mock
+    private DataSource primaria;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private EstadoReplica estado;
+
+    @Mock
+    private ReplicaMetrics metrics;
+
+    @Mock
+    private Connection conexaoPrimaria;
+
+    @Mock
+    private Connection conexaoReplica;
+
+    private RoteadorLeitura roteador;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setAtrasoMaximoMs(2000);
+        roteador = new RoteadorLeitura(primaria, replica, estado, properties, metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContextoLeitura.encerrar();
+    }
+
+    @Test
+    void getConnection_DeveUsarReplica_QuandoAtrasoDentroDoLimite() throws SQLException {
+        when(estado.atual()).thenReturn(medicao(true, 100, 1500));
+        when(replica.getConnection()).thenReturn(conexaoReplica);
+
+        assertSame(conexaoReplica, roteador.getConnection());
+        verify(metrics).registrarLeitura(RoteadorLeitura.REPLICA, "");
+    }
+
+    @Test
+    void getConnection_DeveUsarPrimaria_QuandoAtrasoAcimaDoLimite() throws SQLException {
+        when(estado.atual()).thenReturn(medicao(true, 100, 2500));
+        when(primaria.getConnection()).thenReturn(conexaoPrimaria);
+
+        assertSame(conexaoPrimaria, roteador.getConnection());
+        verify(metrics).registrarLeitura(RoteadorLeitura.PRIMARIA, "atraso");
+    }
+
+    @Test
+    void getConnection_DeveUsarPrimaria_QuandoReplicaIndisponivel() throws SQLException {
+        when(estado.atual()).thenReturn(medicao(false, 0, 0));
+        when(primaria.getConnection()).thenReturn(conexaoPrimaria);
+
+        assertSame(conexaoPrimaria, roteador.getConnection());
+        verify(metrics).registrarLeitura(RoteadorLeitura.PRIMARIA, "indisponivel");
+    }
+
+    @Test
+    void getConnection_DeveUsarPrimaria_QuandoReplicaNaoAplicouAUltimaEscritaDaSessao() throws SQLException {
+        ContextoLeitura.iniciar(200, lsn -> { });
+        when(estado.atual()).thenReturn(medicao(true, 150, 0));
+        when(primaria.getConnection()).thenReturn(conexaoPrimaria);
+
+        assertSame(conexaoPrimaria, roteador.getConnection());
+        verify(metrics).registrarLeitura(RoteadorLeitura.PRIMARIA, "lsn");
+    }
+
+    @Test
+    void getConnection_DeveUsarReplica_QuandoReplicaJaAplicouAUltimaEscritaDaSessao() throws SQLException {
+        ContextoLeitura.iniciar(200, lsn -> { });
+        when(estado.atual()).thenReturn(medicao(true, 200, 0));
+        when(replica.getConnection()).thenReturn(conexaoReplica);
+
+        assertSame(conexaoReplica, roteador.getConnection());
+    }
+
+    @Test
+    void getConnection_DeveIgnorarLsnDaSessao_QuandoLerPropriasEscritasDesligado() throws SQLException {
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setLerPropriasEscritas(false);
+        roteador = new RoteadorLeitura(primaria, replica, estado, properties, metrics);
+        ContextoLeitura.iniciar(200, lsn -> { });
+        when(estado.atual()).thenReturn(medicao(true, 150, 0));
+        when(replica.getConnection()).thenReturn(conexaoReplica);
+
+        assertSame(conexaoReplica, roteador.getConnection());
+    }
+
+    @Test
+    void getConnection_DeveVoltarParaPrimaria_QuandoReplicaNaoEntregaConexao() throws SQLException {
+        when(estado.atual()).thenReturn(medicao(true, 100, 0));
+        when(replica.getConnection()).thenThrow(new SQLException("timeout"));
+        when(primaria.getConnection()).thenReturn(conexaoPrimaria);
+
+        assertSame(conexaoPrimaria, roteador.getConnection());
+        verify(metrics).registrarLeitura(RoteadorLeitura.PRIMARIA, "conexao");
+    }
+
+    private EstadoReplica.Medicao medicao(boolean disponivel, long lsnAplicado, long atrasoMs) {
+        return new EstadoReplica.Medicao(disponivel, lsnAplicado, atrasoMs, 0);
+    }
+}
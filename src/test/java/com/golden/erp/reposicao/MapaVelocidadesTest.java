@@ -0,0 +1,89 @@
+package com.golden.erp.reposicao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapaVelocidadesTest {
+
+    private static final long DIA = 86_400_000L;
+
+    @Test
+    void velocidade_DeveCairPelaMetade_AposUmaMeiaVida() {
+        MapaVelocidades mapa = new MapaVelocidades(14, 16);
+        mapa.registrarVenda(1L, 14, 0);
+
+        double inicial = mapa.velocidade(1L, 0);
+        assertEquals(14 / (14 / Math.log(2)), inicial, 1e-9);
+        assertEquals(inicial / 2, mapa.velocidade(1L, 14 * DIA), 1e-9);
+    }
+
+    @Test
+    void velocidade_DeveConvergirParaVendaDiaria_QuandoVendaConstante() {
+        MapaVelocidades mapa = new MapaVelocidades(7, 16);
+        for (int dia = 0; dia < 200; dia++) {
+            mapa.registrarVenda(1L, 5, dia * DIA);
+        }
+
+        assertEquals(5, mapa.velocidade(1L, 200 * DIA), 0.3);
+    }
+
+    @Test
+    void registrarVenda_DeveSomarJaDecaida_QuandoVendaAnteriorAoUltimoCalculo() {
+        MapaVelocidades emOrdem = new MapaVelocidades(14, 16);
+        emOrdem.registrarVenda(1L, 3, DIA);
+        emOrdem.registrarVenda(1L, 4, 2 * DIA);
+
+        MapaVelocidades foraDeOrdem = new MapaVelocidades(14, 16);
+        foraDeOrdem.registrarVenda(1L, 4, 2 * DIA);
+        foraDeOrdem.registrarVenda(1L, 3, DIA);
+
+        assertEquals(emOrdem.velocidade(1L, 5 * DIA), foraDeOrdem.velocidade(1L, 5 * DIA), 1e-12);
+    }
+
+    @Test
+    void registrarVenda_DeveAnularVenda_QuandoEstornoNoMesmoInstante() {
+        MapaVelocidades mapa = new MapaVelocidades(14, 16);
+        mapa.registrarVenda(1L, 10, DIA);
+        mapa.registrarVenda(1L, 5, 3 * DIA);
+
+        mapa.registrarVenda(1L, -10, DIA);
+        mapa.registrarVenda(1L, -20, 3 * DIA);
+
+        assertEquals(0, mapa.velocidade(1L, 4 * DIA));
+    }
+
+    @Test
+    void redimensionar_DevePreservarEntradas() {
+        MapaVelocidades mapa = new MapaVelocidades(14, 1);
+        Map<Long, Integer> esperado = new HashMap<>();
+        for (long id = 1; id <= 5_000; id++) {
+            mapa.registrarVenda(id, id % 7, 0);
+            mapa.definirEstoque(id, (int) (id * 3));
+            esperado.put(id, (int) (id * 3));
+        }
+
+        assertEquals(5_000, mapa.tamanho());
+        assertEquals(0, mapa.velocidade(99_999L, 0));
+        assertEquals(MapaVelocidades.ESTOQUE_DESCONHECIDO, mapa.estoque(99_999L));
+        int[] visitados = {0};
+        mapa.percorrer(0, (produtoId, velocidade, estoque) -> {
+            visitados[0]++;
+            assertEquals(esperado.get(produtoId), estoque);
+            assertEquals(mapa.velocidade(produtoId, 0), velocidade);
+        });
+        assertEquals(5_000, visitados[0]);
+    }
+
+    @Test
+    void definirEstoque_DeveCriarEntradaSemVendas() {
+        MapaVelocidades mapa = new MapaVelocidades(14, 16);
+        mapa.definirEstoque(42L, 7);
+
+        assertEquals(7, mapa.estoque(42L));
+        assertEquals(0, mapa.velocidade(42L, DIA));
+    }
+}
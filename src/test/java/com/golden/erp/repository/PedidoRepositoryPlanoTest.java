@@ -0,0 +1,182 @@
+package com.golden.erp.repository;
+
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.support.CapturaSql;
+import com.golden.erp.support.CapturaSqlConfig;
+import com.golden.erp.support.PlanoExecucao;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica o plano de execução das consultas do {@link PedidoRepository} contra um PostgreSQL local.
+ * <p>
+ * Recria a massa com {@code planos.pedidos} pedidos (padrão 300 mil) gravados em ordem de criação, um por
+ * minuto a partir de 01/01/2025, como chegam em produção. O cliente 1 concentra 10% dos pedidos, para
+ * que a ordenação em memória apareça se o índice composto faltar. Cada teste executa o método do
+ * repositório, captura o SQL gerado pelo Hibernate e roda {@code EXPLAIN} com os mesmos parâmetros.
+ * <p>
+ * Executado apenas com o profile {@code planos}: {@code ./mvnw -Pplanos test}.
+ */
+@Tag("planos")
+@ActiveProfiles("planos")
+@SpringBootTest
+@Import(CapturaSqlConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PedidoRepositoryPlanoTest {
+
+    private static final int PEDIDOS = Integer.getInteger("planos.pedidos", 300_000);
+    private static final int CLIENTES = 2_000;
+    private static final int PRODUTOS = 200;
+    private static final LocalDateTime INICIO = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime FIM = INICIO.plusMinutes(PEDIDOS);
+    private static final long CLIENTE_FREQUENTE = 1L;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private CapturaSql capturaSql;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Map<String, String> indicesPais;
+
+    @BeforeAll
+    void popular() throws SQLException {
+        executar("TRUNCATE outbox_evento, alerta_estoque, ranking_vendas_dia, venda_diaria, cliente_resumo_pedidos, "
+                + "pedido_resumo, pedido_item, pedido, produto, cliente RESTART IDENTITY");
+        executar("INSERT INTO cliente (nome, email, cpf, logradouro, numero, bairro, cidade, uf, cep, created_at, "
+                + "updated_at) SELECT 'Cliente ' || g, 'cliente' || g || '@planos.test', lpad(g::text, 11, '0'), "
+                + "'Praça da Sé', '1', 'Sé', 'São Paulo', 'SP', '01001-000', now(), now() "
+                + "FROM generate_series(1, " + CLIENTES + ") g");
+        executar("INSERT INTO produto (sku, nome, preco_bruto, estoque, estoque_minimo, ativo, created_at, updated_at) "
+                + "SELECT 'SKU-' || g, 'Produto ' || g, 10.00, 1000, 10, true, now(), now() "
+                + "FROM generate_series(1, " + PRODUTOS + ") g");
+        executar("SELECT criar_particoes_pedido(DATE '" + INICIO.toLocalDate() + "', DATE '"
+                + FIM.toLocalDate().plusMonths(1) + "')");
+        // 10% CREATED, 70% PAID, 15% CANCELLED e 5% LATE
+        executar("INSERT INTO pedido (cliente_id, subtotal, desconto_total, total, status, created_at, updated_at) "
+                + "SELECT CASE WHEN g % 10 = 0 THEN " + CLIENTE_FREQUENTE + " ELSE 2 + (g * 7919) % "
+                + (CLIENTES - 1) + " END, 100.00, 0, 100.00, "
+                + "CASE WHEN g % 20 < 2 THEN 'CREATED' WHEN g % 20 < 16 THEN 'PAID' "
+                + "WHEN g % 20 < 19 THEN 'CANCELLED' ELSE 'LATE' END, "
+                + "TIMESTAMP '" + INICIO + "' + g * INTERVAL '1 minute', "
+                + "TIMESTAMP '" + INICIO + "' + g * INTERVAL '1 minute' "
+                + "FROM generate_series(1, " + PEDIDOS + ") g");
+        executar("INSERT INTO pedido_item (pedido_id, pedido_created_at, produto_id, quantidade, preco_unitario, "
+                + "desconto, subtotal) SELECT id, created_at, 1 + id % " + PRODUTOS + ", 1, 100.00, 0, 100.00 "
+                + "FROM pedido ORDER BY id");
+        executar("ANALYZE cliente, produto, pedido, pedido_item");
+
+        indicesPais = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT filho.relname, pai.relname FROM pg_inherits h "
+                     + "JOIN pg_class filho ON filho.oid = h.inhrelid JOIN pg_class pai ON pai.oid = h.inhparent "
+                     + "WHERE filho.relkind = 'i'")) {
+            while (resultSet.next()) {
+                indicesPais.put(resultSet.getString(1), resultSet.getString(2));
+            }
+        }
+    }
+
+    @Test
+    void findByClienteId_OrdenadoPorData_DeveLerDoIndiceCompostoSemOrdenar() throws SQLException {
+        PlanoExecucao plano = explicar(() -> pedidoRepository.findByClienteId(CLIENTE_FREQUENTE,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+
+        assertTrue(plano.usaIndice("idx_pedido_cliente_created"), plano::toString);
+        assertFalse(plano.ordenaEmMemoria(), plano::toString);
+    }
+
+    @Test
+    void findByClienteIdAndStatus_OrdenadoPorData_DeveLerDoIndiceCompostoSemOrdenar() throws SQLException {
+        PlanoExecucao plano = explicar(() -> pedidoRepository.findByClienteIdAndStatus(CLIENTE_FREQUENTE,
+                StatusPedido.PAID, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+
+        assertTrue(plano.usaIndice("idx_pedido_cliente_created"), plano::toString);
+        assertFalse(plano.ordenaEmMemoria(), plano::toString);
+    }
+
+    @Test
+    void findByStatus_OrdenadoPorData_DeveLerDoIndiceCompostoSemOrdenar() throws SQLException {
+        PlanoExecucao plano = explicar(() -> pedidoRepository.findByStatus(StatusPedido.CREATED,
+                PageRequest.of(0, 20, Sort.by("createdAt"))));
+
+        assertTrue(plano.usaIndice("idx_pedido_status_created"), plano::toString);
+        assertFalse(plano.ordenaEmMemoria(), plano::toString);
+    }
+
+    @Test
+    void findByStatusAndCreatedAtBefore_DeveUsarIndiceCompostoSoNasParticoesDoPeriodo() throws SQLException {
+        PlanoExecucao plano = explicar(() -> pedidoRepository.findByStatusAndCreatedAtBefore(StatusPedido.CREATED,
+                INICIO.plusDays(1)));
+
+        assertTrue(plano.usaIndice("idx_pedido_status_created"), plano::toString);
+        assertTrue(plano.getRelacoes().stream().allMatch(r -> r.equals("pedido_p2025_01")), plano::toString);
+    }
+
+    @Test
+    void somarVendasDiariasDesde_DeveUsarBrinSemLerPedidosSequencialmente() throws SQLException {
+        PlanoExecucao plano = explicar(() -> pedidoRepository.somarVendasDiariasDesde(FIM.minusDays(1)));
+
+        assertTrue(plano.usaIndice("idx_pedido_created_brin"), plano::toString);
+        assertFalse(plano.leSequencialmente("pedido_p"), plano::toString);
+    }
+
+    @Test
+    void findIdsByStatusInAndCreatedAtBefore_DeveLerSoAsParticoesDoPeriodo() throws SQLException {
+        PlanoExecucao plano = explicar(() -> pedidoRepository.findIdsByStatusInAndCreatedAtBefore(
+                List.of(StatusPedido.PAID, StatusPedido.CANCELLED), INICIO.plusDays(20), PageRequest.of(0, 5000)));
+
+        assertTrue(plano.getRelacoes().stream().allMatch(r -> r.equals("pedido_p2025_01")), plano::toString);
+    }
+
+    /**
+     * Executa a consulta, pega o primeiro SELECT que ela gerou e devolve o plano com os mesmos parâmetros.
+     */
+    private PlanoExecucao explicar(Runnable consulta) throws SQLException {
+        capturaSql.limpar();
+        consulta.run();
+        CapturaSql.Comando comando = capturaSql.primeiraConsulta();
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + comando.sql())) {
+            comando.aplicarParametros(statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return new PlanoExecucao(resultSet.getString(1), indicesPais);
+            }
+        }
+    }
+
+    private void executar(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
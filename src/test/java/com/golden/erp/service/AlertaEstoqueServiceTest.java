@@ -0,0 +1,131 @@
+package com.golden.erp.service;
+
+import com.golden.erp.domain.AlertaEstoque;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.dto.response.ProdutoResponse;
+import com.golden.erp.event.EstoqueAlteradoEvent;
+import com.golden.erp.mapper.ProdutoMapper;
+import com.golden.erp.repository.AlertaEstoqueRepository;
+import com.golden.erp.service.impl.AlertaEstoqueServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AlertaEstoqueServiceTest {
+
+    @Mock
+    private AlertaEstoqueRepository alertaEstoqueRepository;
+
+    @Mock
+    private ProdutoMapper produtoMapper;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AlertaEstoqueServiceImpl alertaEstoqueService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        alertaEstoqueService = new AlertaEstoqueServiceImpl(alertaEstoqueRepository, produtoMapper, meterRegistry);
+    }
+
+    @Test
+    void listarProdutosComEstoqueBaixo_DeveRetornarProdutosDosAlertasAbertos() {
+        // Arrange
+        Produto produto = new Produto();
+        produto.setId(2L);
+        produto.setSku("SKU456");
+        AlertaEstoque alerta = new AlertaEstoque();
+        alerta.setProdutoId(2L);
+        alerta.setProduto(produto);
+        ProdutoResponse response = new ProdutoResponse();
+        response.setId(2L);
+        response.setSku("SKU456");
+        when(alertaEstoqueRepository.findAllComProduto()).thenReturn(List.of(alerta));
+        when(produtoMapper.toResponse(produto)).thenReturn(response);
+
+        // Act
+        List<ProdutoResponse> result = alertaEstoqueService.listarProdutosComEstoqueBaixo();
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("SKU456", result.get(0).getSku());
+        verify(alertaEstoqueRepository).findAllComProduto();
+    }
+
+    @Test
+    void aoAlterarEstoque_DeveAbrirAlerta_QuandoEstoqueCruzaOMinimo() {
+        // Arrange
+        when(alertaEstoqueRepository.abrir(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        alertaEstoqueService.aoAlterarEstoque(new EstoqueAlteradoEvent(1L, "SKU123", 6, 5, 5));
+
+        // Assert
+        verify(alertaEstoqueRepository).abrir(eq(1L), any(LocalDateTime.class));
+        assertEquals(1, alertas("aberto"));
+    }
+
+    @Test
+    void aoAlterarEstoque_NaoDeveAcessarBanco_QuandoEstoqueContinuaDoMesmoLadoDoMinimo() {
+        // Act
+        alertaEstoqueService.aoAlterarEstoque(new EstoqueAlteradoEvent(1L, "SKU123", 10, 8, 5));
+        alertaEstoqueService.aoAlterarEstoque(new EstoqueAlteradoEvent(1L, "SKU123", 4, 2, 5));
+
+        // Assert
+        verifyNoInteractions(alertaEstoqueRepository);
+        assertEquals(0, alertas("aberto") + alertas("resolvido"));
+    }
+
+    @Test
+    void aoAlterarEstoque_DeveResolverAlerta_QuandoEstoqueVoltaAcimaDoMinimo() {
+        // Arrange
+        when(alertaEstoqueRepository.resolver(1L)).thenReturn(1);
+
+        // Act
+        alertaEstoqueService.aoAlterarEstoque(new EstoqueAlteradoEvent(1L, "SKU123", 5, 6, 5));
+
+        // Assert
+        verify(alertaEstoqueRepository).resolver(1L);
+        assertEquals(1, alertas("resolvido"));
+        verify(alertaEstoqueRepository, never()).abrir(any(), any());
+    }
+
+    @Test
+    void aoAlterarEstoque_NaoDeveContarAlertaDuplicado() {
+        // Arrange
+        when(alertaEstoqueRepository.abrir(eq(1L), any(LocalDateTime.class))).thenReturn(0);
+
+        // Act
+        alertaEstoqueService.aoAlterarEstoque(new EstoqueAlteradoEvent(1L, "SKU123", null, 3, 5));
+
+        // Assert
+        verify(alertaEstoqueRepository).abrir(eq(1L), any(LocalDateTime.class));
+        assertEquals(0, alertas("aberto"));
+    }
+
+    @Test
+    void aoAlterarEstoque_DeveResolverAlerta_QuandoSemSaldoAnteriorEEstoqueAcimaDoMinimo() {
+        // Act
+        alertaEstoqueService.aoAlterarEstoque(new EstoqueAlteradoEvent(1L, "SKU123", null, 10, 5));
+
+        // Assert
+        verify(alertaEstoqueRepository).resolver(1L);
+        assertEquals(0, alertas("resolvido"));
+    }
+
+    private double alertas(String evento) {
+        return meterRegistry.get("erp.estoque.alerta").tag("evento", evento).counter().count();
+    }
+}
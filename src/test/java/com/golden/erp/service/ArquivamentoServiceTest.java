@@ -0,0 +1,97 @@
+package com.golden.erp.service;
+
+import com.golden.erp.arquivo.ArquivoPedidos;
+import com.golden.erp.arquivo.ArquivoPedidosProperties;
+import com.golden.erp.arquivo.SegmentoPedidos;
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.mapper.PedidoMapper;
+import com.golden.erp.repository.PedidoRepository;
+import com.golden.erp.service.impl.ArquivamentoServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ArquivamentoServiceTest {
+
+    private static final LocalDateTime LIMITE = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @Mock
+    private PedidoRepository pedidoRepository;
+
+    @Mock
+    private PedidoMapper pedidoMapper;
+
+    @Mock
+    private ArquivoPedidos arquivoPedidos;
+
+    @Mock
+    private SegmentoPedidos segmento;
+
+    private ArquivamentoServiceImpl arquivamentoService;
+
+    @BeforeEach
+    void setUp() {
+        ArquivoPedidosProperties properties = new ArquivoPedidosProperties();
+        properties.setPedidosPorSegmento(2);
+        arquivamentoService = new ArquivamentoServiceImpl(pedidoRepository, pedidoMapper, arquivoPedidos, properties);
+    }
+
+    @Test
+    void arquivarSegmento_DeveGravarEmOrdemDeIdAntesDeApagar() {
+        Pedido pedido1 = pedido(1L);
+        Pedido pedido2 = pedido(2L);
+        PedidoResponse response1 = response(1L);
+        PedidoResponse response2 = response(2L);
+        when(pedidoRepository.findIdsByStatusInAndCreatedAtBefore(anyCollection(), eq(LIMITE), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(1L, 2L));
+        when(pedidoRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(pedido2, pedido1));
+        when(pedidoMapper.toResponse(pedido1)).thenReturn(response1);
+        when(pedidoMapper.toResponse(pedido2)).thenReturn(response2);
+        when(arquivoPedidos.gravar(any())).thenReturn(segmento);
+        when(segmento.getArquivo()).thenReturn(Path.of("pedidos-00000001.seg"));
+
+        int arquivados = arquivamentoService.arquivarSegmento(LIMITE);
+
+        assertEquals(2, arquivados);
+        InOrder ordem = inOrder(arquivoPedidos, pedidoRepository);
+        ordem.verify(arquivoPedidos).gravar(List.of(response1, response2));
+        ordem.verify(pedidoRepository).excluirItensDosPedidos(List.of(1L, 2L));
+        ordem.verify(pedidoRepository).excluirPorIds(List.of(1L, 2L));
+    }
+
+    @Test
+    void arquivarSegmento_NaoDeveGravarSegmento_QuandoNaoHaPedidos() {
+        when(pedidoRepository.findIdsByStatusInAndCreatedAtBefore(anyCollection(), any(), any())).thenReturn(List.of());
+
+        assertEquals(0, arquivamentoService.arquivarSegmento(LIMITE));
+
+        verifyNoInteractions(arquivoPedidos);
+        verify(pedidoRepository, never()).excluirPorIds(any());
+    }
+
+    private Pedido pedido(Long id) {
+        Pedido pedido = new Pedido();
+        pedido.setId(id);
+        return pedido;
+    }
+
+    private PedidoResponse response(Long id) {
+        PedidoResponse response = new PedidoResponse();
+        response.setId(id);
+        return response;
+    }
+}
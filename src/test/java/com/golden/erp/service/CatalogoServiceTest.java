@@ -0,0 +1,127 @@
+package com.golden.erp.service;
+
+import com.golden.erp.catalogo.CatalogoProperties;
+import com.golden.erp.catalogo.TokenMudancas;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.domain.ProdutoExclusao;
+import com.golden.erp.dto.response.MudancasProdutosResponse;
+import com.golden.erp.dto.response.ProdutoResponse;
+import com.golden.erp.exception.ParametroInvalidoException;
+import com.golden.erp.mapper.ProdutoMapper;
+import com.golden.erp.repository.ProdutoExclusaoRepository;
+import com.golden.erp.repository.ProdutoRepository;
+import com.golden.erp.service.impl.CatalogoServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogoServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 10, 14, 0);
+
+    @Mock
+    private ProdutoRepository produtoRepository;
+
+    @Mock
+    private ProdutoExclusaoRepository produtoExclusaoRepository;
+
+    @Mock
+    private ProdutoMapper produtoMapper;
+
+    private CatalogoServiceImpl catalogoService;
+
+    @BeforeEach
+    void setUp() {
+        catalogoService = new CatalogoServiceImpl(produtoRepository, produtoExclusaoRepository, produtoMapper,
+                new CatalogoProperties());
+        lenient().when(produtoMapper.toResponse(any(Produto.class))).thenAnswer(invocation -> {
+            ProdutoResponse response = new ProdutoResponse();
+            response.setId(invocation.<Produto>getArgument(0).getId());
+            return response;
+        });
+    }
+
+    @Test
+    void listarMudancas_SemToken_DeveComecarDoInicio() {
+        when(produtoRepository.buscarAlteradosDesde(eq(TokenMudancas.INICIO.data()), eq(0L), any(), any()))
+                .thenReturn(List.of(produto(1L, T0)));
+        when(produtoExclusaoRepository.buscarDesde(eq(TokenMudancas.INICIO.data()), eq(0L), any(), any()))
+                .thenReturn(List.of());
+
+        MudancasProdutosResponse response = catalogoService.listarMudancas(null, 10);
+
+        assertEquals(1, response.getAlterados().size());
+        assertEquals(new TokenMudancas(T0, 1L).formatar(), response.getProximo());
+        assertFalse(response.getMaisMudancas());
+    }
+
+    @Test
+    void listarMudancas_DeveIntercalarAlteracoesEExclusoesNaOrdemDoFeed() {
+        when(produtoRepository.buscarAlteradosDesde(any(), anyLong(), any(), any()))
+                .thenReturn(List.of(produto(1L, T0), produto(3L, T0.plusSeconds(2))));
+        when(produtoExclusaoRepository.buscarDesde(any(), anyLong(), any(), any()))
+                .thenReturn(List.of(new ProdutoExclusao(2L, T0.plusSeconds(1)), new ProdutoExclusao(4L, T0.plusSeconds(3))));
+
+        MudancasProdutosResponse response = catalogoService.listarMudancas(null, 3);
+
+        assertEquals(List.of(1L, 3L), response.getAlterados().stream().map(ProdutoResponse::getId).toList());
+        assertEquals(List.of(2L), response.getExcluidos());
+        // Parou no produto 3; a exclusão do 4 vem na próxima consulta
+        assertEquals(new TokenMudancas(T0.plusSeconds(2), 3L).formatar(), response.getProximo());
+        assertTrue(response.getMaisMudancas());
+    }
+
+    @Test
+    void listarMudancas_ComToken_DeveContinuarDaPosicaoDoToken() {
+        TokenMudancas token = new TokenMudancas(T0, 7L);
+        when(produtoRepository.buscarAlteradosDesde(eq(T0), eq(7L), any(), any(Pageable.class))).thenReturn(List.of());
+        when(produtoExclusaoRepository.buscarDesde(eq(T0), eq(7L), any(), any(Pageable.class))).thenReturn(List.of());
+
+        MudancasProdutosResponse response = catalogoService.listarMudancas(token.formatar(), 10);
+
+        assertTrue(response.getAlterados().isEmpty());
+        assertTrue(response.getExcluidos().isEmpty());
+        // Sem mudanças, o cliente continua do mesmo ponto
+        assertEquals(token.formatar(), response.getProximo());
+        assertFalse(response.getMaisMudancas());
+    }
+
+    @Test
+    void listarMudancas_DeveIgnorarAlteracoesDentroDaMargem() {
+        when(produtoRepository.buscarAlteradosDesde(any(), anyLong(), any(), any())).thenReturn(List.of());
+        when(produtoExclusaoRepository.buscarDesde(any(), anyLong(), any(), any())).thenReturn(List.of());
+        LocalDateTime antes = LocalDateTime.now();
+
+        catalogoService.listarMudancas(null, 10);
+
+        verify(produtoRepository).buscarAlteradosDesde(any(), anyLong(),
+                argThat((LocalDateTime ate) -> !ate.isAfter(antes.minusSeconds(9))), any());
+    }
+
+    @Test
+    void listarMudancas_DeveLancarParametroInvalidoException_QuandoTokenInvalido() {
+        assertThrows(ParametroInvalidoException.class, () -> catalogoService.listarMudancas("nao-e-token", 10));
+
+        verifyNoInteractions(produtoRepository, produtoExclusaoRepository);
+    }
+
+    private Produto produto(Long id, LocalDateTime updatedAt) {
+        Produto produto = new Produto();
+        produto.setId(id);
+        produto.setUpdatedAt(updatedAt);
+        return produto;
+    }
+}
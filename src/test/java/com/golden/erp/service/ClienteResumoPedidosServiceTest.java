@@ -0,0 +1,176 @@
+package com.golden.erp.service;
+
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.ClienteResumoPedidos;
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.domain.PedidoItem;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.ClienteResumoPedidosResponse;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.exception.ResourceNotFoundException;
+import com.golden.erp.mapper.ClienteResumoPedidosMapper;
+import com.golden.erp.repository.ClienteRepository;
+import com.golden.erp.repository.ClienteResumoPedidosRepository;
+import com.golden.erp.service.impl.ClienteResumoPedidosServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ClienteResumoPedidosServiceTest {
+
+    private static final LocalDateTime CRIADO_EM = LocalDateTime.of(2026, 3, 10, 14, 30);
+    private static final BigDecimal TOTAL = new BigDecimal("200.00");
+
+    @Mock
+    private ClienteResumoPedidosRepository clienteResumoPedidosRepository;
+
+    @Mock
+    private ClienteResumoPedidosMapper clienteResumoPedidosMapper;
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @InjectMocks
+    private ClienteResumoPedidosServiceImpl clienteResumoPedidosService;
+
+    private Pedido pedido;
+
+    @BeforeEach
+    void setUp() {
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        cliente.setNome("João Silva");
+
+        Produto produto = new Produto();
+        produto.setId(1L);
+
+        PedidoItem item = new PedidoItem();
+        item.setProduto(produto);
+        item.setQuantidade(2);
+        item.setPrecoUnitario(new BigDecimal("100.00"));
+        item.calcularSubtotal();
+
+        pedido = new Pedido();
+        pedido.setId(10L);
+        pedido.setCliente(cliente);
+        pedido.adicionarItem(item);
+        pedido.setCreatedAt(CRIADO_EM);
+    }
+
+    @Test
+    void aoAlterarPedido_DeveSomarPedido_QuandoPedidoCriado() {
+        when(clienteResumoPedidosRepository.somarPedido(1L, TOTAL, 1L, CRIADO_EM)).thenReturn(1);
+
+        clienteResumoPedidosService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido));
+
+        verify(clienteResumoPedidosRepository).somarPedido(1L, TOTAL, 1L, CRIADO_EM);
+        verify(clienteResumoPedidosRepository, never()).inserir(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    void aoAlterarPedido_DeveInserirResumo_QuandoPrimeiroPedidoDoCliente() {
+        when(clienteResumoPedidosRepository.somarPedido(anyLong(), any(), anyLong(), any())).thenReturn(0);
+        when(clienteResumoPedidosRepository.inserir(1L, TOTAL, 1L, CRIADO_EM)).thenReturn(1);
+
+        clienteResumoPedidosService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido));
+
+        verify(clienteResumoPedidosRepository).inserir(1L, TOTAL, 1L, CRIADO_EM);
+        verify(clienteResumoPedidosRepository, times(1)).somarPedido(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    void aoAlterarPedido_DeveSomarPedido_QuandoOutraTransacaoInseriuAntes() {
+        when(clienteResumoPedidosRepository.somarPedido(anyLong(), any(), anyLong(), any())).thenReturn(0, 1);
+        when(clienteResumoPedidosRepository.inserir(anyLong(), any(), anyLong(), any())).thenReturn(0);
+
+        clienteResumoPedidosService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido));
+
+        verify(clienteResumoPedidosRepository, times(2)).somarPedido(1L, TOTAL, 1L, CRIADO_EM);
+    }
+
+    @Test
+    void aoAlterarPedido_DeveFecharPedidoSemAlterarTotal_QuandoPedidoPago() {
+        pedido.pagar();
+        when(clienteResumoPedidosRepository.ajustar(anyLong(), any(), anyLong())).thenReturn(1);
+
+        clienteResumoPedidosService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.PAGO, pedido, StatusPedido.CREATED));
+
+        verify(clienteResumoPedidosRepository).ajustar(eq(1L), argThat(total -> total.signum() == 0), eq(-1L));
+    }
+
+    @Test
+    void aoAlterarPedido_DeveEstornarTotal_QuandoPedidoCancelado() {
+        pedido.cancelar();
+        when(clienteResumoPedidosRepository.ajustar(anyLong(), any(), anyLong())).thenReturn(1);
+
+        clienteResumoPedidosService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CANCELADO, pedido, StatusPedido.CREATED));
+
+        verify(clienteResumoPedidosRepository).ajustar(1L, TOTAL.negate(), -1L);
+    }
+
+    @Test
+    void aoAlterarPedido_DeveRecalcular_QuandoResumoNaoExiste() {
+        pedido.marcarComoAtrasado();
+        when(clienteResumoPedidosRepository.ajustar(anyLong(), any(), anyLong())).thenReturn(0);
+
+        clienteResumoPedidosService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.ATRASADO, pedido, StatusPedido.CREATED));
+
+        verify(clienteResumoPedidosRepository).recalcular(1L, 10L, TOTAL, 0L, CRIADO_EM);
+    }
+
+    @Test
+    void aoAlterarPedido_DeveIgnorar_QuandoSemStatusAnterior() {
+        pedido.pagar();
+
+        clienteResumoPedidosService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.PAGO, pedido));
+
+        verifyNoInteractions(clienteResumoPedidosRepository);
+    }
+
+    @Test
+    void buscar_DeveRetornarResumo_QuandoExiste() {
+        ClienteResumoPedidos resumo = new ClienteResumoPedidos();
+        resumo.setClienteId(1L);
+        ClienteResumoPedidosResponse response = new ClienteResumoPedidosResponse();
+        when(clienteResumoPedidosRepository.findById(1L)).thenReturn(Optional.of(resumo));
+        when(clienteResumoPedidosMapper.toResponse(resumo)).thenReturn(response);
+
+        assertSame(response, clienteResumoPedidosService.buscar(1L));
+        verifyNoInteractions(clienteRepository);
+    }
+
+    @Test
+    void buscar_DeveRetornarZeros_QuandoClienteSemPedidos() {
+        when(clienteResumoPedidosRepository.findById(1L)).thenReturn(Optional.empty());
+        when(clienteRepository.existsById(1L)).thenReturn(true);
+
+        ClienteResumoPedidosResponse result = clienteResumoPedidosService.buscar(1L);
+
+        assertEquals(0L, result.getPedidos());
+        assertEquals(0L, result.getPedidosAbertos());
+        assertEquals(BigDecimal.ZERO, result.getTotalGasto());
+        assertNull(result.getUltimoPedidoEm());
+    }
+
+    @Test
+    void buscar_DeveLancarResourceNotFoundException_QuandoClienteNaoExiste() {
+        when(clienteResumoPedidosRepository.findById(99L)).thenReturn(Optional.empty());
+        when(clienteRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> clienteResumoPedidosService.buscar(99L));
+    }
+}
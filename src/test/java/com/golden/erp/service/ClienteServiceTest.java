@@ -9,6 +9,7 @@ import com.golden.erp.exception.CepNotFoundException;
 import com.golden.erp.exception.ResourceAlreadyExistsException;
 import com.golden.erp.exception.ResourceNotFoundException;
 import com.golden.erp.mapper.ClienteMapper;
+import com.golden.erp.metrics.ErpMetrics;
 import com.golden.erp.repository.ClienteRepository;
 import com.golden.erp.service.impl.ClienteServiceImpl;
 import feign.FeignException;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -41,6 +43,12 @@ public class ClienteServiceTest {
     @Mock
     private ViaCepClient viaCepClient;
 
+    @Mock
+    private ErpMetrics erpMetrics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ClienteServiceImpl clienteService;
 
@@ -204,6 +212,15 @@ public class ClienteServiceTest {
         verify(clienteMapper, never()).toResponse(any(Cliente.class));
     }
 
+    @Test
+    void buscarVersao_DeveLancarResourceNotFoundException_QuandoClienteNaoExiste() {
+        when(clienteRepository.buscarVersao(anyLong())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> clienteService.buscarVersao(1L));
+        
+        verify(clienteRepository, never()).findById(anyLong());
+    }
+
     @Test
     void listar_DeveRetornarPaginaDeClienteResponse() {
         
@@ -0,0 +1,144 @@
+package com.golden.erp.service;
+
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.domain.PedidoItem;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.DashboardVendasResponse;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.repository.PedidoResumoRepository;
+import com.golden.erp.service.impl.DashboardServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardServiceTest {
+
+    @Mock
+    private PedidoResumoRepository pedidoResumoRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private DashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dashboardService = new DashboardServiceImpl(pedidoResumoRepository, meterRegistry);
+    }
+
+    @Test
+    void resumirVendas_DeveSomarPedidosCriadosECancelados() {
+        Pedido pago = pedido(10L, "100.00", LocalDateTime.now());
+        Pedido cancelado = pedido(11L, "50.00", LocalDateTime.now().minusMinutes(30));
+        dashboardService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pago));
+        dashboardService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, cancelado));
+        cancelado.cancelar();
+        dashboardService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CANCELADO, cancelado));
+        pago.pagar();
+        dashboardService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.PAGO, pago));
+
+        DashboardVendasResponse result = dashboardService.resumirVendas();
+
+        assertEquals(1, result.getUltimos5Minutos().getPedidos());
+        assertEquals(0, result.getUltimos5Minutos().getCancelamentos());
+        assertEquals(2, result.getUltimaHora().getPedidos());
+        assertEquals(new BigDecimal("150.00"), result.getUltimaHora().getReceita());
+        assertEquals(new BigDecimal("100.00"), result.getUltimaHora().getReceitaLiquida());
+        assertEquals(new BigDecimal("75.00"), result.getUltimaHora().getTicketMedio());
+        assertEquals(0.5, result.getUltimaHora().getTaxaCancelamento());
+        assertEquals(2, result.getUltimas24Horas().getPedidos());
+        verifyNoInteractions(pedidoResumoRepository);
+    }
+
+    @Test
+    void reconstruir_DeveCarregarPedidosDoUltimoDia() {
+        PedidoResumoRepository.VendaRecente criada = venda(1L, LocalDateTime.now().minusHours(2), "80.00", StatusPedido.PAID);
+        PedidoResumoRepository.VendaRecente cancelada = venda(2L, LocalDateTime.now().minusMinutes(1), "20.00", StatusPedido.CANCELLED);
+        when(pedidoResumoRepository.listarVendasDesde(any(LocalDateTime.class))).thenReturn(List.of(criada, cancelada));
+
+        dashboardService.reconstruir();
+
+        DashboardVendasResponse result = dashboardService.resumirVendas();
+        assertEquals(1, result.getUltimos5Minutos().getPedidos());
+        assertEquals(1, result.getUltimos5Minutos().getCancelamentos());
+        assertEquals(2, result.getUltimas24Horas().getPedidos());
+        assertEquals(new BigDecimal("80.00"), result.getUltimas24Horas().getReceitaLiquida());
+    }
+
+    @Test
+    void reconstruir_DeveManterEventosRecebidosDuranteALeitura() {
+        Pedido lidoPeloBanco = pedido(10L, "100.00", LocalDateTime.now().minusMinutes(2));
+        Pedido criadoDepoisDaLeitura = pedido(11L, "40.00", LocalDateTime.now().minusMinutes(1));
+        PedidoResumoRepository.VendaRecente venda = venda(10L, lidoPeloBanco.getCreatedAt(), "100.00", StatusPedido.CREATED);
+        when(pedidoResumoRepository.listarVendasDesde(any(LocalDateTime.class))).thenAnswer(invocation -> {
+            // Commits concluídos enquanto a consulta roda: um entrou no resultado, o outro não
+            dashboardService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, lidoPeloBanco));
+            dashboardService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, criadoDepoisDaLeitura));
+            criadoDepoisDaLeitura.cancelar();
+            dashboardService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CANCELADO, criadoDepoisDaLeitura));
+            return List.of(venda);
+        });
+
+        dashboardService.reconstruir();
+
+        DashboardVendasResponse result = dashboardService.resumirVendas();
+        assertEquals(2, result.getUltimos5Minutos().getPedidos());
+        assertEquals(1, result.getUltimos5Minutos().getCancelamentos());
+        assertEquals(new BigDecimal("140.00"), result.getUltimos5Minutos().getReceita());
+    }
+
+    @Test
+    void gauges_DevemRefletirAJanela() {
+        dashboardService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido(10L, "100.00", LocalDateTime.now())));
+
+        assertEquals(1, meterRegistry.get("erp.vendas.pedidos").tag("janela", "5m").gauge().value());
+        assertEquals(100, meterRegistry.get("erp.vendas.receita").tag("janela", "24h").gauge().value());
+        assertEquals(0, meterRegistry.get("erp.vendas.cancelamento.taxa").tag("janela", "1h").gauge().value());
+    }
+
+    private Pedido pedido(Long id, String preco, LocalDateTime createdAt) {
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        cliente.setNome("João Silva");
+
+        Produto produto = new Produto();
+        produto.setId(1L);
+
+        PedidoItem item = new PedidoItem();
+        item.setProduto(produto);
+        item.setQuantidade(1);
+        item.setPrecoUnitario(new BigDecimal(preco));
+        item.calcularSubtotal();
+
+        Pedido pedido = new Pedido();
+        pedido.setId(id);
+        pedido.setCliente(cliente);
+        pedido.adicionarItem(item);
+        pedido.setCreatedAt(createdAt);
+        return pedido;
+    }
+
+    private PedidoResumoRepository.VendaRecente venda(Long pedidoId, LocalDateTime createdAt, String total, StatusPedido status) {
+        PedidoResumoRepository.VendaRecente venda = mock(PedidoResumoRepository.VendaRecente.class);
+        when(venda.getPedidoId()).thenReturn(pedidoId);
+        when(venda.getCreatedAt()).thenReturn(createdAt);
+        when(venda.getTotal()).thenReturn(new BigDecimal(total));
+        when(venda.getStatus()).thenReturn(status);
+        return venda;
+    }
+}
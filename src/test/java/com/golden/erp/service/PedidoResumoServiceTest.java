@@ -0,0 +1,139 @@
+package com.golden.erp.service;
+
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.domain.PedidoItem;
+import com.golden.erp.domain.PedidoResumo;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.event.ClienteAtualizadoEvent;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.exception.ResourceNotFoundException;
+import com.golden.erp.mapper.PedidoResumoMapper;
+import com.golden.erp.repository.ClienteRepository;
+import com.golden.erp.repository.PedidoResumoRepository;
+import com.golden.erp.service.impl.PedidoResumoServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PedidoResumoServiceTest {
+
+    @Mock
+    private PedidoResumoRepository pedidoResumoRepository;
+
+    @Mock
+    private PedidoResumoMapper pedidoResumoMapper;
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @InjectMocks
+    private PedidoResumoServiceImpl pedidoResumoService;
+
+    private Pedido pedido;
+    private PedidoResumo pedidoResumo;
+
+    @BeforeEach
+    void setUp() {
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        cliente.setNome("João Silva");
+
+        Produto produto = new Produto();
+        produto.setId(1L);
+
+        PedidoItem item = new PedidoItem();
+        item.setProduto(produto);
+        item.setQuantidade(2);
+        item.setPrecoUnitario(new BigDecimal("100.00"));
+        item.calcularSubtotal();
+
+        pedido = new Pedido();
+        pedido.setId(10L);
+        pedido.setCliente(cliente);
+        pedido.adicionarItem(item);
+
+        pedidoResumo = new PedidoResumo();
+        pedidoResumo.setPedidoId(10L);
+    }
+
+    @Test
+    void aoAlterarPedido_DeveInserirResumo_QuandoPedidoCriado() {
+        PedidoEvent event = new PedidoEvent(TipoEventoPedido.CRIADO, pedido);
+        when(pedidoResumoMapper.toEntity(event)).thenReturn(pedidoResumo);
+
+        pedidoResumoService.aoAlterarPedido(event);
+
+        verify(pedidoResumoRepository).save(pedidoResumo);
+        verify(pedidoResumoRepository, never()).atualizarStatus(anyLong(), any(), any());
+    }
+
+    @Test
+    void aoAlterarPedido_DeveAtualizarStatus_QuandoPedidoPago() {
+        pedido.pagar();
+        PedidoEvent event = new PedidoEvent(TipoEventoPedido.PAGO, pedido);
+        when(pedidoResumoRepository.atualizarStatus(10L, StatusPedido.PAID, pedido.getUpdatedAt())).thenReturn(1);
+
+        pedidoResumoService.aoAlterarPedido(event);
+
+        verify(pedidoResumoRepository).atualizarStatus(10L, StatusPedido.PAID, pedido.getUpdatedAt());
+        verify(pedidoResumoRepository, never()).save(any(PedidoResumo.class));
+    }
+
+    @Test
+    void aoAlterarPedido_DeveRecriarResumo_QuandoResumoNaoExiste() {
+        pedido.cancelar();
+        PedidoEvent event = new PedidoEvent(TipoEventoPedido.CANCELADO, pedido);
+        when(pedidoResumoRepository.atualizarStatus(anyLong(), any(), any())).thenReturn(0);
+        when(pedidoResumoMapper.toEntity(event)).thenReturn(pedidoResumo);
+
+        pedidoResumoService.aoAlterarPedido(event);
+
+        verify(pedidoResumoRepository).save(pedidoResumo);
+    }
+
+    @Test
+    void aoAtualizarCliente_DeveAtualizarNomeNosResumos() {
+        pedidoResumoService.aoAtualizarCliente(new ClienteAtualizadoEvent(1L, "João Souza"));
+
+        verify(pedidoResumoRepository).atualizarNomeCliente(1L, "João Souza");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void listar_DeveLancarResourceNotFoundException_QuandoClienteNaoExiste() {
+        when(clienteRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> {
+            pedidoResumoService.listar(null, 99L, null, null, Pageable.unpaged());
+        });
+
+        verify(pedidoResumoRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void pedidoEvent_DeveCopiarDadosDoPedido() {
+        PedidoEvent event = new PedidoEvent(TipoEventoPedido.CRIADO, pedido);
+
+        assertEquals(10L, event.getPedidoId());
+        assertEquals("João Silva", event.getClienteNome());
+        assertEquals(new BigDecimal("200.00"), event.getTotal());
+        assertEquals(List.of(1L), event.getItens().stream().map(PedidoEvent.Item::getProdutoId).toList());
+    }
+}
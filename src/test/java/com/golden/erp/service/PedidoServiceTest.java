@@ -1,5 +1,6 @@
 package com.golden.erp.service;
 
+import com.golden.erp.arquivo.ArquivoPedidos;
 import com.golden.erp.domain.Cliente;
 import com.golden.erp.domain.Pedido;
 import com.golden.erp.domain.PedidoItem;
@@ -9,10 +10,13 @@ import com.golden.erp.dto.request.PedidoItemRequest;
 import com.golden.erp.dto.request.PedidoRequest;
 import com.golden.erp.dto.response.PedidoItemResponse;
 import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
 import com.golden.erp.exception.EstoqueInsuficienteException;
 import com.golden.erp.exception.ResourceNotFoundException;
 import com.golden.erp.mapper.PedidoItemMapper;
 import com.golden.erp.mapper.PedidoMapper;
+import com.golden.erp.metrics.ErpMetrics;
 import com.golden.erp.repository.ClienteRepository;
 import com.golden.erp.repository.PedidoRepository;
 import com.golden.erp.repository.ProdutoRepository;
@@ -23,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -62,6 +68,15 @@ public class PedidoServiceTest {
     @Mock
     private PedidoItemMapper pedidoItemMapper;
 
+    @Mock
+    private ErpMetrics erpMetrics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ArquivoPedidos arquivoPedidos;
+
     @InjectMocks
     private PedidoServiceImpl pedidoService;
 
@@ -162,6 +177,8 @@ public class PedidoServiceTest {
         verify(produtoService).atualizarEstoque(produto.getId(), -pedidoItemRequest.getQuantidade());
         verify(pedidoRepository).save(pedido);
         verify(pedidoMapper).toResponse(pedido);
+        verify(erpMetrics).registrarPedidoCriado(pedido);
+        verify(eventPublisher).publishEvent(argThat((PedidoEvent e) -> e.getTipo() == TipoEventoPedido.CRIADO));
     }
 
     @Test
@@ -207,6 +224,7 @@ public class PedidoServiceTest {
         verify(produtoRepository).findById(pedidoItemRequest.getProdutoId());
         verify(produtoService, never()).atualizarEstoque(anyLong(), anyInt());
         verify(pedidoRepository, never()).save(any(Pedido.class));
+        verify(erpMetrics).registrarEstoqueInsuficiente();
     }
 
     @Test
@@ -258,7 +276,7 @@ public class PedidoServiceTest {
         cancelledResponse.setId(1L);
         cancelledResponse.setStatus(StatusPedido.CANCELLED);
         when(pedidoMapper.toResponse(any(Pedido.class))).thenReturn(cancelledResponse);
-        doNothing().when(produtoService).atualizarEstoque(anyLong(), anyInt());
+        doNothing().when(produtoService).devolverEstoque(anyMap());
 
         // Act
         PedidoResponse result = pedidoService.cancelar(1L);
@@ -269,8 +287,10 @@ public class PedidoServiceTest {
         assertEquals(StatusPedido.CANCELLED, pedido.getStatus());
         
         verify(pedidoRepository).findById(1L);
-        verify(produtoService).atualizarEstoque(produto.getId(), pedidoItem.getQuantidade());
+        verify(produtoService).devolverEstoque(Map.of(produto.getId(), pedidoItem.getQuantidade()));
+        verify(produtoService, never()).atualizarEstoque(anyLong(), anyInt());
         verify(pedidoRepository).save(pedido);
+        verify(eventPublisher).publishEvent(argThat((PedidoEvent e) -> e.getTipo() == TipoEventoPedido.CANCELADO));
         verify(pedidoMapper).toResponse(pedido);
     }
 
@@ -286,7 +306,7 @@ public class PedidoServiceTest {
         });
         
         verify(pedidoRepository).findById(1L);
-        verify(produtoService, never()).atualizarEstoque(anyLong(), anyInt());
+        verify(produtoService, never()).devolverEstoque(anyMap());
         verify(pedidoRepository, never()).save(any(Pedido.class));
     }
 
@@ -297,7 +317,7 @@ public class PedidoServiceTest {
         List<Pedido> pedidosAtrasados = new ArrayList<>();
         pedidosAtrasados.add(pedido);
         
-        when(pedidoRepository.findByStatusAndCreatedAtBefore(eq(StatusPedido.CREATED), any(LocalDateTime.class)))
+        when(pedidoRepository.findByStatusAndCreatedAtBeforeNaParticao(eq(StatusPedido.CREATED), any(LocalDateTime.class), eq(0), eq(1)))
                 .thenReturn(pedidosAtrasados);
         when(pedidoRepository.save(any(Pedido.class))).thenReturn(pedido);
 
@@ -307,8 +327,24 @@ public class PedidoServiceTest {
         // Assert
         assertEquals(StatusPedido.LATE, pedido.getStatus());
         
-        verify(pedidoRepository).findByStatusAndCreatedAtBefore(eq(StatusPedido.CREATED), any(LocalDateTime.class));
+        verify(pedidoRepository).findByStatusAndCreatedAtBeforeNaParticao(eq(StatusPedido.CREATED), any(LocalDateTime.class), eq(0), eq(1));
         verify(pedidoRepository).save(pedido);
+        verify(eventPublisher).publishEvent(argThat((PedidoEvent e) -> e.getTipo() == TipoEventoPedido.ATRASADO));
+    }
+
+    @Test
+    void processarPedidosAtrasados_DeveConsultarApenasAParticaoInformada() {
+        // Arrange
+        when(pedidoRepository.findByStatusAndCreatedAtBeforeNaParticao(eq(StatusPedido.CREATED), any(LocalDateTime.class), eq(2), eq(4)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        pedidoService.processarPedidosAtrasados(2, 4);
+
+        // Assert
+        verify(pedidoRepository).findByStatusAndCreatedAtBeforeNaParticao(eq(StatusPedido.CREATED), any(LocalDateTime.class), eq(2), eq(4));
+        verify(pedidoRepository, never()).save(any(Pedido.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -330,4 +366,41 @@ public class PedidoServiceTest {
         verify(pedidoRepository).findByStatus(StatusPedido.CREATED, Pageable.unpaged());
         verify(pedidoMapper).toResponse(pedido);
     }
+
+    @Test
+    void buscarPorId_DeveLerDoArquivo_QuandoPedidoNaoEstaNasTabelas() {
+        // Arrange
+        when(pedidoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(arquivoPedidos.buscar(1L)).thenReturn(Optional.of(pedidoResponse));
+
+        // Act
+        PedidoResponse result = pedidoService.buscarPorId(1L);
+
+        // Assert
+        assertSame(pedidoResponse, result);
+        verifyNoInteractions(pedidoMapper);
+    }
+
+    @Test
+    void buscarPorId_DeveLancarResourceNotFoundException_QuandoPedidoNaoExisteNemNoArquivo() {
+        // Arrange
+        when(pedidoRepository.findById(99L)).thenReturn(Optional.empty());
+        when(arquivoPedidos.buscar(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> pedidoService.buscarPorId(99L));
+    }
+
+    @Test
+    void buscarPorId_NaoDeveConsultarArquivo_QuandoPedidoEstaNasTabelas() {
+        // Arrange
+        when(pedidoRepository.findById(1L)).thenReturn(Optional.of(pedido));
+        when(pedidoMapper.toResponse(pedido)).thenReturn(pedidoResponse);
+
+        // Act
+        pedidoService.buscarPorId(1L);
+
+        // Assert
+        verifyNoInteractions(arquivoPedidos);
+    }
 }
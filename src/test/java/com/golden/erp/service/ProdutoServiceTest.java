@@ -1,12 +1,18 @@
 package com.golden.erp.service;
 
+import com.golden.erp.cache.CacheJson;
 import com.golden.erp.domain.Produto;
+import com.golden.erp.domain.ProdutoExclusao;
 import com.golden.erp.dto.request.ProdutoRequest;
 import com.golden.erp.dto.response.ProdutoResponse;
+import com.golden.erp.event.EstoqueAlteradoEvent;
 import com.golden.erp.exception.ResourceAlreadyExistsException;
 import com.golden.erp.exception.ResourceNotFoundException;
 import com.golden.erp.mapper.ProdutoMapper;
+import com.golden.erp.metrics.ErpMetrics;
+import com.golden.erp.repository.ProdutoExclusaoRepository;
 import com.golden.erp.repository.ProdutoRepository;
+import com.golden.erp.repository.VersaoListagem;
 import com.golden.erp.service.impl.ProdutoServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,14 +20,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,9 +45,21 @@ public class ProdutoServiceTest {
     @Mock
     private ProdutoRepository produtoRepository;
 
+    @Mock
+    private ProdutoExclusaoRepository produtoExclusaoRepository;
+
     @Mock
     private ProdutoMapper produtoMapper;
 
+    @Mock
+    private ErpMetrics erpMetrics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheJson cacheProdutos;
+
     @InjectMocks
     private ProdutoServiceImpl produtoService;
 
@@ -96,6 +117,42 @@ public class ProdutoServiceTest {
         verify(produtoMapper).toEntity(produtoRequest);
         verify(produtoRepository).save(produto);
         verify(produtoMapper).toResponse(produto);
+        verify(eventPublisher).publishEvent(argThat((EstoqueAlteradoEvent e) ->
+                e.getEstoqueAnterior() == null && e.getEstoqueAtual() == 10 && e.getEstoqueMinimo() == 5));
+    }
+
+    @Test
+    void atualizar_DevePublicarEventoSemSaldoAnterior_QuandoEstoqueMinimoMuda() {
+        // Arrange
+        produtoRequest.setEstoqueMinimo(20);
+        when(produtoRepository.findById(1L)).thenReturn(Optional.of(produto));
+        when(produtoRepository.findBySku(anyString())).thenReturn(Optional.of(produto));
+        doAnswer(invocation -> {
+            produto.setEstoqueMinimo(20);
+            return null;
+        }).when(produtoMapper).updateEntityFromRequest(produtoRequest, produto);
+        when(produtoRepository.save(produto)).thenReturn(produto);
+
+        // Act
+        produtoService.atualizar(1L, produtoRequest);
+
+        // Assert
+        verify(eventPublisher).publishEvent(argThat((EstoqueAlteradoEvent e) ->
+                e.getEstoqueAnterior() == null && e.getEstoqueAtual() == 10 && e.getEstoqueMinimo() == 20));
+    }
+
+    @Test
+    void atualizar_NaoDevePublicarEvento_QuandoEstoqueNaoMuda() {
+        // Arrange
+        when(produtoRepository.findById(1L)).thenReturn(Optional.of(produto));
+        when(produtoRepository.findBySku(anyString())).thenReturn(Optional.of(produto));
+        when(produtoRepository.save(produto)).thenReturn(produto);
+
+        // Act
+        produtoService.atualizar(1L, produtoRequest);
+
+        // Assert
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -144,6 +201,21 @@ public class ProdutoServiceTest {
         verify(produtoMapper, never()).toResponse(any(Produto.class));
     }
 
+    @Test
+    void excluir_DeveRegistrarExclusaoParaOFeedDeMudancas() {
+        // Arrange
+        when(produtoRepository.existsById(1L)).thenReturn(true);
+
+        // Act
+        produtoService.excluir(1L);
+
+        // Assert
+        verify(produtoRepository).deleteById(1L);
+        verify(produtoExclusaoRepository).save(argThat((ProdutoExclusao e) -> e.getProdutoId().equals(1L)
+                && e.getExcluidoEm() != null));
+        verify(cacheProdutos).invalidar(1L);
+    }
+
     @Test
     void listarAtivos_DeveRetornarPaginaDeProdutosAtivos() {
         // Arrange
@@ -163,6 +235,42 @@ public class ProdutoServiceTest {
         verify(produtoMapper).toResponse(produto);
     }
 
+    @Test
+    void listarAtivos_ComVersao_DeveUsarQuantidadeDaVersaoSemContar() {
+        // Arrange
+        when(produtoRepository.findAllByAtivoTrue(any(Pageable.class))).thenReturn(List.of(produto));
+        when(produtoMapper.toResponse(any(Produto.class))).thenReturn(produtoResponse);
+        VersaoListagem versao = new VersaoListagem(41L, LocalDateTime.now());
+
+        // Act
+        Page<ProdutoResponse> result = produtoService.listarAtivos(PageRequest.of(2, 20), versao);
+
+        // Assert
+        assertEquals(41, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+        verify(produtoRepository, never()).findByAtivoTrue(any(Pageable.class));
+    }
+
+    @Test
+    void buscarVersao_DeveRetornarDataDeAtualizacao_QuandoProdutoExiste() {
+        // Arrange
+        LocalDateTime atualizadoEm = LocalDateTime.of(2025, 3, 10, 14, 30, 0, 123_456_000);
+        when(produtoRepository.buscarVersao(1L)).thenReturn(Optional.of(atualizadoEm));
+
+        // Act & Assert
+        assertEquals(atualizadoEm, produtoService.buscarVersao(1L));
+        verify(produtoRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void buscarVersao_DeveLancarResourceNotFoundException_QuandoProdutoNaoExiste() {
+        // Arrange
+        when(produtoRepository.buscarVersao(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> produtoService.buscarVersao(1L));
+    }
+
     @Test
     void atualizarEstoque_DeveAtualizarEstoque_QuandoProdutoExiste() {
         // Arrange
@@ -176,6 +284,9 @@ public class ProdutoServiceTest {
         assertEquals(15, produto.getEstoque()); // 10 + 5
         verify(produtoRepository).findById(1L);
         verify(produtoRepository).save(produto);
+        verify(eventPublisher).publishEvent(argThat((EstoqueAlteradoEvent e) ->
+                e.getProdutoId().equals(1L) && e.getEstoqueAnterior() == 10 && e.getEstoqueAtual() == 15));
+        verify(cacheProdutos).invalidar(1L);
     }
 
     @Test
@@ -190,43 +301,45 @@ public class ProdutoServiceTest {
         
         verify(produtoRepository).findById(1L);
         verify(produtoRepository, never()).save(any(Produto.class));
+        verify(erpMetrics).registrarConflitoEstoque();
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    void listarProdutosComEstoqueBaixo_DeveRetornarListaDeProdutos() {
+    void devolverEstoque_DeveAtualizarTodosOsProdutosDeUmaVez() {
         // Arrange
-        Produto produtoEstoqueBaixo = new Produto();
-        produtoEstoqueBaixo.setId(2L);
-        produtoEstoqueBaixo.setSku("SKU456");
-        produtoEstoqueBaixo.setNome("Produto Estoque Baixo");
-        produtoEstoqueBaixo.setPrecoBruto(new BigDecimal("50.00"));
-        produtoEstoqueBaixo.setEstoque(3);
-        produtoEstoqueBaixo.setEstoqueMinimo(5);
-        produtoEstoqueBaixo.setAtivo(true);
-
-        ProdutoResponse produtoEstoqueBaixoResponse = new ProdutoResponse();
-        produtoEstoqueBaixoResponse.setId(2L);
-        produtoEstoqueBaixoResponse.setSku("SKU456");
-        produtoEstoqueBaixoResponse.setNome("Produto Estoque Baixo");
-        produtoEstoqueBaixoResponse.setPrecoBruto(new BigDecimal("50.00"));
-        produtoEstoqueBaixoResponse.setEstoque(3);
-        produtoEstoqueBaixoResponse.setEstoqueMinimo(5);
-        produtoEstoqueBaixoResponse.setAtivo(true);
-
-        List<Produto> produtosEstoqueBaixo = Arrays.asList(produtoEstoqueBaixo);
-        when(produtoRepository.findAllWithLowStock()).thenReturn(produtosEstoqueBaixo);
-        when(produtoMapper.toResponse(produtoEstoqueBaixo)).thenReturn(produtoEstoqueBaixoResponse);
+        Produto outroProduto = new Produto();
+        outroProduto.setId(2L);
+        outroProduto.setSku("SKU456");
+        outroProduto.setEstoque(0);
+        outroProduto.setEstoqueMinimo(5);
+        when(produtoRepository.findAllById(anyIterable())).thenReturn(List.of(produto, outroProduto));
 
         // Act
-        List<ProdutoResponse> result = produtoService.listarProdutosComEstoqueBaixo();
+        produtoService.devolverEstoque(Map.of(1L, 5, 2L, 3));
 
         // Assert
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(produtoEstoqueBaixoResponse.getId(), result.get(0).getId());
-        assertEquals(produtoEstoqueBaixoResponse.getSku(), result.get(0).getSku());
-        
-        verify(produtoRepository).findAllWithLowStock();
-        verify(produtoMapper).toResponse(produtoEstoqueBaixo);
+        assertEquals(15, produto.getEstoque());
+        assertEquals(3, outroProduto.getEstoque());
+        verify(produtoRepository).saveAll(List.of(produto, outroProduto));
+        verify(produtoRepository, never()).findById(anyLong());
+        verify(produtoRepository, never()).save(any(Produto.class));
+        verify(eventPublisher, times(2)).publishEvent(any(EstoqueAlteradoEvent.class));
+        verify(cacheProdutos).invalidar(1L);
+        verify(cacheProdutos).invalidar(2L);
+    }
+
+    @Test
+    void devolverEstoque_DeveLancarResourceNotFoundException_QuandoProdutoNaoExiste() {
+        // Arrange
+        when(produtoRepository.findAllById(anyIterable())).thenReturn(List.of(produto));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> {
+            produtoService.devolverEstoque(Map.of(1L, 5, 99L, 1));
+        });
+
+        assertEquals(10, produto.getEstoque());
+        verify(produtoRepository, never()).saveAll(anyIterable());
     }
 }
@@ -0,0 +1,202 @@
+package com.golden.erp.service;
+
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.domain.PedidoItem;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.dto.response.MaisVendidoResponse;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.exception.ParametroInvalidoException;
+import com.golden.erp.job.TravaJob;
+import com.golden.erp.ranking.CheckpointRanking;
+import com.golden.erp.ranking.RankingVendasProperties;
+import com.golden.erp.ranking.SketchVendas;
+import com.golden.erp.repository.PedidoRepository;
+import com.golden.erp.repository.ProdutoRepository;
+import com.golden.erp.service.impl.RankingVendasServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RankingVendasServiceTest {
+
+    @Mock
+    private CheckpointRanking checkpointRanking;
+
+    @Mock
+    private PedidoRepository pedidoRepository;
+
+    @Mock
+    private ProdutoRepository produtoRepository;
+
+    @Mock
+    private TravaJob travaJob;
+
+    private RankingVendasProperties properties;
+
+    private RankingVendasServiceImpl rankingVendasService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RankingVendasProperties();
+        properties.setLargura(256);
+        properties.setProfundidade(4);
+        properties.setCandidatos(20);
+        properties.setDiasRetidos(7);
+        rankingVendasService = new RankingVendasServiceImpl(checkpointRanking, pedidoRepository, produtoRepository,
+                travaJob, properties);
+    }
+
+    @Test
+    void listarMaisVendidos_DeveSomarOsDiasDaJanela() {
+        rankingVendasService.aoAlterarPedido(evento(TipoEventoPedido.CRIADO, pedido(LocalDateTime.now(), 1L, 2)));
+        rankingVendasService.aoAlterarPedido(evento(TipoEventoPedido.CRIADO, pedido(LocalDateTime.now().minusDays(3), 2L, 5)));
+        when(produtoRepository.findAllById(anyList())).thenAnswer(inv -> ((List<Long>) inv.getArgument(0)).stream()
+                .map(this::produto).toList());
+
+        List<MaisVendidoResponse> hoje = rankingVendasService.listarMaisVendidos(1, 10);
+        List<MaisVendidoResponse> semana = rankingVendasService.listarMaisVendidos(7, 10);
+
+        assertEquals(List.of(1L), hoje.stream().map(MaisVendidoResponse::getProdutoId).toList());
+        assertEquals(List.of(2L, 1L), semana.stream().map(MaisVendidoResponse::getProdutoId).toList());
+        assertEquals(5, semana.get(0).getQuantidadeEstimada());
+        assertEquals("SKU-2", semana.get(0).getSku());
+    }
+
+    @Test
+    void aoAlterarPedido_DeveEstornarNoDiaDaCriacao_QuandoPedidoCancelado() {
+        Pedido pedido = pedido(LocalDateTime.now().minusDays(2), 1L, 4);
+        rankingVendasService.aoAlterarPedido(evento(TipoEventoPedido.CRIADO, pedido));
+        pedido.cancelar();
+        rankingVendasService.aoAlterarPedido(evento(TipoEventoPedido.CANCELADO, pedido));
+
+        assertTrue(rankingVendasService.listarMaisVendidos(7, 10).isEmpty());
+        verifyNoInteractions(produtoRepository);
+    }
+
+    @Test
+    void listarMaisVendidos_DeveRecusarJanelaMaiorQueARetencao() {
+        assertThrows(ParametroInvalidoException.class, () -> rankingVendasService.listarMaisVendidos(8, 10));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void salvarCheckpoint_DeveGravarSoAParcelaNova_EAdotarOsDiasDoBanco() {
+        LocalDate hoje = LocalDate.now();
+        rankingVendasService.aoAlterarPedido(evento(TipoEventoPedido.CRIADO, pedido(LocalDateTime.now(), 1L, 2)));
+        // O banco já tem as vendas de outra instância para o mesmo dia
+        SketchVendas global = properties.novoSketch();
+        global.somar(1L, 2);
+        global.somar(3L, 10);
+        when(checkpointRanking.gravar(anyMap(), any(LocalDate.class), any(LocalDateTime.class)))
+                .thenReturn(Map.of(hoje, global));
+        when(produtoRepository.findAllById(anyList())).thenAnswer(inv -> ((List<Long>) inv.getArgument(0)).stream()
+                .map(this::produto).toList());
+
+        rankingVendasService.salvarCheckpoint();
+        rankingVendasService.aoAlterarPedido(evento(TipoEventoPedido.CRIADO, pedido(LocalDateTime.now(), 1L, 1)));
+        rankingVendasService.salvarCheckpoint();
+
+        ArgumentCaptor<Map<LocalDate, SketchVendas>> parcelas = ArgumentCaptor.forClass(Map.class);
+        verify(checkpointRanking, times(2)).gravar(parcelas.capture(), any(LocalDate.class), any(LocalDateTime.class));
+        assertEquals(2, parcelas.getAllValues().get(0).get(hoje).estimar(1L));
+        assertEquals(1, parcelas.getAllValues().get(1).get(hoje).estimar(1L));
+        List<MaisVendidoResponse> ranking = rankingVendasService.listarMaisVendidos(1, 10);
+        assertEquals(List.of(3L, 1L), ranking.stream().map(MaisVendidoResponse::getProdutoId).toList());
+    }
+
+    @Test
+    void salvarCheckpoint_DeveManterParcela_QuandoGravacaoFalha() {
+        LocalDate hoje = LocalDate.now();
+        rankingVendasService.aoAlterarPedido(evento(TipoEventoPedido.CRIADO, pedido(LocalDateTime.now(), 1L, 2)));
+        when(checkpointRanking.gravar(anyMap(), any(LocalDate.class), any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("banco indisponível"))
+                .thenReturn(Map.of());
+
+        rankingVendasService.salvarCheckpoint();
+        rankingVendasService.salvarCheckpoint();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<LocalDate, SketchVendas>> parcelas = ArgumentCaptor.forClass(Map.class);
+        verify(checkpointRanking, times(2)).gravar(parcelas.capture(), any(LocalDate.class), any(LocalDateTime.class));
+        assertEquals(2, parcelas.getAllValues().get(1).get(hoje).estimar(1L));
+    }
+
+    @Test
+    void inicializar_DeveCarregarHistorico_QuandoCheckpointVazioETravaObtida() {
+        PedidoRepository.VendaDiariaProduto venda = mock(PedidoRepository.VendaDiariaProduto.class);
+        when(venda.getProdutoId()).thenReturn(1L);
+        when(venda.getDia()).thenReturn(LocalDate.now().minusDays(1));
+        when(venda.getQuantidade()).thenReturn(8L);
+        when(checkpointRanking.isVazio()).thenReturn(true);
+        when(travaJob.tentarAdquirir(anyString(), eq(0))).thenReturn(Optional.of(() -> { }));
+        when(pedidoRepository.somarVendasDiariasDesde(any(LocalDateTime.class))).thenReturn(List.of(venda));
+        when(checkpointRanking.gravar(anyMap(), any(LocalDate.class), any(LocalDateTime.class))).thenReturn(Map.of());
+
+        rankingVendasService.inicializar();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<LocalDate, SketchVendas>> parcelas = ArgumentCaptor.forClass(Map.class);
+        verify(checkpointRanking, times(2)).gravar(parcelas.capture(), any(LocalDate.class), any(LocalDateTime.class));
+        assertEquals(8, parcelas.getAllValues().get(0).get(LocalDate.now().minusDays(1)).estimar(1L));
+    }
+
+    @Test
+    void inicializar_NaoDeveCarregarHistorico_QuandoOutraInstanciaTemATrava() {
+        when(checkpointRanking.isVazio()).thenReturn(true);
+        when(travaJob.tentarAdquirir(anyString(), eq(0))).thenReturn(Optional.empty());
+        when(checkpointRanking.gravar(anyMap(), any(LocalDate.class), any(LocalDateTime.class))).thenReturn(Map.of());
+
+        rankingVendasService.inicializar();
+
+        verifyNoInteractions(pedidoRepository);
+        verify(checkpointRanking).gravar(eq(Map.of()), any(LocalDate.class), any(LocalDateTime.class));
+    }
+
+    private PedidoEvent evento(TipoEventoPedido tipo, Pedido pedido) {
+        return new PedidoEvent(tipo, pedido);
+    }
+
+    private Pedido pedido(LocalDateTime createdAt, Long produtoId, int quantidade) {
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        cliente.setNome("João Silva");
+
+        PedidoItem item = new PedidoItem();
+        item.setProduto(produto(produtoId));
+        item.setQuantidade(quantidade);
+        item.setPrecoUnitario(new BigDecimal("10.00"));
+        item.calcularSubtotal();
+
+        Pedido pedido = new Pedido();
+        pedido.setId(10L);
+        pedido.setCliente(cliente);
+        pedido.adicionarItem(item);
+        pedido.setCreatedAt(createdAt);
+        return pedido;
+    }
+
+    private Produto produto(Long id) {
+        Produto produto = new Produto();
+        produto.setId(id);
+        produto.setSku("SKU-" + id);
+        produto.setNome("Produto " + id);
+        return produto;
+    }
+}
@@ -0,0 +1,218 @@
+package com.golden.erp.service;
+
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.domain.PedidoItem;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.ReposicaoResponse;
+import com.golden.erp.event.EstoqueAlteradoEvent;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.reposicao.ReposicaoProperties;
+import com.golden.erp.repository.PedidoRepository;
+import com.golden.erp.repository.ProdutoRepository;
+import com.golden.erp.service.impl.ReposicaoServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReposicaoServiceTest {
+
+    @Mock
+    private ProdutoRepository produtoRepository;
+
+    @Mock
+    private PedidoRepository pedidoRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReposicaoServiceImpl reposicaoService;
+
+    private Produto produto;
+
+    @BeforeEach
+    void setUp() {
+        ReposicaoProperties properties = new ReposicaoProperties();
+        properties.setMeiaVidaDias(14);
+        properties.setPrazoEntregaDias(7);
+        properties.setDiasCobertura(30);
+        reposicaoService = new ReposicaoServiceImpl(produtoRepository, pedidoRepository, properties, transactionManager);
+
+        produto = new Produto();
+        produto.setId(1L);
+        produto.setSku("SKU123");
+        produto.setNome("Produto Teste");
+        produto.setEstoque(10);
+        produto.setEstoqueMinimo(5);
+        produto.setAtivo(true);
+    }
+
+    @Test
+    void listarSugestoes_DeveSugerirProduto_QuandoRupturaDentroDoPrazo() {
+        // 20 unidades vendidas agora: velocidade de 20/τ ≈ 0,99 por dia, 10 unidades duram ~10 dias
+        reposicaoService.aoAlterarEstoque(new EstoqueAlteradoEvent(1L, "SKU123", 30, 10, 5));
+        reposicaoService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido(20)));
+        when(produtoRepository.findAllById(List.of(1L))).thenReturn(List.of(produto));
+
+        assertTrue(reposicaoService.listarSugestoes(7, 100).isEmpty());
+        List<ReposicaoResponse> result = reposicaoService.listarSugestoes(15, 100);
+
+        assertEquals(1, result.size());
+        ReposicaoResponse sugestao = result.get(0);
+        assertEquals("SKU123", sugestao.getSku());
+        assertEquals(0.99, sugestao.getVendaDiaria(), 0.01);
+        assertEquals(10.1, sugestao.getDiasCobertura(), 0.1);
+        assertEquals(LocalDate.now().plusDays(10), sugestao.getDataRupturaPrevista());
+        // ceil(0,99 × (15 + 30)) - 10
+        assertEquals(35, sugestao.getQuantidadeSugerida());
+    }
+
+    @Test
+    void listarSugestoes_DeveIgnorarVenda_QuandoPedidoCancelado() {
+        reposicaoService.aoAlterarEstoque(new EstoqueAlteradoEvent(1L, "SKU123", 30, 10, 5));
+        Pedido pedido = pedido(20);
+        reposicaoService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido));
+        pedido.cancelar();
+        reposicaoService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CANCELADO, pedido));
+
+        assertTrue(reposicaoService.listarSugestoes(365, 100).isEmpty());
+        verifyNoInteractions(produtoRepository);
+    }
+
+    @Test
+    void listarSugestoes_DeveIgnorarProduto_QuandoEstoqueDesconhecidoOuInativo() {
+        reposicaoService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido(20)));
+        assertTrue(reposicaoService.listarSugestoes(365, 100).isEmpty());
+
+        reposicaoService.aoAlterarEstoque(new EstoqueAlteradoEvent(1L, "SKU123", 30, 10, 5));
+        produto.setAtivo(false);
+        when(produtoRepository.findAllById(anyList())).thenReturn(List.of(produto));
+
+        assertTrue(reposicaoService.listarSugestoes(365, 100).isEmpty());
+    }
+
+    @Test
+    void listarSugestoes_DeveOrdenarPorDiasDeCoberturaERespeitarLimite() {
+        Produto outro = new Produto();
+        outro.setId(2L);
+        outro.setSku("SKU456");
+        outro.setEstoque(2);
+        outro.setEstoqueMinimo(1);
+        outro.setAtivo(true);
+        reposicaoService.aoAlterarEstoque(new EstoqueAlteradoEvent(1L, "SKU123", 30, 10, 5));
+        reposicaoService.aoAlterarEstoque(new EstoqueAlteradoEvent(2L, "SKU456", 30, 2, 1));
+        Pedido pedido = pedido(20);
+        PedidoItem item = new PedidoItem();
+        item.setProduto(outro);
+        item.setQuantidade(20);
+        item.setPrecoUnitario(BigDecimal.TEN);
+        item.calcularSubtotal();
+        pedido.adicionarItem(item);
+        reposicaoService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido));
+        when(produtoRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(produto, outro));
+
+        List<ReposicaoResponse> result = reposicaoService.listarSugestoes(30, 1);
+
+        assertEquals(1, result.size());
+        assertEquals("SKU456", result.get(0).getSku());
+    }
+
+    @Test
+    void aquecer_DeveCarregarEstoqueEVendasDoBanco() {
+        ProdutoRepository.EstoqueProduto estoque = mock(ProdutoRepository.EstoqueProduto.class);
+        when(estoque.getId()).thenReturn(1L);
+        when(estoque.getEstoque()).thenReturn(10);
+        PedidoRepository.VendaDiariaProduto venda = mock(PedidoRepository.VendaDiariaProduto.class);
+        when(venda.getProdutoId()).thenReturn(1L);
+        when(venda.getDia()).thenReturn(LocalDate.now());
+        when(venda.getQuantidade()).thenReturn(40L);
+        when(produtoRepository.listarEstoques()).thenReturn(List.of(estoque));
+        when(pedidoRepository.somarVendasDiariasDesde(any(LocalDateTime.class))).thenReturn(List.of(venda));
+        when(produtoRepository.findAllById(List.of(1L))).thenReturn(List.of(produto));
+
+        reposicaoService.aquecer();
+
+        assertEquals(1, reposicaoService.listarSugestoes(7, 100).size());
+    }
+
+    @Test
+    void aquecer_DeveManterEventosRecebidosDuranteALeitura() {
+        // Pedido e estoque alterados enquanto a leitura roda, depois da foto: a soma não os inclui
+        when(produtoRepository.listarEstoques()).thenAnswer(invocation -> {
+            reposicaoService.aoAlterarEstoque(new EstoqueAlteradoEvent(1L, "SKU123", 30, 10, 5));
+            reposicaoService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido(20)));
+            return List.of();
+        });
+        when(pedidoRepository.somarVendasDiariasDesde(any(LocalDateTime.class))).thenReturn(List.of());
+        when(pedidoRepository.buscarStatus(List.of(10L))).thenReturn(List.of());
+        when(produtoRepository.findAllById(List.of(1L))).thenReturn(List.of(produto));
+
+        reposicaoService.aquecer();
+
+        List<ReposicaoResponse> result = reposicaoService.listarSugestoes(15, 100);
+        assertEquals(1, result.size());
+        assertEquals(0.99, result.get(0).getVendaDiaria(), 0.01);
+    }
+
+    @Test
+    void aquecer_NaoDeveSomarDuasVezes_QuandoALeituraJaViuOPedido() {
+        ProdutoRepository.EstoqueProduto estoque = mock(ProdutoRepository.EstoqueProduto.class);
+        when(estoque.getId()).thenReturn(1L);
+        when(estoque.getEstoque()).thenReturn(10);
+        PedidoRepository.VendaDiariaProduto venda = mock(PedidoRepository.VendaDiariaProduto.class);
+        when(venda.getProdutoId()).thenReturn(1L);
+        when(venda.getDia()).thenReturn(LocalDate.now());
+        when(venda.getQuantidade()).thenReturn(20L);
+        PedidoRepository.StatusPorId lido = mock(PedidoRepository.StatusPorId.class);
+        when(lido.getId()).thenReturn(10L);
+        when(lido.getStatus()).thenReturn(StatusPedido.CREATED);
+        // O evento chega durante a leitura, mas o commit foi antes da foto: as 20 unidades já estão na soma
+        when(produtoRepository.listarEstoques()).thenAnswer(invocation -> {
+            reposicaoService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido(20)));
+            return List.of(estoque);
+        });
+        when(pedidoRepository.somarVendasDiariasDesde(any(LocalDateTime.class))).thenReturn(List.of(venda));
+        when(pedidoRepository.buscarStatus(List.of(10L))).thenReturn(List.of(lido));
+        when(produtoRepository.findAllById(List.of(1L))).thenReturn(List.of(produto));
+
+        reposicaoService.aquecer();
+
+        // Só a venda lida: 20 unidades ao meio-dia, e não 40
+        double vendaDiaria = reposicaoService.listarSugestoes(365, 100).get(0).getVendaDiaria();
+        assertTrue(vendaDiaria < 1.1, String.valueOf(vendaDiaria));
+    }
+
+    private Pedido pedido(int quantidade) {
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        cliente.setNome("João Silva");
+
+        PedidoItem item = new PedidoItem();
+        item.setProduto(produto);
+        item.setQuantidade(quantidade);
+        item.setPrecoUnitario(new BigDecimal("100.00"));
+        item.calcularSubtotal();
+
+        Pedido pedido = new Pedido();
+        pedido.setId(10L);
+        pedido.setCliente(cliente);
+        pedido.adicionarItem(item);
+        return pedido;
+    }
+}
@@ -0,0 +1,214 @@
+package com.golden.erp.service;
+
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.Pedido;
+import com.golden.erp.domain.PedidoItem;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.domain.enums.StatusPedido;
+import com.golden.erp.dto.response.VendaDiariaResponse;
+import com.golden.erp.event.PedidoEvent;
+import com.golden.erp.event.TipoEventoPedido;
+import com.golden.erp.exception.ParametroInvalidoException;
+import com.golden.erp.repository.PedidoResumoRepository;
+import com.golden.erp.repository.VendaDiariaRepository;
+import com.golden.erp.service.impl.VendaDiariaServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class VendaDiariaServiceTest {
+
+    private static final LocalDateTime CRIADO_EM = LocalDateTime.of(2026, 3, 10, 14, 30);
+    private static final LocalDate DIA = CRIADO_EM.toLocalDate();
+
+    @Mock
+    private VendaDiariaRepository vendaDiariaRepository;
+
+    @Mock
+    private PedidoResumoRepository pedidoResumoRepository;
+
+    private VendaDiariaServiceImpl vendaDiariaService;
+
+    @BeforeEach
+    void setUp() {
+        vendaDiariaService = new VendaDiariaServiceImpl(vendaDiariaRepository, pedidoResumoRepository, 8);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(VendaDiariaServiceImpl.class.getName() + ".pendentes");
+    }
+
+    @Test
+    void aoAlterarPedido_DeveGravarSomenteAntesDoCommit() {
+        when(vendaDiariaRepository.somar(any(), any(), anyInt(), anyLong(), any(), any(), any())).thenReturn(1);
+
+        vendaDiariaService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido(10L, "100.00")));
+
+        verifyNoInteractions(vendaDiariaRepository);
+        commit();
+        verify(vendaDiariaRepository).somar(eq(DIA), eq(StatusPedido.CREATED), eq(2), eq(1L),
+                eq(new BigDecimal("100.00")), any(), eq(new BigDecimal("100.00")));
+    }
+
+    @Test
+    void aoAlterarPedido_DeveAgruparPedidosDaMesmaChaveEGravarEmOrdem() {
+        when(vendaDiariaRepository.somar(any(), any(), anyInt(), anyLong(), any(), any(), any())).thenReturn(1);
+        for (long id : new long[]{18L, 2L, 10L}) {
+            Pedido pedido = pedido(id, "50.00");
+            pedido.marcarComoAtrasado();
+            vendaDiariaService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.ATRASADO, pedido, StatusPedido.CREATED));
+        }
+
+        commit();
+
+        InOrder ordem = inOrder(vendaDiariaRepository);
+        ordem.verify(vendaDiariaRepository).somar(eq(DIA), eq(StatusPedido.CREATED), eq(2), eq(-3L), any(), any(),
+                eq(new BigDecimal("-150.00")));
+        ordem.verify(vendaDiariaRepository).somar(eq(DIA), eq(StatusPedido.LATE), eq(2), eq(3L), any(), any(),
+                eq(new BigDecimal("150.00")));
+        verifyNoMoreInteractions(vendaDiariaRepository);
+    }
+
+    @Test
+    void aoAlterarPedido_DeveIgnorarChavesSemVariacao() {
+        when(vendaDiariaRepository.somar(any(), any(), anyInt(), anyLong(), any(), any(), any())).thenReturn(1);
+        Pedido pedido = pedido(10L, "100.00");
+        vendaDiariaService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido));
+        pedido.pagar();
+        vendaDiariaService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.PAGO, pedido, StatusPedido.CREATED));
+
+        commit();
+
+        verify(vendaDiariaRepository).somar(eq(DIA), eq(StatusPedido.PAID), eq(2), eq(1L), any(), any(), any());
+        verifyNoMoreInteractions(vendaDiariaRepository);
+    }
+
+    @Test
+    void aoAlterarPedido_DeveInserirLinhaQuandoNaoExiste() {
+        when(vendaDiariaRepository.somar(any(), any(), anyInt(), anyLong(), any(), any(), any())).thenReturn(0);
+        when(vendaDiariaRepository.inserir(any(), anyString(), anyInt(), anyLong(), any(), any(), any())).thenReturn(1);
+
+        vendaDiariaService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido(10L, "100.00")));
+        commit();
+
+        verify(vendaDiariaRepository).inserir(eq(DIA), eq("CREATED"), eq(2), eq(1L), any(), any(), any());
+        verify(vendaDiariaRepository, times(1)).somar(any(), any(), anyInt(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void aoAlterarPedido_DeveSomarQuandoOutraTransacaoInseriuAntes() {
+        when(vendaDiariaRepository.somar(any(), any(), anyInt(), anyLong(), any(), any(), any())).thenReturn(0, 1);
+        when(vendaDiariaRepository.inserir(any(), anyString(), anyInt(), anyLong(), any(), any(), any())).thenReturn(0);
+
+        vendaDiariaService.aoAlterarPedido(new PedidoEvent(TipoEventoPedido.CRIADO, pedido(10L, "100.00")));
+        commit();
+
+        verify(vendaDiariaRepository, times(2)).somar(eq(DIA), eq(StatusPedido.CREATED), eq(2), eq(1L), any(), any(), any());
+    }
+
+    @Test
+    void listar_DeveUsarMesCorrenteQuandoSemDatas() {
+        LocalDate hoje = LocalDate.now();
+        VendaDiariaRepository.TotalDiario total = total();
+        when(vendaDiariaRepository.somarPorDiaEStatus(hoje.withDayOfMonth(1), hoje)).thenReturn(List.of(total));
+
+        List<VendaDiariaResponse> result = vendaDiariaService.listar(null, null);
+
+        assertEquals(1, result.size());
+        assertEquals(StatusPedido.PAID, result.get(0).getStatus());
+        assertEquals(4L, result.get(0).getPedidos());
+        assertEquals(new BigDecimal("400.00"), result.get(0).getTotal());
+    }
+
+    @Test
+    void listar_DeveRejeitarPeriodoInvertido() {
+        assertThrows(ParametroInvalidoException.class,
+                () -> vendaDiariaService.listar(LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 1)));
+        verifyNoInteractions(vendaDiariaRepository);
+    }
+
+    @Test
+    void reconstruir_DeveExcluirERecalcularOPeriodo() {
+        LocalDate de = LocalDate.of(2026, 3, 1);
+        LocalDate ate = LocalDate.of(2026, 3, 10);
+
+        vendaDiariaService.reconstruir(de, ate);
+
+        InOrder ordem = inOrder(vendaDiariaRepository);
+        ordem.verify(vendaDiariaRepository).excluirPeriodo(de, ate);
+        ordem.verify(vendaDiariaRepository).reconstruirPeriodo(de.atStartOfDay(), LocalDate.of(2026, 3, 11).atStartOfDay(), 8);
+    }
+
+    @Test
+    void reconstruir_DeveRecusarPeriodoComPedidosArquivados() {
+        LocalDate de = LocalDate.of(2025, 1, 1);
+        LocalDate ate = LocalDate.of(2025, 1, 31);
+        when(pedidoResumoRepository.contarArquivados(de.atStartOfDay(), LocalDate.of(2025, 2, 1).atStartOfDay()))
+                .thenReturn(3L);
+
+        assertThrows(ParametroInvalidoException.class, () -> vendaDiariaService.reconstruir(de, ate));
+
+        verify(vendaDiariaRepository, never()).excluirPeriodo(any(), any());
+        verify(vendaDiariaRepository, never()).reconstruirPeriodo(any(), any(), anyInt());
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(sincronizacoes, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private Pedido pedido(Long id, String preco) {
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        cliente.setNome("João Silva");
+
+        Produto produto = new Produto();
+        produto.setId(1L);
+
+        PedidoItem item = new PedidoItem();
+        item.setProduto(produto);
+        item.setQuantidade(1);
+        item.setPrecoUnitario(new BigDecimal(preco));
+        item.calcularSubtotal();
+
+        Pedido pedido = new Pedido();
+        pedido.setId(id);
+        pedido.setCliente(cliente);
+        pedido.adicionarItem(item);
+        pedido.setCreatedAt(CRIADO_EM);
+        return pedido;
+    }
+
+    private VendaDiariaRepository.TotalDiario total() {
+        VendaDiariaRepository.TotalDiario total = mock(VendaDiariaRepository.TotalDiario.class);
+        when(total.getDia()).thenReturn(DIA);
+        when(total.getStatus()).thenReturn(StatusPedido.PAID);
+        when(total.getPedidos()).thenReturn(4L);
+        when(total.getTotal()).thenReturn(new BigDecimal("400.00"));
+        return total;
+    }
+}
@@ -0,0 +1,75 @@
+package com.golden.erp.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Comandos SQL executados desde a última chamada a {@link #limpar()}, na ordem de execução.
+ */
+public class CapturaSql implements QueryExecutionListener {
+
+    private final List<Comando> comandos = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<ParameterSetOperation> parametros = queryInfo.getParametersList().isEmpty()
+                    ? List.of() : List.copyOf(queryInfo.getParametersList().get(0));
+            comandos.add(new Comando(queryInfo.getQuery(), parametros));
+        }
+    }
+
+    public void limpar() {
+        comandos.clear();
+    }
+
+    /**
+     * Primeiro comando capturado que começa com {@code select}; falha se não houver nenhum.
+     */
+    public Comando primeiraConsulta() {
+        return comandos.stream()
+                .filter(c -> c.sql().stripLeading().regionMatches(true, 0, "select", 0, 6))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Nenhuma consulta capturada: " + comandos));
+    }
+
+    public List<Comando> getComandos() {
+        return List.copyOf(comandos);
+    }
+
+    /**
+     * Um comando com os parâmetros na forma em que o Hibernate os informou ao driver.
+     */
+    public record Comando(String sql, List<ParameterSetOperation> parametros) {
+
+        /**
+         * Repete no {@code statement} as mesmas chamadas {@code setXxx} feitas na execução original.
+         */
+        public void aplicarParametros(PreparedStatement statement) throws SQLException {
+            for (ParameterSetOperation parametro : parametros) {
+                try {
+                    parametro.getMethod().invoke(statement, parametro.getArgs());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                } catch (InvocationTargetException e) {
+                    if (e.getCause() instanceof SQLException sqlException) {
+                        throw sqlException;
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.golden.erp.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o {@link DataSource} da aplicação com o datasource-proxy e guarda os comandos executados,
+ * com os parâmetros, no {@link CapturaSql}. Usado para obter o plano das consultas geradas pelo Hibernate.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class CapturaSqlConfig {
+
+    @Bean
+    static CapturaSql capturaSql() {
+        return new CapturaSql();
+    }
+
+    @Bean
+    static BeanPostProcessor capturaSqlPostProcessor(CapturaSql capturaSql) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(capturaSql)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.golden.erp.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o {@link DataSource} da aplicação com o datasource-proxy, que conta os comandos
+ * executados por thread. Os valores são lidos e zerados pelo {@link SqlIntegrationTest}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class ContadorSqlConfig {
+
+    @Bean
+    static BeanPostProcessor contadorSqlPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .countQuery()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.golden.erp.support;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Quantidade de comandos SQL executados por tipo durante um trecho do teste.
+ */
+public class ContagemSql {
+
+    private final long selects;
+    private final long inserts;
+    private final long updates;
+    private final long deletes;
+
+    public ContagemSql(long selects, long inserts, long updates, long deletes) {
+        this.selects = selects;
+        this.inserts = inserts;
+        this.updates = updates;
+        this.deletes = deletes;
+    }
+
+    /**
+     * Falha se algum tipo de comando passou do limite informado.
+     */
+    public ContagemSql assertMaximo(long selects, long inserts, long updates, long deletes) {
+        assertAll(
+                () -> assertTrue(this.selects <= selects, mensagem("SELECT", this.selects, selects)),
+                () -> assertTrue(this.inserts <= inserts, mensagem("INSERT", this.inserts, inserts)),
+                () -> assertTrue(this.updates <= updates, mensagem("UPDATE", this.updates, updates)),
+                () -> assertTrue(this.deletes <= deletes, mensagem("DELETE", this.deletes, deletes)));
+        return this;
+    }
+
+    private String mensagem(String tipo, long executados, long maximo) {
+        return tipo + ": " + executados + " executados, máximo " + maximo + " (" + this + ")";
+    }
+
+    public long getSelects() {
+        return selects;
+    }
+
+    public long getInserts() {
+        return inserts;
+    }
+
+    public long getUpdates() {
+        return updates;
+    }
+
+    public long getDeletes() {
+        return deletes;
+    }
+
+    @Override
+    public String toString() {
+        return "ContagemSql{" +
+                "selects=" + selects +
+                ", inserts=" + inserts +
+                ", updates=" + updates +
+                ", deletes=" + deletes +
+                '}';
+    }
+}
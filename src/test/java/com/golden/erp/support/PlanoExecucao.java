@@ -0,0 +1,89 @@
+package com.golden.erp.support;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Plano de uma consulta lido do {@code EXPLAIN (FORMAT JSON)} do PostgreSQL.
+ * <p>
+ * Os índices das partições são informados pelo nome do índice da tabela particionada
+ * (por exemplo, {@code pedido_p2025_01_cliente_id_created_at_idx} vira {@code idx_pedido_cliente_created}),
+ * conforme o mapa recebido no construtor.
+ */
+public class PlanoExecucao {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    private final String json;
+    private final List<JsonNode> nos = new ArrayList<>();
+    private final Map<String, String> indicesPais;
+
+    public PlanoExecucao(String json, Map<String, String> indicesPais) {
+        this.json = json;
+        this.indicesPais = indicesPais;
+        coletar(JSON_MAPPER.readTree(json).get(0).get("Plan"));
+    }
+
+    private void coletar(JsonNode no) {
+        nos.add(no);
+        JsonNode filhos = no.get("Plans");
+        if (filhos != null) {
+            filhos.forEach(this::coletar);
+        }
+    }
+
+    public Set<String> getIndices() {
+        Set<String> indices = new TreeSet<>();
+        for (JsonNode no : nos) {
+            JsonNode indice = no.get("Index Name");
+            if (indice != null) {
+                indices.add(indicesPais.getOrDefault(indice.asString(), indice.asString()));
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Tabelas (ou partições) lidas pelo plano.
+     */
+    public Set<String> getRelacoes() {
+        Set<String> relacoes = new TreeSet<>();
+        for (JsonNode no : nos) {
+            JsonNode relacao = no.get("Relation Name");
+            if (relacao != null) {
+                relacoes.add(relacao.asString());
+            }
+        }
+        return relacoes;
+    }
+
+    public boolean usaIndice(String indice) {
+        return getIndices().contains(indice);
+    }
+
+    /**
+     * Verdadeiro se algum nó ordena as linhas em memória ({@code Sort} ou {@code Incremental Sort}).
+     */
+    public boolean ordenaEmMemoria() {
+        return nos.stream().anyMatch(no -> no.get("Node Type").asString().endsWith("Sort"));
+    }
+
+    /**
+     * Verdadeiro se alguma tabela cujo nome começa com {@code prefixo} é lida por {@code Seq Scan}.
+     */
+    public boolean leSequencialmente(String prefixo) {
+        return nos.stream().anyMatch(no -> "Seq Scan".equals(no.get("Node Type").asString())
+                && no.get("Relation Name").asString().startsWith(prefixo));
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+}
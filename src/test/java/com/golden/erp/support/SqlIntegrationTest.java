@@ -0,0 +1,209 @@
+package com.golden.erp.support;
+
+import com.golden.erp.client.ViaCepClient;
+import com.golden.erp.domain.Cliente;
+import com.golden.erp.domain.Produto;
+import com.golden.erp.dto.request.PedidoItemRequest;
+import com.golden.erp.dto.request.PedidoRequest;
+import com.golden.erp.dto.response.PedidoResponse;
+import com.golden.erp.repository.AlertaEstoqueRepository;
+import com.golden.erp.repository.ClienteRepository;
+import com.golden.erp.repository.ClienteResumoPedidosRepository;
+import com.golden.erp.repository.OutboxEventoRepository;
+import com.golden.erp.repository.PedidoRepository;
+import com.golden.erp.repository.PedidoResumoRepository;
+import com.golden.erp.repository.ProdutoRepository;
+import com.golden.erp.repository.VendaDiariaRepository;
+import com.golden.erp.service.PedidoService;
+import com.golden.erp.service.ProdutoService;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Base dos testes que limitam a quantidade de comandos SQL por endpoint.
+ * <p>
+ * Sobe a aplicação com o profile {@code sqltest} (H2 em memória), conta os comandos pelo
+ * {@link ContadorSqlConfig} e oferece métodos para montar a massa de dados. A contagem é
+ * zerada imediatamente antes da requisição, então a preparação dos dados não entra no total.
+ */
+@SpringBootTest
+@ActiveProfiles("sqltest")
+@Import(ContadorSqlConfig.class)
+public abstract class SqlIntegrationTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong();
+
+    protected final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    protected MockMvc mockMvc;
+
+    @MockitoBean
+    protected ViaCepClient viaCepClient;
+
+    @Autowired
+    protected ClienteRepository clienteRepository;
+
+    @Autowired
+    protected ProdutoRepository produtoRepository;
+
+    @Autowired
+    protected PedidoRepository pedidoRepository;
+
+    @Autowired
+    protected PedidoResumoRepository pedidoResumoRepository;
+
+    @Autowired
+    protected OutboxEventoRepository outboxEventoRepository;
+
+    @Autowired
+    protected AlertaEstoqueRepository alertaEstoqueRepository;
+
+    @Autowired
+    protected VendaDiariaRepository vendaDiariaRepository;
+
+    @Autowired
+    protected ClienteResumoPedidosRepository clienteResumoPedidosRepository;
+
+    @Autowired
+    protected PedidoService pedidoService;
+
+    @Autowired
+    protected ProdutoService produtoService;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @BeforeEach
+    void configurarMockMvc() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        outboxEventoRepository.deleteAllInBatch();
+        pedidoResumoRepository.deleteAllInBatch();
+        vendaDiariaRepository.deleteAllInBatch();
+        clienteResumoPedidosRepository.deleteAllInBatch();
+        pedidoRepository.deleteAll();
+        alertaEstoqueRepository.deleteAllInBatch();
+        produtoRepository.deleteAllInBatch();
+        clienteRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Executa a requisição, verifica o status 2xx e devolve os comandos SQL executados durante ela.
+     */
+    protected ContagemSql executar(RequestBuilder request) throws Exception {
+        QueryCountHolder.clear();
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        QueryCount total = QueryCountHolder.getGrandTotal();
+        QueryCountHolder.clear();
+        return new ContagemSql(total.getSelect(), total.getInsert(), total.getUpdate(), total.getDelete());
+    }
+
+    /**
+     * Faz a requisição uma vez para obter o ETag, repete com {@code If-None-Match}, verifica o status 304 e
+     * devolve os comandos SQL executados na repetição.
+     */
+    protected ContagemSql executarNaoModificado(MockHttpServletRequestBuilder request) throws Exception {
+        String etag = mockMvc.perform(request).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        QueryCountHolder.clear();
+        mockMvc.perform(request.header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified());
+        QueryCount total = QueryCountHolder.getGrandTotal();
+        QueryCountHolder.clear();
+        return new ContagemSql(total.getSelect(), total.getInsert(), total.getUpdate(), total.getDelete());
+    }
+
+    /**
+     * Executa a ação fora do MockMvc (ex.: um job) e devolve os comandos SQL executados durante ela.
+     */
+    protected ContagemSql contar(Runnable acao) {
+        QueryCountHolder.clear();
+        acao.run();
+        QueryCount total = QueryCountHolder.getGrandTotal();
+        QueryCountHolder.clear();
+        return new ContagemSql(total.getSelect(), total.getInsert(), total.getUpdate(), total.getDelete());
+    }
+
+    protected String json(Object valor) {
+        return jsonMapper.writeValueAsString(valor);
+    }
+
+    protected Cliente criarCliente() {
+        long n = SEQUENCIA.incrementAndGet();
+        Cliente cliente = new Cliente();
+        cliente.setNome("Cliente " + n);
+        cliente.setEmail("cliente" + n + "@sqltest.local");
+        cliente.setCpf(String.format("%011d", n));
+        cliente.setLogradouro("Praça da Sé");
+        cliente.setNumero("100");
+        cliente.setBairro("Sé");
+        cliente.setCidade("São Paulo");
+        cliente.setUf("SP");
+        cliente.setCep("01001000");
+        return clienteRepository.save(cliente);
+    }
+
+    protected List<Cliente> criarClientes(int quantidade) {
+        List<Cliente> clientes = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            clientes.add(criarCliente());
+        }
+        return clientes;
+    }
+
+    protected Produto criarProduto() {
+        long n = SEQUENCIA.incrementAndGet();
+        Produto produto = new Produto();
+        produto.setSku("SQL-" + n);
+        produto.setNome("Produto " + n);
+        produto.setPrecoBruto(new BigDecimal("10.00"));
+        produto.setEstoque(1_000);
+        produto.setEstoqueMinimo(10);
+        produto.setAtivo(true);
+        return produtoRepository.save(produto);
+    }
+
+    protected List<Produto> criarProdutos(int quantidade) {
+        List<Produto> produtos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            produtos.add(criarProduto());
+        }
+        return produtos;
+    }
+
+    protected PedidoRequest pedidoRequest(Cliente cliente, List<Produto> produtos) {
+        List<PedidoItemRequest> itens = new ArrayList<>(produtos.size());
+        for (Produto produto : produtos) {
+            PedidoItemRequest item = new PedidoItemRequest();
+            item.setProdutoId(produto.getId());
+            item.setQuantidade(1);
+            itens.add(item);
+        }
+        PedidoRequest request = new PedidoRequest();
+        request.setClienteId(cliente.getId());
+        request.setItens(itens);
+        return request;
+    }
+
+    protected PedidoResponse criarPedido(Cliente cliente, List<Produto> produtos) {
+        return pedidoService.criar(pedidoRequest(cliente, produtos));
+    }
+}